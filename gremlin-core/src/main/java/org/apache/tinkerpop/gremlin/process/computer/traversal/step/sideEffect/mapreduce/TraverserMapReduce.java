@@ -30,6 +30,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.filter.RangeGlobalSte
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.TailGlobalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.OrderGlobalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.CollectingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TopTraverserSet;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
@@ -53,6 +54,9 @@ public final class TraverserMapReduce extends StaticMapReduce<Comparable, Traver
     private Optional<RangeGlobalStep<?>> rangeGlobalStep = Optional.empty();
     private Optional<TailGlobalStep<?>> tailGlobalStep = Optional.empty();
     private boolean dedupGlobal = false;
+    private Optional<RangeGlobalStep<?>> orderRangeStep = Optional.empty();
+    private TopTraverserSet<?> workerTopTraversers = null;
+    private MapEmitter<Comparable, Traverser<?>> workerEmitter = null;
 
     private TraverserMapReduce() {
     }
@@ -79,7 +83,25 @@ public final class TraverserMapReduce extends StaticMapReduce<Comparable, Traver
             this.tailGlobalStep = Optional.of(((TailGlobalStep) traversalEndStep).clone());
         if (traversalEndStep instanceof DedupGlobalStep)
             this.dedupGlobal = true;
+        if (traversalEndStep instanceof OrderGlobalStep && -1 != ((OrderGlobalStep) traversalEndStep).getHighRange())
+            this.orderRangeStep = Optional.of(new RangeGlobalStep<>(this.traversal, ((OrderGlobalStep) traversalEndStep).getLowRange(), ((OrderGlobalStep) traversalEndStep).getHighRange()));
+    }
 
+    @Override
+    public void workerStart(final Stage stage) {
+        // each worker only emits its own top traversers when the order has a range folded into it
+        if (stage.equals(Stage.MAP) && this.orderRangeStep.isPresent())
+            this.workerTopTraversers = new TopTraverserSet<>((Comparator) this.comparator.get(), this.orderRangeStep.get().getHighRange());
+    }
+
+    @Override
+    public void workerEnd(final Stage stage) {
+        if (stage.equals(Stage.MAP) && null != this.workerTopTraversers) {
+            if (null != this.workerEmitter)
+                this.workerTopTraversers.toSortedList().forEach(traverser -> this.workerEmitter.emit(traverser, traverser));
+            this.workerTopTraversers = null;
+            this.workerEmitter = null;
+        }
     }
 
     @Override
@@ -89,7 +111,10 @@ public final class TraverserMapReduce extends StaticMapReduce<Comparable, Traver
 
     @Override
     public void map(final Vertex vertex, final MapEmitter<Comparable, Traverser<?>> emitter) {
-        if (this.comparator.isPresent())
+        if (null != this.workerTopTraversers) {
+            this.workerEmitter = emitter;
+            vertex.<TraverserSet<?>>property(TraversalVertexProgram.HALTED_TRAVERSERS).ifPresent(traverserSet -> traverserSet.forEach(traverser -> this.workerTopTraversers.add((Traverser.Admin) traverser)));
+        } else if (this.comparator.isPresent())
             vertex.<TraverserSet<?>>property(TraversalVertexProgram.HALTED_TRAVERSERS).ifPresent(traverserSet -> traverserSet.forEach(traverser -> emitter.emit(traverser, traverser)));
         else
             vertex.<TraverserSet<?>>property(TraversalVertexProgram.HALTED_TRAVERSERS).ifPresent(traverserSet -> traverserSet.forEach(emitter::emit));
@@ -123,8 +148,8 @@ public final class TraverserMapReduce extends StaticMapReduce<Comparable, Traver
             }
             this.collectingBarrierStep.get().barrierConsumer((TraverserSet) traverserSet);
             return (Iterator) traverserSet.iterator();
-        } else if (this.rangeGlobalStep.isPresent()) {
-            final RangeGlobalStep<?> rangeGlobalStep = this.rangeGlobalStep.get();
+        } else if (this.rangeGlobalStep.isPresent() || this.orderRangeStep.isPresent()) {
+            final RangeGlobalStep<?> rangeGlobalStep = this.rangeGlobalStep.orElseGet(this.orderRangeStep::get);
             rangeGlobalStep.setBypass(false);
             rangeGlobalStep.addStarts(IteratorUtils.map(keyValues, keyValue -> (Traverser) keyValue.getValue()));
             return (Iterator) rangeGlobalStep;
@@ -143,6 +168,12 @@ public final class TraverserMapReduce extends StaticMapReduce<Comparable, Traver
         }
     }
 
+    @Override
+    public TraverserMapReduce clone() {
+        // the top traversers are gathered per worker so each worker needs its own instance
+        return this.orderRangeStep.isPresent() ? new TraverserMapReduce(this.traversal) : this;
+    }
+
     @Override
     public String getMemoryKey() {
         return TRAVERSERS;
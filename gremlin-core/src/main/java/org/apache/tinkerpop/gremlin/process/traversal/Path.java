@@ -65,6 +65,17 @@ public interface Path extends Cloneable, Iterable<Object> {
      */
     public Path extend(final Set<String> labels);
 
+    /**
+     * Remove labels from the path. The objects of the path that are left without a label are removed as well.
+     * Paths that do not support the removal of labels return themselves unchanged.
+     *
+     * @param labels the labels to remove from the path
+     * @return the path without the removed labels
+     */
+    public default Path retract(final Set<String> labels) {
+        return this;
+    }
+
     /**
      * Get the object associated with the particular label of the path.
      * If the path as multiple labels of the type, then return a {@link List} of those objects.
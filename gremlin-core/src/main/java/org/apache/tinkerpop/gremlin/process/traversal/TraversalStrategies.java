@@ -26,11 +26,13 @@ import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.Filt
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.IdentityRemovalStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.IncidentToAdjacentStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.MatchPredicateStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.OrderRangeStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.RangeByIsCountStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.verification.ComputerVerificationStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.verification.StandardVerificationStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserGeneratorFactory;
 import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalCompilationCache;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
 import org.apache.tinkerpop.gremlin.util.tools.MultiMap;
@@ -43,6 +45,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -104,6 +107,24 @@ public interface TraversalStrategies extends Serializable, Cloneable {
      */
     public void setTraverserGeneratorFactory(final TraverserGeneratorFactory traverserGeneratorFactory);
 
+    /**
+     * Get the {@link TraversalCompilationCache} from which root traversals clone their strategized steps rather than
+     * applying these strategies, if one is set.
+     */
+    public default Optional<TraversalCompilationCache> getCompilationCache() {
+        return Optional.empty();
+    }
+
+    /**
+     * Set the {@link TraversalCompilationCache} that root traversals use to skip strategy application when a
+     * traversal of the same shape has already been compiled.
+     *
+     * @param compilationCache the cache to use or {@code null} to compile every traversal
+     */
+    public default void setCompilationCache(final TraversalCompilationCache compilationCache) {
+
+    }
+
     /**
      * Sorts the list of provided strategies such that the {@link TraversalStrategy#applyPost()}
      * and {@link TraversalStrategy#applyPrior()} dependencies are respected.
@@ -205,10 +226,12 @@ public interface TraversalStrategies extends Serializable, Cloneable {
                     IdentityRemovalStrategy.instance(),
                     MatchPredicateStrategy.instance(),
                     RangeByIsCountStrategy.instance(),
+                    OrderRangeStrategy.instance(),
                     ComputerVerificationStrategy.instance(),
                     StandardVerificationStrategy.instance());
             //LambdaRestrictionStrategy.instance(),
             //LazyBarrierStrategy.instance(),
+            //PathRetractionStrategy.instance(),
 
             CACHE.put(Graph.class, coreStrategies.clone());
             CACHE.put(EmptyGraph.class, new DefaultTraversalStrategies());
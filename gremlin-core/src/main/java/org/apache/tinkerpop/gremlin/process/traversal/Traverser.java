@@ -183,6 +183,17 @@ public interface Traverser<T> extends Serializable, Comparable<Traverser<T>>, Cl
 
         public void addLabels(final Set<String> labels);
 
+        /**
+         * Drop the labels of the traverser's path that are not in the provided set.
+         * This allows traversers that only differ in path history that is no longer needed to be bulked together.
+         * Traversers that do not maintain labeled path history ignore this.
+         *
+         * @param labels the labels of the path to keep
+         */
+        public default void keepLabels(final Set<String> labels) {
+
+        }
+
         /**
          * Set the current object location of the traverser.
          *
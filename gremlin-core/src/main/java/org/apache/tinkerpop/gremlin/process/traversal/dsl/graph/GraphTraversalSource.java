@@ -28,6 +28,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.engine.StandardTraversalEn
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.AddVertexStartStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalCompilationCache;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Transaction;
@@ -68,7 +69,7 @@ public class GraphTraversalSource implements TraversalSource {
     private final List<TraversalStrategy> withStrategies;
     private final List<Class<? extends TraversalStrategy>> withoutStrategies;
 
-    private GraphTraversalSource(final Graph graph, final TraversalEngine.Builder engineBuilder, final List<TraversalStrategy> withStrategies, final List<Class<? extends TraversalStrategy>> withoutStrategies) {
+    private GraphTraversalSource(final Graph graph, final TraversalEngine.Builder engineBuilder, final List<TraversalStrategy> withStrategies, final List<Class<? extends TraversalStrategy>> withoutStrategies, final TraversalCompilationCache compilationCache) {
         this.graph = graph;
         this.engineBuilder = engineBuilder;
         this.withStrategies = withStrategies;
@@ -76,11 +77,13 @@ public class GraphTraversalSource implements TraversalSource {
         this.withStrategies.addAll(engineBuilder.getWithStrategies());
         this.withoutStrategies.addAll(engineBuilder.getWithoutStrategies());
         final TraversalStrategies tempStrategies = TraversalStrategies.GlobalCache.getStrategies(this.graph.getClass());
-        this.strategies = withStrategies.isEmpty() && withoutStrategies.isEmpty() ?
+        this.strategies = withStrategies.isEmpty() && withoutStrategies.isEmpty() && null == compilationCache ?
                 tempStrategies :
                 tempStrategies.clone()
                         .addStrategies(withStrategies.toArray(new TraversalStrategy[withStrategies.size()]))
                         .removeStrategies(withoutStrategies.toArray(new Class[withoutStrategies.size()]));
+        if (null != compilationCache)
+            this.strategies.setCompilationCache(compilationCache);
     }
 
     private <S> GraphTraversal.Admin<S, S> generateTraversal() {
@@ -218,6 +221,7 @@ public class GraphTraversalSource implements TraversalSource {
         final GraphTraversalSource.Builder builder = GraphTraversalSource.build().engine(this.engineBuilder);
         this.withStrategies.forEach(builder::with);
         this.withoutStrategies.forEach(builder::without);
+        this.strategies.getCompilationCache().ifPresent(builder::withCompilationCache);
         return builder;
     }
 
@@ -233,6 +237,7 @@ public class GraphTraversalSource implements TraversalSource {
         private TraversalEngine.Builder engineBuilder = StandardTraversalEngine.build();
         private List<TraversalStrategy> withStrategies = new ArrayList<>();
         private List<Class<? extends TraversalStrategy>> withoutStrategies = new ArrayList<>();
+        private TraversalCompilationCache compilationCache = null;
 
         private Builder() {
         }
@@ -255,9 +260,18 @@ public class GraphTraversalSource implements TraversalSource {
             return this;
         }
 
+        /**
+         * Have the traversals of the source clone their strategized steps from the cache when a traversal of the same
+         * shape has been compiled before rather than applying the strategies. The cache may be shared by sources.
+         */
+        public Builder withCompilationCache(final TraversalCompilationCache compilationCache) {
+            this.compilationCache = compilationCache;
+            return this;
+        }
+
         @Override
         public GraphTraversalSource create(final Graph graph) {
-            return new GraphTraversalSource(graph, this.engineBuilder, this.withStrategies, this.withoutStrategies);
+            return new GraphTraversalSource(graph, this.engineBuilder, this.withStrategies, this.withoutStrategies, this.compilationCache);
         }
     }
 
@@ -50,6 +50,7 @@ public class GraphStep<S, E extends Element> extends AbstractStep<S, E> implemen
     protected boolean done = false;
     private Traverser.Admin<S> head = null;
     private Iterator<E> iterator = EmptyIterator.instance();
+    private boolean defaultIteratorSupplier = false;
 
 
     public GraphStep(final Traversal.Admin traversal, final Class<E> returnClass, final boolean isStart, final Object... ids) {
@@ -57,7 +58,12 @@ public class GraphStep<S, E extends Element> extends AbstractStep<S, E> implemen
         this.returnClass = returnClass;
         this.ids = (ids.length == 1 && ids[0] instanceof Collection) ? ((Collection) ids[0]).toArray(new Object[((Collection) ids[0]).size()]) : ids;
         this.isStart = isStart;
-        this.iteratorSupplier = () -> (Iterator<E>) (Vertex.class.isAssignableFrom(this.returnClass) ?
+        this.iteratorSupplier = this.createIteratorSupplier();
+    }
+
+    private Supplier<Iterator<E>> createIteratorSupplier() {
+        this.defaultIteratorSupplier = true;
+        return () -> (Iterator<E>) (Vertex.class.isAssignableFrom(this.returnClass) ?
                 this.getTraversal().getGraph().get().vertices(this.ids) :
                 this.getTraversal().getGraph().get().edges(this.ids));
     }
@@ -86,14 +92,25 @@ public class GraphStep<S, E extends Element> extends AbstractStep<S, E> implemen
         return this.returnClass.equals(Edge.class);
     }
 
+    /**
+     * Set the supplier of the elements of the step. A supplier that references the step has to be bound to the clone
+     * of the step in {@link #clone()} as clones would otherwise iterate the ids and state of this step.
+     */
     public void setIteratorSupplier(final Supplier<Iterator<E>> iteratorSupplier) {
         this.iteratorSupplier = iteratorSupplier;
+        this.defaultIteratorSupplier = false;
     }
 
     public Object[] getIds() {
         return this.ids;
     }
 
+    public void addIds(final Object... newIds) {
+        final Object[] ids = Arrays.copyOf(this.ids, this.ids.length + newIds.length);
+        System.arraycopy(newIds, 0, ids, this.ids.length, newIds.length);
+        this.ids = ids;
+    }
+
     public void clearIds() {
         this.ids = new Object[0];
     }
@@ -101,7 +118,7 @@ public class GraphStep<S, E extends Element> extends AbstractStep<S, E> implemen
     @Override
     public void onEngine(final TraversalEngine traversalEngine) {
         if (traversalEngine.isComputer()) {
-            this.iteratorSupplier = Collections::emptyIterator;
+            this.setIteratorSupplier(Collections::emptyIterator);
             for (int i = 0; i < this.ids.length; i++) {    // if this is going to OLAP, convert to ids so you don't serialize elements
                 if (this.ids[i] instanceof Element)
                     this.ids[i] = ((Element) this.ids[i]).id();
@@ -137,6 +154,14 @@ public class GraphStep<S, E extends Element> extends AbstractStep<S, E> implemen
         this.iterator = EmptyIterator.instance();
     }
 
+    @Override
+    public GraphStep<S, E> clone() {
+        final GraphStep<S, E> clone = (GraphStep<S, E>) super.clone();
+        clone.ids = this.ids.clone();
+        if (this.defaultIteratorSupplier)
+            clone.iteratorSupplier = clone.createIteratorSupplier();
+        return clone;
+    }
 
     @Override
     public int hashCode() {
@@ -48,6 +48,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
@@ -60,7 +61,7 @@ public final class GroupStep<S, K, V> extends ReducingBarrierStep<S, Map<K, V>>
     private char state = 'k';
 
     private Traversal.Admin<S, K> keyTraversal = null;
-    private Traversal.Admin<S, ?> valueTraversal = this.integrateChild(__.identity().asAdmin());   // used in OLAP
+    private Traversal.Admin<S, ?> valueTraversal = this.integrateChild(__.identity().asAdmin());   // used in OLAP and by the OLTP value reducer
     private Traversal.Admin<?, V> reduceTraversal = this.integrateChild(__.fold().asAdmin());      // used in OLAP
     private Traversal.Admin<S, V> valueReduceTraversal = this.integrateChild(__.fold().asAdmin()); // used in OLTP
 
@@ -146,19 +147,26 @@ public final class GroupStep<S, K, V> extends ReducingBarrierStep<S, Map<K, V>>
 
     ///////////
 
-    private static class GroupBiFunction<S, K, V> implements BiFunction<Map<K, Traversal.Admin<S, V>>, Traverser.Admin<S>, Map<K, Traversal.Admin<S, V>>>, Serializable {
+    private static class GroupBiFunction<S, K, V> implements BiFunction<GroupStepHelper.GroupMap<S, K, V>, Traverser.Admin<S>, GroupStepHelper.GroupMap<S, K, V>>, Serializable {
 
         private final GroupStep<S, K, V> groupStep;
         private Map<K, Integer> counters = new HashMap<>();
+        private transient Optional<GroupStepHelper.ValueReducer<S, V>> valueReducer = null;
 
         private GroupBiFunction(final GroupStep<S, K, V> groupStep) {
             this.groupStep = groupStep;
         }
 
         @Override
-        public Map<K, Traversal.Admin<S, V>> apply(final Map<K, Traversal.Admin<S, V>> mutatingSeed, final Traverser.Admin<S> traverser) {
+        public GroupStepHelper.GroupMap<S, K, V> apply(final GroupStepHelper.GroupMap<S, K, V> mutatingSeed, final Traverser.Admin<S> traverser) {
+            if (mutatingSeed.isEmpty())
+                mutatingSeed.setValueReducer(this.getValueReducer());
             final K key = TraversalUtil.applyNullable(traverser, this.groupStep.keyTraversal);
-            Traversal.Admin<S, V> traversal = mutatingSeed.get(key);
+            if (null != mutatingSeed.getValueReducer()) {
+                mutatingSeed.reduce(key, traverser);
+                return mutatingSeed;
+            }
+            Traversal.Admin<S, V> traversal = (Traversal.Admin<S, V>) mutatingSeed.get(key);
             if (null == traversal) {
                 traversal = this.groupStep.valueReduceTraversal.clone();
                 this.counters.put(key, 0);
@@ -173,6 +181,12 @@ public final class GroupStep<S, K, V> extends ReducingBarrierStep<S, Map<K, V>>
             }
             return mutatingSeed;
         }
+
+        private GroupStepHelper.ValueReducer<S, V> getValueReducer() {
+            if (null == this.valueReducer)   // determined on first use so that the strategies have been applied to the value traversal
+                this.valueReducer = GroupStepHelper.getValueReducer(this.groupStep.valueReduceTraversal, this.groupStep.valueTraversal);
+            return this.valueReducer.orElse(null);
+        }
     }
 
     ///////////
@@ -183,6 +197,7 @@ public final class GroupStep<S, K, V> extends ReducingBarrierStep<S, Map<K, V>>
 
         private String groupStepId;
         private Traversal.Admin<?, V> reduceTraversal;
+        private GroupStepHelper.ValueReducer<S, V> valueReducer;   // only set if the partial seeds of a key are mergeable
 
         private GroupMapReduce() {
 
@@ -191,6 +206,7 @@ public final class GroupStep<S, K, V> extends ReducingBarrierStep<S, Map<K, V>>
         public GroupMapReduce(final GroupStep<S, K, V> step) {
             this.groupStepId = step.getId();
             this.reduceTraversal = step.reduceTraversal.clone();
+            this.valueReducer = GroupStepHelper.getValueReducer(step.valueReduceTraversal, step.valueTraversal).filter(GroupStepHelper.ValueReducer::isMergeable).orElse(null);
         }
 
         @Override
@@ -202,24 +218,38 @@ public final class GroupStep<S, K, V> extends ReducingBarrierStep<S, Map<K, V>>
         @Override
         public void loadState(final Graph graph, final Configuration configuration) {
             this.groupStepId = configuration.getString(GROUP_BY_STEP_STEP_ID);
-            this.reduceTraversal = ((GroupStep) new TraversalMatrix<>(TraversalVertexProgram.getTraversal(graph, configuration)).getStepById(this.groupStepId)).reduceTraversal.clone();
+            final GroupStep<S, K, V> groupStep = new TraversalMatrix<>(TraversalVertexProgram.getTraversal(graph, configuration)).getStepById(this.groupStepId);
+            this.reduceTraversal = groupStep.reduceTraversal.clone();
+            this.valueReducer = GroupStepHelper.getValueReducer(groupStep.valueReduceTraversal, groupStep.valueTraversal).filter(GroupStepHelper.ValueReducer::isMergeable).orElse(null);
         }
 
         @Override
         public boolean doStage(final Stage stage) {
-            return !stage.equals(Stage.COMBINE);
+            return null != this.valueReducer || !stage.equals(Stage.COMBINE);
         }
 
         @Override
         public void map(final Vertex vertex, final MapEmitter<K, Collection<?>> emitter) {
             vertex.<TraverserSet<Object[]>>property(TraversalVertexProgram.HALTED_TRAVERSERS).ifPresent(traverserSet -> traverserSet.forEach(traverser -> {
                 final Object[] objects = traverser.get();
-                emitter.emit((K) objects[0], (Collection<?>) objects[1]);
+                if (null != this.valueReducer)
+                    emitter.emit((K) objects[0], GroupStepHelper.toPartial(this.valueReducer.reduceValues((BulkSet<?>) objects[1], this.reduceTraversal)));
+                else
+                    emitter.emit((K) objects[0], (Collection<?>) objects[1]);
             }));
         }
 
+        @Override
+        public void combine(final K key, final Iterator<Collection<?>> values, final ReduceEmitter<K, V> emitter) {
+            emitter.emit(key, (V) GroupStepHelper.toPartial(this.valueReducer.mergePartials(values)));
+        }
+
         @Override
         public void reduce(final K key, final Iterator<Collection<?>> values, final ReduceEmitter<K, V> emitter) {
+            if (null != this.valueReducer) {
+                emitter.emit(key, this.valueReducer.getFinal(this.valueReducer.mergePartials(values)));
+                return;
+            }
             Traversal.Admin<?, V> reduceTraversalClone = this.reduceTraversal.clone();
             while (values.hasNext()) {
                 reduceTraversalClone.addStarts(reduceTraversalClone.getTraverserGenerator().generateIterator(values.next().iterator(), (Step) reduceTraversalClone.getStartStep(), 1l));
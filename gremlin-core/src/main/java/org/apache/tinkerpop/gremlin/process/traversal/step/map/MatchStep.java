@@ -158,6 +158,14 @@ public final class MatchStep<S, E> extends ComputerAwareStep<S, Map<String, E>>
         return this.connective;
     }
 
+    public Set<String> getMatchStartLabels() {
+        return Collections.unmodifiableSet(this.matchStartLabels);
+    }
+
+    public Set<String> getMatchEndLabels() {
+        return Collections.unmodifiableSet(this.matchEndLabels);
+    }
+
     public void addGlobalChild(final Traversal.Admin<?, ?> globalChildTraversal) {
         this.configureStartAndEndSteps(globalChildTraversal);
         this.matchTraversals.add(this.integrateChild(globalChildTraversal));
@@ -229,6 +237,10 @@ public final class MatchStep<S, E> extends ComputerAwareStep<S, Map<String, E>>
         }
     }
 
+    public Set<String> getDedupLabels() {
+        return null == this.dedupLabels ? Collections.emptySet() : Collections.unmodifiableSet(this.dedupLabels);
+    }
+
     /*public boolean isDeduping() {
         return this.dedupLabels != null;
     }*/
@@ -21,11 +21,14 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 import org.apache.tinkerpop.gremlin.process.traversal.Order;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Bypassing;
 import org.apache.tinkerpop.gremlin.process.traversal.step.ComparatorHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Ranging;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.CollectingBarrierStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.TraversalComparator;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TopTraverserSet;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.util.function.ChainedComparator;
@@ -34,6 +37,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -41,17 +45,73 @@ import java.util.stream.Collectors;
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public final class OrderGlobalStep<S> extends CollectingBarrierStep<S> implements ComparatorHolder<S>, TraversalParent {
+public final class OrderGlobalStep<S> extends CollectingBarrierStep<S> implements ComparatorHolder<S>, TraversalParent, Ranging, Bypassing {
 
     private List<Comparator<S>> comparators = new ArrayList<>();
+    private long low = 0l;
+    private long high = -1l;
+    private boolean bypass = false;
 
     public OrderGlobalStep(final Traversal.Admin traversal) {
         super(traversal);
     }
 
+    @Override
+    public void processAllStarts() {
+        if (-1 == this.high || this.bypass) {
+            super.processAllStarts();
+            return;
+        }
+        // only the traversers that sort into the first high objects are kept instead of sorting them all
+        if (this.starts.hasNext()) {
+            final TopTraverserSet<S> topTraversers = new TopTraverserSet<>(this.getTraverserComparator(), this.high);
+            this.starts.forEachRemaining(topTraversers::add);
+            long counter = 0l;
+            for (final Traverser.Admin<S> traverser : topTraversers.toSortedList()) {
+                final long bulk = traverser.bulk();
+                final long toSkip = Math.max(0l, this.low - counter);
+                final long toTrim = Math.max(0l, counter + bulk - this.high);
+                counter = counter + bulk;
+                if (toSkip + toTrim < bulk) {
+                    traverser.setBulk(bulk - toSkip - toTrim);
+                    this.traverserSet.add(traverser);
+                }
+            }
+        }
+    }
+
     @Override
     public void barrierConsumer(final TraverserSet<S> traverserSet) {
-        traverserSet.sort(this.comparators.isEmpty() ? new ComparatorTraverser(Order.incr) : new ChainedComparator(ComparatorTraverser.convertComparator((List) this.comparators)));
+        traverserSet.sort(this.getTraverserComparator());
+    }
+
+    private Comparator<Traverser<S>> getTraverserComparator() {
+        return this.comparators.isEmpty() ? new ComparatorTraverser(Order.incr) : new ChainedComparator(ComparatorTraverser.convertComparator((List) this.comparators));
+    }
+
+    /**
+     * Folds a following range into this step so that only the traversers within {@code [low, high)} are kept.
+     */
+    public void setRange(final long low, final long high) {
+        if (low < 0 || (high != -1 && low > high))
+            throw new IllegalArgumentException("Not a legal range: [" + low + ", " + high + ']');
+        this.low = low;
+        this.high = high;
+    }
+
+    @Override
+    public long getLowRange() {
+        return this.low;
+    }
+
+    @Override
+    public long getHighRange() {
+        return this.high;
+    }
+
+    @Override
+    public void setBypass(final boolean bypass) {
+        this.bypass = bypass;
     }
 
     @Override
@@ -68,12 +128,14 @@ public final class OrderGlobalStep<S> extends CollectingBarrierStep<S> implement
 
     @Override
     public String toString() {
-        return StringFactory.stepString(this, this.comparators);
+        return -1 == this.high ?
+                StringFactory.stepString(this, this.comparators) :
+                StringFactory.stepString(this, this.comparators, this.low, this.high);
     }
 
     @Override
     public int hashCode() {
-        int result = super.hashCode();
+        int result = super.hashCode() ^ Long.hashCode(this.low) ^ Long.hashCode(this.high);
         for (final Comparator<S> comparator : this.comparators) {
             result ^= comparator.hashCode();
         }
@@ -82,7 +144,9 @@ public final class OrderGlobalStep<S> extends CollectingBarrierStep<S> implement
 
     @Override
     public Set<TraverserRequirement> getRequirements() {
-        return Collections.singleton(TraverserRequirement.OBJECT);
+        return -1 == this.high ?
+                Collections.singleton(TraverserRequirement.OBJECT) :
+                EnumSet.of(TraverserRequirement.OBJECT, TraverserRequirement.BULK);
     }
 
     @Override
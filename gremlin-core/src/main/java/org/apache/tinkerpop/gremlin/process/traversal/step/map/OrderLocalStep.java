@@ -33,6 +33,7 @@ import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -43,6 +44,7 @@ public final class OrderLocalStep<S, M> extends MapStep<S, S> implements Compara
 
     private final List<Comparator<M>> comparators = new ArrayList<>();
     private Comparator<M> chainedComparator = null;
+    private int limit = -1;
 
     public OrderLocalStep(final Traversal.Admin traversal) {
         super(traversal);
@@ -52,13 +54,26 @@ public final class OrderLocalStep<S, M> extends MapStep<S, S> implements Compara
     protected S map(final Traverser.Admin<S> traverser) {
         final S start = traverser.get();
         if (start instanceof Collection)
-            return (S) OrderLocalStep.sortCollection((Collection) start, this.chainedComparator);
+            return (S) (-1 != this.limit && ((Collection) start).size() > this.limit ?
+                    OrderLocalStep.topItems((Collection) start, this.limit, this.chainedComparator) :
+                    OrderLocalStep.sortCollection((Collection) start, this.chainedComparator));
         else if (start instanceof Map)
-            return (S) OrderLocalStep.sortMap((Map) start, this.chainedComparator);
+            return (S) OrderLocalStep.sortMap((Map) start, this.limit, this.chainedComparator);
         else
             return start;
     }
 
+    /**
+     * Only keep the first {@code limit} items of the sorted collection or map, for a following local range.
+     */
+    public void setLimit(final int limit) {
+        this.limit = limit;
+    }
+
+    public int getLimit() {
+        return this.limit;
+    }
+
     @Override
     public void addComparator(final Comparator<M> comparator) {
         this.comparators.add(comparator);
@@ -72,12 +87,14 @@ public final class OrderLocalStep<S, M> extends MapStep<S, S> implements Compara
 
     @Override
     public String toString() {
-        return StringFactory.stepString(this, this.comparators);
+        return -1 == this.limit ?
+                StringFactory.stepString(this, this.comparators) :
+                StringFactory.stepString(this, this.comparators, this.limit);
     }
 
     @Override
     public int hashCode() {
-        int result = super.hashCode();
+        int result = super.hashCode() ^ Integer.hashCode(this.limit);
         for (final Comparator<M> comparator : this.comparators) {
             result ^= comparator.hashCode();
         }
@@ -115,11 +132,43 @@ public final class OrderLocalStep<S, M> extends MapStep<S, S> implements Compara
         }
     }
 
-    private static final <K, V> Map<K, V> sortMap(final Map<K, V> map, final Comparator<?> comparator) {
-        final List<Map.Entry<K, V>> entries = new ArrayList<>(map.entrySet());
-        Collections.sort(entries, (Comparator) comparator);
+    private static final <K, V> Map<K, V> sortMap(final Map<K, V> map, final int limit, final Comparator<?> comparator) {
+        final List<Map.Entry<K, V>> entries;
+        if (-1 != limit && map.size() > limit)
+            entries = OrderLocalStep.topItems(map.entrySet(), limit, comparator);
+        else {
+            entries = new ArrayList<>(map.entrySet());
+            Collections.sort(entries, (Comparator) comparator);
+        }
         final LinkedHashMap<K, V> sortedMap = new LinkedHashMap<>();
         entries.forEach(entry -> sortedMap.put(entry.getKey(), entry.getValue()));
         return sortedMap;
     }
+
+    /**
+     * Sorts the first {@code limit} items with a bounded heap rather than sorting the whole collection. Items that
+     * compare equal keep their encounter order.
+     */
+    private static final <A> List<A> topItems(final Collection<A> collection, final int limit, final Comparator<?> comparator) {
+        final Comparator<A> itemComparator = null == comparator ? (Comparator) Comparator.naturalOrder() : (Comparator) comparator;
+        final List<A> items = new ArrayList<>(collection);
+        final Comparator<Integer> indexComparator = (a, b) -> {
+            final int comparison = itemComparator.compare(items.get(a), items.get(b));
+            return 0 != comparison ? comparison : Integer.compare(a, b);
+        };
+        final PriorityQueue<Integer> worstFirst = new PriorityQueue<>(limit + 1, indexComparator.reversed());
+        for (int i = 0; i < items.size(); i++) {
+            if (worstFirst.size() < limit)
+                worstFirst.add(i);
+            else if (limit > 0 && indexComparator.compare(i, worstFirst.peek()) < 0) {
+                worstFirst.poll();
+                worstFirst.add(i);
+            }
+        }
+        final List<Integer> indices = new ArrayList<>(worstFirst);
+        Collections.sort(indices, indexComparator);
+        final List<A> top = new ArrayList<>(indices.size());
+        indices.forEach(i -> top.add(items.get(i)));
+        return top;
+    }
 }
@@ -21,6 +21,7 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Ranging;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
@@ -30,7 +31,7 @@ import java.util.*;
 /**
  * @author Daniel Kuppitz (http://gremlin.guru)
  */
-public final class RangeLocalStep<S> extends MapStep<S, S> {
+public final class RangeLocalStep<S> extends MapStep<S, S> implements Ranging {
 
     private final long low;
     private final long high;
@@ -126,6 +127,16 @@ public final class RangeLocalStep<S> extends MapStep<S, S> {
         return result;
     }
 
+    @Override
+    public long getLowRange() {
+        return this.low;
+    }
+
+    @Override
+    public long getHighRange() {
+        return this.high;
+    }
+
     @Override
     public String toString() {
         return StringFactory.stepString(this, this.low, this.high);
@@ -60,7 +60,7 @@ public final class GroupSideEffectStep<S, K, V> extends SideEffectStep<S> implem
 
     private char state = 'k';
     private Traversal.Admin<S, K> keyTraversal = null;
-    private Traversal.Admin<S, ?> valueTraversal = this.integrateChild(__.identity().asAdmin());   // used in OLAP
+    private Traversal.Admin<S, ?> valueTraversal = this.integrateChild(__.identity().asAdmin());   // used in OLAP and by the OLTP value reducer
     private Traversal.Admin<?, V> reduceTraversal = this.integrateChild(__.fold().asAdmin());      // used in OLAP
     private Traversal.Admin<S, V> valueReduceTraversal = this.integrateChild(__.fold().asAdmin()); // used in OLTP
     ///
@@ -106,11 +106,17 @@ public final class GroupSideEffectStep<S, K, V> extends SideEffectStep<S> implem
         } else {                        // OLTP
             if (null == this.groupMap) {
                 final Object object = traverser.sideEffects(this.sideEffectKey);
-                if (!(object instanceof GroupStepHelper.GroupMap))
+                if (!(object instanceof GroupStepHelper.GroupMap)) {
                     traverser.sideEffects(this.sideEffectKey, this.groupMap = new GroupStepHelper.GroupMap<>((Map<K, V>) object));
+                    this.groupMap.setValueReducer(GroupStepHelper.getValueReducer(this.valueReduceTraversal, this.valueTraversal).orElse(null));
+                }
             }
             final K key = TraversalUtil.applyNullable(traverser, this.keyTraversal);
-            Traversal.Admin<S, V> traversal = this.groupMap.get(key);
+            if (null != this.groupMap.getValueReducer()) {
+                this.groupMap.reduce(key, traverser.clone()); // this is because sideEffect steps don't split the traverser
+                return;
+            }
+            Traversal.Admin<S, V> traversal = (Traversal.Admin<S, V>) this.groupMap.get(key);
             if (null == traversal) {
                 traversal = this.valueReduceTraversal.clone();
                 this.groupMap.put(key, traversal);
@@ -190,6 +196,7 @@ public final class GroupSideEffectStep<S, K, V> extends SideEffectStep<S> implem
         private String sideEffectKey;
         private String groupStepId;
         private Traversal.Admin<?, V> reduceTraversal;
+        private GroupStepHelper.ValueReducer<S, V> valueReducer;   // only set if the partial seeds of a key are mergeable
         private Supplier<Map<K, V>> mapSupplier;
 
         private GroupSideEffectMapReduce() {
@@ -200,6 +207,7 @@ public final class GroupSideEffectStep<S, K, V> extends SideEffectStep<S> implem
             this.groupStepId = step.getId();
             this.sideEffectKey = step.getSideEffectKey();
             this.reduceTraversal = step.reduceTraversal.clone();
+            this.valueReducer = GroupStepHelper.getValueReducer(step.valueReduceTraversal, step.valueTraversal).filter(GroupStepHelper.ValueReducer::isMergeable).orElse(null);
             this.mapSupplier = step.getTraversal().asAdmin().getSideEffects().<Map<K, V>>getRegisteredSupplier(this.sideEffectKey).orElse(HashMapSupplier.instance());
         }
 
@@ -217,21 +225,35 @@ public final class GroupSideEffectStep<S, K, V> extends SideEffectStep<S> implem
             final Traversal.Admin<?, ?> traversal = TraversalVertexProgram.getTraversal(graph, configuration);
             final GroupSideEffectStep<S, K, V> groupSideEffectStep = new TraversalMatrix<>(traversal).getStepById(this.groupStepId);
             this.reduceTraversal = groupSideEffectStep.reduceTraversal.clone();
+            this.valueReducer = GroupStepHelper.getValueReducer(groupSideEffectStep.valueReduceTraversal, groupSideEffectStep.valueTraversal).filter(GroupStepHelper.ValueReducer::isMergeable).orElse(null);
             this.mapSupplier = traversal.getSideEffects().<Map<K, V>>getRegisteredSupplier(this.sideEffectKey).orElse(HashMapSupplier.instance());
         }
 
         @Override
         public boolean doStage(final Stage stage) {
-            return !stage.equals(Stage.COMBINE);
+            return null != this.valueReducer || !stage.equals(Stage.COMBINE);
         }
 
         @Override
         public void map(final Vertex vertex, final MapEmitter<K, Collection<?>> emitter) {
-            VertexTraversalSideEffects.of(vertex).<Map<K, Collection<?>>>get(this.sideEffectKey).ifPresent(map -> map.forEach(emitter::emit));
+            if (null != this.valueReducer)
+                VertexTraversalSideEffects.of(vertex).<Map<K, Collection<?>>>get(this.sideEffectKey).ifPresent(map -> map.forEach((key, values) ->
+                        emitter.emit(key, GroupStepHelper.toPartial(this.valueReducer.reduceValues((BulkSet<?>) values, this.reduceTraversal)))));
+            else
+                VertexTraversalSideEffects.of(vertex).<Map<K, Collection<?>>>get(this.sideEffectKey).ifPresent(map -> map.forEach(emitter::emit));
+        }
+
+        @Override
+        public void combine(final K key, final Iterator<Collection<?>> values, final ReduceEmitter<K, V> emitter) {
+            emitter.emit(key, (V) GroupStepHelper.toPartial(this.valueReducer.mergePartials(values)));
         }
 
         @Override
         public void reduce(final K key, final Iterator<Collection<?>> values, final ReduceEmitter<K, V> emitter) {
+            if (null != this.valueReducer) {
+                emitter.emit(key, this.valueReducer.getFinal(this.valueReducer.mergePartials(values)));
+                return;
+            }
             Traversal.Admin<?,V> reduceTraversalClone = this.reduceTraversal.clone();
             while (values.hasNext()) {
                 final BulkSet<?> value = (BulkSet<?>) values.next();
@@ -25,6 +25,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.util.EmptyTraversal;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.NoSuchElementException;
@@ -42,6 +43,7 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
     protected ExpandableStepIterator<S> starts;
     protected Traverser.Admin<E> nextEnd = null;
     protected boolean traverserStepIdAndLabelsSetByChild = false;
+    protected Set<String> keepLabels = null;
 
     protected Step<?, S> previousStep = EmptyStep.instance();
     protected Step<E, ?> nextStep = EmptyStep.instance();
@@ -149,6 +151,19 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
         }
     }
 
+    /**
+     * Set the path labels that the traversers leaving this step keep. All other labels are retracted from their path.
+     *
+     * @param keepLabels the labels to keep or {@code null} to leave the path of the traversers as is
+     */
+    public void setKeepLabels(final Set<String> keepLabels) {
+        this.keepLabels = null == keepLabels ? null : Collections.unmodifiableSet(new HashSet<>(keepLabels));
+    }
+
+    public Set<String> getKeepLabels() {
+        return this.keepLabels;
+    }
+
     @Override
     public <A, B> Traversal.Admin<A, B> getTraversal() {
         return this.traversal;
@@ -202,6 +217,8 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
             traverser.setStepId(this.nextStep.getId());
             traverser.addLabels(this.labels);
         }
+        if (null != this.keepLabels)
+            traverser.keepLabels(this.keepLabels);
         return traverser;
     }
 
@@ -22,9 +22,11 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.Barrier;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.SpillableTraverserSet;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 
+import java.io.File;
 import java.util.Collections;
 import java.util.Set;
 
@@ -32,7 +34,7 @@ import java.util.Set;
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public abstract class CollectingBarrierStep<S> extends AbstractStep<S, S> implements Barrier {
-    private TraverserSet<S> traverserSet = new TraverserSet<>();
+    protected TraverserSet<S> traverserSet = new TraverserSet<>();
 
     private int maxBarrierSize;
 
@@ -47,6 +49,15 @@ public abstract class CollectingBarrierStep<S> extends AbstractStep<S, S> implem
 
     public abstract void barrierConsumer(final TraverserSet<S> traverserSet);
 
+    /**
+     * Hold at most {@code maxInMemory} traversers on the heap and spill the rest to temporary files in the
+     * {@code directory} (or the default temporary directory if {@code null}).
+     */
+    public void setSpill(final int maxInMemory, final File directory) {
+        this.traverserSet.clear();
+        this.traverserSet = new SpillableTraverserSet<>(this, maxInMemory, directory);
+    }
+
     @Override
     public Set<TraverserRequirement> getRequirements() {
         return Collections.singleton(TraverserRequirement.BULK);
@@ -80,7 +91,11 @@ public abstract class CollectingBarrierStep<S> extends AbstractStep<S, S> implem
     @Override
     public CollectingBarrierStep<S> clone() {
         final CollectingBarrierStep<S> clone = (CollectingBarrierStep<S>) super.clone();
-        clone.traverserSet = new TraverserSet<>();
+        if (this.traverserSet instanceof SpillableTraverserSet) {
+            final SpillableTraverserSet<S> spillableTraverserSet = (SpillableTraverserSet<S>) this.traverserSet;
+            clone.traverserSet = new SpillableTraverserSet<>(clone, spillableTraverserSet.getMaxInMemory(), spillableTraverserSet.getDirectory());
+        } else
+            clone.traverserSet = new TraverserSet<>();
         return clone;
     }
 
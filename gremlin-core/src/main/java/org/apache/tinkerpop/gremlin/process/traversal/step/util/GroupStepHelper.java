@@ -19,22 +19,39 @@
 
 package org.apache.tinkerpop.gremlin.process.traversal.step.util;
 
+import org.apache.tinkerpop.gremlin.process.traversal.NumberHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.lambda.ElementValueTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.lambda.FunctionTraverser;
 import org.apache.tinkerpop.gremlin.process.traversal.lambda.IdentityTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.lambda.TokenTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.step.Barrier;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Bypassing;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.CountGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.FoldStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.LambdaMapStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.MaxGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.MeanGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.MinGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.SumGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.IdentityStep;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.util.function.ArrayListSupplier;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
 import java.util.function.Supplier;
 
 /**
@@ -76,20 +93,183 @@ public final class GroupStepHelper {
         }
     }
 
+    /**
+     * Determines if the values of a group() key can be reduced one traverser at a time into a single seed rather than
+     * by a clone of the value traversal per key. This is the case when the value traversal ends with a
+     * {@code count()}, {@code sum()}, {@code min()}, {@code max()}, {@code mean()} or {@code fold()} and contains no
+     * other barrier or bypassing step that would hold state across the traversers of a key.
+     *
+     * @param valueReduceTraversal the full value traversal of the group()
+     * @param valueTraversal       the part of the value traversal prior to its barrier (see {@link #splitOnBarrierStep})
+     * @return the reducer for the value traversal if it is reducible one traverser at a time
+     */
+    public static <S, V> Optional<ValueReducer<S, V>> getValueReducer(final Traversal.Admin<S, V> valueReduceTraversal, final Traversal.Admin<S, ?> valueTraversal) {
+        final Step<?, V> endStep = valueReduceTraversal.getEndStep();
+        if (!(endStep instanceof CountGlobalStep || endStep instanceof SumGlobalStep ||
+                endStep instanceof MinGlobalStep || endStep instanceof MaxGlobalStep ||
+                endStep instanceof MeanGlobalStep || endStep instanceof FoldStep))
+            return Optional.empty();
+        if (TraversalHelper.anyStepRecursively(step -> step != endStep && (step instanceof Barrier || step instanceof Bypassing), valueReduceTraversal))
+            return Optional.empty();
+        return Optional.of(new ValueReducer<>((ReducingBarrierStep<?, ?>) endStep,
+                valueTraversal.getSteps().stream().allMatch(step -> step instanceof IdentityStep) ? null : valueTraversal));
+    }
+
+    /////////
+
+    /**
+     * Reduces the values of a group() key into a single seed using the seed supplier and bi-function of the
+     * {@link ReducingBarrierStep} that ends the value traversal.
+     */
+    public static final class ValueReducer<S, V> implements Serializable {
+
+        private final Traversal.Admin<S, ?> valueTraversal;
+        private final Supplier<Object> seedSupplier;
+        private final BiFunction<Object, Traverser<?>, Object> reducingBiFunction;
+        private final SeedMerger seedMerger;
+
+        private ValueReducer(final ReducingBarrierStep<?, ?> reducingStep, final Traversal.Admin<S, ?> valueTraversal) {
+            this.valueTraversal = valueTraversal;
+            this.seedSupplier = (Supplier) reducingStep.getSeedSupplier();
+            this.reducingBiFunction = (BiFunction) reducingStep.getBiFunction();
+            this.seedMerger = SeedMerger.of(reducingStep);
+        }
+
+        public Object newSeed() {
+            return this.seedSupplier.get();
+        }
+
+        /**
+         * Reduces the values that the value traversal yields for the traverser into the seed.
+         */
+        public Object add(final Object seed, final Traverser.Admin<S> traverser) {
+            if (null == this.valueTraversal)
+                return this.reducingBiFunction.apply(seed, traverser);
+            Object mutatingSeed = seed;
+            this.valueTraversal.addStart(traverser);
+            final Step<?, ?> endStep = this.valueTraversal.getEndStep();
+            while (endStep.hasNext()) {
+                mutatingSeed = this.reducingBiFunction.apply(mutatingSeed, endStep.next());
+            }
+            return mutatingSeed;
+        }
+
+        /**
+         * Reduces the values that the value traversal yielded in OLAP into a new seed.
+         *
+         * @param values    the values along with their bulk
+         * @param traversal the traversal whose traverser generator wraps the values
+         */
+        public Object reduceValues(final BulkSet<?> values, final Traversal.Admin<?, ?> traversal) {
+            final Object[] seed = new Object[]{this.newSeed()};
+            values.forEach((value, bulk) -> seed[0] = this.reducingBiFunction.apply(seed[0], traversal.getTraverserGenerator().generate(value, (Step) traversal.getStartStep(), bulk)));
+            return seed[0];
+        }
+
+        /**
+         * Whether the partial seeds of a key can be merged, which allows them to be reduced in the map and combine
+         * stages of an OLAP job.
+         */
+        public boolean isMergeable() {
+            return null != this.seedMerger;
+        }
+
+        /**
+         * Merges the partial seeds of a key (see {@link GroupStepHelper#toPartial}) into a single seed.
+         */
+        public Object mergePartials(final Iterator<Collection<?>> partials) {
+            Object seed = partials.next().iterator().next();
+            while (partials.hasNext()) {
+                seed = this.seedMerger.apply(seed, partials.next().iterator().next());
+            }
+            return seed;
+        }
+
+        public V getFinal(final Object seed) {
+            return (V) FinalGet.tryFinalGet(seed);
+        }
+    }
+
+    private enum SeedMerger implements BinaryOperator<Object> {
+        SUM {
+            @Override
+            public Object apply(final Object seedA, final Object seedB) {
+                return NumberHelper.add((Number) seedA, (Number) seedB);
+            }
+        },
+        MIN {
+            @Override
+            public Object apply(final Object seedA, final Object seedB) {
+                return null == seedA ? seedB : null == seedB ? seedA : NumberHelper.min((Number) seedA, (Number) seedB);
+            }
+        },
+        MAX {
+            @Override
+            public Object apply(final Object seedA, final Object seedB) {
+                return null == seedA ? seedB : null == seedB ? seedA : NumberHelper.max((Number) seedA, (Number) seedB);
+            }
+        },
+        LIST {
+            @Override
+            public Object apply(final Object seedA, final Object seedB) {
+                ((List) seedA).addAll((List) seedB);
+                return seedA;
+            }
+        };
+
+        // mean() is not mergeable as its seed is not registered with Gryo and fold() only when it folds into a list
+        private static SeedMerger of(final ReducingBarrierStep<?, ?> reducingStep) {
+            if (reducingStep instanceof CountGlobalStep || reducingStep instanceof SumGlobalStep)
+                return SUM;
+            else if (reducingStep instanceof MinGlobalStep)
+                return MIN;
+            else if (reducingStep instanceof MaxGlobalStep)
+                return MAX;
+            else if (reducingStep instanceof FoldStep && reducingStep.getSeedSupplier() instanceof ArrayListSupplier)
+                return LIST;
+            else
+                return null;
+        }
+    }
 
     /////////
 
-    public static class GroupMap<S, K, V> extends HashMap<K, Traversal.Admin<S, V>> implements FinalGet<Map<K, V>> {
+    public static class GroupMap<S, K, V> extends HashMap<K, Object> implements FinalGet<Map<K, V>> {
 
         private final Map<K, V> map;
+        private ValueReducer<S, V> valueReducer = null;
 
         public GroupMap(final Map<K, V> map) {
             this.map = map;
         }
 
+        /**
+         * Holds the values of each key as a seed of the {@link ValueReducer} rather than as a clone of the value
+         * traversal. This must be set before any key is added.
+         */
+        public void setValueReducer(final ValueReducer<S, V> valueReducer) {
+            this.valueReducer = valueReducer;
+        }
+
+        public ValueReducer<S, V> getValueReducer() {
+            return this.valueReducer;
+        }
+
+        /**
+         * Reduces the traverser into the seed of the key (only when a {@link ValueReducer} is set).
+         */
+        public void reduce(final K key, final Traverser.Admin<S> traverser) {
+            Object seed = this.get(key);
+            if (null == seed && !this.containsKey(key))
+                seed = this.valueReducer.newSeed();
+            this.put(key, this.valueReducer.add(seed, traverser));
+        }
+
         @Override
         public Map<K, V> getFinal() {
-            this.forEach((key, traversal) -> this.map.put(key, traversal.next()));
+            this.forEach((key, value) -> this.map.put(key, null == this.valueReducer ?
+                    ((Traversal.Admin<S, V>) value).next() :
+                    this.valueReducer.getFinal(value)));
             return this.map;
         }
     }
@@ -101,4 +281,16 @@ public final class GroupStepHelper {
             return new GroupMap<>(new HashMap<>());
         }
     }
+
+    /////////
+
+    /**
+     * Wraps a partial seed so that it can be emitted where the {@link org.apache.tinkerpop.gremlin.process.computer.MapReduce}
+     * of a group() otherwise emits the collection of values of a key.
+     */
+    public static Collection<?> toPartial(final Object seed) {
+        final List<Object> partial = new ArrayList<>(1);
+        partial.add(seed);
+        return partial;
+    }
 }
@@ -76,6 +76,17 @@ public class ImmutablePath implements Path, ImmutablePathImpl, Serializable, Clo
         return new ImmutablePath(this.previousPath, this.currentObject, temp);
     }
 
+    @Override
+    public Path retract(final Set<String> labels) {
+        // Only rebuild the segments from the first retracted label onwards so the untouched tail stays shared.
+        final ImmutablePathImpl previous = (ImmutablePathImpl) this.previousPath.retract(labels);
+        if (Collections.disjoint(this.currentLabels, labels))
+            return previous == this.previousPath ? this : new ImmutablePath(previous, this.currentObject, this.currentLabels);
+        final Set<String> temp = new LinkedHashSet<>(this.currentLabels);
+        temp.removeAll(labels);
+        return temp.isEmpty() ? previous : new ImmutablePath(previous, this.currentObject, temp);
+    }
+
     @Override
     public <A> A get(final int index) {
         return (this.size() - 1) == index ? (A) this.currentObject : this.previousPath.get(index);
@@ -199,6 +210,11 @@ public class ImmutablePath implements Path, ImmutablePathImpl, Serializable, Clo
             throw new UnsupportedOperationException("A head path can not have labels added to it");
         }
 
+        @Override
+        public Path retract(final Set<String> labels) {
+            return this;
+        }
+
         @Override
         public <A> A get(final String label) {
             throw Path.Exceptions.stepWithProvidedLabelDoesNotExist(label);
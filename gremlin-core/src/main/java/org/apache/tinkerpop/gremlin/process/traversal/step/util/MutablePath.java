@@ -84,6 +84,23 @@ public class MutablePath implements Path, Serializable {
         return this;
     }
 
+    @Override
+    public Path retract(final Set<String> labels) {
+        for (int i = this.labels.size() - 1; i >= 0; i--) {
+            if (Collections.disjoint(this.labels.get(i), labels))
+                continue;
+            // the label sets may be shared with the path this path was created from so they are not modified
+            final Set<String> stepLabels = new LinkedHashSet<>(this.labels.get(i));
+            stepLabels.removeAll(labels);
+            if (stepLabels.isEmpty()) {
+                this.labels.remove(i);
+                this.objects.remove(i);
+            } else
+                this.labels.set(i, stepLabels);
+        }
+        return this;
+    }
+
     @Override
     public <A> A get(int index) {
         return (A) this.objects.get(index);
@@ -67,6 +67,14 @@ public abstract class ReducingBarrierStep<S, E> extends AbstractStep<S, E> imple
         this.reducingBiFunction = reducingBiFunction;
     }
 
+    public Supplier<E> getSeedSupplier() {
+        return this.seedSupplier;
+    }
+
+    public BiFunction<E, Traverser<S>, E> getBiFunction() {
+        return this.reducingBiFunction;
+    }
+
     @Override
     public void onEngine(final TraversalEngine traversalEngine) {
         this.byPass = traversalEngine.isComputer();
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.CollectingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.SpillableTraverserSet;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+
+import java.io.File;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * This strategy bounds the number of traversers that the {@link CollectingBarrierStep}s of a traversal (e.g.
+ * {@code order()}, {@code barrier()}, {@code aggregate()} and {@code sample()}) hold on the heap. Traversers beyond
+ * that budget are spilled to temporary files with Gryo by a {@link SpillableTraverserSet} and {@code order()} sorts
+ * them with an external merge sort. The strategy does not apply to traversals executed on a {@code GraphComputer}.
+ *
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ * @example <pre>
+ * final BarrierSpillStrategy strategy = BarrierSpillStrategy.build().maxInMemory(100000).directory(new File("/data/spill")).create();
+ * g = graph.traversal(GraphTraversalSource.build().with(strategy));
+ * g.V().order().by("score", decr).values("name")  // holds at most 100000 traversers on the heap
+ * </pre>
+ */
+public final class BarrierSpillStrategy extends AbstractTraversalStrategy<TraversalStrategy.FinalizationStrategy> implements TraversalStrategy.FinalizationStrategy {
+
+    private static final Set<Class<? extends FinalizationStrategy>> PRIORS = new HashSet<>();
+
+    static {
+        PRIORS.add(LazyBarrierStrategy.class);
+    }
+
+    private final int maxInMemory;
+    private final File directory;
+
+    private BarrierSpillStrategy(final int maxInMemory, final File directory) {
+        this.maxInMemory = maxInMemory;
+        this.directory = directory;
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (traversal.getEngine().isComputer())
+            return;
+
+        TraversalHelper.getStepsOfAssignableClass(CollectingBarrierStep.class, traversal).forEach(step -> step.setSpill(this.maxInMemory, this.directory));
+    }
+
+    @Override
+    public Set<Class<? extends FinalizationStrategy>> applyPrior() {
+        return PRIORS;
+    }
+
+    public int getMaxInMemory() {
+        return this.maxInMemory;
+    }
+
+    public File getDirectory() {
+        return this.directory;
+    }
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    public final static class Builder {
+
+        private int maxInMemory = 1000000;
+        private File directory = null;
+
+        private Builder() {
+        }
+
+        /**
+         * The number of traversers each barrier may hold on the heap before spilling to disk, which defaults to
+         * 1,000,000.
+         */
+        public Builder maxInMemory(final int maxInMemory) {
+            this.maxInMemory = maxInMemory;
+            return this;
+        }
+
+        /**
+         * The directory for the spill files, which defaults to the temporary directory of the JVM.
+         */
+        public Builder directory(final File directory) {
+            this.directory = directory;
+            return this;
+        }
+
+        public BarrierSpillStrategy create() {
+            if (this.maxInMemory < 1)
+                throw new IllegalStateException("At least one traverser must be held in memory: " + this.maxInMemory);
+            return new BarrierSpillStrategy(this.maxInMemory, this.directory);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Scoping;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.MatchStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * PathRetractionStrategy drops the labels of a traverser's path once no later step references them. Without it, a
+ * traversal that uses {@code select()}, {@code where()}, {@code match()} or {@code dedup()} with labels has its
+ * traversers carry every labeled object until the end of the traversal, and traversers that only differ in history
+ * that is no longer needed can not be bulked together. For each step of the root traversal, the labels referenced by
+ * the steps after it (and by their child traversals) are computed and the step retracts all other labels from the
+ * path of the traversers it emits. A step is only given labels to keep if it ends the use of a label or introduces a
+ * label that is not used later on. The last step of the traversal never retracts labels. The strategy is a
+ * finalization strategy so that it sees the steps after all optimization strategies have replaced or removed steps.
+ * <p/>
+ * The strategy does not apply to traversals that require the full path (e.g. {@code path()} or {@code simplePath()}),
+ * to traversals with lambda steps as a lambda may access any label of the path, or to OLAP. It is not registered by
+ * default and is added to a traversal source with {@code GraphTraversalSource.build().with(PathRetractionStrategy.instance())}.
+ *
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ * @example <pre>
+ * __.V().as("a").out().as("b").where(neq("a")).out().count()   // "b" is retracted after out() and "a" after where()
+ * __.V().as("a").out().as("b").select("a").out().as("c").select("c")   // "b" is retracted after out() and "a" after the first select()
+ * __.V().as("a").out().as("b").path()                           // is not modified
+ * </pre>
+ */
+public final class PathRetractionStrategy extends AbstractTraversalStrategy<TraversalStrategy.FinalizationStrategy> implements TraversalStrategy.FinalizationStrategy {
+
+    private static final PathRetractionStrategy INSTANCE = new PathRetractionStrategy();
+    private static final Set<Class<? extends FinalizationStrategy>> POSTS = new HashSet<>();
+
+    static {
+        POSTS.add(ProfileStrategy.class);
+    }
+
+    private PathRetractionStrategy() {
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (traversal.getEngine().isComputer() || !(traversal.getParent() instanceof EmptyStep))
+            return;
+
+        final Set<TraverserRequirement> requirements = traversal.getTraverserRequirements();
+        if (!requirements.contains(TraverserRequirement.LABELED_PATH) || requirements.contains(TraverserRequirement.PATH))
+            return;
+
+        final List<Step> steps = traversal.getSteps();
+        final List<Set<String>> referencedLabels = new ArrayList<>(steps.size());
+        for (final Step<?, ?> step : steps) {
+            final Set<String> labels = new HashSet<>();
+            if (!PathRetractionStrategy.addReferencedLabels(step, labels))
+                return;
+            referencedLabels.add(labels);
+        }
+
+        // the labels to keep after a step are the labels referenced by the steps after it
+        final Set<String> keepLabels = new HashSet<>();
+        for (int i = steps.size() - 1; i >= 0; i--) {
+            final Step<?, ?> step = steps.get(i);
+            if (i < steps.size() - 1 && step instanceof AbstractStep &&
+                    (step instanceof MatchStep ||
+                            !keepLabels.containsAll(referencedLabels.get(i)) ||
+                            !keepLabels.containsAll(PathRetractionStrategy.getIntroducedLabels(step))))
+                ((AbstractStep<?, ?>) step).setKeepLabels(keepLabels);
+            keepLabels.addAll(referencedLabels.get(i));
+        }
+    }
+
+    /**
+     * Add the labels the step and its child traversals read from the path.
+     *
+     * @return false if the step or one of its child traversals has a lambda step
+     */
+    private static boolean addReferencedLabels(final Step<?, ?> step, final Set<String> labels) {
+        if (step instanceof LambdaHolder)
+            return false;
+        if (step instanceof MatchStep) {
+            labels.addAll(((MatchStep<?, ?>) step).getMatchStartLabels());
+            labels.addAll(((MatchStep<?, ?>) step).getMatchEndLabels());
+            labels.addAll(((MatchStep<?, ?>) step).getDedupLabels());
+        } else if (step instanceof Scoping)
+            labels.addAll(((Scoping) step).getScopeKeys());
+        if (step instanceof TraversalParent) {
+            final List<Traversal.Admin<?, ?>> children = new ArrayList<>();
+            children.addAll(((TraversalParent) step).getGlobalChildren());
+            children.addAll(((TraversalParent) step).getLocalChildren());
+            for (final Traversal.Admin<?, ?> child : children) {
+                for (final Step<?, ?> childStep : child.getSteps()) {
+                    if (!PathRetractionStrategy.addReferencedLabels(childStep, labels))
+                        return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static Set<String> getIntroducedLabels(final Step<?, ?> step) {
+        final Set<String> labels = new HashSet<>(step.getLabels());
+        if (step instanceof TraversalParent) {
+            ((TraversalParent) step).getGlobalChildren().forEach(child -> labels.addAll(TraversalHelper.getLabels(child)));
+            ((TraversalParent) step).getLocalChildren().forEach(child -> labels.addAll(TraversalHelper.getLabels(child)));
+        }
+        return labels;
+    }
+
+    @Override
+    public Set<Class<? extends FinalizationStrategy>> applyPost() {
+        return POSTS;
+    }
+
+    public static PathRetractionStrategy instance() {
+        return INSTANCE;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.RangeGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.OrderGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.OrderLocalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.RangeLocalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * This strategy folds a {@link RangeGlobalStep} into the {@link OrderGlobalStep} right before it. The order step then
+ * only keeps the traversers that sort into the first {@code high} objects (respecting their bulk) instead of sorting
+ * all of them and letting the range step throw most of them away. In the same way, an {@link OrderLocalStep} followed
+ * by a {@link RangeLocalStep} only keeps the first {@code high} items of the ordered collection or map. The range step
+ * is kept in that case as it still unwraps single items and skips the low items. A range without a high bound or a
+ * labeled range step is left as is.
+ *
+ * @author Daniel Kuppitz (http://gremlin.guru)
+ * @example <pre>
+ * __.order().by("age").limit(10)         // is replaced by __.order().by("age") keeping only the first 10 traversers
+ * __.order().by("age").range(10, 20)     // is replaced by __.order().by("age") keeping only traversers 10 to 20
+ * __.order(local).by(values).limit(local, 3)  // the local order only keeps the first 3 items
+ * </pre>
+ */
+public final class OrderRangeStrategy extends AbstractTraversalStrategy<TraversalStrategy.OptimizationStrategy> implements TraversalStrategy.OptimizationStrategy {
+
+    private static final OrderRangeStrategy INSTANCE = new OrderRangeStrategy();
+    private static final Set<Class<? extends OptimizationStrategy>> PRIORS = new HashSet<>();
+
+    static {
+        PRIORS.add(IdentityRemovalStrategy.class);
+        PRIORS.add(FilterRankingStrategy.class);
+    }
+
+    private OrderRangeStrategy() {
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        for (int i = 0; i < traversal.getSteps().size() - 1; i++) {
+            final Step curr = traversal.getSteps().get(i);
+            final Step next = traversal.getSteps().get(i + 1);
+            if (curr instanceof OrderGlobalStep && next instanceof RangeGlobalStep && next.getLabels().isEmpty()) {
+                final OrderGlobalStep orderGlobalStep = (OrderGlobalStep) curr;
+                final RangeGlobalStep rangeGlobalStep = (RangeGlobalStep) next;
+                if (-1 != rangeGlobalStep.getHighRange() && -1 == orderGlobalStep.getHighRange()) {
+                    orderGlobalStep.setRange(Math.max(0l, rangeGlobalStep.getLowRange()), rangeGlobalStep.getHighRange());
+                    traversal.removeStep(rangeGlobalStep);
+                }
+            } else if (curr instanceof OrderLocalStep && next instanceof RangeLocalStep) {
+                final long high = ((RangeLocalStep) next).getHighRange();
+                if (-1 != high && high < Integer.MAX_VALUE)
+                    ((OrderLocalStep) curr).setLimit((int) high);
+            }
+        }
+    }
+
+    @Override
+    public Set<Class<? extends OptimizationStrategy>> applyPrior() {
+        return PRIORS;
+    }
+
+    public static OrderRangeStrategy instance() {
+        return INSTANCE;
+    }
+}
@@ -25,6 +25,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ImmutablePath;
 import org.apache.tinkerpop.gremlin.structure.util.reference.ReferenceFactory;
 
+import java.util.HashSet;
 import java.util.Set;
 
 /**
@@ -84,6 +85,19 @@ public class B_LP_O_S_SE_SL_Traverser<T> extends B_O_S_SE_SL_Traverser<T> {
                     this.path.extend(labels);
     }
 
+    @Override
+    public void keepLabels(final Set<String> labels) {
+        final Set<String> retractLabels = new HashSet<>();
+        for (final Set<String> stepLabels : this.path.labels()) {
+            for (final String label : stepLabels) {
+                if (!labels.contains(label))
+                    retractLabels.add(label);
+            }
+        }
+        if (!retractLabels.isEmpty())
+            this.path = this.path.retract(retractLabels);
+    }
+
     @Override
     public int hashCode() {
         return super.hashCode() + this.path.hashCode();
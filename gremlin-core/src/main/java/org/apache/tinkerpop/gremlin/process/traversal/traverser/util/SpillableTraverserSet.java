@@ -0,0 +1,460 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.traverser.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.io.IoCore;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoMapper;
+import org.apache.tinkerpop.gremlin.structure.util.Attachable;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+import org.apache.tinkerpop.shaded.kryo.Kryo;
+import org.apache.tinkerpop.shaded.kryo.io.Input;
+import org.apache.tinkerpop.shaded.kryo.io.Output;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * A {@link TraverserSet} that holds at most {@code maxInMemory} traversers on the heap. When that budget is exceeded,
+ * the traversers in memory are detached, written to a temporary file with Gryo as a "run" and removed from the heap.
+ * Spilled traversers are read back, re-attached to the graph of the traversal and handed their side-effects when they
+ * are removed or iterated. {@link #sort(Comparator)} sorts each run and merges them, i.e. an external merge sort.
+ * <p/>
+ * Equal traversers are merged by bulk while they are in memory and again when they meet at the heads of the runs
+ * being merged, so the total bulk of every traverser is always preserved. Lookups of individual traversers
+ * ({@link #contains(Object)}, {@link #get(Traverser.Admin)} and {@link #remove(Object)}) are not possible once
+ * traversers have been spilled.
+ *
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ */
+public class SpillableTraverserSet<S> extends TraverserSet<S> {
+
+    private final Step<?, ?> step;
+    private final int maxInMemory;
+    private final File directory;
+
+    private final List<Run> runs = new ArrayList<>();
+    private long spilledSize = 0l;
+    private long spilledBulk = 0l;
+    private Comparator<Traverser<S>> comparator = null;
+
+    private transient Kryo kryo = null;
+    private transient SpilledTraversers drain = null;
+    private transient List<RunReader> openReaders = null;
+
+    /**
+     * @param step        the step holding the set, whose traversal provides the graph and side-effects
+     * @param maxInMemory the number of traversers to hold on the heap before spilling them to disk
+     * @param directory   the directory for temporary files or {@code null} for the default temporary directory
+     */
+    public SpillableTraverserSet(final Step<?, ?> step, final int maxInMemory, final File directory) {
+        if (maxInMemory < 1)
+            throw new IllegalArgumentException("At least one traverser must be held in memory: " + maxInMemory);
+        this.step = step;
+        this.maxInMemory = maxInMemory;
+        this.directory = directory;
+    }
+
+    public int getMaxInMemory() {
+        return this.maxInMemory;
+    }
+
+    public File getDirectory() {
+        return this.directory;
+    }
+
+    /**
+     * Get the number of temporary files the traversers are currently spilled to.
+     */
+    public int getRunCount() {
+        return this.runs.size();
+    }
+
+    @Override
+    public boolean add(final Traverser.Admin<S> traverser) {
+        final boolean added = super.add(traverser);
+        if (super.size() > this.maxInMemory)
+            this.spill();
+        return added;
+    }
+
+    @Override
+    public Iterator<Traverser.Admin<S>> iterator() {
+        if (this.runs.isEmpty())
+            return super.iterator();
+        if (null != this.drain)
+            throw new IllegalStateException("Spilled traversers can not be iterated once their removal has started");
+        return IteratorUtils.concat(new SpilledTraversers(false), super.iterator());
+    }
+
+    @Override
+    public Spliterator<Traverser.Admin<S>> spliterator() {
+        return this.runs.isEmpty() ? super.spliterator() : Spliterators.spliteratorUnknownSize(this.iterator(), Spliterator.NONNULL);
+    }
+
+    @Override
+    public int size() {
+        return (int) Math.min(Integer.MAX_VALUE, super.size() + this.spilledSize);
+    }
+
+    @Override
+    public long bulkSize() {
+        return super.bulkSize() + this.spilledBulk;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return 0l == this.spilledSize && super.isEmpty();
+    }
+
+    @Override
+    public Traverser.Admin<S> get(final Traverser.Admin<S> traverser) {
+        this.checkNotSpilled();
+        return super.get(traverser);
+    }
+
+    @Override
+    public boolean contains(final Object traverser) {
+        this.checkNotSpilled();
+        return super.contains(traverser);
+    }
+
+    @Override
+    public boolean remove(final Object traverser) {
+        this.checkNotSpilled();
+        return super.remove(traverser);
+    }
+
+    @Override
+    public Traverser.Admin<S> remove() {
+        // traversers spilled while a drain is in progress are in runs the drain did not open so they get a drain of their own
+        while (!this.runs.isEmpty()) {
+            if (null == this.drain)
+                this.drain = new SpilledTraversers(true);
+            if (this.drain.hasNext()) {
+                final Traverser.Admin<S> traverser = this.drain.next();
+                if (!this.drain.hasNext())
+                    this.closeDrain();
+                return traverser;
+            }
+            this.closeDrain();
+        }
+        return super.remove();
+    }
+
+    @Override
+    public Traverser.Admin<S> poll() {
+        return this.isEmpty() ? null : this.remove();
+    }
+
+    @Override
+    public Traverser.Admin<S> element() {
+        this.checkNotSpilled();
+        return super.element();
+    }
+
+    @Override
+    public Traverser.Admin<S> peek() {
+        this.checkNotSpilled();
+        return super.peek();
+    }
+
+    @Override
+    public void clear() {
+        this.deleteRuns();
+        this.comparator = null;
+        super.clear();
+    }
+
+    @Override
+    public void sort(final Comparator<Traverser<S>> comparator) {
+        if (this.runs.isEmpty()) {
+            super.sort(comparator);
+            return;
+        }
+        if (null != this.drain)
+            throw new IllegalStateException("Spilled traversers can not be sorted once their removal has started");
+
+        // the runs were written in insertion order so each one is read back, sorted and written again
+        final List<Run> unsortedRuns = new ArrayList<>(this.runs);
+        this.runs.clear();
+        this.comparator = comparator;
+        final boolean spillMemory = !super.isEmpty();
+        if (spillMemory)
+            this.spill();
+        for (final Run run : unsortedRuns) {
+            final List<Traverser.Admin<S>> traversers = new ArrayList<>((int) run.size);
+            try (final RunReader reader = new RunReader(run, true)) {
+                reader.forEachRemaining(traversers::add);
+            }
+            Collections.sort(traversers, comparator);
+            this.runs.add(this.write(traversers.iterator()));
+        }
+        // the traversers that were in memory were added last so they lose ties against the others
+        if (spillMemory)
+            this.runs.add(this.runs.remove(0));
+    }
+
+    @Override
+    public String toString() {
+        return this.runs.isEmpty() ? super.toString() : super.toString() + "+" + this.spilledSize + " spilled";
+    }
+
+    /**
+     * Traversals that are abandoned before their spilled traversers are consumed or cleared would otherwise leave the
+     * run files and their open readers behind, so they are closed and deleted once the set is garbage collected.
+     */
+    @Override
+    protected void finalize() throws Throwable {
+        try {
+            this.deleteRuns();
+        } finally {
+            super.finalize();
+        }
+    }
+
+    /////////////
+
+    private void checkNotSpilled() {
+        if (!this.runs.isEmpty())
+            throw new UnsupportedOperationException("Traversers can not be looked up once they have been spilled to disk");
+    }
+
+    private void spill() {
+        if (null != this.comparator)
+            super.sort(this.comparator);
+        final long bulk = super.bulkSize();
+        final Run run = this.write(super.iterator());
+        this.runs.add(run);
+        this.spilledSize = this.spilledSize + run.size;
+        this.spilledBulk = this.spilledBulk + bulk;
+        super.clear();
+    }
+
+    private Run write(final Iterator<Traverser.Admin<S>> traversers) {
+        try {
+            final File file = File.createTempFile("traversers-", ".kryo", this.directory);
+            long size = 0l;
+            try (final Output output = new Output(new FileOutputStream(file))) {
+                final Kryo kryo = this.getKryo();
+                while (traversers.hasNext()) {
+                    kryo.writeClassAndObject(output, traversers.next().detach());
+                    size++;
+                }
+            }
+            return new Run(file, size);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Traversers could not be spilled to disk: " + e.getMessage(), e);
+        }
+    }
+
+    private void closeDrain() {
+        this.drain.close();
+        // an iteration that was started before the drain reads runs whose files are gone once they are drained
+        if (null != this.openReaders)
+            new ArrayList<>(this.openReaders).stream().filter(reader -> this.drain.runs.contains(reader.run)).forEach(RunReader::close);
+        this.runs.removeAll(this.drain.runs);
+        this.drain = null;
+        if (this.runs.isEmpty()) {
+            this.spilledSize = 0l;
+            this.spilledBulk = 0l;
+        }
+    }
+
+    private void deleteRuns() {
+        if (null != this.drain)
+            this.closeDrain();
+        // iterations that were abandoned before the end of their runs still hold the run files open
+        if (null != this.openReaders)
+            new ArrayList<>(this.openReaders).forEach(RunReader::close);
+        this.runs.forEach(run -> run.file.delete());
+        this.runs.clear();
+        this.spilledSize = 0l;
+        this.spilledBulk = 0l;
+    }
+
+    private Kryo getKryo() {
+        if (null == this.kryo) {
+            final Optional<Graph> graph = this.getGraph();
+            this.kryo = (graph.isPresent() ? graph.get().io(IoCore.gryo()).mapper().create() : GryoMapper.build().create()).createMapper();
+        }
+        return this.kryo;
+    }
+
+    private Optional<Graph> getGraph() {
+        return TraversalHelper.getRootTraversal(this.step.getTraversal()).getGraph();
+    }
+
+    private static final class Run implements Serializable {
+
+        private final File file;
+        private final long size;
+
+        private Run(final File file, final long size) {
+            this.file = file;
+            this.size = size;
+        }
+    }
+
+    /**
+     * Reads the traversers of a run back, attaching them to the graph of the traversal. A reader that consumes its run
+     * deletes the file of the run once it is closed, which happens as soon as its last traverser has been read.
+     */
+    private final class RunReader implements Iterator<Traverser.Admin<S>>, AutoCloseable {
+
+        private final Run run;
+        private final boolean consume;
+        private final Input input;
+        private long remaining;
+        private boolean closed = false;
+
+        private RunReader(final Run run, final boolean consume) {
+            try {
+                this.input = new Input(new FileInputStream(run.file));
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Spilled traversers could not be read: " + e.getMessage(), e);
+            }
+            this.run = run;
+            this.consume = consume;
+            this.remaining = run.size;
+            if (null == openReaders)
+                openReaders = new ArrayList<>();
+            openReaders.add(this);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.remaining > 0;
+        }
+
+        @Override
+        public Traverser.Admin<S> next() {
+            if (this.remaining <= 0)
+                throw FastNoSuchElementException.instance();
+            final Traverser.Admin<S> traverser = (Traverser.Admin<S>) getKryo().readClassAndObject(this.input);
+            if (0 == --this.remaining)
+                this.close();
+            final Traversal.Admin<?, ?> traversal = step.getTraversal();
+            traverser.setSideEffects(traversal.getSideEffects());
+            final Optional<Graph> graph = getGraph();
+            if (graph.isPresent())
+                traverser.attach(Attachable.Method.get(graph.get()));
+            return traverser;
+        }
+
+        @Override
+        public void close() {
+            if (this.closed)
+                return;
+            this.closed = true;
+            this.remaining = 0l;
+            this.input.close();
+            openReaders.remove(this);
+            if (this.consume)
+                this.run.file.delete();
+        }
+    }
+
+    /**
+     * Iterates the spilled traversers run after run or, once sorted, by merging the sorted runs. Ties are broken by
+     * run order so the merge is as stable as an in-memory sort and equal traversers at the heads of the runs are merged.
+     */
+    private final class SpilledTraversers implements Iterator<Traverser.Admin<S>> {
+
+        private final boolean removing;
+        private final List<Run> runs;
+        private final List<RunReader> readers = new ArrayList<>();
+        private final List<Traverser.Admin<S>> heads = new ArrayList<>();
+
+        private SpilledTraversers(final boolean removing) {
+            this.removing = removing;
+            this.runs = new ArrayList<>(SpillableTraverserSet.this.runs);
+            for (final Run run : this.runs) {
+                final RunReader reader = new RunReader(run, removing);
+                this.readers.add(reader);
+                this.heads.add(reader.hasNext() ? reader.next() : null);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            for (final Traverser.Admin<S> head : this.heads) {
+                if (null != head)
+                    return true;
+            }
+            return false;
+        }
+
+        @Override
+        public Traverser.Admin<S> next() {
+            int next = -1;
+            for (int i = 0; i < this.heads.size(); i++) {
+                final Traverser.Admin<S> head = this.heads.get(i);
+                if (null != head && (-1 == next || (null != comparator && comparator.compare(head, this.heads.get(next)) < 0)))
+                    next = i;
+                if (-1 != next && null == comparator)
+                    break;
+            }
+            if (-1 == next)
+                throw new NoSuchElementException();
+            final Traverser.Admin<S> traverser = this.advance(next);
+            if (null != comparator) {
+                for (int i = next + 1; i < this.heads.size(); i++) {
+                    while (traverser.equals(this.heads.get(i))) {
+                        traverser.merge(this.advance(i));
+                    }
+                }
+            }
+            if (this.removing)
+                spilledBulk = spilledBulk - traverser.bulk();
+            return traverser;
+        }
+
+        private Traverser.Admin<S> advance(final int index) {
+            final Traverser.Admin<S> head = this.heads.get(index);
+            final RunReader reader = this.readers.get(index);
+            this.heads.set(index, reader.hasNext() ? reader.next() : null);
+            if (this.removing)
+                spilledSize--;
+            return head;
+        }
+
+        private void close() {
+            this.readers.forEach(RunReader::close);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.traverser.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * A {@link TraverserSet}-like collection that only retains the traversers that sort first according to a comparator
+ * until their total bulk reaches a bound. Traversers that sort after the retained ones are dropped as soon as they
+ * can no longer make it into the first {@code bound} objects, so the memory used is proportional to the bound and not
+ * to the number of traversers added. Equal traversers are merged as in {@link TraverserSet} and traversers that
+ * compare equal keep the order in which they were added. The last retained traverser may carry more bulk than is
+ * needed to reach the bound, so trimming to the exact bound is left to the caller.
+ *
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ */
+public final class TopTraverserSet<S> {
+
+    private final Comparator<Traverser<S>> comparator;
+    private final long bound;
+    private final Map<Traverser.Admin<S>, Ranked<S>> map = new HashMap<>();
+    private final PriorityQueue<Ranked<S>> worstFirst;
+    private long bulk = 0l;
+    private long sequence = 0l;
+
+    public TopTraverserSet(final Comparator<Traverser<S>> comparator, final long bound) {
+        if (bound < 0)
+            throw new IllegalArgumentException("The bound can not be negative: " + bound);
+        this.comparator = comparator;
+        this.bound = bound;
+        this.worstFirst = new PriorityQueue<>(11, Collections.reverseOrder(this::compare));
+    }
+
+    public boolean add(final Traverser.Admin<S> traverser) {
+        final Ranked<S> existing = this.map.get(traverser);
+        if (null != existing) {
+            existing.traverser.merge(traverser);
+        } else {
+            // a traverser that does not sort before the worst retained one can not make it once the bound is reached
+            if (this.bulk >= this.bound && (this.worstFirst.isEmpty() || this.comparator.compare(traverser, this.worstFirst.peek().traverser) >= 0))
+                return false;
+            final Ranked<S> ranked = new Ranked<>(traverser, this.sequence++);
+            this.map.put(traverser, ranked);
+            this.worstFirst.add(ranked);
+        }
+        this.bulk = this.bulk + traverser.bulk();
+        while (!this.worstFirst.isEmpty() && this.bulk - this.worstFirst.peek().traverser.bulk() >= this.bound) {
+            final Ranked<S> worst = this.worstFirst.poll();
+            this.map.remove(worst.traverser);
+            this.bulk = this.bulk - worst.traverser.bulk();
+        }
+        return null == existing;
+    }
+
+    public int size() {
+        return this.map.size();
+    }
+
+    public long bulkSize() {
+        return this.bulk;
+    }
+
+    public boolean isEmpty() {
+        return this.map.isEmpty();
+    }
+
+    public void clear() {
+        this.map.clear();
+        this.worstFirst.clear();
+        this.bulk = 0l;
+    }
+
+    /**
+     * Get the retained traversers in sorted order.
+     */
+    public List<Traverser.Admin<S>> toSortedList() {
+        final List<Ranked<S>> ranked = new ArrayList<>(this.worstFirst);
+        Collections.sort(ranked, this::compare);
+        final List<Traverser.Admin<S>> list = new ArrayList<>(ranked.size());
+        ranked.forEach(r -> list.add(r.traverser));
+        return list;
+    }
+
+    @Override
+    public String toString() {
+        return this.toSortedList().toString();
+    }
+
+    private int compare(final Ranked<S> rankedA, final Ranked<S> rankedB) {
+        final int comparison = this.comparator.compare(rankedA.traverser, rankedB.traverser);
+        return 0 != comparison ? comparison : Long.compare(rankedA.sequence, rankedB.sequence);
+    }
+
+    private static final class Ranked<S> {
+
+        private final Traverser.Admin<S> traverser;
+        private final long sequence;
+
+        private Ranked(final Traverser.Admin<S> traverser, final long sequence) {
+            this.traverser = traverser;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -81,6 +81,17 @@ public class DefaultTraversal<S, E> implements Traversal.Admin<S, E> {
     public void applyStrategies() throws IllegalStateException {
         if (this.locked) throw Traversal.Exceptions.traversalIsLocked();
         TraversalHelper.reIdSteps(this.stepPosition, this);
+        final Optional<TraversalCompilationCache> compilationCache = this.traversalParent instanceof EmptyStep ? this.strategies.getCompilationCache() : Optional.empty();
+        final Optional<TraversalCompilationCache.Key> compilationKey = compilationCache.flatMap(cache -> cache.getKey(this));
+        if (compilationKey.isPresent()) {
+            final Optional<Traversal.Admin<?, ?>> compiledTraversal = compilationCache.get().getCompiledTraversal(compilationKey.get(), this);
+            if (compiledTraversal.isPresent()) {
+                this.adoptCompiledSteps(compiledTraversal.get());
+                this.finalEndStep = this.getEndStep();
+                this.locked = true;
+                return;
+            }
+        }
         this.strategies.applyStrategies(this);
         boolean hasGraph = null != this.graph;
         for (final Step<?, ?> step : this.getSteps()) {
@@ -101,6 +112,40 @@ public class DefaultTraversal<S, E> implements Traversal.Admin<S, E> {
         }
         this.finalEndStep = this.getEndStep();
         this.locked = true;
+        compilationKey.ifPresent(key -> compilationCache.get().putCompiledTraversal(key, this));
+    }
+
+    /**
+     * Takes the steps of a traversal cloned from the {@link TraversalCompilationCache} as the steps of this traversal.
+     * The child traversals of the steps are integrated with the side-effects and graph of this traversal.
+     */
+    private void adoptCompiledSteps(final Traversal.Admin<?, ?> compiledTraversal) {
+        this.steps.clear();
+        for (final Step<?, ?> step : compiledTraversal.getSteps()) {
+            step.setTraversal(this);
+            final Step previousStep = this.steps.isEmpty() ? EmptyStep.instance() : this.steps.get(this.steps.size() - 1);
+            step.setPreviousStep(previousStep);
+            previousStep.setNextStep(step);
+            this.steps.add(step);
+        }
+        this.integrateCompiledChildren(this);
+    }
+
+    private void integrateCompiledChildren(final Traversal.Admin<?, ?> traversal) {
+        for (final Step<?, ?> step : traversal.getSteps()) {
+            if (step instanceof TraversalParent) {
+                for (final Traversal.Admin<?, ?> globalChild : ((TraversalParent) step).getGlobalChildren()) {
+                    globalChild.setSideEffects(this.sideEffects);
+                    if (null != this.graph) globalChild.setGraph(this.graph);
+                    this.integrateCompiledChildren(globalChild);
+                }
+                for (final Traversal.Admin<?, ?> localChild : ((TraversalParent) step).getLocalChildren()) {
+                    localChild.setSideEffects(this.sideEffects);
+                    if (null != this.graph) localChild.setGraph(this.graph);
+                    this.integrateCompiledChildren(localChild);
+                }
+            }
+        }
     }
 
     @Override
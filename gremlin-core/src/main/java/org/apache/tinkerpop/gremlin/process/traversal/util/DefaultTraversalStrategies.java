@@ -37,6 +37,7 @@ public class DefaultTraversalStrategies implements TraversalStrategies {
 
     protected List<TraversalStrategy<?>> traversalStrategies = new ArrayList<>();
     protected TraverserGeneratorFactory traverserGeneratorFactory = DefaultTraverserGeneratorFactory.instance();
+    protected transient TraversalCompilationCache compilationCache = null;
 
     @Override
     public TraversalStrategies addStrategies(final TraversalStrategy<?>... strategies) {
@@ -88,6 +89,16 @@ public class DefaultTraversalStrategies implements TraversalStrategies {
         this.traverserGeneratorFactory = traverserGeneratorFactory;
     }
 
+    @Override
+    public Optional<TraversalCompilationCache> getCompilationCache() {
+        return Optional.ofNullable(this.compilationCache);
+    }
+
+    @Override
+    public void setCompilationCache(final TraversalCompilationCache compilationCache) {
+        this.compilationCache = compilationCache;
+    }
+
     @Override
     public DefaultTraversalStrategies clone() {
         try {
@@ -26,6 +26,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.DefaultTrav
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -63,6 +64,16 @@ public final class EmptyTraversalStrategies implements TraversalStrategies {
         return this;
     }
 
+    @Override
+    public Optional<TraversalCompilationCache> getCompilationCache() {
+        return Optional.empty();
+    }
+
+    @Override
+    public void setCompilationCache(final TraversalCompilationCache compilationCache) {
+
+    }
+
     @Override
     public TraverserGeneratorFactory getTraverserGeneratorFactory() {
         return DefaultTraverserGeneratorFactory.instance();
@@ -0,0 +1,404 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalEngine;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A TraversalCompilationCache holds root traversals after their strategies have been applied, keyed by the shape of
+ * the traversal before the strategies were applied. When {@link DefaultTraversal#applyStrategies()} finds a compiled
+ * traversal of the same shape, it clones its steps rather than applying the strategies again.
+ * <p/>
+ * The shape of a traversal is its steps and child traversals along with their arguments, the strategies, the graph and
+ * the side-effect keys. The arguments of the steps are compared by type as well as by value, so {@code has('age',30)}
+ * and {@code has('age',30L)} do not share a compiled traversal. The ids of a start {@code V()} or {@code E()} are not part of the shape as long as the
+ * strategies leave them on the start step, so {@code g.V(1).out()} and {@code g.V(2).out()} share one compiled
+ * traversal. Traversals with lambdas and traversals for a {@code GraphComputer} are never cached.
+ * <p/>
+ * The arguments of a step are read from the non-static, non-transient fields its class declares below
+ * {@link AbstractStep}, so a step that is to be cached must hold nothing but the constants it was constructed with in
+ * those fields. State that a step builds up while it is iterated or that differs between two traversals of the same
+ * shape, e.g. a cache or a counter, has to be declared {@code transient} to be left out of the key.
+ * The {@link #toString()} has a pretty-print representation of the cache that is useful in the Gremlin Console.
+ *
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ */
+public final class TraversalCompilationCache {
+
+    private static final Map<Class<?>, List<Field>> ARGUMENT_FIELDS = new ConcurrentHashMap<>();
+
+    private final int maxSize;
+    private final Map<Key, Compilation> compilations;
+    private long hits = 0l;
+    private long misses = 0l;
+    private long evictions = 0l;
+
+    public TraversalCompilationCache(final int maxSize) {
+        if (maxSize < 1)
+            throw new IllegalArgumentException("The maximum size of the compilation cache must be greater than zero: " + maxSize);
+        this.maxSize = maxSize;
+        this.compilations = new LinkedHashMap<Key, Compilation>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, Compilation> eldest) {
+                if (this.size() <= TraversalCompilationCache.this.maxSize)
+                    return false;
+                TraversalCompilationCache.this.evictions++;
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Get the key of a root traversal before its strategies are applied.
+     *
+     * @param traversal the traversal to be compiled
+     * @return the key of the traversal or {@link Optional#empty()} if the traversal can not be cached
+     */
+    public Optional<Key> getKey(final Traversal.Admin<?, ?> traversal) {
+        if (traversal.getEngine().getType() != TraversalEngine.Type.STANDARD)
+            return Optional.empty();
+        final StringBuilder shape = new StringBuilder(traversal.getClass().getName());
+        final List<Object> arguments = new ArrayList<>();
+        if (!appendShape(traversal, true, shape, arguments))
+            return Optional.empty();
+        shape.append(new TreeSet<>(traversal.getSideEffects().keys()));
+        if (null != traversal.getSideEffects().getSackInitialValue())
+            shape.append("sack");
+        final Step<?, ?> startStep = traversal.getStartStep();
+        final Object[] ids = GraphStep.isStartStep(startStep) ? ((GraphStep<?, ?>) startStep).getIds().clone() : new Object[0];
+        return Optional.of(new Key(shape.toString(), arguments, traversal.getStrategies().toList(), traversal.getGraph().orElse(null), ids, true));
+    }
+
+    /**
+     * Get a clone of the compiled traversal of the key. If the ids of the start step are not part of the shape, the
+     * clone has the ids of the traversal the key was created for.
+     *
+     * @param key       the key of the traversal to be compiled
+     * @param traversal the traversal to be compiled
+     * @return the compiled traversal or {@link Optional#empty()} if no traversal of the shape has been compiled
+     */
+    public Optional<Traversal.Admin<?, ?>> getCompiledTraversal(final Key key, final Traversal.Admin<?, ?> traversal) {
+        final Compilation compilation;
+        synchronized (this) {
+            Compilation temp = this.compilations.get(key);
+            if (null == temp && key.ids.length > 0)
+                temp = this.compilations.get(key.withIds());
+            if (null == temp) {
+                this.misses++;
+                key.originalTraversal = traversal.toString();
+                return Optional.empty();
+            }
+            this.hits++;
+            temp.hits++;
+            compilation = temp;
+        }
+        final Traversal.Admin<?, ?> compiledTraversal;
+        synchronized (compilation) {
+            compiledTraversal = compilation.compiledTraversal.clone();
+        }
+        if (compilation.parameterized && key.ids.length > 0) {
+            final GraphStep<?, ?> startStep = (GraphStep<?, ?>) compiledTraversal.getStartStep();
+            startStep.clearIds();
+            startStep.addIds(key.ids);
+        }
+        return Optional.of(compiledTraversal);
+    }
+
+    /**
+     * Cache the traversal for the key once its strategies have been applied.
+     *
+     * @param key               the key of the traversal before its strategies were applied
+     * @param compiledTraversal the traversal after its strategies were applied
+     */
+    public void putCompiledTraversal(final Key key, final Traversal.Admin<?, ?> compiledTraversal) {
+        final Step<?, ?> startStep = compiledTraversal.getStartStep();
+        final boolean parameterized = 0 == key.ids.length || (GraphStep.isStartStep(startStep) && Arrays.equals(((GraphStep<?, ?>) startStep).getIds(), key.ids));
+        final Compilation compilation = new Compilation(key.originalTraversal, compiledTraversal.clone(), parameterized);
+        synchronized (this) {
+            this.compilations.put(parameterized ? key : key.withIds(), compilation);
+        }
+    }
+
+    public synchronized long getHits() {
+        return this.hits;
+    }
+
+    public synchronized long getMisses() {
+        return this.misses;
+    }
+
+    public synchronized long getEvictions() {
+        return this.evictions;
+    }
+
+    /**
+     * Get the fraction of traversals that were cloned from a compiled traversal rather than compiled.
+     */
+    public synchronized double getHitRate() {
+        final long lookups = this.hits + this.misses;
+        return 0l == lookups ? 0.0d : (double) this.hits / lookups;
+    }
+
+    public synchronized int size() {
+        return this.compilations.size();
+    }
+
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    public synchronized void clear() {
+        this.compilations.clear();
+        this.hits = 0l;
+        this.misses = 0l;
+        this.evictions = 0l;
+    }
+
+    /**
+     * A pretty-print representation of the cache with the original and compiled form of each cached traversal,
+     * from the least to the most recently used.
+     *
+     * @return a {@link String} representation of the cache
+     */
+    @Override
+    public synchronized String toString() {
+        final StringBuilder builder = new StringBuilder("Traversal Compilation Cache\n");
+        final String header = String.format("size=%d/%d, hits=%d, misses=%d, hit rate=%.2f, evictions=%d",
+                this.compilations.size(), this.maxSize, this.hits, this.misses, this.getHitRate(), this.evictions);
+        for (int i = 0; i < header.length(); i++) {
+            builder.append("=");
+        }
+        builder.append("\n").append(header).append("\n");
+        for (final Compilation compilation : this.compilations.values()) {
+            builder.append("\n");
+            builder.append("Original Traversal    ").append(compilation.originalTraversal).append("\n");
+            builder.append("Compiled Traversal    ").append(compilation.compiledTraversal).append("\n");
+            builder.append("Hits                  ").append(compilation.hits);
+            if (!compilation.parameterized)
+                builder.append(" (start ids are part of the shape)");
+            builder.append("\n");
+        }
+        return builder.toString();
+    }
+
+    private static boolean appendShape(final Traversal.Admin<?, ?> traversal, final boolean root, final StringBuilder shape, final List<Object> arguments) {
+        shape.append('[');
+        for (final Step<?, ?> step : traversal.getSteps()) {
+            if (step instanceof LambdaHolder)
+                return false;
+            shape.append(step.getClass().getName()).append(step.getLabels());
+            if (root && GraphStep.isStartStep(step))  // the ids are a parameter of the shape
+                shape.append('(').append(((GraphStep<?, ?>) step).getReturnClass().getName()).append(',').append(((GraphStep<?, ?>) step).getIds().length).append(')');
+            else {
+                shape.append('(').append(step).append(')');
+                appendArguments(step, arguments);
+            }
+            if (step instanceof TraversalParent) {
+                for (final Traversal.Admin<?, ?> globalChild : ((TraversalParent) step).getGlobalChildren()) {
+                    if (!appendShape(globalChild, false, shape, arguments))
+                        return false;
+                }
+                shape.append('|');
+                for (final Traversal.Admin<?, ?> localChild : ((TraversalParent) step).getLocalChildren()) {
+                    if (!appendShape(localChild, false, shape, arguments))
+                        return false;
+                }
+            }
+        }
+        shape.append(']');
+        return true;
+    }
+
+    /**
+     * The arguments of a step are the values of the non-static, non-transient fields its class declares below
+     * {@link AbstractStep}, which must therefore be constants of the step. The
+     * {@link #toString()} of a step does not say whether {@code 30} is an {@link Integer} or a {@link Long}, so these
+     * values are compared by {@link #argumentsEqual(List, List)} rather than through the shape.
+     */
+    private static void appendArguments(final Step<?, ?> step, final List<Object> arguments) {
+        for (final Field field : getArgumentFields(step.getClass())) {
+            try {
+                appendArgument(field.get(step), arguments);
+            } catch (final IllegalAccessException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        }
+    }
+
+    private static void appendArgument(final Object argument, final List<Object> arguments) {
+        if (null == argument || argument instanceof Number || argument instanceof CharSequence || argument instanceof Boolean ||
+                argument instanceof Character || argument instanceof Enum || argument instanceof Class || argument instanceof Element)
+            arguments.add(argument);
+        else if (argument instanceof ConnectiveP) {
+            arguments.add(argument.getClass());
+            appendArgument(((ConnectiveP<?>) argument).getPredicates(), arguments);
+        } else if (argument instanceof P) {
+            arguments.add(((P<?>) argument).getBiPredicate());
+            appendArgument(((P<?>) argument).getValue(), arguments);
+        } else if (argument instanceof HasContainer) {
+            arguments.add(((HasContainer) argument).getKey());
+            appendArgument(((HasContainer) argument).getPredicate(), arguments);
+        } else if (argument instanceof Object[]) {
+            arguments.add(((Object[]) argument).length);
+            for (final Object object : (Object[]) argument) {
+                appendArgument(object, arguments);
+            }
+        } else if (argument instanceof Collection) {
+            arguments.add(((Collection<?>) argument).size());
+            for (final Object object : (Collection<?>) argument) {
+                appendArgument(object, arguments);
+            }
+        } else if (argument instanceof Map) {
+            arguments.add(((Map<?, ?>) argument).size());
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) argument).entrySet()) {
+                appendArgument(entry.getKey(), arguments);
+                appendArgument(entry.getValue(), arguments);
+            }
+        }
+        // child traversals, comparators and the runtime state of a step are left to the shape
+    }
+
+    private static List<Field> getArgumentFields(final Class<?> stepClass) {
+        List<Field> fields = ARGUMENT_FIELDS.get(stepClass);
+        if (null == fields) {
+            fields = new ArrayList<>();
+            for (Class<?> c = stepClass; null != c && !c.equals(AbstractStep.class) && !c.equals(Object.class); c = c.getSuperclass()) {
+                for (final Field field : c.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers()) || field.isSynthetic())
+                        continue;
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+            ARGUMENT_FIELDS.putIfAbsent(stepClass, fields);
+        }
+        return fields;
+    }
+
+    /**
+     * Two argument lists are equal if their arguments are of the same class and equal, so an {@link Integer} is never
+     * equal to a {@link Long} of the same value.
+     */
+    private static boolean argumentsEqual(final List<Object> arguments, final List<Object> otherArguments) {
+        if (arguments.size() != otherArguments.size())
+            return false;
+        for (int i = 0; i < arguments.size(); i++) {
+            final Object argument = arguments.get(i);
+            final Object otherArgument = otherArguments.get(i);
+            if (argument == otherArgument)
+                continue;
+            if (null == argument || null == otherArgument || !argument.getClass().equals(otherArgument.getClass()) || !argument.equals(otherArgument))
+                return false;
+        }
+        return true;
+    }
+
+    ////////////
+
+    /**
+     * The shape of a root traversal before its strategies were applied. The strategies and the graph are compared by
+     * identity and the arguments of the steps by type and value.
+     */
+    public static final class Key {
+
+        private final String shape;
+        private final List<Object> arguments;
+        private final List<TraversalStrategy<?>> strategies;
+        private final Graph graph;
+        private final Object[] ids;
+        private final boolean parameterized;
+        private String originalTraversal = null;
+
+        private Key(final String shape, final List<Object> arguments, final List<TraversalStrategy<?>> strategies, final Graph graph, final Object[] ids, final boolean parameterized) {
+            this.shape = shape;
+            this.arguments = arguments;
+            this.strategies = new ArrayList<>(strategies);
+            this.graph = graph;
+            this.ids = ids;
+            this.parameterized = parameterized;
+        }
+
+        private Key withIds() {
+            final Key key = new Key(this.shape, this.arguments, this.strategies, this.graph, this.ids, false);
+            key.originalTraversal = this.originalTraversal;
+            return key;
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            if (!(object instanceof Key))
+                return false;
+            final Key other = (Key) object;
+            if (this.graph != other.graph || this.parameterized != other.parameterized ||
+                    this.strategies.size() != other.strategies.size() || !this.shape.equals(other.shape))
+                return false;
+            for (int i = 0; i < this.strategies.size(); i++) {
+                if (this.strategies.get(i) != other.strategies.get(i))
+                    return false;
+            }
+            return argumentsEqual(this.arguments, other.arguments) && (this.parameterized || Arrays.equals(this.ids, other.ids));
+        }
+
+        @Override
+        public int hashCode() {
+            int result = this.shape.hashCode() ^ System.identityHashCode(this.graph);
+            for (final TraversalStrategy<?> strategy : this.strategies) {
+                result = 31 * result + System.identityHashCode(strategy);
+            }
+            return result;
+        }
+    }
+
+    private static final class Compilation {
+
+        private final String originalTraversal;
+        private final Traversal.Admin<?, ?> compiledTraversal;
+        private final boolean parameterized;
+        private long hits = 0l;
+
+        private Compilation(final String originalTraversal, final Traversal.Admin<?, ?> compiledTraversal, final boolean parameterized) {
+            this.originalTraversal = originalTraversal;
+            this.compiledTraversal = compiledTraversal;
+            this.parameterized = parameterized;
+        }
+    }
+}
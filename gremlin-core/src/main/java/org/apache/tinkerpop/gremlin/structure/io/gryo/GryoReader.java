@@ -41,11 +41,20 @@ import org.apache.tinkerpop.shaded.kryo.io.Input;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -61,11 +70,18 @@ import java.util.function.Function;
 public final class GryoReader implements GraphReader {
     private final Kryo kryo;
 
+    /**
+     * Number of locks over which the vertices are spread when edges are written by more than one worker.
+     */
+    private static final int LOCK_STRIPES = 64;
+
     private final long batchSize;
+    private final int workers;
 
-    private GryoReader(final long batchSize, final Mapper<Kryo> gryoMapper) {
+    private GryoReader(final long batchSize, final int workers, final Mapper<Kryo> gryoMapper) {
         this.kryo = gryoMapper.createMapper();
         this.batchSize = batchSize;
+        this.workers = workers;
     }
 
     /**
@@ -79,6 +95,11 @@ public final class GryoReader implements GraphReader {
      */
     @Override
     public void readGraph(final InputStream inputStream, final Graph graphToWriteTo) throws IOException {
+        if (this.workers > 0) {
+            readGraphSinglePass(inputStream, graphToWriteTo);
+            return;
+        }
+
         // dual pass - create all vertices and store to cache the ids.  then create edges.  as long as we don't
         // have vertex labels in the output we can't do this single pass
         final Map<StarGraph.StarVertex, Vertex> cache = new HashMap<>();
@@ -108,6 +129,130 @@ public final class GryoReader implements GraphReader {
         if (supportsTx) graphToWriteTo.tx().commit();
     }
 
+    /**
+     * Reads the graph in one pass, keeping only a table from the identifier of each vertex in the stream to its
+     * position in the stream and the identifier it was given in the graph.  Vertices are decoded on the calling
+     * thread and written in batches of {@code batchSize} by the workers while the next batch is decoded.  Each edge
+     * appears in the stream with both of its vertices, so it is created by whichever of the two comes later, at which
+     * point the other has already been written.  With more than one worker, two vertices of a batch may share an
+     * adjacent vertex, so an edge is only added while holding the locks of both of its vertices.
+     */
+    private void readGraphSinglePass(final InputStream inputStream, final Graph graphToWriteTo) throws IOException {
+        final Map<Object, VertexMapping> mappings = new ConcurrentHashMap<>();
+        final Object[] locks = this.workers > 1 ? new Object[LOCK_STRIPES] : null;
+        if (null != locks) Arrays.setAll(locks, i -> new Object());
+        final AtomicInteger threadCount = new AtomicInteger(0);
+        final ExecutorService executor = Executors.newFixedThreadPool(this.workers, r -> {
+            final Thread thread = new Thread(r, "gryo-reader-worker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            final Input input = new Input(inputStream);
+            CompletableFuture<Void> pending = CompletableFuture.completedFuture(null);
+            List<StarGraph.StarVertex> batch = new ArrayList<>();
+            long position = 0;
+            while (!input.eof()) {
+                readHeader(input);
+                final StarGraph starGraph = kryo.readObject(input, StarGraph.class);
+                kryo.readClassAndObject(input);
+
+                final StarGraph.StarVertex starVertex = starGraph.getStarVertex();
+                mappings.put(starVertex.id(), new VertexMapping(position++));
+                batch.add(starVertex);
+                if (batch.size() >= this.batchSize) {
+                    await(pending);
+                    pending = writeBatch(batch, mappings, locks, graphToWriteTo, executor);
+                    batch = new ArrayList<>();
+                }
+            }
+            await(pending);
+            if (!batch.isEmpty()) await(writeBatch(batch, mappings, locks, graphToWriteTo, executor));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private CompletableFuture<Void> writeBatch(final List<StarGraph.StarVertex> batch, final Map<Object, VertexMapping> mappings,
+                                               final Object[] locks, final Graph graphToWriteTo, final ExecutorService executor) {
+        final Graph.Features.EdgeFeatures edgeFeatures = graphToWriteTo.features().edge();
+        return runOnWorkers(batch, graphToWriteTo, executor, starVertex ->
+                mappings.get(starVertex.id()).id = starVertex.attach(Attachable.Method.create(graphToWriteTo)).id()
+        ).thenCompose(v -> runOnWorkers(batch, graphToWriteTo, executor, starVertex -> {
+            final VertexMapping mapping = mappings.get(starVertex.id());
+            final Vertex[] vertex = new Vertex[1];
+            starVertex.edges(Direction.OUT).forEachRemaining(e -> {
+                final VertexMapping other = mappings.get(e.inVertex().id());
+                if (null != other && other.position < mapping.position) {
+                    if (null == vertex[0]) vertex[0] = graphToWriteTo.vertices(mapping.id).next();
+                    addEdge(e, vertex[0], graphToWriteTo.vertices(other.id).next(), edgeFeatures, locks, mapping, other);
+                }
+            });
+            starVertex.edges(Direction.IN).forEachRemaining(e -> {
+                // a self-loop is only ever written with the in edges of a star graph
+                final VertexMapping other = mappings.get(e.outVertex().id());
+                if (null != other && other.position <= mapping.position) {
+                    if (null == vertex[0]) vertex[0] = graphToWriteTo.vertices(mapping.id).next();
+                    addEdge(e, graphToWriteTo.vertices(other.id).next(), vertex[0], edgeFeatures, locks, mapping, other);
+                }
+            });
+        }));
+    }
+
+    private CompletableFuture<Void> runOnWorkers(final List<StarGraph.StarVertex> batch, final Graph graphToWriteTo,
+                                                 final ExecutorService executor, final Consumer<StarGraph.StarVertex> consumer) {
+        final boolean supportsTx = graphToWriteTo.features().graph().supportsTransactions();
+        final AtomicInteger next = new AtomicInteger(0);
+        final CompletableFuture<?>[] futures = new CompletableFuture[this.workers];
+        for (int i = 0; i < this.workers; i++) {
+            futures[i] = CompletableFuture.runAsync(() -> {
+                int index;
+                while ((index = next.getAndIncrement()) < batch.size()) {
+                    consumer.accept(batch.get(index));
+                }
+                // transactions are bound to the thread so each worker commits its own share of the batch
+                if (supportsTx) graphToWriteTo.tx().commit();
+            }, executor);
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
+    private static void addEdge(final Edge edge, final Vertex outVertex, final Vertex inVertex, final Graph.Features.EdgeFeatures edgeFeatures,
+                                final Object[] locks, final VertexMapping mapping, final VertexMapping other) {
+        if (null == locks) {
+            addEdge(edge, outVertex, inVertex, edgeFeatures);
+            return;
+        }
+
+        // always take the lower stripe first so that two workers can never wait on each other
+        final int a = (int) (mapping.position % locks.length);
+        final int b = (int) (other.position % locks.length);
+        synchronized (locks[Math.min(a, b)]) {
+            synchronized (locks[Math.max(a, b)]) {
+                addEdge(edge, outVertex, inVertex, edgeFeatures);
+            }
+        }
+    }
+
+    private static void addEdge(final Edge edge, final Vertex outVertex, final Vertex inVertex, final Graph.Features.EdgeFeatures edgeFeatures) {
+        final Edge newEdge = edgeFeatures.willAllowId(edge.id()) ?
+                outVertex.addEdge(edge.label(), inVertex, T.id, edge.id()) :
+                outVertex.addEdge(edge.label(), inVertex);
+        edge.properties().forEachRemaining(p -> newEdge.property(p.key(), p.value()));
+    }
+
+    private static void await(final CompletableFuture<Void> future) throws IOException {
+        try {
+            future.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException(ie);
+        } catch (ExecutionException ee) {
+            throw new IOException(ee.getCause());
+        }
+    }
+
     /**
      * Read {@link Vertex} objects from output generated by any of the {@link GryoWriter} {@code writeVertex} or
      * {@code writeVertices} methods or by {@link GryoWriter#writeGraph(OutputStream, Graph)}.
@@ -250,6 +395,7 @@ public final class GryoReader implements GraphReader {
     public final static class Builder implements ReaderBuilder<GryoReader> {
 
         private long batchSize = 10000;
+        private int workers = 0;
         /**
          * Always use the most recent gryo version by default
          */
@@ -275,12 +421,37 @@ public final class GryoReader implements GraphReader {
             return this;
         }
 
+        /**
+         * Number of threads that write to the graph when using {@link GryoReader#readGraph(InputStream, Graph)}.
+         * When greater than zero the graph is read in a single pass that only holds a table of vertex identifiers
+         * and a batch of vertices in memory, rather than every vertex of the graph, which requires the stream to
+         * contain the edges of both directions as written by {@link GryoWriter#writeGraph(OutputStream, Graph)}.
+         * With more than one worker, vertices are added from several threads at once and each edge is added while
+         * holding a lock on both of its vertices, so the {@link Graph} must allow elements to be added concurrently
+         * as long as no two threads touch the same vertex.  The
+         * default of zero reads the graph with a second pass over the vertices held in memory.
+         */
+        public Builder workers(final int workers) {
+            if (workers < 0) throw new IllegalArgumentException("workers cannot be negative");
+            this.workers = workers;
+            return this;
+        }
+
         public GryoReader create() {
-            return new GryoReader(batchSize, this.gryoMapper);
+            return new GryoReader(batchSize, workers, this.gryoMapper);
         }
 
     }
 
+    private static final class VertexMapping {
+        private final long position;
+        private volatile Object id;
+
+        private VertexMapping(final long position) {
+            this.position = position;
+        }
+    }
+
     private class VertexInputIterator implements Iterator<Vertex> {
         private final Input input;
         private final Function<Attachable<Vertex>, Vertex> vertexMaker;
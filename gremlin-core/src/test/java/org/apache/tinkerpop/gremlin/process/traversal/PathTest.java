@@ -320,6 +320,28 @@ public class PathTest {
         });
     }
 
+    @Test
+    public void shouldRetractLabels() {
+        PATH_SUPPLIERS.forEach(supplier -> {
+            Path path = supplier.get();
+            path = path.extend(1, new LinkedHashSet<>(Arrays.asList("a", "aa")));
+            path = path.extend(2, Collections.singleton("b"));
+            path = path.extend(3, Collections.singleton("c"));
+            final Path clone = path.clone();
+            path = path.retract(new HashSet<>(Arrays.asList("aa", "b")));
+            assertEquals(2, path.size());
+            assertEquals(Arrays.asList(1, 3), path.objects());
+            assertEquals(Collections.singleton("a"), path.labels().get(0));
+            assertFalse(path.hasLabel("aa"));
+            assertFalse(path.hasLabel("b"));
+            assertEquals(Integer.valueOf(3), path.get("c"));
+            assertEquals(3, clone.size());
+            assertTrue(clone.hasLabel("aa"));
+            path = path.retract(new HashSet<>(Arrays.asList("a", "c")));
+            assertEquals(0, path.size());
+        });
+    }
+
     @Test
     public void shouldHaveCrossTypeEquality() {
         List<Path> paths = PATH_SUPPLIERS.stream()
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalEngine;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalStrategies;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ */
+public class GroupStepHelperTest {
+
+    private static final Function<Integer, Object> PARITY = i -> i % 2 == 0 ? "even" : "odd";
+
+    private static Optional<GroupStepHelper.ValueReducer<Object, Object>> getValueReducer(final Traversal<?, ?> valueReduceTraversal) {
+        final Traversal.Admin<Object, Object> traversal = (Traversal.Admin) valueReduceTraversal.asAdmin();
+        return GroupStepHelper.getValueReducer(traversal, (Traversal.Admin) GroupStepHelper.splitOnBarrierStep(traversal).get(0));
+    }
+
+    private static <E> E execute(final Traversal<?, E> traversal) {
+        final TraversalEngine traversalEngine = mock(TraversalEngine.class);
+        when(traversalEngine.getType()).thenReturn(TraversalEngine.Type.STANDARD);
+        traversal.asAdmin().setStrategies(new DefaultTraversalStrategies());
+        traversal.asAdmin().setEngine(traversalEngine);
+        return traversal.next();
+    }
+
+    @Test
+    public void shouldDetectReducibleValueTraversals() {
+        Arrays.<Traversal<?, ?>>asList(__.count(), __.sum(), __.min(), __.max(), __.mean(), __.fold(),
+                __.fold(0, (a, b) -> a), __.is(1).count(), __.out().values("age").sum())
+                .forEach(traversal -> assertTrue(traversal.toString(), getValueReducer(traversal).isPresent()));
+        Arrays.<Traversal<?, ?>>asList(__.identity(), __.fold().unfold(), __.dedup().count(), __.limit(2).fold(),
+                __.order().fold(), __.union(__.limit(1)).count())
+                .forEach(traversal -> assertFalse(traversal.toString(), getValueReducer(traversal).isPresent()));
+    }
+
+    @Test
+    public void shouldOnlyMergeSeedsOfSerializableReducers() {
+        Arrays.<Traversal<?, ?>>asList(__.count(), __.sum(), __.min(), __.max(), __.fold())
+                .forEach(traversal -> assertTrue(traversal.toString(), getValueReducer(traversal).get().isMergeable()));
+        Arrays.<Traversal<?, ?>>asList(__.mean(), __.fold(0, (a, b) -> a))
+                .forEach(traversal -> assertFalse(traversal.toString(), getValueReducer(traversal).get().isMergeable()));
+    }
+
+    @Test
+    public void shouldMergePartialSeeds() {
+        final GroupStepHelper.ValueReducer<Object, Object> count = getValueReducer(__.count()).get();
+        assertEquals(7l, count.mergePartials(Arrays.<Collection<?>>asList(GroupStepHelper.toPartial(3l), GroupStepHelper.toPartial(4l)).iterator()));
+        final GroupStepHelper.ValueReducer<Object, Object> min = getValueReducer(__.min()).get();
+        assertEquals(2, min.mergePartials(Arrays.<Collection<?>>asList(GroupStepHelper.toPartial(null), GroupStepHelper.toPartial(5), GroupStepHelper.toPartial(2)).iterator()));
+        assertNull(min.mergePartials(Arrays.<Collection<?>>asList(GroupStepHelper.toPartial(null)).iterator()));
+        final GroupStepHelper.ValueReducer<Object, Object> fold = getValueReducer(__.fold()).get();
+        assertEquals(Arrays.asList(1, 2, 3), fold.mergePartials(Arrays.<Collection<?>>asList(
+                GroupStepHelper.toPartial(new ArrayList<>(Arrays.asList(1, 2))), GroupStepHelper.toPartial(Arrays.asList(3))).iterator()));
+    }
+
+    @Test
+    public void shouldReduceGroupValuesIncrementally() {
+        final Map<String, Object> expected = new HashMap<>();
+        expected.put("odd", 9);
+        expected.put("even", 12);
+        assertEquals(expected, execute(__.inject(1, 2, 3, 4, 5, 6).group().by(PARITY).by(__.sum())));
+        expected.put("odd", 3l);
+        expected.put("even", 3l);
+        assertEquals(expected, execute(__.inject(1, 2, 3, 4, 5, 6).group().by(PARITY).by(__.count())));
+        expected.put("odd", 5);
+        expected.put("even", 6);
+        assertEquals(expected, execute(__.inject(1, 2, 3, 4, 5, 6).group().by(PARITY).by(__.max())));
+        expected.put("odd", 1);
+        expected.put("even", null);
+        assertEquals(expected, execute(__.inject(1, 2, 3, 4, 5, 6).group().by(PARITY).by(__.is(1).min())));
+        expected.put("odd", Arrays.asList(1, 3, 5));
+        expected.put("even", Arrays.asList(2, 4, 6));
+        assertEquals(expected, execute(__.inject(1, 2, 3, 4, 5, 6).group().by(PARITY).by(__.fold())));
+    }
+
+    @Test
+    public void shouldReduceGroupValuesWithClonedTraversals() {
+        final Map<String, Object> expected = new HashMap<>();
+        expected.put("odd", Arrays.asList(1, 3));
+        expected.put("even", Arrays.asList(2, 4));
+        assertEquals(expected, execute(__.inject(1, 2, 3, 4, 5, 6).group().by(PARITY).by(__.limit(2).fold())));
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Scope;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalEngine;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalStrategies;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ */
+public class PathRetractionStrategyTest {
+
+    private TraversalEngine traversalEngine;
+
+    @Before
+    public void setup() {
+        this.traversalEngine = mock(TraversalEngine.class);
+        when(this.traversalEngine.getType()).thenReturn(TraversalEngine.Type.STANDARD);
+    }
+
+    private void applyPathRetractionStrategy(final Traversal traversal, final boolean retract) {
+        final TraversalStrategies strategies = new DefaultTraversalStrategies();
+        if (retract)
+            strategies.addStrategies(PathRetractionStrategy.instance());
+
+        traversal.asAdmin().setStrategies(strategies);
+        traversal.asAdmin().setEngine(this.traversalEngine);
+        traversal.asAdmin().applyStrategies();
+    }
+
+    private static List<Traverser> drain(final Traversal traversal) {
+        final List<Traverser> traversers = new ArrayList<>();
+        final Step<?, ?> endStep = traversal.asAdmin().getEndStep();
+        while (endStep.hasNext()) {
+            traversers.add(endStep.next());
+        }
+        return traversers;
+    }
+
+    private static AbstractStep<?, ?> getStep(final Traversal traversal, final int index) {
+        return (AbstractStep<?, ?>) traversal.asAdmin().getSteps().get(index);
+    }
+
+    @Test
+    public void shouldKeepOnlyLabelsReferencedDownstream() {
+        final Traversal traversal = __.inject(1, 2, 3).as("a").is(P.gt(1)).as("b").select("a").as("c").is(P.gt(0)).select("c").is(P.gt(0));
+        applyPathRetractionStrategy(traversal, true);
+
+        assertNull(getStep(traversal, 0).getKeepLabels());                                   // inject().as("a")
+        assertEquals(new HashSet<>(Arrays.asList("a", "c")), getStep(traversal, 1).getKeepLabels()); // is().as("b")
+        assertEquals(Collections.singleton("c"), getStep(traversal, 2).getKeepLabels());   // select("a").as("c")
+        assertNull(getStep(traversal, 3).getKeepLabels());                                   // is()
+        assertEquals(Collections.emptySet(), getStep(traversal, 4).getKeepLabels());       // select("c")
+        assertNull(getStep(traversal, 5).getKeepLabels());                                   // the end step never retracts
+        assertEquals(Arrays.asList(2, 3), traversal.toList());
+    }
+
+    @Test
+    public void shouldKeepLabelsReferencedByChildTraversals() {
+        final Traversal traversal = __.inject(1, 2, 3).as("a").is(P.gt(1)).as("b").local(__.select("b")).where(P.gt("a")).count();
+        applyPathRetractionStrategy(traversal, true);
+
+        assertNull(getStep(traversal, 1).getKeepLabels());
+        assertEquals(Collections.singleton("a"), getStep(traversal, 2).getKeepLabels());
+        assertEquals(Collections.emptySet(), getStep(traversal, 3).getKeepLabels());
+        assertEquals(0l, traversal.next());
+    }
+
+    @Test
+    public void shouldBulkTraversersWithRetractedPaths() {
+        final Traversal retracted = __.inject(1, 2, 3).as("a").select("a").count(Scope.local).order();
+        applyPathRetractionStrategy(retracted, true);
+        final List<Traverser> traversers = drain(retracted);
+        assertEquals(1, traversers.size());
+        assertEquals(3l, traversers.get(0).bulk());
+        assertEquals(0, traversers.get(0).path().size());
+
+        final Traversal original = __.inject(1, 2, 3).as("a").select("a").count(Scope.local).order();
+        applyPathRetractionStrategy(original, false);
+        assertEquals(3, drain(original).size());
+    }
+
+    @Test
+    public void shouldNotRetractFullPathsOrLambdaAccessiblePaths() {
+        final Traversal path = __.inject(1, 2, 3).as("a").select("a").is(P.gt(1)).as("b").path();
+        applyPathRetractionStrategy(path, true);
+        path.asAdmin().getSteps().forEach(step -> assertNull(((AbstractStep) step).getKeepLabels()));
+
+        final Traversal lambda = __.inject(1, 2, 3).as("a").select("a").map(t -> t.path("a")).is(P.gt(1));
+        applyPathRetractionStrategy(lambda, true);
+        lambda.asAdmin().getSteps().forEach(step -> assertNull(((AbstractStep) step).getKeepLabels()));
+        assertEquals(Arrays.asList(2, 3), lambda.toList());
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.Scope;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalEngine;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.RangeGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.OrderGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.OrderLocalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.RangeLocalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Daniel Kuppitz (http://gremlin.guru)
+ */
+public class OrderRangeStrategyTest {
+
+    private TraversalEngine traversalEngine;
+
+    @Before
+    public void setup() {
+        this.traversalEngine = mock(TraversalEngine.class);
+        when(this.traversalEngine.getType()).thenReturn(TraversalEngine.Type.STANDARD);
+    }
+
+    private void applyOrderRangeStrategy(final Traversal traversal) {
+        final TraversalStrategies strategies = new DefaultTraversalStrategies();
+        strategies.addStrategies(OrderRangeStrategy.instance());
+
+        traversal.asAdmin().setStrategies(strategies);
+        traversal.asAdmin().setEngine(this.traversalEngine);
+        traversal.asAdmin().applyStrategies();
+    }
+
+    @Test
+    public void shouldFoldRangeIntoGlobalOrder() {
+        final Traversal traversal = __.inject(5, 1, 4, 2, 3).order().by(Order.decr).range(1, 3);
+        applyOrderRangeStrategy(traversal);
+
+        assertTrue(TraversalHelper.getStepsOfClass(RangeGlobalStep.class, traversal.asAdmin()).isEmpty());
+        final OrderGlobalStep orderGlobalStep = TraversalHelper.getStepsOfClass(OrderGlobalStep.class, traversal.asAdmin()).get(0);
+        assertEquals(1, orderGlobalStep.getLowRange());
+        assertEquals(3, orderGlobalStep.getHighRange());
+        assertEquals(Arrays.asList(4, 3), traversal.toList());
+    }
+
+    @Test
+    public void shouldRespectBulkWhenFoldingRangeIntoGlobalOrder() {
+        final Traversal traversal = __.inject(2, 1, 3, 1, 1).order().range(1, 3);
+        applyOrderRangeStrategy(traversal);
+
+        assertTrue(TraversalHelper.getStepsOfClass(RangeGlobalStep.class, traversal.asAdmin()).isEmpty());
+        assertEquals(Arrays.asList(1, 1), traversal.toList());
+    }
+
+    @Test
+    public void shouldNotFoldUnboundedOrLabeledRange() {
+        final Traversal unbounded = __.inject(1, 2, 3).order().range(1, -1);
+        applyOrderRangeStrategy(unbounded);
+        assertEquals(1, TraversalHelper.getStepsOfClass(RangeGlobalStep.class, unbounded.asAdmin()).size());
+        assertEquals(-1, TraversalHelper.getStepsOfClass(OrderGlobalStep.class, unbounded.asAdmin()).get(0).getHighRange());
+
+        final Traversal labeled = __.inject(1, 2, 3).order().limit(2).as("a");
+        applyOrderRangeStrategy(labeled);
+        assertEquals(1, TraversalHelper.getStepsOfClass(RangeGlobalStep.class, labeled.asAdmin()).size());
+        assertEquals(-1, TraversalHelper.getStepsOfClass(OrderGlobalStep.class, labeled.asAdmin()).get(0).getHighRange());
+    }
+
+    @Test
+    public void shouldLimitLocalOrderOfCollection() {
+        final Traversal traversal = __.inject(Arrays.asList(5, 1, 4, 2, 3)).order(Scope.local).range(Scope.local, 1, 3);
+        applyOrderRangeStrategy(traversal);
+
+        assertEquals(1, TraversalHelper.getStepsOfClass(RangeLocalStep.class, traversal.asAdmin()).size());
+        assertEquals(3, TraversalHelper.getStepsOfClass(OrderLocalStep.class, traversal.asAdmin()).get(0).getLimit());
+        assertEquals(Collections.singletonList(Arrays.asList(2, 3)), traversal.toList());
+    }
+
+    @Test
+    public void shouldLimitLocalOrderOfMap() {
+        final Map<String, Integer> map = new HashMap<>();
+        map.put("a", 3);
+        map.put("b", 1);
+        map.put("c", 2);
+        final Traversal<?, Map<String, Integer>> traversal = __.inject(map).order(Scope.local).by(Order.valueDecr).limit(Scope.local, 2);
+        applyOrderRangeStrategy(traversal);
+
+        final Map<String, Integer> result = traversal.next();
+        assertEquals(Arrays.asList("a", "c"), Arrays.asList(result.keySet().toArray()));
+    }
+}
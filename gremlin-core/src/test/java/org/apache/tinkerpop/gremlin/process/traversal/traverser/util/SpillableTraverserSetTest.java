@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.traverser.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalEngine;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.OrderGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.IdentityStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.BarrierSpillStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.B_O_Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ */
+public class SpillableTraverserSetTest {
+
+    private static SpillableTraverserSet<Integer> createTraverserSet(final int maxInMemory, final Integer... objects) {
+        return createTraverserSet(maxInMemory, null, objects);
+    }
+
+    private static SpillableTraverserSet<Integer> createTraverserSet(final int maxInMemory, final File directory, final Integer... objects) {
+        final SpillableTraverserSet<Integer> traverserSet = new SpillableTraverserSet<>(new IdentityStep<>(new DefaultTraversal<>()), maxInMemory, directory);
+        add(traverserSet, objects);
+        return traverserSet;
+    }
+
+    private static void add(final TraverserSet<Integer> traverserSet, final Integer... objects) {
+        for (final Integer object : objects) {
+            traverserSet.add(new B_O_Traverser<>(object, 1l));
+        }
+    }
+
+    private static List<Integer> drain(final TraverserSet<Integer> traverserSet) {
+        final List<Integer> objects = new ArrayList<>();
+        while (!traverserSet.isEmpty()) {
+            final Traverser.Admin<Integer> traverser = traverserSet.remove();
+            for (long i = 0; i < traverser.bulk(); i++) {
+                objects.add(traverser.get());
+            }
+        }
+        return objects;
+    }
+
+    @Test
+    public void shouldKeepInsertionOrderAcrossSpills() {
+        final SpillableTraverserSet<Integer> traverserSet = createTraverserSet(3, 5, 1, 4, 2, 3, 6, 7);
+        assertTrue(traverserSet.getRunCount() > 0);
+        assertEquals(7, traverserSet.size());
+        assertEquals(7l, traverserSet.bulkSize());
+
+        final List<Integer> iterated = new ArrayList<>();
+        traverserSet.forEach(traverser -> iterated.add(traverser.get()));
+        assertEquals(Arrays.asList(5, 1, 4, 2, 3, 6, 7), iterated);
+        assertEquals(Arrays.asList(5, 1, 4, 2, 3, 6, 7), drain(traverserSet));
+        assertEquals(0, traverserSet.getRunCount());
+    }
+
+    @Test
+    public void shouldSortWithExternalMergeAndPreserveBulk() {
+        final SpillableTraverserSet<Integer> traverserSet = createTraverserSet(2, 5, 3, 1, 3, 4, 2, 3, 5, 1, 3);
+        assertTrue(traverserSet.getRunCount() > 1);
+        assertEquals(10l, traverserSet.bulkSize());
+
+        traverserSet.sort(Comparator.comparing(Traverser::get));
+        assertEquals(Arrays.asList(1, 1, 2, 3, 3, 3, 3, 4, 5, 5), drain(traverserSet));
+        assertEquals(0l, traverserSet.bulkSize());
+        assertEquals(0, traverserSet.getRunCount());
+    }
+
+    @Test
+    public void shouldSpillAgainAfterDrainingSpilledTraversers() {
+        final SpillableTraverserSet<Integer> traverserSet = createTraverserSet(2, 1, 2, 3);
+        assertEquals(1, traverserSet.getRunCount());
+        assertEquals(Arrays.asList(1, 2, 3), drain(traverserSet));
+        assertEquals(0, traverserSet.getRunCount());
+
+        add(traverserSet, 6, 5, 4);
+        assertEquals(1, traverserSet.getRunCount());
+        assertEquals(Arrays.asList(6, 5, 4), drain(traverserSet));
+
+        add(traverserSet, 9, 8, 7);
+        traverserSet.sort(Comparator.comparing(Traverser::get));
+        assertEquals(Arrays.asList(7, 8, 9), drain(traverserSet));
+        assertEquals(0, traverserSet.getRunCount());
+        assertEquals(0l, traverserSet.bulkSize());
+    }
+
+    @Test
+    public void shouldDrainTraversersSpilledDuringTheDrain() {
+        final SpillableTraverserSet<Integer> traverserSet = createTraverserSet(2, 1, 2, 3);
+        assertEquals(1, traverserSet.remove().get().intValue());
+        add(traverserSet, 4, 5, 6);
+        assertEquals(2, traverserSet.getRunCount());
+        assertEquals(Arrays.asList(2, 3, 4, 5, 6), drain(traverserSet));
+        assertEquals(0, traverserSet.getRunCount());
+    }
+
+    @Test
+    public void shouldDeleteRunsOnceConsumedOrCleared() throws Exception {
+        final File directory = Files.createTempDirectory("spillable-").toFile();
+        try {
+            final SpillableTraverserSet<Integer> traverserSet = createTraverserSet(2, directory, 1, 2, 3, 4, 5, 6);
+            assertEquals(2, traverserSet.getRunCount());
+            assertEquals(2, directory.listFiles().length);
+            for (int i = 0; i < 3; i++) {
+                traverserSet.remove();
+            }
+            assertEquals(1, directory.listFiles().length);
+
+            // an abandoned drain, e.g. of a sample(), is closed and deleted by clear()
+            traverserSet.remove();
+            traverserSet.clear();
+            assertEquals(0, traverserSet.getRunCount());
+            assertEquals(0, directory.listFiles().length);
+            assertTrue(traverserSet.isEmpty());
+        } finally {
+            directory.delete();
+        }
+    }
+
+    @Test
+    public void shouldDeleteRunsOfAbandonedTraverserSet() throws Exception {
+        final File directory = Files.createTempDirectory("spillable-").toFile();
+        try {
+            SpillableTraverserSet<Integer> traverserSet = createTraverserSet(2, directory, 1, 2, 3, 4, 5, 6);
+            assertEquals(2, directory.listFiles().length);
+            assertEquals(1, traverserSet.remove().get().intValue());
+            traverserSet = null;
+
+            // the set is no longer reachable so its runs are deleted once it is collected
+            for (int i = 0; i < 50 && directory.listFiles().length > 0; i++) {
+                System.gc();
+                System.runFinalization();
+                Thread.sleep(100);
+            }
+            assertEquals(0, directory.listFiles().length);
+        } finally {
+            directory.delete();
+        }
+    }
+
+    @Test
+    public void shouldOrderWithBarrierSpillStrategy() {
+        final Traversal.Admin<Integer, Integer> traversal = __.inject(5, 3, 1, 4, 2, 6, 7).order().by(Order.decr).asAdmin();
+        final TraversalStrategies strategies = new DefaultTraversalStrategies();
+        strategies.addStrategies(BarrierSpillStrategy.build().maxInMemory(2).create());
+        final TraversalEngine traversalEngine = mock(TraversalEngine.class);
+        when(traversalEngine.getType()).thenReturn(TraversalEngine.Type.STANDARD);
+        traversal.setStrategies(strategies);
+        traversal.setEngine(traversalEngine);
+        traversal.applyStrategies();
+
+        assertEquals(Arrays.asList(7, 6, 5, 4, 3, 2, 1), traversal.toList());
+        assertEquals(1, TraversalHelper.getStepsOfClass(OrderGlobalStep.class, traversal).size());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldNotLookUpSpilledTraversers() {
+        createTraverserSet(1, 1, 2, 3).contains(new B_O_Traverser<>(2, 1l));
+    }
+}
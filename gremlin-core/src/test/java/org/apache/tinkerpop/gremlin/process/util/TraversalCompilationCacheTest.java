@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalEngine;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.IsStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.IdentityStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.IdentityRemovalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalCompilationCache;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Marko A. Rodriguez (http://markorodriguez.com)
+ */
+public class TraversalCompilationCacheTest {
+
+    private CountingStrategy countingStrategy;
+    private TraversalStrategies strategies;
+
+    @Before
+    public void setup() {
+        this.countingStrategy = new CountingStrategy();
+        this.strategies = new DefaultTraversalStrategies().addStrategies(this.countingStrategy, IdentityRemovalStrategy.instance());
+    }
+
+    private <S, E> Traversal.Admin<S, E> prepare(final Traversal<S, E> traversal, final TraversalCompilationCache cache) {
+        final TraversalEngine traversalEngine = mock(TraversalEngine.class);
+        when(traversalEngine.getType()).thenReturn(TraversalEngine.Type.STANDARD);
+        this.strategies.setCompilationCache(cache);
+        traversal.asAdmin().setStrategies(this.strategies);
+        traversal.asAdmin().setEngine(traversalEngine);
+        return traversal.asAdmin();
+    }
+
+    @Test
+    public void shouldCloneCompiledTraversalOfSameShape() {
+        final TraversalCompilationCache cache = new TraversalCompilationCache(10);
+        for (int i = 0; i < 3; i++) {
+            final Traversal.Admin<Integer, Integer> traversal = prepare(__.inject(1, 2, 3).identity().is(2).where(__.identity()), cache);
+            assertEquals(Collections.singletonList(2), traversal.toList());
+            assertFalse(TraversalHelper.hasStepOfClass(IdentityStep.class, traversal));
+        }
+        assertEquals(1, this.countingStrategy.rootApplications);
+        assertEquals(1, cache.size());
+        assertEquals(2l, cache.getHits());
+        assertEquals(1l, cache.getMisses());
+        assertEquals(2.0d / 3.0d, cache.getHitRate(), 0.0001d);
+    }
+
+    @Test
+    public void shouldNotShareCompiledTraversalOfDifferentArguments() {
+        final TraversalCompilationCache cache = new TraversalCompilationCache(10);
+        assertEquals(Collections.singletonList(2), prepare(__.inject(1, 2, 3).is(2), cache).toList());
+        assertEquals(Collections.singletonList(3), prepare(__.inject(1, 2, 3).is(3), cache).toList());
+        assertEquals(2, this.countingStrategy.rootApplications);
+        assertEquals(0l, cache.getHits());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void shouldNotShareCompiledTraversalOfArgumentsOfDifferentTypes() {
+        final TraversalCompilationCache cache = new TraversalCompilationCache(10);
+        prepare(__.inject(30).is(30), cache).toList();
+        final Traversal.Admin<Integer, Integer> traversal = prepare(__.inject(30).is(30l), cache);
+        assertEquals(Collections.singletonList(30), traversal.toList());
+        assertEquals(Long.class, ((IsStep<?>) traversal.getEndStep()).getPredicate().getValue().getClass());
+        assertEquals(2, this.countingStrategy.rootApplications);
+        assertEquals(0l, cache.getHits());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void shouldNotCacheTraversalsWithLambdas() {
+        final TraversalCompilationCache cache = new TraversalCompilationCache(10);
+        for (int i = 0; i < 2; i++) {
+            assertEquals(Collections.singletonList(2), prepare(__.inject(1).map(t -> t.get() + 1), cache).toList());
+        }
+        assertEquals(2, this.countingStrategy.rootApplications);
+        assertEquals(0, cache.size());
+        assertEquals(0l, cache.getMisses());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedCompiledTraversal() {
+        final TraversalCompilationCache cache = new TraversalCompilationCache(1);
+        prepare(__.inject(1).is(1), cache).toList();
+        prepare(__.inject(2).is(2), cache).toList();
+        assertEquals(1, cache.size());
+        assertEquals(1l, cache.getEvictions());
+        assertTrue(cache.toString().contains("Original Traversal    [InjectStep([2]), IsStep(eq(2))]"));
+    }
+
+    public static class CountingStrategy extends AbstractTraversalStrategy<TraversalStrategy.DecorationStrategy> implements TraversalStrategy.DecorationStrategy {
+
+        private int rootApplications = 0;
+
+        @Override
+        public void apply(final Traversal.Admin<?, ?> traversal) {
+            if (traversal.getParent() instanceof EmptyStep)
+                this.rootApplications++;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.driver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A list of Gremlin scripts, each with its own bound parameters, that are sent to the server in a single request by
+ * {@link Client#submit(Batch)} and evaluated there in order.  The {@link ResultSet} of a batch has one
+ * {@link Result} per script, in the order the scripts were added, which holds the {@code List} of results of that
+ * script.  Sending many small scripts as a batch saves the cost of a request for each of them, which matters most
+ * for workloads that write many elements one script at a time.
+ *
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+public final class Batch {
+    private final List<Map<String, Object>> items;
+    private final boolean transaction;
+
+    private Batch(final Builder builder) {
+        this.items = Collections.unmodifiableList(builder.items);
+        this.transaction = builder.transaction;
+    }
+
+    /**
+     * Gets the scripts of the batch as maps of their {@link Tokens#ARGS_GREMLIN} and {@link Tokens#ARGS_BINDINGS}.
+     */
+    public List<Map<String, Object>> getItems() {
+        return items;
+    }
+
+    /**
+     * Determines if the batch is to be committed by the server as a single transaction.
+     */
+    public boolean isTransaction() {
+        return transaction;
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    public final static class Builder {
+        private final List<Map<String, Object>> items = new ArrayList<>();
+        private boolean transaction = false;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a script to the batch.
+         */
+        public Builder add(final String gremlin) {
+            return add(gremlin, null);
+        }
+
+        /**
+         * Adds a script to the batch along with parameters that will be bound to it on evaluation.
+         */
+        public Builder add(final String gremlin, final Map<String, Object> parameters) {
+            if (null == gremlin) throw new IllegalArgumentException("gremlin cannot be null");
+
+            final Map<String, Object> item = new HashMap<>();
+            item.put(Tokens.ARGS_GREMLIN, gremlin);
+            if (parameters != null) item.put(Tokens.ARGS_BINDINGS, new HashMap<>(parameters));
+            items.add(item);
+            return this;
+        }
+
+        /**
+         * When {@code true} the server commits the batch as a single transaction once all of its scripts are
+         * evaluated, rather than committing each script as it is evaluated.  Has no effect in a session, where the
+         * client manages the transaction.  Defaults to {@code false}.
+         */
+        public Builder transaction(final boolean transaction) {
+            this.transaction = transaction;
+            return this;
+        }
+
+        public Batch create() {
+            if (items.isEmpty()) throw new IllegalStateException("A batch must have at least one script");
+            return new Batch(this);
+        }
+    }
+}
@@ -46,6 +46,8 @@ import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Client-side channel initializer interface.  It is responsible for constructing the Netty {@code ChannelPipeline}
@@ -110,6 +112,17 @@ public interface Channelizer extends ChannelHandler {
             this.pending = connection.getPending();
         }
 
+        /**
+         * Supplies the response decoder with the {@link ResultQueue} of a request to add each of its results to as
+         * they are deserialized, rather than once the whole response has been.
+         */
+        protected Function<UUID, Consumer<Object>> resultConsumers() {
+            return requestId -> {
+                final ResultQueue queue = pending.get(requestId);
+                return null == queue ? null : queue.decodePage();
+            };
+        }
+
         @Override
         protected void initChannel(final SocketChannel socketChannel) throws Exception {
             final ChannelPipeline pipeline = socketChannel.pipeline();
@@ -155,7 +168,7 @@ public interface Channelizer extends ChannelHandler {
         public void init(final Connection connection) {
             super.init(connection);
             webSocketGremlinRequestEncoder = new WebSocketGremlinRequestEncoder(true, cluster.getSerializer());
-            webSocketGremlinResponseDecoder = new WebSocketGremlinResponseDecoder(cluster.getSerializer());
+            webSocketGremlinResponseDecoder = new WebSocketGremlinResponseDecoder(cluster.getSerializer(), resultConsumers());
         }
 
         /**
@@ -218,7 +231,7 @@ public interface Channelizer extends ChannelHandler {
 
         @Override
         public void configure(ChannelPipeline pipeline) {
-            pipeline.addLast("gremlin-decoder", new NioGremlinResponseDecoder(cluster.getSerializer()));
+            pipeline.addLast("gremlin-decoder", new NioGremlinResponseDecoder(cluster.getSerializer(), resultConsumers()));
             pipeline.addLast("gremlin-encoder", new NioGremlinRequestEncoder(true, cluster.getSerializer()));
         }
     }
@@ -25,6 +25,7 @@ import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -78,6 +79,27 @@ public abstract class Client {
      */
     protected abstract Connection chooseConnection(final RequestMessage msg) throws TimeoutException, ConnectionException;
 
+    /**
+     * Chooses a {@link Connection} to write the message to without blocking the calling thread.  Implementations
+     * backed by a {@link ConnectionPool} should borrow through {@link ConnectionPool#borrowConnectionAsync(long, TimeUnit)}
+     * - this default simply completes with the result of {@link #chooseConnection(RequestMessage)}.
+     */
+    protected CompletableFuture<Connection> chooseConnectionAsync(final RequestMessage msg) {
+        final CompletableFuture<Connection> future = new CompletableFuture<>();
+        try {
+            future.complete(chooseConnection(msg));
+        } catch (Exception ex) {
+            future.completeExceptionally(ex);
+        }
+        return future;
+    }
+
+    private static CompletableFuture<Connection> failedChoice(final Throwable t) {
+        final CompletableFuture<Connection> failed = new CompletableFuture<>();
+        failed.completeExceptionally(t);
+        return failed;
+    }
+
     /**
      * Asynchronous close of the {@code Client}.
      */
@@ -171,9 +193,92 @@ public abstract class Client {
 
         Optional.ofNullable(parameters).ifPresent(params -> request.addArg(Tokens.ARGS_BINDINGS, parameters));
 
+        if (cluster.connectionPoolSettings().resultPageCredits > 0)
+            request.addArg(Tokens.ARGS_CREDITS, cluster.connectionPoolSettings().resultPageCredits);
+
         return submitAsync(buildMessage(request));
     }
 
+    /**
+     * Submits a {@link Batch} of Gremlin scripts to the server in a single request and returns a {@link ResultSet}
+     * once the write of the request is complete.  The {@link ResultSet} has one {@link Result} for each script of
+     * the batch, in order, that holds the {@code List} of results of that script.
+     *
+     * @param batch the scripts to execute
+     */
+    public ResultSet submit(final Batch batch) {
+        try {
+            return submitAsync(batch).get();
+        } catch (Exception ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    /**
+     * The asynchronous version of {@link #submit(Batch)} where the returned future will complete when the write of
+     * the request completes.
+     *
+     * @param batch the scripts to execute
+     */
+    public CompletableFuture<ResultSet> submitAsync(final Batch batch) {
+        final RequestMessage.Builder request = RequestMessage.build(Tokens.OPS_BATCH)
+                .add(Tokens.ARGS_BATCH, new ArrayList<>(batch.getItems()))
+                .add(Tokens.ARGS_BATCH_SIZE, cluster.connectionPoolSettings().resultIterationBatchSize);
+
+        if (batch.isTransaction())
+            request.addArg(Tokens.ARGS_TRANSACTION, true);
+
+        if (cluster.connectionPoolSettings().resultPageCredits > 0)
+            request.addArg(Tokens.ARGS_CREDITS, cluster.connectionPoolSettings().resultPageCredits);
+
+        return submitAsync(buildMessage(request));
+    }
+
+    /**
+     * Evaluates a Gremlin script on the server and holds its result open there as a {@link Cursor} that the results
+     * can be fetched from a page at a time.  Prefer this to {@link #submit(String)} when results are to be paged
+     * through at the pace of something other than the client, like a user, as the server neither re-executes the
+     * script for each page nor pushes results to the client ahead of it asking for them.
+     *
+     * @param gremlin the gremlin script to execute
+     */
+    public Cursor openCursor(final String gremlin) {
+        return openCursor(gremlin, null);
+    }
+
+    /**
+     * Evaluates a Gremlin script with bound parameters on the server and holds its result open there as a
+     * {@link Cursor}.
+     *
+     * @param gremlin the gremlin script to execute
+     * @param parameters a map of parameters that will be bound to the script on execution
+     */
+    public Cursor openCursor(final String gremlin, final Map<String, Object> parameters) {
+        try {
+            return openCursorAsync(gremlin, parameters).get();
+        } catch (Exception ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    /**
+     * The asynchronous version of {@link #openCursor(String, Map)} where the returned future will complete when the
+     * server has opened the cursor.
+     *
+     * @param gremlin the gremlin script to execute
+     * @param parameters a map of parameters that will be bound to the script on execution
+     */
+    public CompletableFuture<Cursor> openCursorAsync(final String gremlin, final Map<String, Object> parameters) {
+        final RequestMessage.Builder request = RequestMessage.build(Tokens.OPS_CURSOR)
+                .add(Tokens.ARGS_GREMLIN, gremlin);
+
+        Optional.ofNullable(parameters).ifPresent(params -> request.addArg(Tokens.ARGS_BINDINGS, parameters));
+
+        return submitAsync(buildMessage(request)).thenCompose(rs -> rs.all().thenCombine(rs.statusAttributes(),
+                (results, attributes) -> new Cursor(this, rs.getConnection(), results.get(0).getString(),
+                        (Boolean) attributes.getOrDefault(Tokens.STATUS_ATTRIBUTE_HAS_NEXT, true))));
+    }
+
     /**
      * A low-level method that allows the submission of a manually constructed {@link RequestMessage}.
      */
@@ -181,25 +286,35 @@ public abstract class Client {
         if (!initialized)
             init();
 
-        final CompletableFuture<ResultSet> future = new CompletableFuture<>();
-        Connection connection = null;
-        try {
-            // the connection is returned to the pool once the response has been completed...see Connection.write()
-            // the connection may be returned to the pool with the host being marked as "unavailable"
-            connection = chooseConnection(msg);
+        // the connection is borrowed without blocking the caller - if none is free the write happens once one is
+        // handed over. the connection is returned to the pool once the response has been completed...see
+        // Connection.write(). the connection may be returned to the pool with the host being marked as "unavailable"
+        return chooseConnectionAsync(msg).thenCompose(connection -> {
+            final CompletableFuture<ResultSet> future = new CompletableFuture<>();
             connection.write(msg, future);
-            return future;
-        } catch (TimeoutException toe) {
-            // there was a timeout borrowing a connection
-            throw new RuntimeException(toe);
-        } catch (ConnectionException ce) {
-            throw new RuntimeException(ce);
-        } catch (Exception ex) {
-            throw new RuntimeException(ex);
-        } finally {
             if (logger.isDebugEnabled())
-                logger.debug("Submitted {} to - {}", msg, null == connection ? "connection not initialized" : connection.toString());
+                logger.debug("Submitted {} to - {}", msg, connection);
+            return future;
+        });
+    }
+
+    /**
+     * Submits a manually constructed {@link RequestMessage} on the specified {@link Connection}, as is needed by
+     * requests that refer to state the server holds for the connection, like a {@link Cursor}.  The connection is
+     * taken whether or not it has capacity and is returned to its pool as usual once the response has completed.
+     */
+    CompletableFuture<ResultSet> submitAsync(final RequestMessage msg, final Connection connection) {
+        final CompletableFuture<ResultSet> future = new CompletableFuture<>();
+        if (connection.isClosed() || connection.isDead()) {
+            future.completeExceptionally(new ConnectionException(connection.getUri(), "The connection is no longer open", null));
+            return future;
         }
+
+        connection.borrowed.incrementAndGet();
+        connection.write(msg, future);
+        if (logger.isDebugEnabled())
+            logger.debug("Submitted {} to - {}", msg, connection);
+        return future;
     }
 
     /**
@@ -266,6 +381,9 @@ public abstract class Client {
 
             Optional.ofNullable(parameters).ifPresent(params -> request.addArg(Tokens.ARGS_BINDINGS, parameters));
 
+            if (cluster.connectionPoolSettings().resultPageCredits > 0)
+                request.addArg(Tokens.ARGS_CREDITS, cluster.connectionPoolSettings().resultPageCredits);
+
             if (graphOrTraversalSource != null && !graphOrTraversalSource.isEmpty())
                 request.addArg(Tokens.ARGS_ALIASES, makeRebindings(graphOrTraversalSource));
 
@@ -290,6 +408,9 @@ public abstract class Client {
 
             Optional.ofNullable(parameters).ifPresent(params -> request.addArg(Tokens.ARGS_BINDINGS, parameters));
 
+            if (cluster.connectionPoolSettings().resultPageCredits > 0)
+                request.addArg(Tokens.ARGS_CREDITS, cluster.connectionPoolSettings().resultPageCredits);
+
             if (aliases != null && !aliases.isEmpty())
                 request.addArg(Tokens.ARGS_REBINDINGS, aliases);
 
@@ -346,6 +467,20 @@ public abstract class Client {
             return pool.borrowConnection(cluster.connectionPoolSettings().maxWaitForConnection, TimeUnit.MILLISECONDS);
         }
 
+        /**
+         * Chooses the {@link Host} as {@link #chooseConnection(RequestMessage)} does and borrows a connection from its
+         * pool without blocking.
+         */
+        @Override
+        protected CompletableFuture<Connection> chooseConnectionAsync(final RequestMessage msg) {
+            final Iterator<Host> possibleHosts = this.cluster.loadBalancingStrategy().select(msg);
+            if (!possibleHosts.hasNext())
+                return failedChoice(new TimeoutException("Timed out waiting for an available host."));
+
+            final ConnectionPool pool = hostConnectionPools.get(possibleHosts.next());
+            return pool.borrowConnectionAsync(cluster.connectionPoolSettings().maxWaitForConnection, TimeUnit.MILLISECONDS);
+        }
+
         /**
          * Initializes the connection pools on all hosts.
          */
@@ -437,6 +572,15 @@ public abstract class Client {
             return clusteredClient.chooseConnection(msg);
         }
 
+        /**
+         * Delegates to the underlying {@link org.apache.tinkerpop.gremlin.driver.Client.ClusteredClient}.
+         */
+        @Override
+        protected CompletableFuture<Connection> chooseConnectionAsync(final RequestMessage msg) {
+            if (close.isDone()) return failedChoice(new IllegalStateException("Client is closed"));
+            return clusteredClient.chooseConnectionAsync(msg);
+        }
+
         /**
          * Prevents messages from being sent from this {@code Client}. Note that calling this method does not call
          * close on the {@code Client} that created it.
@@ -525,6 +669,14 @@ public abstract class Client {
             return connectionPool.borrowConnection(cluster.connectionPoolSettings().maxWaitForConnection, TimeUnit.MILLISECONDS);
         }
 
+        /**
+         * Borrows a connection from the pool of the session host without blocking.
+         */
+        @Override
+        protected CompletableFuture<Connection> chooseConnectionAsync(final RequestMessage msg) {
+            return connectionPool.borrowConnectionAsync(cluster.connectionPoolSettings().maxWaitForConnection, TimeUnit.MILLISECONDS);
+        }
+
         /**
          * Randomly choose an available {@link Host} to bind the session too and initialize the {@link ConnectionPool}.
          */
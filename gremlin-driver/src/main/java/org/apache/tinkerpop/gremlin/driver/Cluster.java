@@ -247,6 +247,7 @@ public final class Cluster {
         private int reconnectInitialDelay = Connection.RECONNECT_INITIAL_DELAY;
         private int reconnectInterval = Connection.RECONNECT_INTERVAL;
         private int resultIterationBatchSize = Connection.RESULT_ITERATION_BATCH_SIZE;
+        private int resultPageCredits = Connection.RESULT_PAGE_CREDITS;
         private String channelizer = Channelizer.WebSocketChannelizer.class.getName();
         private boolean enableSsl = false;
         private LoadBalancingStrategy loadBalancingStrategy = new LoadBalancingStrategy.RoundRobin();
@@ -387,6 +388,18 @@ public final class Cluster {
             return this;
         }
 
+        /**
+         * The number of batches of results the server may send ahead of those consumed from a {@link ResultSet}.
+         * As results are consumed the client grants the server further batches, so that a client that reads slowly
+         * or abandons a result holds no more than this many batches in memory and the server stops iterating on its
+         * behalf.  The default of zero leaves the server to send results as fast as it can produce them.
+         */
+        public Builder resultPageCredits(final int pages) {
+            if (pages < 0) throw new IllegalArgumentException("resultPageCredits must be zero or greater");
+            this.resultPageCredits = pages;
+            return this;
+        }
+
         /**
          * The maximum amount of time to wait for a connection to be borrowed from the connection pool.
          */
@@ -527,6 +540,7 @@ public final class Cluster {
             connectionPoolSettings.reconnectInitialDelay = this.reconnectInitialDelay;
             connectionPoolSettings.reconnectInterval = this.reconnectInterval;
             connectionPoolSettings.resultIterationBatchSize = this.resultIterationBatchSize;
+            connectionPoolSettings.resultPageCredits = this.resultPageCredits;
             connectionPoolSettings.enableSsl = this.enableSsl;
             connectionPoolSettings.channelizer = this.channelizer;
             return new Cluster(getContactPoints(), serializer, this.nioPoolSize, this.workerPoolSize,
@@ -58,6 +58,7 @@ final class Connection {
     public static final int RECONNECT_INITIAL_DELAY = 1000;
     public static final int RECONNECT_INTERVAL = 1000;
     public static final int RESULT_ITERATION_BATCH_SIZE = 64;
+    public static final int RESULT_PAGE_CREDITS = 0;
 
     /**
      * When a {@code Connection} is borrowed from the pool, this number is incremented to indicate the number of
@@ -172,6 +173,8 @@ final class Connection {
         // once there is a completed write, then create a traverser for the result set and complete
         // the promise so that the client knows that that it can start checking for results.
         final Connection thisConnection = this;
+        final Host host = null == pool ? null : pool.host;
+        final long start = System.nanoTime();
         final ChannelPromise promise = channel.newPromise()
                 .addListener(f -> {
                     if (!f.isSuccess()) {
@@ -183,15 +186,30 @@ final class Connection {
                     } else {
                         final LinkedBlockingQueue<Result> resultLinkedBlockingQueue = new LinkedBlockingQueue<>();
                         final CompletableFuture<Void> readCompleted = new CompletableFuture<>();
+
                         readCompleted.thenAcceptAsync(v -> {
                             thisConnection.returnToPool();
                             if (isClosed() && pending.isEmpty())
                                 shutdown(closeFuture.get());
                         }, cluster.executor());
 
-                        final ResultQueue handler = new ResultQueue(resultLinkedBlockingQueue, readCompleted);
+                        final ResultQueue handler = requestMessage.optionalArgs(Tokens.ARGS_CREDITS).isPresent() ?
+                                new ResultQueue(resultLinkedBlockingQueue, readCompleted,
+                                        (Integer) requestMessage.optionalArgs(Tokens.ARGS_BATCH_SIZE).orElse(RESULT_ITERATION_BATCH_SIZE),
+                                        (Integer) requestMessage.getArgs().get(Tokens.ARGS_CREDITS),
+                                        pages -> grant(requestMessage, pages)) :
+                                new ResultQueue(resultLinkedBlockingQueue, readCompleted);
+
+                        // the host keeps track of its load and latency for the LoadBalancingStrategy. readCompleted
+                        // completes on the thread that reads the final response, so the latency is taken as that
+                        // response arrives, less the time the server was held up waiting on the client for credit
+                        if (host != null) {
+                            host.requestStarted();
+                            readCompleted.thenRun(() -> host.requestCompleted(System.nanoTime() - start - handler.getCreditWaitNanos()));
+                        }
+
                         pending.put(requestMessage.getRequestId(), handler);
-                        future.complete(new ResultSet(handler, cluster.executor(), readCompleted));
+                        future.complete(new ResultSet(handler, cluster.executor(), readCompleted, thisConnection));
                     }
                 });
         channel.writeAndFlush(requestMessage, promise);
@@ -199,6 +217,21 @@ final class Connection {
         return promise;
     }
 
+    /**
+     * Grants the server the specified number of further pages of results for a request.  There is no response to
+     * the grant so it is not tracked as pending.
+     */
+    private void grant(final RequestMessage requestMessage, final int pages) {
+        final RequestMessage credit = RequestMessage.build(Tokens.OPS_CREDIT)
+                .overrideRequestId(requestMessage.getRequestId())
+                .processor(requestMessage.getProcessor())
+                .addArg(Tokens.ARGS_CREDITS, pages).create();
+        channel.writeAndFlush(credit).addListener(f -> {
+            if (!f.isSuccess() && logger.isDebugEnabled())
+                logger.debug(String.format("Could not grant credit for %s on connection %s", requestMessage.getRequestId(), getConnectionInfo()), f.cause());
+        });
+    }
+
     public void returnToPool() {
         try {
             if (pool != null) pool.returnConnection(this);
@@ -20,24 +20,25 @@ package org.apache.tinkerpop.gremlin.driver;
 
 import org.apache.tinkerpop.gremlin.driver.exception.ConnectionException;
 import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
-import org.apache.tinkerpop.gremlin.util.TimeUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * @author Stephen Mallette (http://stephen.genoprime.com)
@@ -67,9 +68,12 @@ final class ConnectionPool {
 
     private final AtomicReference<CompletableFuture<Void>> closeFuture = new AtomicReference<>();
 
-    private volatile int waiter = 0;
-    private final Lock waitLock = new ReentrantLock(true);
-    private final Condition hasAvailableConnection = waitLock.newCondition();
+    /**
+     * Requests to borrow a connection that are waiting for one to become available, in the order they arrived.  A
+     * waiter is only completed by whoever removes it from the queue, which is either the thread that hands it a
+     * connection or the timer that times it out.
+     */
+    private final Queue<CompletableFuture<Connection>> waiters = new ConcurrentLinkedQueue<>();
 
     public ConnectionPool(final Host host, final Client client) {
         this(host, client, Optional.empty(), Optional.empty());
@@ -112,9 +116,36 @@ final class ConnectionPool {
     }
 
     public Connection borrowConnection(final long timeout, final TimeUnit unit) throws TimeoutException, ConnectionException {
+        final CompletableFuture<Connection> borrowed = borrowConnectionAsync(timeout, unit);
+        try {
+            return borrowed.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+
+            // stop waiting unless a connection was already handed over in which case it is simply returned
+            if (waiters.remove(borrowed)) {
+                borrowed.completeExceptionally(new TimeoutException());
+                throw new TimeoutException();
+            }
+            return borrowed.join();
+        } catch (ExecutionException ee) {
+            final Throwable cause = ee.getCause();
+            if (cause instanceof TimeoutException) throw (TimeoutException) cause;
+            if (cause instanceof ConnectionException) throw (ConnectionException) cause;
+            throw new RuntimeException(cause);
+        }
+    }
+
+    /**
+     * Borrows a connection without blocking.  The returned future is completed with the least used connection
+     * right away if one has capacity, otherwise the request waits in line for a connection to be returned or
+     * created and the future is completed exceptionally with a {@code TimeoutException} if none is available
+     * within the timeout.
+     */
+    public CompletableFuture<Connection> borrowConnectionAsync(final long timeout, final TimeUnit unit) {
         logger.debug("Borrowing connection from pool on {} - timeout in {} {}", host, timeout, unit);
 
-        if (isClosed()) throw new ConnectionException(host.getHostUri(), host.getAddress(), "Pool is shutdown");
+        if (isClosed()) return failedBorrow(new ConnectionException(host.getHostUri(), host.getAddress(), "Pool is shutdown"));
 
         final Connection leastUsedConn = selectLeastUsed();
 
@@ -130,7 +161,7 @@ final class ConnectionPool {
 
         if (null == leastUsedConn) {
             if (isClosed())
-                throw new ConnectionException(host.getHostUri(), host.getAddress(), "Pool is shutdown");
+                return failedBorrow(new ConnectionException(host.getHostUri(), host.getAddress(), "Pool is shutdown"));
             logger.debug("Pool was initialized but a connection could not be selected earlier - waiting for connection on {}", host);
             return waitForConnection(timeout, unit);
         }
@@ -145,37 +176,21 @@ final class ConnectionPool {
             considerNewConnection();
         }
 
-        while (true) {
-            final int borrowed = leastUsedConn.borrowed.get();
-            final int availableInProcess = leastUsedConn.availableInProcess();
-
-            // if the number borrowed starts to exceed what's available for this connection, then we need
-            // to wait for a connection to become available. this is an interesting comparison for "busy-ness"
-            // because it compares the number of times the connection was borrowed to what's in-process.  the
-            // in-process number refers to the number of outstanding requests less the maxInProcessForConnection
-            // setting.  this scenario can only really happen if
-            // maxInProcessForConnection=maxSimultaneousUsagePerConnection or if there is some sort of batch type
-            // operation where more than one message is sent on a single borrowed connection before it is returned
-            // to the pool.
-            if (borrowed >= leastUsedConn.availableInProcess()) {
-                logger.debug("Least used connection selected from pool for {} but borrowed [{}] >= availableInProcess [{}] - wait",
-                        host, borrowed, availableInProcess);
-                return waitForConnection(timeout, unit);
-            }
-
-            if (leastUsedConn.borrowed.compareAndSet(borrowed, borrowed + 1)) {
-                if (logger.isDebugEnabled())
-                    logger.debug("Return least used {} on {}", leastUsedConn.getConnectionInfo(), host);
-                return leastUsedConn;
-            }
+        if (tryBorrow(leastUsedConn)) {
+            if (logger.isDebugEnabled())
+                logger.debug("Return least used {} on {}", leastUsedConn.getConnectionInfo(), host);
+            return CompletableFuture.completedFuture(leastUsedConn);
         }
+
+        logger.debug("Least used connection selected from pool for {} but it has no capacity - wait", host);
+        return waitForConnection(timeout, unit);
     }
 
     public void returnConnection(final Connection connection) throws ConnectionException {
         logger.debug("Attempting to return {} on {}", connection, host);
         if (isClosed()) throw new ConnectionException(host.getHostUri(), host.getAddress(), "Pool is shutdown");
 
-        int borrowed = connection.borrowed.decrementAndGet();
+        final int borrowed = connection.borrowed.decrementAndGet();
         if (connection.isDead()) {
             logger.debug("Marking {} as dead", this.host);
             considerUnavailable();
@@ -334,51 +349,65 @@ final class ConnectionPool {
             logger.debug("{} destroyed", connection.getConnectionInfo());
     }
 
-    private Connection waitForConnection(final long timeout, final TimeUnit unit) throws TimeoutException, ConnectionException {
-        long start = System.nanoTime();
-        long remaining = timeout;
-        long to = timeout;
-        do {
-            try {
-                awaitAvailableConnection(remaining, unit);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                to = 0;
-            }
+    /**
+     * Takes one of the permits of the connection, of which there are as many as it has requests available in
+     * process.  This is an interesting measure of "busy-ness" because it compares the number of times the connection
+     * was borrowed to what's in-process.  The in-process number refers to the number of outstanding requests less
+     * the maxInProcessForConnection setting.  A connection can only run out of permits if
+     * maxInProcessForConnection=maxSimultaneousUsagePerConnection or if there is some sort of batch type operation
+     * where more than one message is sent on a single borrowed connection before it is returned to the pool.
+     */
+    private static boolean tryBorrow(final Connection connection) {
+        while (true) {
+            final int borrowed = connection.borrowed.get();
+            if (borrowed >= connection.availableInProcess()) return false;
+            if (connection.borrowed.compareAndSet(borrowed, borrowed + 1)) return true;
+        }
+    }
 
-            if (isClosed())
-                throw new ConnectionException(host.getHostUri(), host.getAddress(), "Pool is shutdown");
+    /**
+     * Gives back a permit taken for a waiter that could not be handed the connection.
+     */
+    private void releasePermit(final Connection connection) {
+        if (connection.borrowed.decrementAndGet() == 0 && bin.contains(connection) && bin.remove(connection))
+            connection.closeAsync();
+    }
 
-            final Connection leastUsed = selectLeastUsed();
-            if (leastUsed != null) {
-                while (true) {
-                    final int inFlight = leastUsed.borrowed.get();
-                    final int availableInProcess = leastUsed.availableInProcess();
-                    if (inFlight >= availableInProcess) {
-                        logger.debug("Least used {} on {} has requests borrowed [{}] >= availableInProcess [{}] - may timeout waiting for connection",
-                                leastUsed, host, inFlight, availableInProcess);
-                        break;
-                    }
-
-                    if (leastUsed.borrowed.compareAndSet(inFlight, inFlight + 1)) {
-                        if (logger.isDebugEnabled())
-                            logger.debug("Return least used {} on {} after waiting", leastUsed.getConnectionInfo(), host);
-                        return leastUsed;
-                    }
-                }
-            }
+    private CompletableFuture<Connection> waitForConnection(final long timeout, final TimeUnit unit) {
+        logger.debug("Wait {} {} for an available connection on {} with {}", timeout, unit, host, Thread.currentThread());
+
+        final CompletableFuture<Connection> waiter = new CompletableFuture<>();
+        waiters.add(waiter);
 
-            remaining = to - TimeUtil.timeSince(start, unit);
-            logger.debug("Continue to wait for connection on {} if {} > 0", host, remaining);
-        } while (remaining > 0);
+        // a connection may have been returned after the failed attempt to borrow but before the waiter was queued
+        // in which case no one else will announce it
+        announceAvailableConnection();
+        if (waiter.isDone()) return waiter;
 
-        logger.debug("Timed-out waiting for connection on {} - possibly unavailable", host);
+        try {
+            final ScheduledFuture<?> timer = cluster.executor().schedule(() -> {
+                if (waiters.remove(waiter) && waiter.completeExceptionally(new TimeoutException())) {
+                    logger.debug("Timed-out waiting for connection on {} - possibly unavailable", host);
 
-        // if we timeout borrowing a connection that might mean the host is dead (or the timeout was super short).
-        // either way supply a function to reconnect
-        this.considerUnavailable();
+                    // if we timeout borrowing a connection that might mean the host is dead (or the timeout was
+                    // super short). either way supply a function to reconnect
+                    considerUnavailable();
+                }
+            }, timeout, unit);
+            waiter.whenComplete((c, t) -> timer.cancel(false));
+        } catch (RejectedExecutionException ree) {
+            // the cluster is shutting down
+            if (waiters.remove(waiter))
+                waiter.completeExceptionally(new ConnectionException(host.getHostUri(), host.getAddress(), "Pool is shutdown"));
+        }
 
-        throw new TimeoutException();
+        return waiter;
+    }
+
+    private static CompletableFuture<Connection> failedBorrow(final Throwable t) {
+        final CompletableFuture<Connection> failed = new CompletableFuture<>();
+        failed.completeExceptionally(t);
+        return failed;
     }
 
     private void considerUnavailable() {
@@ -418,17 +447,28 @@ final class ConnectionPool {
         }
     }
 
+    /**
+     * Hands available connections to the requests waiting for one, oldest first, for as long as there are both.
+     */
     private void announceAvailableConnection() {
         logger.debug("Announce connection available on {}", host);
 
-        if (waiter == 0)
-            return;
+        CompletableFuture<Connection> waiter;
+        while ((waiter = waiters.peek()) != null) {
+            if (isClosed()) {
+                announceAllAvailableConnection();
+                return;
+            }
 
-        waitLock.lock();
-        try {
-            hasAvailableConnection.signal();
-        } finally {
-            waitLock.unlock();
+            final Connection leastUsed = selectLeastUsed();
+            if (null == leastUsed || !tryBorrow(leastUsed)) return;
+
+            if (waiters.remove(waiter) && waiter.complete(leastUsed)) {
+                if (logger.isDebugEnabled())
+                    logger.debug("Return least used {} on {} after waiting", leastUsed.getConnectionInfo(), host);
+            } else {
+                releasePermit(leastUsed);
+            }
         }
     }
 
@@ -445,28 +485,13 @@ final class ConnectionPool {
         return leastBusy;
     }
 
-    private void awaitAvailableConnection(long timeout, TimeUnit unit) throws InterruptedException {
-        logger.debug("Wait {} {} for an available connection on {} with {}", timeout, unit, host, Thread.currentThread());
-
-        waitLock.lock();
-        waiter++;
-        try {
-            hasAvailableConnection.await(timeout, unit);
-        } finally {
-            waiter--;
-            waitLock.unlock();
-        }
-    }
-
+    /**
+     * Fails every request waiting for a connection as the pool is shutdown.
+     */
     private void announceAllAvailableConnection() {
-        if (waiter == 0)
-            return;
-
-        waitLock.lock();
-        try {
-            hasAvailableConnection.signalAll();
-        } finally {
-            waitLock.unlock();
+        CompletableFuture<Connection> waiter;
+        while ((waiter = waiters.poll()) != null) {
+            waiter.completeExceptionally(new ConnectionException(host.getHostUri(), host.getAddress(), "Pool is shutdown"));
         }
     }
 
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.driver;
+
+import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The result of a Gremlin script held open on the server by {@link Client#openCursor(String)}.  Each call to
+ * {@link #next(int)} fetches the following page of results from the server without the script being evaluated
+ * again.  The server closes the cursor once its results are exhausted or once it has gone unused for longer than
+ * its {@code resultCursorTimeout}, so a cursor that is abandoned before that should be closed with {@link #close()}.
+ * The server only serves a cursor to the connection that opened it, so fetches are sent on that {@link Connection}
+ * and the cursor is lost, and closed by the server, if that connection closes.
+ * <p/>
+ * This class is not thread-safe.
+ *
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+public final class Cursor implements AutoCloseable {
+    private final Client client;
+    private final Connection connection;
+    private final String id;
+    private volatile boolean hasNext;
+
+    Cursor(final Client client, final Connection connection, final String id, final boolean hasNext) {
+        this.client = client;
+        this.connection = connection;
+        this.id = id;
+        this.hasNext = hasNext;
+    }
+
+    /**
+     * Gets the identifier the server assigned to the cursor.
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Determines if the server has further results for the cursor.
+     */
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    /**
+     * Fetches up to the specified number of results from the server, blocking until they arrive.  The number
+     * returned is only less than that number if the results are exhausted.
+     */
+    public List<Result> next(final int items) {
+        try {
+            return nextAsync(items).get();
+        } catch (Exception ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    /**
+     * The asynchronous version of {@link #next(int)}.
+     */
+    public CompletableFuture<List<Result>> nextAsync(final int items) {
+        if (items < 1) throw new IllegalArgumentException("items must be greater than zero");
+        if (!hasNext) return CompletableFuture.completedFuture(Collections.emptyList());
+
+        final RequestMessage.Builder request = RequestMessage.build(Tokens.OPS_NEXT)
+                .add(Tokens.ARGS_CURSOR, id)
+                .add(Tokens.ARGS_BATCH_SIZE, items);
+        return client.submitAsync(client.buildMessage(request), connection).thenCompose(rs -> rs.all().thenCombine(rs.statusAttributes(),
+                (results, attributes) -> {
+                    hasNext = (Boolean) attributes.getOrDefault(Tokens.STATUS_ATTRIBUTE_HAS_NEXT, false);
+                    return results;
+                }));
+    }
+
+    /**
+     * Closes the cursor on the server by making a synchronous call to {@link #closeAsync()}.
+     */
+    @Override
+    public void close() {
+        closeAsync().join();
+    }
+
+    /**
+     * Closes the cursor on the server so that it releases the results that were not fetched.  Closing a cursor that
+     * has been exhausted does not make a request to the server.
+     */
+    public CompletableFuture<Void> closeAsync() {
+        if (!hasNext) return CompletableFuture.completedFuture(null);
+        hasNext = false;
+
+        final RequestMessage.Builder request = RequestMessage.build(Tokens.OPS_CLOSE)
+                .add(Tokens.ARGS_CURSOR, id);
+        return client.submitAsync(client.buildMessage(request), connection).thenCompose(ResultSet::all).thenApply(it -> null);
+    }
+}
@@ -179,14 +179,18 @@ final class Handler {
                 final ResponseStatusCode statusCode = response.getStatus().getCode();
                 if (statusCode == ResponseStatusCode.SUCCESS || statusCode == ResponseStatusCode.PARTIAL_CONTENT) {
                     final Object data = response.getResult().getData();
-                    if (data instanceof List) {
-                        // unrolls the collection into individual results to be handled by the queue.
-                        final List<Object> listToUnroll = (List<Object>) data;
-                        final ResultQueue queue = pending.get(response.getRequestId());
-                        listToUnroll.forEach(item -> queue.add(new Result(item)));
-                    } else {
-                        // since this is not a list it can just be added to the queue
-                        pending.get(response.getRequestId()).add(new Result(response.getResult().getData()));
+                    final ResultQueue queue = pending.get(response.getRequestId());
+                    // results that were added to the queue as they were decoded are not added again
+                    if (!response.isResultHandedOver()) {
+                        queue.pageReceived();
+                        if (data instanceof List) {
+                            // unrolls the collection into individual results to be handled by the queue.
+                            final List<Object> listToUnroll = (List<Object>) data;
+                            listToUnroll.forEach(item -> queue.add(new Result(item)));
+                        } else {
+                            // since this is not a list it can just be added to the queue
+                            queue.add(new Result(response.getResult().getData()));
+                        }
                     }
                 } else {
                     // this is a "success" but represents no results otherwise it is an error
@@ -196,7 +200,7 @@ final class Handler {
 
                 // as this is a non-PARTIAL_CONTENT code - the stream is done
                 if (response.getStatus().getCode() != ResponseStatusCode.PARTIAL_CONTENT)
-                    pending.remove(response.getRequestId()).markComplete();
+                    pending.remove(response.getRequestId()).markComplete(response.getStatus().getAttributes());
             } finally {
                 // in the event of an exception above the exception is tossed and handled by whatever channelpipeline
                 // error handling is at play.
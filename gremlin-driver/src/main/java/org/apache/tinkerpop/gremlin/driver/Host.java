@@ -26,6 +26,7 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
@@ -44,6 +45,19 @@ public final class Host {
 
     final AtomicReference<ScheduledFuture<?>> reconnectionAttempt = new AtomicReference<>(null);
 
+    /**
+     * The time in nanoseconds over which a spike in the latency of the host decays back to its usual latency.
+     */
+    static final double LATENCY_DECAY = TimeUnit.SECONDS.toNanos(10);
+
+    private final AtomicInteger inFlight = new AtomicInteger(0);
+    private double latency = 0;
+
+    /**
+     * The time at which the latency was last updated, from which its decay is measured.
+     */
+    long latencyStamp = System.nanoTime();
+
     Host(final InetSocketAddress address, final Cluster cluster) {
         this.cluster = cluster;
         this.address = address;
@@ -63,6 +77,46 @@ public final class Host {
         return isAvailable;
     }
 
+    /**
+     * Gets the number of requests sent to the host that have not yet completed.
+     */
+    public int getInFlightRequests() {
+        return inFlight.get();
+    }
+
+    /**
+     * Gets the recent response latency of the host in nanoseconds.  The latency is a moving average that takes a
+     * slower response as the new latency at once and only decays back down as faster responses arrive or time
+     * passes without any, so that a host that stalls is avoided until it has recovered.
+     */
+    public synchronized double getLatency() {
+        decayLatency(0);
+        return latency;
+    }
+
+    void requestStarted() {
+        inFlight.incrementAndGet();
+    }
+
+    void requestCompleted(final long latencyNanos) {
+        inFlight.decrementAndGet();
+        synchronized (this) {
+            if (latencyNanos > latency) {
+                // the spike is the latest sample so a quiet period before it must not count towards its decay
+                latency = latencyNanos;
+                latencyStamp = System.nanoTime();
+            } else
+                decayLatency(latencyNanos);
+        }
+    }
+
+    private void decayLatency(final long towards) {
+        final long now = System.nanoTime();
+        final double weight = Math.exp(-Math.max(now - latencyStamp, 0) / LATENCY_DECAY);
+        latencyStamp = now;
+        latency = latency * weight + towards * (1 - weight);
+    }
+
     void makeAvailable() {
         isAvailable = true;
     }
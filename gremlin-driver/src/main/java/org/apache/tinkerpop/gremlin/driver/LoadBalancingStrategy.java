@@ -20,11 +20,13 @@ package org.apache.tinkerpop.gremlin.driver;
 
 import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -108,4 +110,68 @@ public interface LoadBalancingStrategy extends Host.Listener {
             onUnavailable(host);
         }
     }
+
+    /**
+     * A strategy that favors the hosts that are responding fastest.  Each request picks two of the available hosts
+     * at random and sends the {@link RequestMessage} to the one with the lower cost, where the cost of a host is its
+     * recent response latency multiplied by the number of requests it has in flight.  As the latency of a host takes
+     * on a slow response at once and only decays as it recovers, a host that stalls (e.g. in a long garbage
+     * collection) is quickly passed over, while choosing between two hosts rather than always taking the best keeps
+     * the load from shifting wholesale onto one host.  The remaining hosts follow the two that were picked in the
+     * returned ordering.
+     */
+    public static class LatencyAware implements LoadBalancingStrategy {
+
+        private final CopyOnWriteArrayList<Host> availableHosts = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void initialize(final Cluster cluster, final Collection<Host> hosts) {
+            this.availableHosts.addAll(hosts);
+        }
+
+        @Override
+        public Iterator<Host> select(final RequestMessage msg) {
+            final List<Host> hosts = new ArrayList<>(availableHosts);
+            if (hosts.size() > 1) {
+                final Random random = ThreadLocalRandom.current();
+                final int first = random.nextInt(hosts.size());
+                final int second = (first + 1 + random.nextInt(hosts.size() - 1)) % hosts.size();
+                final Host a = hosts.get(first);
+                final Host b = hosts.get(second);
+                final boolean aIsBest = cost(a) <= cost(b);
+
+                hosts.remove(a);
+                hosts.remove(b);
+                hosts.add(0, aIsBest ? a : b);
+                hosts.add(1, aIsBest ? b : a);
+            }
+
+            return hosts.iterator();
+        }
+
+        private static double cost(final Host host) {
+            // a host without a latency yet is costed by its in flight requests alone
+            return (host.getLatency() + 1) * (host.getInFlightRequests() + 1);
+        }
+
+        @Override
+        public void onAvailable(final Host host) {
+            this.availableHosts.addIfAbsent(host);
+        }
+
+        @Override
+        public void onUnavailable(final Host host) {
+            this.availableHosts.remove(host);
+        }
+
+        @Override
+        public void onNew(final Host host) {
+            onAvailable(host);
+        }
+
+        @Override
+        public void onRemove(final Host host) {
+            onUnavailable(host);
+        }
+    }
 }
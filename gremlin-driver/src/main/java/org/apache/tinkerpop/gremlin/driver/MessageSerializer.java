@@ -31,6 +31,9 @@ import org.slf4j.LoggerFactory;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Serializes data to and from Gremlin Server.  Typically the object being serialized or deserialized will be an item
@@ -72,6 +75,19 @@ public interface MessageSerializer {
      */
     public ResponseMessage deserializeResponse(final ByteBuf msg) throws SerializationException;
 
+    /**
+     * Deserialize a Netty {@code ByteBuf} into a {@link ResponseMessage}, handing each item of a successful
+     * {@code List} result to the {@code Consumer} that {@code resultConsumers} returns for the request as soon as the
+     * item is read.  When the items are handed over in this way, the result data of the returned message is
+     * {@code null}.  The function is only called for a result that is to be handed over and may return {@code null}
+     * to have the result read into the returned message instead.  The default implementation reads the whole
+     * message with {@link #deserializeResponse(ByteBuf)} and hands over nothing.
+     */
+    public default ResponseMessage deserializeResponse(final ByteBuf msg,
+                                                       final Function<UUID, Consumer<Object>> resultConsumers) throws SerializationException {
+        return deserializeResponse(msg);
+    }
+
     /**
      * The list of mime types that the serializer supports.
      */
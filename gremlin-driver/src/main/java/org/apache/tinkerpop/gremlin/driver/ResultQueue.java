@@ -23,13 +23,17 @@ import org.javatuples.Pair;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 /**
  * A queue of incoming {@link ResponseMessage} objects.  The queue is updated by the
@@ -43,6 +47,11 @@ final class ResultQueue {
 
     private final AtomicReference<Throwable> error = new AtomicReference<>();
 
+    /**
+     * The status attributes of the final response to the request.
+     */
+    private volatile Map<String, Object> statusAttributes = Collections.emptyMap();
+
     private final CompletableFuture<Void> readComplete;
 
     private final Queue<Pair<CompletableFuture<List<Result>>,Integer>> waiting = new ConcurrentLinkedQueue<>();
@@ -53,9 +62,44 @@ final class ResultQueue {
      */
     private final AtomicBoolean flushed = new AtomicBoolean(false);
 
+    /**
+     * Grants the server further pages of results when the request asked for flow control, or is {@code null} when
+     * the server sends everything without waiting.
+     */
+    private final IntConsumer grant;
+    private final int pageSize;
+    private final int creditPages;
+
+    /**
+     * The number of pages the server has been granted but which have not yet arrived.
+     */
+    private long pagesInFlight;
+    private boolean unbounded = false;
+
+    /**
+     * The time in nanoseconds that the server has spent unable to send further pages for want of credit, which is
+     * time spent waiting on the client to consume results rather than on the server.
+     */
+    private long creditWaitNanos = 0;
+    private long outOfCreditSince = -1;
+
     public ResultQueue(final LinkedBlockingQueue<Result> resultLinkedBlockingQueue, final CompletableFuture<Void> readComplete) {
+        this(resultLinkedBlockingQueue, readComplete, 0, 0, null);
+    }
+
+    /**
+     * Creates a queue for a request that granted the server {@code creditPages} pages of {@code pageSize} results
+     * up front.  Further pages are granted through the {@code grant} callback as the results are consumed, so that
+     * no more than about that many pages are buffered.
+     */
+    public ResultQueue(final LinkedBlockingQueue<Result> resultLinkedBlockingQueue, final CompletableFuture<Void> readComplete,
+                       final int pageSize, final int creditPages, final IntConsumer grant) {
         this.resultLinkedBlockingQueue = resultLinkedBlockingQueue;
         this.readComplete = readComplete;
+        this.pageSize = Math.max(1, pageSize);
+        this.creditPages = creditPages;
+        this.pagesInFlight = creditPages;
+        this.grant = grant;
     }
 
     public void add(final Result result) {
@@ -65,6 +109,7 @@ final class ResultQueue {
         if (nextWaiting != null && (resultLinkedBlockingQueue.size() >= nextWaiting.getValue1() || readComplete.isDone())) {
             internalDrain(nextWaiting.getValue1(), nextWaiting.getValue0(), resultLinkedBlockingQueue);
             waiting.remove(nextWaiting);
+            this.maybeGrant();
         }
     }
 
@@ -85,6 +130,7 @@ final class ResultQueue {
             }
         }
 
+        this.maybeGrant();
         return result;
     }
 
@@ -101,13 +147,89 @@ final class ResultQueue {
     public void drainTo(final Collection<Result> collection) {
         if (error.get() != null) throw new RuntimeException(error.get());
         resultLinkedBlockingQueue.drainTo(collection);
+        this.maybeGrant();
+    }
+
+    /**
+     * Lifts the flow control of the request so that the server sends the remaining results without waiting for
+     * them to be consumed, as is needed when all of the results are to be gathered before any are consumed.
+     */
+    synchronized void grantAll() {
+        if (null == grant || unbounded || readComplete.isDone()) return;
+        unbounded = true;
+        creditGranted();
+        grant.accept(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Called as each page of results arrives, before its results are added.
+     */
+    synchronized void pageReceived() {
+        if (pagesInFlight > 0) pagesInFlight--;
+        if (null != grant && !unbounded && 0 == pagesInFlight && -1 == outOfCreditSince)
+            outOfCreditSince = System.nanoTime();
+    }
+
+    /**
+     * Gets the time in nanoseconds that the server spent waiting for the client to grant it further pages.  A wait
+     * that is still in progress, as it is once the final page arrives, is not counted.
+     */
+    synchronized long getCreditWaitNanos() {
+        return creditWaitNanos;
+    }
+
+    private void creditGranted() {
+        if (-1 == outOfCreditSince) return;
+        creditWaitNanos = creditWaitNanos + System.nanoTime() - outOfCreditSince;
+        outOfCreditSince = -1;
+    }
+
+    /**
+     * Called as the results of a page start to be decoded, returning where each one is to be added as soon as it
+     * has been read.  The queue keeps no record of the page: the serializer builds its {@link ResponseMessage} with
+     * {@link ResponseMessage#isResultHandedOver()} set, which tells the {@link Handler.GremlinResponseHandler} not
+     * to add its results again.
+     */
+    Consumer<Object> decodePage() {
+        pageReceived();
+        return item -> add(new Result(item));
+    }
+
+    /**
+     * Tops the server back up to the full number of credit pages once half of them have been consumed, or by as
+     * many pages as it takes to satisfy a waiting request for more results than are buffered or granted.
+     */
+    private synchronized void maybeGrant() {
+        if (null == grant || unbounded || readComplete.isDone()) return;
+
+        final int buffered = resultLinkedBlockingQueue.size();
+        final long pagesHeld = pagesInFlight + (buffered + pageSize - 1) / pageSize;
+        final Pair<CompletableFuture<List<Result>>, Integer> nextWaiting = waiting.peek();
+        final long shortfall = null == nextWaiting ? 0 : nextWaiting.getValue1() - buffered - pagesInFlight * pageSize;
+
+        final long topUp = pagesHeld * 2 <= creditPages ? creditPages - pagesHeld : 0;
+        final long pages = Math.max(topUp, (shortfall + pageSize - 1) / pageSize);
+        if (pages > 0) {
+            creditGranted();
+            pagesInFlight = pagesInFlight + pages;
+            grant.accept((int) Math.min(pages, Integer.MAX_VALUE));
+        }
     }
 
     void markComplete() {
+        markComplete(Collections.emptyMap());
+    }
+
+    void markComplete(final Map<String, Object> statusAttributes) {
+        this.statusAttributes = null == statusAttributes ? Collections.emptyMap() : statusAttributes;
         this.readComplete.complete(null);
         this.flushWaiting();
     }
 
+    Map<String, Object> getStatusAttributes() {
+        return statusAttributes;
+    }
+
     void markError(final Throwable throwable) {
         error.set(throwable);
 
@@ -21,6 +21,7 @@ package org.apache.tinkerpop.gremlin.driver;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Spliterator;
 import java.util.Spliterators;
@@ -51,11 +52,34 @@ public final class ResultSet implements Iterable<Result> {
 
     private final CompletableFuture<Void> readCompleted;
 
+    /**
+     * The connection that the request was sent on, which is {@code null} if it is not known.
+     */
+    private final Connection connection;
+
     public ResultSet(final ResultQueue resultQueue, final ExecutorService executor,
                      final CompletableFuture<Void> readCompleted) {
+        this(resultQueue, executor, readCompleted, null);
+    }
+
+    ResultSet(final ResultQueue resultQueue, final ExecutorService executor,
+              final CompletableFuture<Void> readCompleted, final Connection connection) {
         this.executor = executor;
         this.resultQueue = resultQueue;
         this.readCompleted = readCompleted;
+        this.connection = connection;
+    }
+
+    Connection getConnection() {
+        return connection;
+    }
+
+    /**
+     * The returned {@link CompletableFuture} completes with the status attributes of the final response to the
+     * request once all reads are complete.
+     */
+    public CompletableFuture<Map<String, Object>> statusAttributes() {
+        return readCompleted.thenApply(it -> resultQueue.getStatusAttributes());
     }
 
     /**
@@ -99,6 +123,7 @@ public final class ResultSet implements Iterable<Result> {
      * {@link Iterator} or {@link Stream} options, as the results will be held in memory at once.
      */
     public CompletableFuture<List<Result>> all() {
+        resultQueue.grantAll();
         return readCompleted.thenApplyAsync(it -> {
             final List<Result> list = new ArrayList<>();
             resultQueue.drainTo(list);
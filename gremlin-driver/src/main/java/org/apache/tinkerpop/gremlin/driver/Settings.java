@@ -83,6 +83,7 @@ final class Settings {
         public int reconnectInterval = Connection.RECONNECT_INTERVAL;
         public int reconnectInitialDelay = Connection.RECONNECT_INITIAL_DELAY;
         public int resultIterationBatchSize = Connection.RESULT_ITERATION_BATCH_SIZE;
+        public int resultPageCredits = Connection.RESULT_PAGE_CREDITS;
         public String channelizer = Channelizer.WebSocketChannelizer.class.getName();
         public String sessionId = null;
 
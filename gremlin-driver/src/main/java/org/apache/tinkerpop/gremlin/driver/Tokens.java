@@ -38,15 +38,23 @@ public final class Tokens {
     public static final String OPS_USE = "use";
     public static final String OPS_VERSION = "version";
     public static final String OPS_AUTHENTICATION = "authentication";
+    public static final String OPS_CREDIT = "credit";
+    public static final String OPS_CURSOR = "cursor";
+    public static final String OPS_NEXT = "next";
+    public static final String OPS_BATCH = "batch";
 
+    public static final String ARGS_BATCH = "batch";
     public static final String ARGS_BATCH_SIZE = "batchSize";
     public static final String ARGS_BINDINGS = "bindings";
+    public static final String ARGS_CREDITS = "credits";
+    public static final String ARGS_CURSOR = "cursor";
     public static final String ARGS_ALIASES = "aliases";
     public static final String ARGS_COORDINATES = "coordinates";
     public static final String ARGS_GREMLIN = "gremlin";
     public static final String ARGS_IMPORTS = "imports";
     public static final String ARGS_INFO_TYPE = "infoType";
     public static final String ARGS_LANGUAGE = "language";
+    public static final String ARGS_POOL = "pool";
 
     /**
      * @deprecated As of release 3.1.0, replaced by {@link #ARGS_ALIASES}.
@@ -55,6 +63,7 @@ public final class Tokens {
     public static final String ARGS_REBINDINGS = "rebindings";
     public static final String ARGS_SESSION = "session";
     public static final String ARGS_SASL = "sasl";
+    public static final String ARGS_TRANSACTION = "transaction";
 
     public static final String ARGS_COORDINATES_GROUP = "group";
     public static final String ARGS_COORDINATES_ARTIFACT = "artifact";
@@ -63,6 +72,11 @@ public final class Tokens {
     public static final String ARGS_INFO_TYPE_DEPDENENCIES = "dependencies";
     public static final String ARGS_INFO_TYPE_IMPORTS = "imports";
 
+    /**
+     * The status attribute of the response to a "next" request that tells if the cursor has more results.
+     */
+    public static final String STATUS_ATTRIBUTE_HAS_NEXT = "hasNext";
+
     public static final List<String> INFO_TYPES = Arrays.asList(ARGS_INFO_TYPE_DEPDENENCIES,
             ARGS_INFO_TYPE_IMPORTS);
 }
@@ -24,17 +24,32 @@ import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 
 import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * @author Stephen Mallette (http://stephen.genoprime.com)
  */
 public final class NioGremlinResponseDecoder extends ReplayingDecoder<NioGremlinResponseDecoder.DecoderState> {
     private final MessageSerializer serializer;
+    private final Function<UUID, Consumer<Object>> resultConsumers;
     private int messageLength;
 
     public NioGremlinResponseDecoder(final MessageSerializer serializer) {
+        this(serializer, null);
+    }
+
+    /**
+     * Creates a decoder that hands the results of a response to the {@code Consumer} that {@code resultConsumers}
+     * returns for its request as they are deserialized, as described by
+     * {@link MessageSerializer#deserializeResponse(ByteBuf, Function)}.
+     */
+    public NioGremlinResponseDecoder(final MessageSerializer serializer,
+                                     final Function<UUID, Consumer<Object>> resultConsumers) {
         super(DecoderState.MESSAGE_LENGTH);
         this.serializer = serializer;
+        this.resultConsumers = resultConsumers;
     }
 
     @Override
@@ -44,8 +59,9 @@ public final class NioGremlinResponseDecoder extends ReplayingDecoder<NioGremlin
                 messageLength = byteBuf.readInt();
                 checkpoint(DecoderState.MESSAGE);
             case MESSAGE:
-                final ByteBuf messageFrame = byteBuf.readBytes(messageLength);
-                objects.add(serializer.deserializeResponse(messageFrame));
+                // a slice of the frame is deserialized in place rather than copied out of the cumulation buffer
+                final ByteBuf messageFrame = byteBuf.readSlice(messageLength);
+                objects.add(serializer.deserializeResponse(messageFrame, resultConsumers));
                 checkpoint(DecoderState.MESSAGE_LENGTH);
                 break;
             default:
@@ -29,6 +29,9 @@ import io.netty.handler.codec.http.websocketx.WebSocketFrame;
 import io.netty.util.ReferenceCountUtil;
 
 import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * @author Stephen Mallette (http://stephen.genoprime.com)
@@ -36,9 +39,21 @@ import java.util.List;
 @ChannelHandler.Sharable
 public final class WebSocketGremlinResponseDecoder extends MessageToMessageDecoder<WebSocketFrame> {
     private final MessageSerializer serializer;
+    private final Function<UUID, Consumer<Object>> resultConsumers;
 
     public WebSocketGremlinResponseDecoder(final MessageSerializer serializer) {
+        this(serializer, null);
+    }
+
+    /**
+     * Creates a decoder that hands the results of a response to the {@code Consumer} that {@code resultConsumers}
+     * returns for its request as they are deserialized, as described by
+     * {@link MessageSerializer#deserializeResponse(io.netty.buffer.ByteBuf, Function)}.
+     */
+    public WebSocketGremlinResponseDecoder(final MessageSerializer serializer,
+                                           final Function<UUID, Consumer<Object>> resultConsumers) {
         this.serializer = serializer;
+        this.resultConsumers = resultConsumers;
     }
 
     @Override
@@ -46,7 +61,7 @@ public final class WebSocketGremlinResponseDecoder extends MessageToMessageDecod
         try {
             if (webSocketFrame instanceof BinaryWebSocketFrame) {
                 final BinaryWebSocketFrame tf = (BinaryWebSocketFrame) webSocketFrame;
-                objects.add(serializer.deserializeResponse(tf.content()));
+                objects.add(serializer.deserializeResponse(tf.content(), resultConsumers));
             } else {
                 final TextWebSocketFrame tf = (TextWebSocketFrame) webSocketFrame;
                 final MessageTextSerializer textSerializer = (MessageTextSerializer) serializer;
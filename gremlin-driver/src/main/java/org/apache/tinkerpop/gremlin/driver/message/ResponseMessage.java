@@ -34,11 +34,18 @@ public final class ResponseMessage {
     private final ResponseStatus responseStatus;
     private final ResponseResult responseResult;
 
+    /**
+     * Whether the items of the result were handed over as they were deserialized, in which case the result holds
+     * no data of its own.
+     */
+    private final boolean resultHandedOver;
+
     private ResponseMessage(final UUID requestId, final ResponseStatus responseStatus,
-                            final ResponseResult responseResult) {
+                            final ResponseResult responseResult, final boolean resultHandedOver) {
         this.requestId = requestId;
         this.responseResult = responseResult;
         this.responseStatus = responseStatus;
+        this.resultHandedOver = resultHandedOver;
     }
 
     public UUID getRequestId() {
@@ -53,6 +60,10 @@ public final class ResponseMessage {
         return responseResult;
     }
 
+    public boolean isResultHandedOver() {
+        return resultHandedOver;
+    }
+
     @Override
     public String toString() {
         return "ResponseMessage{" +
@@ -78,6 +89,7 @@ public final class ResponseMessage {
         private String statusMessage = "";
         private Map<String, Object> attributes = Collections.emptyMap();
         private Map<String, Object> metaData = Collections.emptyMap();
+        private boolean resultHandedOver = false;
 
         private Builder(final RequestMessage requestMessage) {
             this.requestId = requestMessage.getRequestId();
@@ -112,10 +124,18 @@ public final class ResponseMessage {
             return this;
         }
 
+        /**
+         * Marks the items of the result as having been handed over as they were deserialized.
+         */
+        public Builder resultHandedOver(final boolean resultHandedOver) {
+            this.resultHandedOver = resultHandedOver;
+            return this;
+        }
+
         public ResponseMessage create() {
             final ResponseResult responseResult = new ResponseResult(result, metaData);
             final ResponseStatus responseStatus = new ResponseStatus(code, statusMessage, attributes);
-            return new ResponseMessage(requestId, responseStatus, responseResult);
+            return new ResponseMessage(requestId, responseStatus, responseResult, resultHandedOver);
         }
     }
 }
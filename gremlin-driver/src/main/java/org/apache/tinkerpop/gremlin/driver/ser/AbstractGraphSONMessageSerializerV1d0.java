@@ -28,25 +28,38 @@ import org.apache.tinkerpop.gremlin.structure.io.graphson.GraphSONMapper;
 import groovy.json.JsonBuilder;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
 import io.netty.util.ReferenceCountUtil;
 import org.apache.tinkerpop.gremlin.structure.io.graphson.GraphSONTokens;
 import org.apache.tinkerpop.gremlin.structure.io.graphson.GraphSONUtil;
 import org.apache.tinkerpop.shaded.jackson.core.JsonGenerationException;
 import org.apache.tinkerpop.shaded.jackson.core.JsonGenerator;
+import org.apache.tinkerpop.shaded.jackson.core.JsonParser;
 import org.apache.tinkerpop.shaded.jackson.core.JsonProcessingException;
+import org.apache.tinkerpop.shaded.jackson.core.JsonToken;
 import org.apache.tinkerpop.shaded.jackson.core.type.TypeReference;
 import org.apache.tinkerpop.shaded.jackson.databind.ObjectMapper;
 import org.apache.tinkerpop.shaded.jackson.databind.SerializerProvider;
 import org.apache.tinkerpop.shaded.jackson.databind.jsontype.TypeSerializer;
 import org.apache.tinkerpop.shaded.jackson.databind.module.SimpleModule;
 import org.apache.tinkerpop.shaded.jackson.databind.ser.std.StdSerializer;
+import org.apache.tinkerpop.shaded.jackson.databind.util.TokenBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * @author Stephen Mallette (http://stephen.genoprime.com)
@@ -104,9 +117,8 @@ public abstract class AbstractGraphSONMessageSerializerV1d0 implements MessageSe
     public ByteBuf serializeResponseAsBinary(final ResponseMessage responseMessage, final ByteBufAllocator allocator) throws SerializationException {
         ByteBuf encodedMessage = null;
         try {
-            final byte[] payload = mapper.writeValueAsBytes(responseMessage);
-            encodedMessage = allocator.buffer(payload.length);
-            encodedMessage.writeBytes(payload);
+            encodedMessage = allocator.compositeBuffer(Integer.MAX_VALUE);
+            mapper.writeValue((OutputStream) new ByteBufOutputStream(encodedMessage), responseMessage);
 
             return encodedMessage;
         } catch (Exception ex) {
@@ -121,12 +133,9 @@ public abstract class AbstractGraphSONMessageSerializerV1d0 implements MessageSe
     public ByteBuf serializeRequestAsBinary(final RequestMessage requestMessage, final ByteBufAllocator allocator) throws SerializationException {
         ByteBuf encodedMessage = null;
         try {
-            final byte[] header = obtainHeader();
-            final byte[] payload = mapper.writeValueAsBytes(requestMessage);
-
-            encodedMessage = allocator.buffer(header.length + payload.length);
-            encodedMessage.writeBytes(header);
-            encodedMessage.writeBytes(payload);
+            encodedMessage = allocator.compositeBuffer(Integer.MAX_VALUE);
+            encodedMessage.writeBytes(obtainHeader());
+            mapper.writeValue((OutputStream) new ByteBufOutputStream(encodedMessage), requestMessage);
 
             return encodedMessage;
         } catch (Exception ex) {
@@ -140,9 +149,7 @@ public abstract class AbstractGraphSONMessageSerializerV1d0 implements MessageSe
     @Override
     public RequestMessage deserializeRequest(final ByteBuf msg) throws SerializationException {
         try {
-            final byte[] payload = new byte[msg.readableBytes()];
-            msg.readBytes(payload);
-            return mapper.readValue(payload, RequestMessage.class);
+            return mapper.readValue((InputStream) new ByteBufInputStream(msg), RequestMessage.class);
         } catch (Exception ex) {
             logger.warn("Request [{}] could not be deserialized by {}.", msg, AbstractGraphSONMessageSerializerV1d0.class.getName());
             throw new SerializationException(ex);
@@ -151,25 +158,137 @@ public abstract class AbstractGraphSONMessageSerializerV1d0 implements MessageSe
 
     @Override
     public ResponseMessage deserializeResponse(final ByteBuf msg) throws SerializationException {
-        try {
-            final byte[] payload = new byte[msg.readableBytes()];
-            msg.readBytes(payload);
-            final Map<String, Object> responseData = mapper.readValue(payload, mapTypeReference);
-            final Map<String, Object> status = (Map<String, Object>) responseData.get(SerTokens.TOKEN_STATUS);
-            final Map<String, Object> result = (Map<String, Object>) responseData.get(SerTokens.TOKEN_RESULT);
-            return ResponseMessage.build(UUID.fromString(responseData.get(SerTokens.TOKEN_REQUEST).toString()))
-                    .code(ResponseStatusCode.getFromValue((Integer) status.get(SerTokens.TOKEN_CODE)))
-                    .statusMessage(status.get(SerTokens.TOKEN_MESSAGE).toString())
-                    .statusAttributes((Map<String, Object>) status.get(SerTokens.TOKEN_ATTRIBUTES))
-                    .result(result.get(SerTokens.TOKEN_DATA))
-                    .responseMetaData((Map<String, Object>) result.get(SerTokens.TOKEN_META))
-                    .create();
+        return deserializeResponse(msg, null);
+    }
+
+    @Override
+    public ResponseMessage deserializeResponse(final ByteBuf msg, final Function<UUID, Consumer<Object>> resultConsumers) throws SerializationException {
+        try (final JsonParser parser = mapper.getFactory().createParser((InputStream) new ByteBufInputStream(msg))) {
+            return readResponse(parser, resultConsumers);
         } catch (Exception ex) {
             logger.warn("Response [{}] could not be deserialized by {}.", msg, AbstractGraphSONMessageSerializerV1d0.class.getName());
             throw new SerializationException(ex);
         }
     }
 
+    /**
+     * Reads a {@link ResponseMessage} a token at a time rather than as a {@code Map} of its fields.  The status is
+     * written ahead of the result, so by the time the result is reached it is known whether its items can be
+     * handed over to a {@code Consumer} as they are read.
+     */
+    protected ResponseMessage readResponse(final JsonParser parser, final Function<UUID, Consumer<Object>> resultConsumers) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT)
+            throw new IOException(String.format("Expected the start of a response but found %s", parser.getCurrentToken()));
+
+        UUID requestId = null;
+        ResponseStatusCode code = null;
+        String statusMessage = null;
+        Map<String, Object> statusAttributes = null;
+        Object data = null;
+        Map<String, Object> meta = null;
+        final AtomicBoolean handedOver = new AtomicBoolean(false);
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = parser.getCurrentName();
+            parser.nextToken();
+            if (field.equals(SerTokens.TOKEN_REQUEST)) {
+                final String id = parser.getValueAsString();
+                requestId = null == id ? null : UUID.fromString(id);
+            } else if (field.equals(SerTokens.TOKEN_STATUS)) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    final String statusField = parser.getCurrentName();
+                    parser.nextToken();
+                    if (statusField.equals(SerTokens.TOKEN_MESSAGE))
+                        statusMessage = parser.getValueAsString();
+                    else if (statusField.equals(SerTokens.TOKEN_CODE))
+                        code = ResponseStatusCode.getFromValue(parser.getIntValue());
+                    else if (statusField.equals(SerTokens.TOKEN_ATTRIBUTES))
+                        statusAttributes = (Map<String, Object>) readObject(parser);
+                    else
+                        parser.skipChildren();
+                }
+            } else if (field.equals(SerTokens.TOKEN_RESULT)) {
+                // results are only handed over for a successful response, as any other is not unrolled into results
+                final boolean handOver = resultConsumers != null && requestId != null &&
+                        (code == ResponseStatusCode.SUCCESS || code == ResponseStatusCode.PARTIAL_CONTENT);
+                final UUID id = requestId;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    final String resultField = parser.getCurrentName();
+                    parser.nextToken();
+                    if (resultField.equals(SerTokens.TOKEN_DATA))
+                        data = readData(parser, handOver ? () -> {
+                            final Consumer<Object> consumer = resultConsumers.apply(id);
+                            handedOver.set(null != consumer);
+                            return consumer;
+                        } : () -> null);
+                    else if (resultField.equals(SerTokens.TOKEN_META))
+                        meta = (Map<String, Object>) readObject(parser);
+                    else
+                        parser.skipChildren();
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        return ResponseMessage.build(requestId)
+                .code(code)
+                .statusMessage(statusMessage)
+                .statusAttributes(statusAttributes)
+                .result(data)
+                .responseMetaData(meta)
+                .resultHandedOver(handedOver.get())
+                .create();
+    }
+
+    /**
+     * Reads the result data, handing each item of a list to the {@code Consumer} from {@code consumerForList}, if it
+     * supplies one, in which case {@code null} is returned.
+     */
+    private Object readData(final JsonParser parser, final Supplier<Consumer<Object>> consumerForList) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) return readObject(parser);
+        if (!embedsTypes()) return readItems(parser, consumerForList.get());
+
+        // with embedded types a list is written as an array of its class name and then an array of its items
+        parser.nextToken();
+        final String type = parser.getText();
+        parser.nextToken();
+        if (!type.equals(ArrayList.class.getName())) {
+            // not a list the server pages results into, so rebuild the value from what has been read of it
+            final TokenBuffer buffer = new TokenBuffer(parser);
+            buffer.writeStartArray();
+            buffer.writeString(type);
+            buffer.copyCurrentStructure(parser);
+            buffer.writeEndArray();
+            parser.nextToken();
+            return mapper.readValue(buffer.asParser(), Object.class);
+        }
+
+        final Object items = readItems(parser, consumerForList.get());
+        parser.nextToken();
+        return items;
+    }
+
+    private List<Object> readItems(final JsonParser parser, final Consumer<Object> consumer) throws IOException {
+        final List<Object> items = null == consumer ? new ArrayList<>() : null;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            final Object item = readObject(parser);
+            if (null == consumer)
+                items.add(item);
+            else
+                consumer.accept(item);
+        }
+        return items;
+    }
+
+    private Object readObject(final JsonParser parser) throws IOException {
+        return mapper.readValue(parser, Object.class);
+    }
+
+    private boolean embedsTypes() {
+        return mapper.getDeserializationConfig().getDefaultTyper(null) != null;
+    }
+
     public final static class GremlinServerModule extends SimpleModule {
         public GremlinServerModule() {
             super("graphson-gremlin-server");
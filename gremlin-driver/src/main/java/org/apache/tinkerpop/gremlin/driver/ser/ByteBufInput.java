@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.driver.ser;
+
+import io.netty.buffer.ByteBuf;
+import org.apache.tinkerpop.shaded.kryo.io.Input;
+
+/**
+ * A Kryo {@link Input} that reads a message from a {@code ByteBuf} without first copying it to a {@code byte[]}.  A
+ * heap buffer is read in place from its backing array.  Any other buffer, such as a pooled direct or composite
+ * buffer, is read through the small buffer of the {@link Input}, which is refilled from the {@code ByteBuf} as Kryo
+ * consumes it.
+ * <p/>
+ * An instance is reused for one message after another by calling {@link #begin(ByteBuf)} and then {@link #end()},
+ * and is not thread-safe.
+ *
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+final class ByteBufInput extends Input {
+    private final byte[] staging;
+    private ByteBuf source;
+    private boolean inPlace;
+
+    ByteBufInput(final int bufferSize) {
+        super(bufferSize);
+        this.staging = buffer;
+    }
+
+    /**
+     * Prepares the input to read the readable bytes of the specified buffer.
+     */
+    void begin(final ByteBuf msg) {
+        source = msg;
+        inPlace = msg.hasArray();
+        if (inPlace)
+            setBuffer(msg.array(), msg.arrayOffset() + msg.readerIndex(), msg.readableBytes());
+        else
+            setBuffer(staging, 0, 0);
+    }
+
+    /**
+     * Marks the buffer as read and lets go of it so that the input does not hold a reference to memory that is
+     * returned to a pool once the message is released.
+     */
+    void end() {
+        if (source != null) source.skipBytes(source.readableBytes());
+        source = null;
+        setBuffer(staging, 0, 0);
+    }
+
+    @Override
+    protected int fill(final byte[] buffer, final int offset, final int count) {
+        if (null == source || inPlace || !source.isReadable()) return -1;
+        final int length = Math.min(count, source.readableBytes());
+        source.readBytes(buffer, offset, length);
+        return length;
+    }
+}
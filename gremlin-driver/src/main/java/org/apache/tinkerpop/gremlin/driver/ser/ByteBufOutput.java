@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.driver.ser;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.util.ReferenceCountUtil;
+import org.apache.tinkerpop.shaded.kryo.io.Output;
+
+/**
+ * A Kryo {@link Output} that writes a message into {@code ByteBuf} instances from a {@code ByteBufAllocator}
+ * rather than into a {@code byte[]} that then has to be copied to the network buffer.  Kryo writes into the small
+ * buffer of the {@link Output}, which is drained into a chunk from the allocator each time it fills.  A message that
+ * fits in that buffer is written to a single {@code ByteBuf} of exactly its size and a larger one is returned as a
+ * {@code CompositeByteBuf} of chunks that grow with the message, so that a large page of results is neither
+ * re-allocated as it grows nor held twice in memory.
+ * <p/>
+ * An instance is reused for one message after another by calling {@link #begin(ByteBufAllocator)} and then
+ * {@link #end()} or {@link #discard()}, and is not thread-safe.
+ *
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+final class ByteBufOutput extends Output {
+    static final int MAX_CHUNK_SIZE = 1024 * 1024;
+
+    private ByteBufAllocator allocator;
+    private ByteBuf current;
+    private CompositeByteBuf composite;
+
+    ByteBufOutput(final int bufferSize) {
+        super(bufferSize);
+    }
+
+    /**
+     * Prepares the output to write a new message into buffers from the specified allocator.
+     */
+    void begin(final ByteBufAllocator allocator) {
+        this.allocator = allocator;
+        this.current = null;
+        this.composite = null;
+        this.position = 0;
+        this.total = 0;
+    }
+
+    /**
+     * Drains the buffer of the {@link Output} into the current chunk, allocating the next chunk as the current one
+     * fills.  Kryo calls this whenever the buffer has no room left for what is being written.
+     */
+    @Override
+    public void flush() {
+        if (null == allocator) throw new IllegalStateException("The output has not been started with begin()");
+
+        int offset = 0;
+        while (offset < position) {
+            if (null == current || !current.isWritable()) nextChunk();
+            final int length = Math.min(position - offset, current.writableBytes());
+            current.writeBytes(buffer, offset, length);
+            offset += length;
+        }
+
+        total += position;
+        position = 0;
+    }
+
+    /**
+     * Completes the message and returns the buffer holding it, which the caller is then responsible for releasing.
+     */
+    ByteBuf end() {
+        final ByteBuf message;
+        if (null == current) {
+            // nothing has been flushed so the message is entirely in the buffer of the output
+            message = allocator.buffer(position);
+            message.writeBytes(buffer, 0, position);
+            total += position;
+            position = 0;
+        } else {
+            flush();
+            if (null == composite)
+                message = current;
+            else {
+                addToComposite(current);
+                message = composite;
+            }
+        }
+
+        reset();
+        return message;
+    }
+
+    /**
+     * Releases whatever has been written of the message, for when it could not be completed.
+     */
+    void discard() {
+        if (current != null) ReferenceCountUtil.release(current);
+        if (composite != null) ReferenceCountUtil.release(composite);
+        reset();
+    }
+
+    private void nextChunk() {
+        if (current != null) {
+            if (null == composite) composite = allocator.compositeBuffer(Integer.MAX_VALUE);
+            addToComposite(current);
+        }
+
+        // chunks grow with the message written so far so that a large message is held in fewer of them
+        final int size = (int) Math.min(Math.max(capacity, total), MAX_CHUNK_SIZE);
+        current = allocator.buffer(size, size);
+    }
+
+    private void addToComposite(final ByteBuf chunk) {
+        composite.addComponent(chunk);
+        composite.writerIndex(composite.writerIndex() + chunk.readableBytes());
+    }
+
+    private void reset() {
+        allocator = null;
+        current = null;
+        composite = null;
+    }
+}
@@ -20,7 +20,6 @@ package org.apache.tinkerpop.gremlin.driver.ser;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
-import io.netty.util.ReferenceCountUtil;
 import org.apache.tinkerpop.gremlin.driver.MessageSerializer;
 import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
 import org.apache.tinkerpop.gremlin.driver.message.ResponseMessage;
@@ -31,10 +30,7 @@ import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoIo;
 import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoMapper;
 import org.apache.tinkerpop.shaded.kryo.Kryo;
 import org.apache.tinkerpop.shaded.kryo.Serializer;
-import org.apache.tinkerpop.shaded.kryo.io.Input;
-import org.apache.tinkerpop.shaded.kryo.io.Output;
 
-import java.io.ByteArrayOutputStream;
 import java.lang.reflect.Method;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
@@ -57,6 +53,18 @@ public final class GryoMessageSerializerV1d0 implements MessageSerializer {
             return gryoMapper.createMapper();
         }
     };
+    private ThreadLocal<ByteBufOutput> outputThreadLocal = new ThreadLocal<ByteBufOutput>() {
+        @Override
+        protected ByteBufOutput initialValue() {
+            return new ByteBufOutput(bufferSize);
+        }
+    };
+    private ThreadLocal<ByteBufInput> inputThreadLocal = new ThreadLocal<ByteBufInput>() {
+        @Override
+        protected ByteBufInput initialValue() {
+            return new ByteBufInput(DEFAULT_BUFFER_SIZE);
+        }
+    };
 
     private static final Charset UTF8 = Charset.forName("UTF-8");
 
@@ -69,8 +77,10 @@ public final class GryoMessageSerializerV1d0 implements MessageSerializer {
     private static final String TOKEN_USE_MAPPER_FROM_GRAPH = "useMapperFromGraph";
     private static final String TOKEN_BUFFER_SIZE = "bufferSize";
 
+    private static final int DEFAULT_BUFFER_SIZE = 4096;
+
     private boolean serializeToString = false;
-    private int bufferSize = 4096;
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
 
     /**
      * Creates an instance with a standard {@link GryoMapper} instance. Note that this instance
@@ -115,7 +125,7 @@ public final class GryoMessageSerializerV1d0 implements MessageSerializer {
         addCustomClasses(config, builder);
 
         this.serializeToString = Boolean.parseBoolean(config.getOrDefault(TOKEN_SERIALIZE_RESULT_TO_STRING, "false").toString());
-        this.bufferSize = Integer.parseInt(config.getOrDefault(TOKEN_BUFFER_SIZE, "4096").toString());
+        this.bufferSize = Integer.parseInt(config.getOrDefault(TOKEN_BUFFER_SIZE, DEFAULT_BUFFER_SIZE).toString());
 
         this.gryoMapper = builder.create();
     }
@@ -195,9 +205,9 @@ public final class GryoMessageSerializerV1d0 implements MessageSerializer {
     public ResponseMessage deserializeResponse(final ByteBuf msg) throws SerializationException {
         try {
             final Kryo kryo = kryoThreadLocal.get();
-            final byte[] payload = new byte[msg.capacity()];
-            msg.readBytes(payload);
-            try (final Input input = new Input(payload)) {
+            final ByteBufInput input = inputThreadLocal.get();
+            input.begin(msg);
+            try {
                 final UUID requestId = kryo.readObjectOrNull(input, UUID.class);
                 final int status = input.readShort();
                 final String statusMsg = input.readString();
@@ -212,6 +222,8 @@ public final class GryoMessageSerializerV1d0 implements MessageSerializer {
                         .result(result)
                         .responseMetaData(metaAttributes)
                         .create();
+            } finally {
+                input.end();
             }
         } catch (Exception ex) {
             logger.warn("Response [{}] could not be deserialized by {}.", msg, GryoMessageSerializerV1d0.class.getName());
@@ -221,36 +233,30 @@ public final class GryoMessageSerializerV1d0 implements MessageSerializer {
 
     @Override
     public ByteBuf serializeResponseAsBinary(final ResponseMessage responseMessage, final ByteBufAllocator allocator) throws SerializationException {
-        ByteBuf encodedMessage = null;
+        final ByteBufOutput output = outputThreadLocal.get();
+        output.begin(allocator);
         try {
             final Kryo kryo = kryoThreadLocal.get();
-            try (final ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-                final Output output = new Output(baos, bufferSize);
-
-                // request id - if present
-                kryo.writeObjectOrNull(output, responseMessage.getRequestId() != null ? responseMessage.getRequestId() : null, UUID.class);
 
-                // status
-                output.writeShort(responseMessage.getStatus().getCode().getValue());
-                output.writeString(responseMessage.getStatus().getMessage());
-                kryo.writeClassAndObject(output, responseMessage.getStatus().getAttributes());
+            // request id - if present
+            kryo.writeObjectOrNull(output, responseMessage.getRequestId() != null ? responseMessage.getRequestId() : null, UUID.class);
 
-                // result
-                kryo.writeClassAndObject(output, serializeToString ? serializeResultToString(responseMessage) : responseMessage.getResult().getData());
-                kryo.writeClassAndObject(output, responseMessage.getResult().getMeta());
+            // status
+            output.writeShort(responseMessage.getStatus().getCode().getValue());
+            output.writeString(responseMessage.getStatus().getMessage());
+            kryo.writeClassAndObject(output, responseMessage.getStatus().getAttributes());
 
-                final long size = output.total();
-                if (size > Integer.MAX_VALUE)
-                    throw new SerializationException(String.format("Message size of %s exceeds allocatable space", size));
+            // result
+            kryo.writeClassAndObject(output, serializeToString ? serializeResultToString(responseMessage) : responseMessage.getResult().getData());
+            kryo.writeClassAndObject(output, responseMessage.getResult().getMeta());
 
-                output.flush();
-                encodedMessage = allocator.buffer((int) size);
-                encodedMessage.writeBytes(baos.toByteArray());
-            }
+            final long size = output.total();
+            if (size > Integer.MAX_VALUE)
+                throw new SerializationException(String.format("Message size of %s exceeds allocatable space", size));
 
-            return encodedMessage;
+            return output.end();
         } catch (Exception ex) {
-            if (encodedMessage != null) ReferenceCountUtil.release(encodedMessage);
+            output.discard();
 
             logger.warn("Response [{}] could not be serialized by {}.", responseMessage.toString(), GryoMessageSerializerV1d0.class.getName());
             throw new SerializationException(ex);
@@ -261,9 +267,9 @@ public final class GryoMessageSerializerV1d0 implements MessageSerializer {
     public RequestMessage deserializeRequest(final ByteBuf msg) throws SerializationException {
         try {
             final Kryo kryo = kryoThreadLocal.get();
-            final byte[] payload = new byte[msg.readableBytes()];
-            msg.readBytes(payload);
-            try (final Input input = new Input(payload)) {
+            final ByteBufInput input = inputThreadLocal.get();
+            input.begin(msg);
+            try {
                 // by the time the message gets here, the mime length/type have been already read, so this part just
                 // needs to process the payload.
                 final UUID id = kryo.readObject(input, UUID.class);
@@ -277,6 +283,8 @@ public final class GryoMessageSerializerV1d0 implements MessageSerializer {
                 final Map<String, Object> args = kryo.readObject(input, HashMap.class);
                 args.forEach(builder::addArg);
                 return builder.create();
+            } finally {
+                input.end();
             }
         } catch (Exception ex) {
             logger.warn("Request [{}] could not be deserialized by {}.", msg, GryoMessageSerializerV1d0.class.getName());
@@ -286,32 +294,26 @@ public final class GryoMessageSerializerV1d0 implements MessageSerializer {
 
     @Override
     public ByteBuf serializeRequestAsBinary(final RequestMessage requestMessage, final ByteBufAllocator allocator) throws SerializationException {
-        ByteBuf encodedMessage = null;
+        final ByteBufOutput output = outputThreadLocal.get();
+        output.begin(allocator);
         try {
             final Kryo kryo = kryoThreadLocal.get();
-            try (final ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-                final Output output = new Output(baos, bufferSize);
-                final String mimeType = serializeToString ? MIME_TYPE_STRINGD : MIME_TYPE;
-                output.writeByte(mimeType.length());
-                output.write(mimeType.getBytes(UTF8));
-
-                kryo.writeObject(output, requestMessage.getRequestId());
-                output.writeString(requestMessage.getProcessor());
-                output.writeString(requestMessage.getOp());
-                kryo.writeObject(output, requestMessage.getArgs());
-
-                final long size = output.total();
-                if (size > Integer.MAX_VALUE)
-                    throw new SerializationException(String.format("Message size of %s exceeds allocatable space", size));
-
-                output.flush();
-                encodedMessage = allocator.buffer((int) size);
-                encodedMessage.writeBytes(baos.toByteArray());
-            }
+            final String mimeType = serializeToString ? MIME_TYPE_STRINGD : MIME_TYPE;
+            output.writeByte(mimeType.length());
+            output.write(mimeType.getBytes(UTF8));
+
+            kryo.writeObject(output, requestMessage.getRequestId());
+            output.writeString(requestMessage.getProcessor());
+            output.writeString(requestMessage.getOp());
+            kryo.writeObject(output, requestMessage.getArgs());
+
+            final long size = output.total();
+            if (size > Integer.MAX_VALUE)
+                throw new SerializationException(String.format("Message size of %s exceeds allocatable space", size));
 
-            return encodedMessage;
+            return output.end();
         } catch (Exception ex) {
-            if (encodedMessage != null) ReferenceCountUtil.release(encodedMessage);
+            output.discard();
 
             logger.warn("Request [{}] could not be serialized by {}.", requestMessage.toString(), GryoMessageSerializerV1d0.class.getName());
             throw new SerializationException(ex);
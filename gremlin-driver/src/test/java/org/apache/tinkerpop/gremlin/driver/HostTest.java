@@ -23,6 +23,8 @@ import org.junit.Test;
 import java.net.InetSocketAddress;
 import java.net.URI;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.junit.Assert.assertEquals;
 
 /**
@@ -38,4 +40,47 @@ public class HostTest {
         assertEquals("ws://localhost:8182/gremlin", webSocketUri.toString());
     }
 
+    @Test
+    public void shouldTakeLatencySpikesAtOnceAndDecayThem() {
+        final Cluster cluster = Cluster.open();
+        final Host host = new Host(new InetSocketAddress("localhost", 8182), cluster);
+        assertEquals(0, host.getInFlightRequests());
+        assertEquals(0d, host.getLatency(), 0d);
+
+        host.requestStarted();
+        host.requestStarted();
+        assertEquals(2, host.getInFlightRequests());
+
+        host.requestCompleted(1000000);
+        assertEquals(1, host.getInFlightRequests());
+        assertEquals(1000000d, host.getLatency(), 1000d);
+
+        // a faster response only moves the latency a little way down
+        host.requestCompleted(1000);
+        assertEquals(0, host.getInFlightRequests());
+        assertThat(host.getLatency(), greaterThan(990000d));
+
+        cluster.close();
+    }
+
+    @Test
+    public void shouldDecayLatencySpikeAfterIdlePeriodFromTheSpike() {
+        final Cluster cluster = Cluster.open();
+        final Host host = new Host(new InetSocketAddress("localhost", 8182), cluster);
+        host.requestStarted();
+        host.requestCompleted(1000);
+
+        // nothing completes for several decay periods and then a slow response arrives
+        host.latencyStamp = System.nanoTime() - (long) (Host.LATENCY_DECAY * 5);
+        host.requestStarted();
+        host.requestStarted();
+        host.requestCompleted(1000000);
+
+        // the idle period came before the spike so a fast response right after it barely moves the latency
+        host.requestCompleted(1000);
+        assertThat(host.getLatency(), greaterThan(990000d));
+
+        cluster.close();
+    }
+
 }
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.driver;
+
+import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+public class LoadBalancingStrategyTest {
+
+    private final RequestMessage msg = RequestMessage.build(Tokens.OPS_EVAL).create();
+
+    private Cluster cluster;
+    private Host fast;
+    private Host slow;
+
+    @Before
+    public void setup() {
+        cluster = Cluster.open();
+        fast = new Host(new InetSocketAddress("localhost", 8182), cluster);
+        slow = new Host(new InetSocketAddress("localhost", 8183), cluster);
+    }
+
+    @After
+    public void tearDown() {
+        cluster.close();
+    }
+
+    @Test
+    public void shouldReturnEveryHostOnce() {
+        final Host other = new Host(new InetSocketAddress("localhost", 8184), cluster);
+        final LoadBalancingStrategy strategy = new LoadBalancingStrategy.LatencyAware();
+        strategy.initialize(cluster, Arrays.asList(fast, slow, other));
+
+        for (int i = 0; i < 100; i++) {
+            final List<Host> hosts = IteratorUtils.list(strategy.select(msg));
+            assertEquals(3, hosts.size());
+            assertEquals(new HashSet<>(Arrays.asList(fast, slow, other)), new HashSet<>(hosts));
+        }
+    }
+
+    @Test
+    public void shouldAvoidHostWithLatencySpike() {
+        fast.requestStarted();
+        fast.requestCompleted(1000000);
+        slow.requestStarted();
+        slow.requestCompleted(1000000000);
+
+        final LoadBalancingStrategy strategy = new LoadBalancingStrategy.LatencyAware();
+        strategy.initialize(cluster, Arrays.asList(fast, slow));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(fast, strategy.select(msg).next());
+        }
+    }
+
+    @Test
+    public void shouldAvoidHostWithMoreRequestsInFlight() {
+        slow.requestStarted();
+        slow.requestStarted();
+
+        final LoadBalancingStrategy strategy = new LoadBalancingStrategy.LatencyAware();
+        strategy.initialize(cluster, Arrays.asList(fast, slow));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(fast, strategy.select(msg).next());
+        }
+    }
+
+    @Test
+    public void shouldNotSelectUnavailableHost() {
+        final LoadBalancingStrategy strategy = new LoadBalancingStrategy.LatencyAware();
+        strategy.initialize(cluster, Arrays.asList(fast, slow));
+        strategy.onUnavailable(fast);
+
+        final List<Host> hosts = IteratorUtils.list(strategy.select(msg));
+        assertEquals(1, hosts.size());
+        assertFalse(hosts.contains(fast));
+
+        strategy.onAvailable(fast);
+        assertTrue(IteratorUtils.list(strategy.select(msg)).contains(fast));
+    }
+}
@@ -18,14 +18,25 @@
  */
 package org.apache.tinkerpop.gremlin.driver;
 
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.tinkerpop.gremlin.driver.message.ResponseMessage;
+import org.apache.tinkerpop.gremlin.driver.message.ResponseStatusCode;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -285,4 +296,104 @@ public class ResultQueueTest extends AbstractResultQueueTest {
             t.interrupt();
         }
     }
+
+    @Test
+    public void shouldGrantCreditOnceHalfThePagesAreConsumed() {
+        final List<Integer> grants = new ArrayList<>();
+        final ResultQueue queue = new ResultQueue(new LinkedBlockingQueue<>(), new CompletableFuture<>(), 2, 4, grants::add);
+        receivePages(queue, 4, 2);
+        assertThat(grants.isEmpty(), is(true));
+
+        assertEquals(3, queue.await(3).join().size());
+        assertThat(grants.isEmpty(), is(true));
+
+        assertEquals(2, queue.await(2).join().size());
+        assertEquals(Collections.singletonList(2), grants);
+
+        receivePages(queue, 2, 2);
+        final List<Result> drained = new ArrayList<>();
+        queue.drainTo(drained);
+        assertEquals(7, drained.size());
+        assertEquals(Arrays.asList(2, 4), grants);
+    }
+
+    @Test
+    public void shouldGrantEnoughCreditToSatisfyWaitingRequest() {
+        final List<Integer> grants = new ArrayList<>();
+        final ResultQueue queue = new ResultQueue(new LinkedBlockingQueue<>(), new CompletableFuture<>(), 2, 2, grants::add);
+        receivePages(queue, 2, 2);
+
+        final CompletableFuture<List<Result>> tenResults = queue.await(10);
+        assertThat(tenResults.isDone(), is(false));
+        assertEquals(Collections.singletonList(3), grants);
+
+        receivePages(queue, 3, 2);
+        assertEquals(10, tenResults.join().size());
+    }
+
+    @Test
+    public void shouldTrackTimeServerWaitsForCredit() throws Exception {
+        final List<Integer> grants = new ArrayList<>();
+        final ResultQueue queue = new ResultQueue(new LinkedBlockingQueue<>(), new CompletableFuture<>(), 2, 2, grants::add);
+        receivePages(queue, 1, 2);
+        assertEquals(0, queue.getCreditWaitNanos());
+
+        // all the credit is used up so the server waits until the client consumes enough to grant more
+        receivePages(queue, 1, 2);
+        Thread.sleep(50);
+        assertEquals(0, queue.getCreditWaitNanos());
+        queue.drainTo(new ArrayList<>());
+        assertEquals(Collections.singletonList(2), grants);
+        assertThat(queue.getCreditWaitNanos(), greaterThan(TimeUnit.MILLISECONDS.toNanos(40)));
+
+        // the final page uses up the credit too but that is not a wait on the client
+        final long waited = queue.getCreditWaitNanos();
+        receivePages(queue, 2, 2);
+        queue.markComplete();
+        assertEquals(waited, queue.getCreditWaitNanos());
+    }
+
+    @Test
+    public void shouldNotGrantCreditAfterFlowControlIsLifted() {
+        final List<Integer> grants = new ArrayList<>();
+        final ResultQueue queue = new ResultQueue(new LinkedBlockingQueue<>(), new CompletableFuture<>(), 2, 2, grants::add);
+        queue.grantAll();
+        receivePages(queue, 10, 2);
+        queue.drainTo(new ArrayList<>());
+        queue.grantAll();
+        assertEquals(Collections.singletonList(Integer.MAX_VALUE), grants);
+    }
+
+    @Test
+    public void shouldNotAddResultsOfPagesHandedOverAsTheyWereDecoded() {
+        final UUID requestId = UUID.randomUUID();
+        final ResultQueue queue = new ResultQueue(new LinkedBlockingQueue<>(), new CompletableFuture<>());
+        final ConcurrentMap<UUID, ResultQueue> pending = new ConcurrentHashMap<>();
+        pending.put(requestId, queue);
+        final EmbeddedChannel channel = new EmbeddedChannel(new Handler.GremlinResponseHandler(pending));
+
+        // both pages are decoded before the handler gets to either of them
+        final Consumer<Object> first = queue.decodePage();
+        first.accept("a");
+        first.accept("b");
+        final Consumer<Object> second = queue.decodePage();
+        second.accept("c");
+        channel.writeInbound(ResponseMessage.build(requestId).code(ResponseStatusCode.PARTIAL_CONTENT).resultHandedOver(true).create());
+        channel.writeInbound(ResponseMessage.build(requestId).code(ResponseStatusCode.PARTIAL_CONTENT).resultHandedOver(true).create());
+        channel.writeInbound(ResponseMessage.build(requestId).code(ResponseStatusCode.SUCCESS).result(Collections.singletonList("d")).create());
+
+        final List<Result> drained = new ArrayList<>();
+        queue.drainTo(drained);
+        assertEquals(Arrays.asList("a", "b", "c", "d"), drained.stream().map(Result::getString).collect(Collectors.toList()));
+        assertThat(pending.isEmpty(), is(true));
+    }
+
+    private static void receivePages(final ResultQueue queue, final int pages, final int pageSize) {
+        for (int ix = 0; ix < pages; ix++) {
+            queue.pageReceived();
+            for (int iy = 0; iy < pageSize; iy++) {
+                queue.add(new Result("test-" + ix + "-" + iy));
+            }
+        }
+    }
 }
@@ -40,8 +40,10 @@ import org.junit.Test;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.Assert.*;
@@ -285,6 +287,45 @@ public class GraphSONMessageSerializerGremlinV1d0Test {
         assertEquals("worked", deserialized.getStatus().getMessage());
     }
 
+    @Test
+    public void shouldHandOverResultsWithEmbeddedTypesAsTheyAreDeserialized() throws Exception {
+        final List<Object> page = new ArrayList<>();
+        page.add(1l);
+        page.add("x");
+        final Map<String, Object> map = new HashMap<>();
+        map.put("a", 2);
+        page.add(map);
+
+        final ByteBuf bb = serializer.serializeResponseAsBinary(responseMessageBuilder.result(page).create(), allocator);
+        final List<Object> handedOver = new ArrayList<>();
+        final ResponseMessage response = serializer.deserializeResponse(bb, requestId -> handedOver::add);
+        assertCommon(response);
+
+        assertNull(response.getResult().getData());
+        assertTrue(response.isResultHandedOver());
+        assertEquals(3, handedOver.size());
+        assertEquals(1l, handedOver.get(0));
+        assertEquals("x", handedOver.get(1));
+        assertEquals(2, ((Map<String, Object>) handedOver.get(2)).get("a"));
+    }
+
+    @Test
+    public void shouldSerializeSetWithEmbeddedTypes() throws Exception {
+        final Set<Long> set = new HashSet<>();
+        set.add(1l);
+        set.add(100l);
+
+        final ByteBuf bb = serializer.serializeResponseAsBinary(responseMessageBuilder.result(set).create(), allocator);
+        final ResponseMessage response = serializer.deserializeResponse(bb, requestId -> {
+            fail("A result that is not a list should not be handed over");
+            return null;
+        });
+        assertCommon(response);
+
+        assertEquals(set, response.getResult().getData());
+        assertFalse(response.isResultHandedOver());
+    }
+
     private void assertCommon(final ResponseMessage response) {
         assertEquals(requestId, response.getRequestId());
         assertEquals(ResponseStatusCode.SUCCESS, response.getStatus().getCode());
@@ -35,16 +35,21 @@ import org.apache.tinkerpop.shaded.jackson.databind.JsonNode;
 import org.apache.tinkerpop.shaded.jackson.databind.ObjectMapper;
 import org.apache.tinkerpop.shaded.jackson.databind.node.NullNode;
 import org.apache.tinkerpop.shaded.jackson.databind.util.StdDateFormat;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 /**
@@ -374,6 +379,50 @@ public class GraphSONMessageSerializerV1d0Test {
         assertEquals("worked", deserialized.getStatus().getMessage());
     }
 
+    @Test
+    public void shouldHandOverResultsAsTheyAreDeserialized() throws Exception {
+        final UUID id = UUID.randomUUID();
+        final List<Object> page = new ArrayList<>();
+        page.add("x");
+        page.add(1);
+        page.add(null);
+
+        final ResponseMessage response = ResponseMessage.build(id)
+                .code(ResponseStatusCode.PARTIAL_CONTENT)
+                .result(page)
+                .create();
+
+        final ByteBuf bb = SERIALIZER.serializeResponseAsBinary(response, UnpooledByteBufAllocator.DEFAULT);
+        final List<Object> handedOver = new ArrayList<>();
+        final ResponseMessage deserialized = SERIALIZER.deserializeResponse(bb, requestId -> {
+            assertEquals(id, requestId);
+            return handedOver::add;
+        });
+
+        assertEquals(id, deserialized.getRequestId());
+        assertEquals(ResponseStatusCode.PARTIAL_CONTENT, deserialized.getStatus().getCode());
+        assertNull(deserialized.getResult().getData());
+        assertTrue(deserialized.isResultHandedOver());
+        assertEquals(page, handedOver);
+    }
+
+    @Test
+    public void shouldNotHandOverResultsOfError() throws Exception {
+        final ResponseMessage response = ResponseMessage.build(msg)
+                .code(ResponseStatusCode.SERVER_ERROR)
+                .statusMessage("oops")
+                .create();
+
+        final ByteBuf bb = SERIALIZER.serializeResponseAsBinary(response, UnpooledByteBufAllocator.DEFAULT);
+        final ResponseMessage deserialized = SERIALIZER.deserializeResponse(bb, requestId -> {
+            fail("Results of an error should not be handed over");
+            return null;
+        });
+
+        assertEquals(ResponseStatusCode.SERVER_ERROR, deserialized.getStatus().getCode());
+        assertEquals("oops", deserialized.getStatus().getMessage());
+    }
+
     private class FunObject {
         private String val;
 
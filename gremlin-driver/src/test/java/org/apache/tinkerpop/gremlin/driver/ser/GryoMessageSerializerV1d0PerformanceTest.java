@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.driver.ser;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.apache.tinkerpop.gremlin.driver.MessageSerializer;
+import org.apache.tinkerpop.gremlin.driver.message.ResponseMessage;
+import org.apache.tinkerpop.gremlin.driver.message.ResponseStatusCode;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoMapper;
+import org.apache.tinkerpop.shaded.kryo.Kryo;
+import org.apache.tinkerpop.shaded.kryo.io.Output;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compares the heap allocated per response page by {@link GryoMessageSerializerV1d0}, which writes straight into
+ * buffers from the allocator, with serializing to a {@code byte[]} and copying it into a {@code ByteBuf}, which is
+ * how responses were written before.
+ *
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+@RunWith(Parameterized.class)
+public class GryoMessageSerializerV1d0PerformanceTest {
+    private static final Logger logger = LoggerFactory.getLogger(GryoMessageSerializerV1d0PerformanceTest.class);
+
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 200;
+
+    @Parameterized.Parameters(name = "allocator={0},pageSize={1}")
+    public static Iterable<Object[]> data() {
+        return Arrays.asList(new Object[][]{
+                {"unpooled-heap", 64}, {"unpooled-heap", 65536},
+                {"pooled-direct", 64}, {"pooled-direct", 65536}});
+    }
+
+    @Parameterized.Parameter(value = 0)
+    public String allocatorName;
+
+    @Parameterized.Parameter(value = 1)
+    public int pageSize;
+
+    @Test
+    public void shouldAllocateLessPerResponseThanCopyingFromByteArray() throws Exception {
+        final ByteBufAllocator allocator = allocatorName.equals("pooled-direct") ?
+                new PooledByteBufAllocator(true) : UnpooledByteBufAllocator.DEFAULT;
+        final List<String> page = new ArrayList<>();
+        for (int ix = 0; ix < pageSize; ix++) {
+            page.add("result-" + ix);
+        }
+        final ResponseMessage response = ResponseMessage.build(UUID.randomUUID())
+                .code(ResponseStatusCode.SUCCESS)
+                .result(page)
+                .create();
+
+        final MessageSerializer serializer = new GryoMessageSerializerV1d0();
+        final Kryo kryo = GryoMapper.build().create().createMapper();
+
+        final long direct = allocatedPerResponse(() -> serializer.serializeResponseAsBinary(response, allocator));
+        final long copying = allocatedPerResponse(() -> serializeByCopying(kryo, response, allocator));
+
+        logger.info("allocator={}, pageSize={} - {} bytes allocated per response versus {} bytes when copying from a byte[]",
+                allocatorName, pageSize, direct, copying);
+        assertTrue(direct < copying);
+    }
+
+    private static long allocatedPerResponse(final ResponseWriter writer) throws Exception {
+        for (int ix = 0; ix < WARMUP; ix++) {
+            writer.write().release();
+        }
+
+        final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long threadId = Thread.currentThread().getId();
+        final long start = threads.getThreadAllocatedBytes(threadId);
+        for (int ix = 0; ix < ITERATIONS; ix++) {
+            writer.write().release();
+        }
+        return (threads.getThreadAllocatedBytes(threadId) - start) / ITERATIONS;
+    }
+
+    private static ByteBuf serializeByCopying(final Kryo kryo, final ResponseMessage responseMessage,
+                                              final ByteBufAllocator allocator) throws Exception {
+        try (final ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+            final Output output = new Output(baos, 4096);
+            kryo.writeObjectOrNull(output, responseMessage.getRequestId(), UUID.class);
+            output.writeShort(responseMessage.getStatus().getCode().getValue());
+            output.writeString(responseMessage.getStatus().getMessage());
+            kryo.writeClassAndObject(output, responseMessage.getStatus().getAttributes());
+            kryo.writeClassAndObject(output, responseMessage.getResult().getData());
+            kryo.writeClassAndObject(output, responseMessage.getResult().getMeta());
+
+            final long size = output.total();
+            output.flush();
+            final ByteBuf encodedMessage = allocator.buffer((int) size);
+            encodedMessage.writeBytes(baos.toByteArray());
+            return encodedMessage;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ResponseWriter {
+        ByteBuf write() throws Exception;
+    }
+}
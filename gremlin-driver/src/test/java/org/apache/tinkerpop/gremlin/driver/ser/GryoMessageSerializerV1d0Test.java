@@ -35,6 +35,8 @@ import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.UnpooledByteBufAllocator;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 import org.apache.tinkerpop.shaded.jackson.databind.util.StdDateFormat;
@@ -409,6 +411,59 @@ public class GryoMessageSerializerV1d0Test {
         assertEquals(82, buf.readableBytes());
     }
 
+    @Test
+    public void shouldSerializeLargeResponseMessageToPooledDirectBuffers() throws Exception {
+        final List<String> page = new ArrayList<>();
+        for (int ix = 0; ix < 100000; ix++) {
+            page.add("result-" + ix);
+        }
+
+        final ByteBufAllocator pooled = new PooledByteBufAllocator(true);
+        final ResponseMessage response = ResponseMessage.build(requestId)
+                .code(ResponseStatusCode.SUCCESS)
+                .result(page)
+                .create();
+
+        final ByteBuf bb = binarySerializer.serializeResponseAsBinary(response, pooled);
+        try {
+            assertThat(bb, instanceOf(CompositeByteBuf.class));
+            assertTrue(bb.isDirect());
+
+            final ResponseMessage deserialized = binarySerializer.deserializeResponse(bb);
+            assertEquals(requestId, deserialized.getRequestId());
+            assertEquals(page, deserialized.getResult().getData());
+            assertEquals(0, bb.readableBytes());
+        } finally {
+            bb.release();
+        }
+    }
+
+    @Test
+    public void shouldSerializeRequestMessageToPooledDirectBuffer() throws Exception {
+        final UUID id = UUID.randomUUID();
+
+        final RequestMessage request = RequestMessage.build("try")
+                .overrideRequestId(id)
+                .processor("pro")
+                .addArg("test", "this")
+                .create();
+
+        final ByteBuf bb = binarySerializer.serializeRequestAsBinary(request, new PooledByteBufAllocator(true));
+        try {
+            assertTrue(bb.isDirect());
+            final int mimeLen = bb.readByte();
+            bb.readBytes(new byte[mimeLen]);
+            final RequestMessage deserialized = binarySerializer.deserializeRequest(bb);
+
+            assertEquals(id, deserialized.getRequestId());
+            assertEquals("pro", deserialized.getProcessor());
+            assertEquals("try", deserialized.getOp());
+            assertEquals("this", deserialized.getArgs().get("test"));
+        } finally {
+            bb.release();
+        }
+    }
+
     @Test
     public void shouldSerializeFullRequestMessage() throws Exception {
         final UUID id = UUID.randomUUID();
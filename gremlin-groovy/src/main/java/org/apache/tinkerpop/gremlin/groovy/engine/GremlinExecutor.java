@@ -43,6 +43,7 @@ import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.FutureTask;
@@ -241,6 +242,21 @@ public class GremlinExecutor implements AutoCloseable {
      * @param lifeCycle a set of functions that can be applied at various stages of the evaluation process
      */
     public CompletableFuture<Object> eval(final String script, final String language, final Bindings boundVars,  final LifeCycle lifeCycle) {
+        return eval(executorService, script, language, boundVars, lifeCycle);
+    }
+
+    /**
+     * Evaluate a script on the specified {@code Executor} rather than the one the {@code GremlinExecutor} was built
+     * with, allowing for the submission of alteration to the entire evaluation execution lifecycle.
+     *
+     * @param executor the executor to evaluate the script on
+     * @param script the script to evaluate
+     * @param language the language to evaluate it in
+     * @param boundVars the bindings to evaluate in the context of the script
+     * @param lifeCycle a set of functions that can be applied at various stages of the evaluation process
+     */
+    public CompletableFuture<Object> eval(final Executor executor, final String script, final String language,
+                                          final Bindings boundVars, final LifeCycle lifeCycle) {
         final String lang = Optional.ofNullable(language).orElse("gremlin-groovy");
 
         logger.debug("Preparing to evaluate script - {} - in thread [{}]", script, Thread.currentThread().getName());
@@ -287,7 +303,7 @@ public class GremlinExecutor implements AutoCloseable {
             return null;
         });
 
-        executorService.execute(f);
+        executor.execute(f);
 
         if (scriptEvaluationTimeout > 0) {
             // Schedule a timeout in the thread pool for future execution
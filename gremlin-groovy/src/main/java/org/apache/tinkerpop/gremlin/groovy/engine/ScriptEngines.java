@@ -108,6 +108,13 @@ public class ScriptEngines implements AutoCloseable {
         return scriptEngines.get(language).eval(reader, bindings);
     }
 
+    /**
+     * Gets the {@code ScriptEngine} currently configured for a language.
+     */
+    public Optional<ScriptEngine> get(final String language) {
+        return Optional.ofNullable(scriptEngines.get(language));
+    }
+
     /**
      * Compiles a script without executing it.
      *
@@ -23,6 +23,7 @@ import org.apache.tinkerpop.gremlin.groovy.DefaultImportCustomizerProvider;
 import org.apache.tinkerpop.gremlin.groovy.EmptyImportCustomizerProvider;
 import org.apache.tinkerpop.gremlin.groovy.ImportCustomizerProvider;
 import org.apache.tinkerpop.gremlin.groovy.NoImportCustomizerProvider;
+import org.apache.tinkerpop.gremlin.groovy.jsr223.customizer.CompilationOptionsCustomizerProvider;
 import org.apache.tinkerpop.gremlin.groovy.loaders.GremlinLoader;
 import org.apache.tinkerpop.gremlin.groovy.plugin.Artifact;
 import org.apache.tinkerpop.gremlin.groovy.plugin.GremlinPlugin;
@@ -64,11 +65,14 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -135,9 +139,20 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl implements
     };
 
     /**
-     * Script to generated Class map.
+     * The number of compiled scripts held by the engine when it is not configured with a
+     * {@link CompilationOptionsCustomizerProvider}.
      */
-    private ManagedConcurrentValueMap<String, Class> classMap = new ManagedConcurrentValueMap<>(ReferenceBundle.getSoftBundle());
+    public static final int DEFAULT_CLASS_MAP_CACHE_SIZE = 10000;
+
+    /**
+     * Script to generated Class map, bounded so that scripts are evicted one at a time as they fall out of use
+     * rather than all at once when memory runs short.  Access is guarded by synchronizing on the map.
+     */
+    private final ClassMap classMap;
+
+    private final LongAdder classMapHits = new LongAdder();
+    private final LongAdder classMapMisses = new LongAdder();
+    private final LongAdder compilationTime = new LongAdder();
 
     /**
      * Global closures map - this is used to simulate a single global functions namespace
@@ -193,9 +208,14 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl implements
                 .map(p -> (ImportCustomizerProvider) p)
                 .findFirst().orElse(NoImportCustomizerProvider.INSTANCE);
 
+        classMap = new ClassMap(providers.stream()
+                .filter(p -> p instanceof CompilationOptionsCustomizerProvider)
+                .map(p -> ((CompilationOptionsCustomizerProvider) p).getClassMapCacheSize())
+                .findFirst().orElse(DEFAULT_CLASS_MAP_CACHE_SIZE));
+
         // remove used providers as the rest will be applied directly
         customizerProviders = providers.stream()
-                .filter(p -> p != null && !(p instanceof ImportCustomizerProvider))
+                .filter(p -> p != null && !(p instanceof ImportCustomizerProvider) && !(p instanceof CompilationOptionsCustomizerProvider))
                 .collect(Collectors.toList());
 
         createClassLoader();
@@ -319,7 +339,9 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl implements
 
         // must clear the local cache here because the the classloader has been reset.  therefore, classes previously
         // referenced before that might not have evaluated might cleanly evaluate now.
-        classMap.clear();
+        synchronized (classMap) {
+            classMap.clear();
+        }
         globalClosures.clear();
 
         loadedPlugins.clear();
@@ -441,17 +463,68 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl implements
         return makeInterface(thiz, clazz);
     }
 
+    /**
+     * Gets the number of script evaluations and compilations that found the class of the script already compiled.
+     */
+    public long getClassCacheHitCount() {
+        return classMapHits.sum();
+    }
+
+    /**
+     * Gets the number of script evaluations and compilations that had to compile the script.
+     */
+    public long getClassCacheMissCount() {
+        return classMapMisses.sum();
+    }
+
+    /**
+     * Gets the number of compiled scripts evicted to keep the cache within its configured size.
+     */
+    public long getClassCacheEvictionCount() {
+        return classMap.evictions.sum();
+    }
+
+    /**
+     * Gets the number of compiled scripts currently held.
+     */
+    public int getClassCacheSize() {
+        synchronized (classMap) {
+            return classMap.size();
+        }
+    }
+
+    /**
+     * Gets the total time in milliseconds spent compiling scripts.
+     */
+    public long getClassCacheTotalCompilationTime() {
+        return TimeUnit.NANOSECONDS.toMillis(compilationTime.sum());
+    }
+
     Class getScriptClass(final String script) throws SyntaxException, CompilationFailedException, IOException {
-        Class clazz = classMap.get(script);
-        if (clazz != null) return clazz;
+        synchronized (classMap) {
+            final Class clazz = classMap.get(script);
+            if (clazz != null) {
+                classMapHits.increment();
+                return clazz;
+            }
+        }
 
-        clazz = loader.parseClass(script, generateScriptName());
-        classMap.put(script, clazz);
+        // compile outside of the lock so that evaluations of other scripts do not wait on it
+        classMapMisses.increment();
+        final long start = System.nanoTime();
+        final Class clazz = loader.parseClass(script, generateScriptName());
+        compilationTime.add(System.nanoTime() - start);
+
+        synchronized (classMap) {
+            classMap.put(script, clazz);
+        }
         return clazz;
     }
 
     boolean isCached(final String script) {
-        return classMap.get(script) != null;
+        synchronized (classMap) {
+            return classMap.containsKey(script);
+        }
     }
 
     Object eval(final Class scriptClass, final ScriptContext context) throws ScriptException {
@@ -620,6 +693,26 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl implements
         return groovy.lang.Script.class.getClassLoader();
     }
 
+    /**
+     * A least recently used map of scripts to their compiled classes.
+     */
+    private static final class ClassMap extends LinkedHashMap<String, Class> {
+        private final int maximumSize;
+        private final LongAdder evictions = new LongAdder();
+
+        private ClassMap(final int maximumSize) {
+            super(16, 0.75f, true);
+            this.maximumSize = maximumSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, Class> eldest) {
+            if (size() <= maximumSize) return false;
+            evictions.increment();
+            return true;
+        }
+    }
+
     private String readFully(final Reader reader) throws ScriptException {
         final char arr[] = new char[8192];
         final StringBuilder buf = new StringBuilder();
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.groovy.jsr223.customizer;
+
+import org.apache.tinkerpop.gremlin.groovy.CompilerCustomizerProvider;
+import org.apache.tinkerpop.gremlin.groovy.jsr223.GremlinGroovyScriptEngine;
+import org.codehaus.groovy.ast.ClassNode;
+import org.codehaus.groovy.classgen.GeneratorContext;
+import org.codehaus.groovy.control.CompilationFailedException;
+import org.codehaus.groovy.control.CompilePhase;
+import org.codehaus.groovy.control.SourceUnit;
+import org.codehaus.groovy.control.customizers.CompilationCustomizer;
+
+/**
+ * Configures how the {@link GremlinGroovyScriptEngine} holds the classes it compiles from scripts.  The engine reads
+ * these options when it is constructed, so the {@code CompilationCustomizer} this provider creates leaves the
+ * compilation itself untouched.
+ *
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+public class CompilationOptionsCustomizerProvider implements CompilerCustomizerProvider {
+
+    private final int classMapCacheSize;
+
+    public CompilationOptionsCustomizerProvider() {
+        this(GremlinGroovyScriptEngine.DEFAULT_CLASS_MAP_CACHE_SIZE);
+    }
+
+    /**
+     * @param classMapCacheSize the number of compiled scripts to hold, beyond which the least recently used is
+     *                          evicted
+     */
+    public CompilationOptionsCustomizerProvider(final Integer classMapCacheSize) {
+        if (classMapCacheSize < 1) throw new IllegalArgumentException("classMapCacheSize must be greater than zero");
+        this.classMapCacheSize = classMapCacheSize;
+    }
+
+    public int getClassMapCacheSize() {
+        return classMapCacheSize;
+    }
+
+    @Override
+    public CompilationCustomizer create() {
+        return new CompilationCustomizer(CompilePhase.CONVERSION) {
+            @Override
+            public void call(final SourceUnit sourceUnit, final GeneratorContext generatorContext,
+                             final ClassNode classNode) throws CompilationFailedException {
+                // options are applied by the engine rather than to the compiled class
+            }
+        };
+    }
+}
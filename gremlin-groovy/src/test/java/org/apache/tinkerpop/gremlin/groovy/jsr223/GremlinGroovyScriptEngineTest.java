@@ -19,9 +19,13 @@
 package org.apache.tinkerpop.gremlin.groovy.jsr223;
 
 import groovy.lang.Closure;
+import groovy.lang.GroovyShell;
+import org.apache.tinkerpop.gremlin.groovy.DefaultImportCustomizerProvider;
 import org.apache.tinkerpop.gremlin.groovy.NoImportCustomizerProvider;
+import org.apache.tinkerpop.gremlin.groovy.jsr223.customizer.CompilationOptionsCustomizerProvider;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+import org.codehaus.groovy.control.CompilerConfiguration;
 import org.junit.Test;
 
 import javax.script.Bindings;
@@ -62,6 +66,42 @@ public class GremlinGroovyScriptEngineTest {
         assertFalse(engine.isCached(script));
     }
 
+    @Test
+    public void shouldCountClassCacheHitsAndMisses() throws Exception {
+        final GremlinGroovyScriptEngine engine = new GremlinGroovyScriptEngine();
+        assertEquals(3, engine.eval("1+2"));
+        assertEquals(3, engine.eval("1+2"));
+        assertEquals(4, engine.eval("2+2"));
+
+        assertEquals(1, engine.getClassCacheHitCount());
+        assertEquals(2, engine.getClassCacheMissCount());
+        assertEquals(2, engine.getClassCacheSize());
+        assertEquals(0, engine.getClassCacheEvictionCount());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedScriptFromClassCache() throws Exception {
+        final GremlinGroovyScriptEngine engine = new GremlinGroovyScriptEngine(
+                new DefaultImportCustomizerProvider(), new CompilationOptionsCustomizerProvider(2));
+        engine.eval("1+1");
+        engine.eval("1+2");
+        engine.eval("1+1");
+        engine.eval("1+3");
+
+        assertEquals(2, engine.getClassCacheSize());
+        assertEquals(1, engine.getClassCacheEvictionCount());
+        assertTrue(engine.isCached("1+1"));
+        assertFalse(engine.isCached("1+2"));
+        assertTrue(engine.isCached("1+3"));
+    }
+
+    @Test
+    public void shouldCompileWithCustomizerOfCompilationOptions() throws Exception {
+        final CompilerConfiguration conf = new CompilerConfiguration();
+        conf.addCompilationCustomizers(new CompilationOptionsCustomizerProvider(2).create());
+        assertEquals(2, new GroovyShell(conf).evaluate("1+1"));
+    }
+
     @Test
     public void shouldEvalWithNoBindings() throws Exception {
         final GremlinGroovyScriptEngine engine = new GremlinGroovyScriptEngine();
@@ -29,6 +29,7 @@ import org.apache.tinkerpop.gremlin.server.auth.AllowAllAuthenticator;
 import org.apache.tinkerpop.gremlin.server.handler.SaslAuthenticationHandler;
 import org.apache.tinkerpop.gremlin.server.auth.Authenticator;
 import org.apache.tinkerpop.gremlin.server.handler.IteratorHandler;
+import org.apache.tinkerpop.gremlin.server.handler.WritabilityHandler;
 import org.apache.tinkerpop.gremlin.server.handler.OpExecutorHandler;
 import org.apache.tinkerpop.gremlin.server.handler.OpSelectorHandler;
 import io.netty.channel.ChannelInitializer;
@@ -67,6 +68,7 @@ public abstract class AbstractChannelizer extends ChannelInitializer<SocketChann
     protected Optional<SslContext> sslContext;
     protected GraphManager graphManager;
     protected ExecutorService gremlinExecutorService;
+    protected Map<String, ExecutorService> gremlinPools;
     protected ScheduledExecutorService scheduledExecutorService;
 
     protected static final String PIPELINE_SSL = "ssl";
@@ -74,12 +76,14 @@ public abstract class AbstractChannelizer extends ChannelInitializer<SocketChann
     protected static final String PIPELINE_RESULT_ITERATOR_HANDLER = "result-iterator-handler";
     protected static final String PIPELINE_OP_EXECUTOR = "op-executor";
     protected static final String PIPELINE_AUTHENTICATOR = "authenticator";
+    protected static final String PIPELINE_WRITABILITY = "writability";
 
     protected final Map<String, MessageSerializer> serializers = new HashMap<>();
 
     private OpSelectorHandler opSelectorHandler;
     private OpExecutorHandler opExecutorHandler;
     private IteratorHandler iteratorHandler;
+    private WritabilityHandler writabilityHandler;
 
     protected Authenticator authenticator;
 
@@ -103,6 +107,7 @@ public abstract class AbstractChannelizer extends ChannelInitializer<SocketChann
         gremlinExecutor = serverGremlinExecutor.getGremlinExecutor();
         graphManager = serverGremlinExecutor.getGraphManager();
         gremlinExecutorService = serverGremlinExecutor.getGremlinExecutorService();
+        gremlinPools = serverGremlinExecutor.getGremlinPools();
         scheduledExecutorService = serverGremlinExecutor.getScheduledExecutorService();
 
         // instantiate and configure the serializers that gremlin server will use - could error out here
@@ -117,9 +122,10 @@ public abstract class AbstractChannelizer extends ChannelInitializer<SocketChann
         authenticator = createAuthenticator(settings.authentication);
 
         // these handlers don't share any state and can thus be initialized once per pipeline
-        opSelectorHandler = new OpSelectorHandler(settings, graphManager, gremlinExecutor, scheduledExecutorService);
-        opExecutorHandler = new OpExecutorHandler(settings, graphManager, gremlinExecutor, scheduledExecutorService);
+        opSelectorHandler = new OpSelectorHandler(settings, graphManager, gremlinExecutor, scheduledExecutorService, gremlinPools);
+        opExecutorHandler = new OpExecutorHandler(settings, graphManager, gremlinExecutor, scheduledExecutorService, gremlinPools);
         iteratorHandler = new IteratorHandler(settings);
+        writabilityHandler = new WritabilityHandler();
     }
 
     @Override
@@ -136,6 +142,7 @@ public abstract class AbstractChannelizer extends ChannelInitializer<SocketChann
         pipeline.addLast(PIPELINE_OP_SELECTOR, opSelectorHandler);
         pipeline.addLast(PIPELINE_RESULT_ITERATOR_HANDLER, iteratorHandler);
         pipeline.addLast(PIPELINE_OP_EXECUTOR, opExecutorHandler);
+        pipeline.addLast(PIPELINE_WRITABILITY, writabilityHandler);
 
         finalize(pipeline);
     }
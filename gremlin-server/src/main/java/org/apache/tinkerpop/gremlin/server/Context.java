@@ -22,6 +22,9 @@ import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
 import org.apache.tinkerpop.gremlin.groovy.engine.GremlinExecutor;
 import io.netty.channel.ChannelHandlerContext;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 
 /**
@@ -36,16 +39,25 @@ public final class Context {
     private final GraphManager graphManager;
     private final GremlinExecutor gremlinExecutor;
     private final ScheduledExecutorService scheduledExecutorService;
+    private final Map<String, ExecutorService> gremlinPools;
 
     public Context(final RequestMessage requestMessage, final ChannelHandlerContext ctx,
                    final Settings settings, final GraphManager graphManager,
                    final GremlinExecutor gremlinExecutor, final ScheduledExecutorService scheduledExecutorService) {
+        this(requestMessage, ctx, settings, graphManager, gremlinExecutor, scheduledExecutorService, Collections.emptyMap());
+    }
+
+    public Context(final RequestMessage requestMessage, final ChannelHandlerContext ctx,
+                   final Settings settings, final GraphManager graphManager,
+                   final GremlinExecutor gremlinExecutor, final ScheduledExecutorService scheduledExecutorService,
+                   final Map<String, ExecutorService> gremlinPools) {
         this.requestMessage = requestMessage;
         this.channelHandlerContext = ctx;
         this.settings = settings;
         this.graphManager = graphManager;
         this.gremlinExecutor = gremlinExecutor;
         this.scheduledExecutorService = scheduledExecutorService;
+        this.gremlinPools = gremlinPools;
     }
 
     public ScheduledExecutorService getScheduledExecutorService() {
@@ -87,4 +99,11 @@ public final class Context {
     public GremlinExecutor getGremlinExecutor() {
         return gremlinExecutor;
     }
+
+    /**
+     * Gets the Gremlin thread pools configured by {@link Settings#gremlinPools} keyed by their name.
+     */
+    public Map<String, ExecutorService> getGremlinPools() {
+        return gremlinPools;
+    }
 }
@@ -253,6 +253,7 @@ public class GremlinServer {
 
         try {
             gremlinExecutorService.shutdown();
+            serverGremlinExecutor.getGremlinPools().values().forEach(ExecutorService::shutdown);
         } finally {
             logger.debug("Shutdown Gremlin thread pool.");
         }
@@ -282,6 +283,9 @@ public class GremlinServer {
 
             try {
                 gremlinExecutorService.awaitTermination(30000, TimeUnit.MILLISECONDS);
+                for (ExecutorService gremlinPool : serverGremlinExecutor.getGremlinPools().values()) {
+                    gremlinPool.awaitTermination(30000, TimeUnit.MILLISECONDS);
+                }
             } catch (InterruptedException ie) {
                 logger.warn("Timeout waiting for Gremlin thread pool to shutdown - continuing with shutdown process.");
             }
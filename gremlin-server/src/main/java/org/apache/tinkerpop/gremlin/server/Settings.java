@@ -38,6 +38,7 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -92,6 +93,15 @@ public class Settings {
      */
     public int gremlinPool = 8;
 
+    /**
+     * {@link Map} of additional Gremlin thread pools keyed by their name, which isolate the evaluation of the
+     * sessionless requests routed to them from those on the {@link #gremlinPool} and on each other.  A request is
+     * routed to a pool that it names with the {@code pool} argument or to a pool that lists a
+     * {@code Graph} or {@code TraversalSource} the request aliases.  When the aliases of a request are listed by
+     * several pools, the request goes to the first of them in the order they are configured.
+     */
+    public Map<String, GremlinPoolSettings> gremlinPools = new LinkedHashMap<>();
+
     /**
      * Size of the boss thread pool.  Defaults to 1 and should likely stay at 1.  The bossy thread accepts incoming
      * connections on a port until it is unbound. Once a connection is accepted successfully, the boss thread
@@ -116,6 +126,12 @@ public class Settings {
      */
     public int resultIterationBatchSize = 64;
 
+    /**
+     * Time in milliseconds that a result cursor opened with a "cursor" request is kept open without a request to
+     * fetch from it.  Once the time passes the cursor is closed and its results released.  Defaults to 300000.
+     */
+    public long resultCursorTimeout = 300000l;
+
     /**
      * The maximum length of the initial line (e.g. {@code "GET / HTTP/1.0"}) processed in a request, which essentially
      * controls the maximum length of the submitted URI. This setting ties to the Netty {@code HttpRequestDecoder}.
@@ -237,6 +253,7 @@ public class Settings {
         final TypeDescription settingsDescription = new TypeDescription(Settings.class);
         settingsDescription.putMapPropertyType("graphs", String.class, String.class);
         settingsDescription.putMapPropertyType("scriptEngines", String.class, ScriptEngineSettings.class);
+        settingsDescription.putMapPropertyType("gremlinPools", String.class, GremlinPoolSettings.class);
         settingsDescription.putListPropertyType("serializers", SerializerSettings.class);
         settingsDescription.putListPropertyType("plugins", String.class);
         settingsDescription.putListPropertyType("processors", ProcessorSettings.class);
@@ -250,9 +267,14 @@ public class Settings {
         scriptEngineSettingsDescription.putListPropertyType("imports", String.class);
         scriptEngineSettingsDescription.putListPropertyType("staticImports", String.class);
         scriptEngineSettingsDescription.putListPropertyType("scripts", String.class);
+        scriptEngineSettingsDescription.putListPropertyType("warmupScripts", String.class);
         scriptEngineSettingsDescription.putMapPropertyType("config", String.class, Object.class);
         constructor.addTypeDescription(scriptEngineSettingsDescription);
 
+        final TypeDescription gremlinPoolSettingsDescription = new TypeDescription(GremlinPoolSettings.class);
+        gremlinPoolSettingsDescription.putListPropertyType("graphs", String.class);
+        constructor.addTypeDescription(gremlinPoolSettingsDescription);
+
         final TypeDescription sslSettings = new TypeDescription(SslSettings.class);
         constructor.addTypeDescription(sslSettings);
 
@@ -301,6 +323,22 @@ public class Settings {
         public Map<String, Object> config;
     }
 
+    /**
+     * Settings for a Gremlin thread pool in addition to the {@link Settings#gremlinPool}.
+     */
+    public static class GremlinPoolSettings {
+        /**
+         * Size of the thread pool.  Defaults to 4.
+         */
+        public int size = 4;
+
+        /**
+         * The names of the {@code Graph} and {@code TraversalSource} instances from the global bindings whose
+         * aliased requests are evaluated on this pool.
+         */
+        public List<String> graphs = new ArrayList<>();
+    }
+
     /**
      * Settings for the {@code ScriptEngine}.
      */
@@ -324,6 +362,13 @@ public class Settings {
          */
         public List<String> scripts = new ArrayList<>();
 
+        /**
+         * A list of Gremlin scripts to compile, but not evaluate, once the {@code ScriptEngine} is initialized so
+         * that the first requests to send them do not wait on their compilation.  The scripts must match those the
+         * clients send exactly for them to be found compiled.
+         */
+        public List<String> warmupScripts = new ArrayList<>();
+
         /**
          * A Map of configuration settings for the {@code ScriptEngine}. These settings are dependent on the
          * {@code ScriptEngine} implementation being used.
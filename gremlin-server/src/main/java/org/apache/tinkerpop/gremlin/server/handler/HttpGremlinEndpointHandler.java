@@ -25,36 +25,44 @@ import org.apache.tinkerpop.gremlin.driver.Tokens;
 import org.apache.tinkerpop.gremlin.driver.message.ResponseMessage;
 import org.apache.tinkerpop.gremlin.driver.message.ResponseStatusCode;
 import org.apache.tinkerpop.gremlin.driver.ser.MessageTextSerializer;
+import org.apache.tinkerpop.gremlin.driver.ser.SerializationException;
 import org.apache.tinkerpop.gremlin.groovy.engine.GremlinExecutor;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSource;
 import org.apache.tinkerpop.gremlin.server.GraphManager;
 import org.apache.tinkerpop.gremlin.server.GremlinServer;
+import org.apache.tinkerpop.gremlin.server.Settings;
 import org.apache.tinkerpop.gremlin.server.util.MetricManager;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.util.function.FunctionUtils;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpResponse;
 import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.LastHttpContent;
 import io.netty.handler.codec.http.QueryStringDecoder;
 import io.netty.util.CharsetUtil;
 import io.netty.util.ReferenceCountUtil;
+import org.apache.commons.lang.time.StopWatch;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.tinkerpop.shaded.jackson.databind.JsonNode;
 import org.apache.tinkerpop.shaded.jackson.databind.ObjectMapper;
 import org.apache.tinkerpop.shaded.jackson.databind.node.ArrayNode;
 import org.apache.tinkerpop.shaded.jackson.databind.node.ObjectNode;
 import org.javatuples.Pair;
-import org.javatuples.Quartet;
+import org.javatuples.Quintet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -70,6 +78,9 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -105,6 +116,12 @@ public class HttpGremlinEndpointHandler extends ChannelInboundHandlerAdapter {
     private static final String ARGS_REBINDINGS_DOT = Tokens.ARGS_REBINDINGS + ".";
     private static final String ARGS_ALIASES_DOT = Tokens.ARGS_ALIASES + ".";
 
+    /**
+     * Request argument that asks for the results to be streamed as a chunked response of one serialized
+     * {@link ResponseMessage} per page of results rather than as a single message.
+     */
+    public static final String ARGS_CHUNKED = "chunked";
+
     private static final Timer evalOpTimer = MetricManager.INSTANCE.getTimer(name(GremlinServer.class, "op", "eval"));
 
     /**
@@ -120,14 +137,27 @@ public class HttpGremlinEndpointHandler extends ChannelInboundHandlerAdapter {
 
     private final GremlinExecutor gremlinExecutor;
     private final GraphManager graphManager;
+    private final Settings settings;
     final Pattern pattern = Pattern.compile("(.*);q=(.*)");
 
+    /**
+     * @deprecated As of release 3.1.1, replaced by {@link #HttpGremlinEndpointHandler(Map, GremlinExecutor, GraphManager, Settings)}.
+     */
+    @Deprecated
     public HttpGremlinEndpointHandler(final Map<String, MessageSerializer> serializers,
                                       final GremlinExecutor gremlinExecutor,
                                       final GraphManager graphManager) {
+        this(serializers, gremlinExecutor, graphManager, new Settings());
+    }
+
+    public HttpGremlinEndpointHandler(final Map<String, MessageSerializer> serializers,
+                                      final GremlinExecutor gremlinExecutor,
+                                      final GraphManager graphManager,
+                                      final Settings settings) {
         this.serializers = serializers;
         this.gremlinExecutor = gremlinExecutor;
         this.graphManager = graphManager;
+        this.settings = settings;
     }
 
     @Override
@@ -151,7 +181,7 @@ public class HttpGremlinEndpointHandler extends ChannelInboundHandlerAdapter {
                 return;
             }
 
-            final Quartet<String, Map<String, Object>, String, Map<String, String>> requestArguments;
+            final Quintet<String, Map<String, Object>, String, Map<String, String>, Boolean> requestArguments;
             try {
                 requestArguments = getRequestArguments(req);
             } catch (IllegalArgumentException iae) {
@@ -212,6 +242,22 @@ public class HttpGremlinEndpointHandler extends ChannelInboundHandlerAdapter {
                     return;
                 }
 
+                if (requestArguments.getValue4()) {
+                    // iterate and write the results in the same thread as the eval but after the eval is complete,
+                    // which takes it out from under the script evaluation timeout in the same way as websockets
+                    final CompletableFuture<Object> evalFuture = gremlinExecutor.eval(requestArguments.getValue0(), requestArguments.getValue2(), bindings,
+                            null, o -> {
+                                timerContext.stop();
+                                writeChunkedResponse(ctx, o, serializer, origin, keepAlive);
+                            });
+
+                    evalFuture.exceptionally(t -> {
+                        sendError(ctx, INTERNAL_SERVER_ERROR, String.format("Error encountered evaluating script: %s", requestArguments.getValue0()));
+                        return null;
+                    });
+                    return;
+                }
+
                 // provide a transform function to serialize to message - this will force serialization to occur
                 // in the same thread as the eval. after the CompletableFuture is returned from the eval the result
                 // is ready to be written as a ByteBuf directly to the response.  nothing should be blocking here.
@@ -265,6 +311,105 @@ public class HttpGremlinEndpointHandler extends ChannelInboundHandlerAdapter {
         ctx.close();
     }
 
+    /**
+     * Writes the result as a chunked response where each chunk holds one {@link ResponseMessage} with a page of
+     * {@link Settings#resultIterationBatchSize} results, serialized straight into a buffer from the channel allocator
+     * and followed by a newline.  Every page but the last carries a {@link ResponseStatusCode#PARTIAL_CONTENT} code.
+     * As the HTTP status is sent before iteration starts, a failure part way through is reported in a final page
+     * with an error code.  Writing pauses while the channel is not writable, which is bounded by the
+     * {@link Settings#serializedResponseTimeout}.
+     */
+    private void writeChunkedResponse(final ChannelHandlerContext ctx, final Object result,
+                                      final Pair<String, MessageTextSerializer> serializer,
+                                      final String origin, final boolean keepAlive) {
+        final HttpResponse response = new DefaultHttpResponse(HTTP_1_1, OK);
+        response.headers().set(CONTENT_TYPE, serializer.getValue0());
+        response.headers().set(TRANSFER_ENCODING, HttpHeaders.Values.CHUNKED);
+
+        // handle cors business
+        if (origin != null) response.headers().set(ACCESS_CONTROL_ALLOW_ORIGIN, origin);
+        if (keepAlive) response.headers().set(CONNECTION, HttpHeaders.Values.KEEP_ALIVE);
+        ctx.write(response);
+
+        final UUID requestId = UUID.randomUUID();
+        final Iterator itty = IteratorUtils.asIterator(result);
+        final int resultIterationBatchSize = settings.resultIterationBatchSize;
+        final StopWatch stopWatch = new StopWatch();
+        stopWatch.start();
+        boolean warnOnce = false;
+
+        try {
+            // http server is sessionless and must handle commit on transactions
+            if (!itty.hasNext()) this.graphManager.commitAll();
+
+            List<Object> aggregate = new ArrayList<>(resultIterationBatchSize);
+            do {
+                // a page held back by a channel that is not writable is not added to
+                if (aggregate.size() < resultIterationBatchSize && itty.hasNext()) {
+                    aggregate.add(itty.next());
+                    if (!itty.hasNext()) this.graphManager.commitAll();
+                }
+
+                if (aggregate.size() == resultIterationBatchSize || !itty.hasNext()) {
+                    if (!ctx.channel().isWritable()) {
+                        if (!warnOnce) {
+                            logger.warn("Pausing response writing as writeBufferHighWaterMark exceeded on request {} - writing will continue once client has caught up", requestId);
+                            warnOnce = true;
+                        }
+
+                        final CountDownLatch writable = new CountDownLatch(1);
+                        WritabilityHandler.whenWritable(ctx.channel(), writable::countDown);
+                        stopWatch.split();
+                        writable.await(Math.max(0, settings.serializedResponseTimeout - stopWatch.getSplitTime()), TimeUnit.MILLISECONDS);
+                        stopWatch.unsplit();
+                    }
+
+                    // the channel closed under the response so there is no one left to write to
+                    if (!ctx.channel().isActive()) {
+                        this.graphManager.rollbackAll();
+                        return;
+                    }
+
+                    if (ctx.channel().isWritable()) {
+                        final ResponseStatusCode code = itty.hasNext() ? ResponseStatusCode.PARTIAL_CONTENT :
+                                aggregate.isEmpty() ? ResponseStatusCode.NO_CONTENT : ResponseStatusCode.SUCCESS;
+                        writeChunk(ctx, serializer.getValue1(), ResponseMessage.build(requestId).code(code).result(aggregate).create());
+                        aggregate = new ArrayList<>(resultIterationBatchSize);
+                    }
+                }
+
+                stopWatch.split();
+                if (stopWatch.getSplitTime() > settings.serializedResponseTimeout)
+                    throw new TimeoutException(String.format("Serialization of the entire response exceeded the serializeResponseTimeout setting %s",
+                            warnOnce ? "[Gremlin Server paused writes to client as messages were not being consumed quickly enough]" : "").trim());
+                stopWatch.unsplit();
+            } while (itty.hasNext() || !aggregate.isEmpty());
+        } catch (Exception ex) {
+            this.graphManager.rollbackAll();
+            logger.warn(String.format("Error during chunked response for request %s", requestId), ex);
+            errorMeter.mark();
+            final ResponseStatusCode code = ex instanceof TimeoutException ? ResponseStatusCode.SERVER_ERROR_TIMEOUT : ResponseStatusCode.SERVER_ERROR;
+            try {
+                writeChunk(ctx, serializer.getValue1(), ResponseMessage.build(requestId).code(code).statusMessage(ex.getMessage()).create());
+            } catch (Exception inner) {
+                // without a final message the client at least sees the response end before a SUCCESS page
+                logger.warn(String.format("Could not write the error for chunked response to request %s", requestId), inner);
+            }
+        } finally {
+            stopWatch.stop();
+        }
+
+        final ChannelFuture lastContent = ctx.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
+        if (!keepAlive) lastContent.addListener(ChannelFutureListener.CLOSE);
+    }
+
+    private static void writeChunk(final ChannelHandlerContext ctx, final MessageTextSerializer serializer,
+                                   final ResponseMessage responseMessage) throws SerializationException {
+        final ByteBuf chunk = serializer.serializeResponseAsBinary(responseMessage, ctx.alloc());
+        chunk.writeByte('\n');
+        ctx.writeAndFlush(new DefaultHttpContent(chunk));
+    }
+
     private Bindings createBindings(final Map<String,Object> bindingMap, final Map<String,String> rebindingMap)  {
         final Bindings bindings = new SimpleBindings();
 
@@ -319,7 +464,7 @@ public class HttpGremlinEndpointHandler extends ChannelInboundHandlerAdapter {
         return null;
     }
 
-    private static Quartet<String, Map<String, Object>, String, Map<String,String>> getRequestArguments(final FullHttpRequest request) {
+    private static Quintet<String, Map<String, Object>, String, Map<String,String>, Boolean> getRequestArguments(final FullHttpRequest request) {
         if (request.getMethod() == GET) {
             final QueryStringDecoder decoder = new QueryStringDecoder(request.getUri());
             final List<String> gremlinParms = decoder.parameters().get(Tokens.ARGS_GREMLIN);
@@ -350,7 +495,10 @@ public class HttpGremlinEndpointHandler extends ChannelInboundHandlerAdapter {
             final List<String> languageParms = decoder.parameters().get(Tokens.ARGS_LANGUAGE);
             final String language = (null == languageParms || languageParms.size() == 0) ? null : languageParms.get(0);
 
-            return Quartet.with(script, bindings, language, aliases);
+            final List<String> chunkedParms = decoder.parameters().get(ARGS_CHUNKED);
+            final boolean chunked = null != chunkedParms && chunkedParms.size() > 0 && Boolean.parseBoolean(chunkedParms.get(0));
+
+            return Quintet.with(script, bindings, language, aliases, chunked);
         } else {
             final JsonNode body;
             try {
@@ -390,7 +538,10 @@ public class HttpGremlinEndpointHandler extends ChannelInboundHandlerAdapter {
             final JsonNode languageNode = body.get(Tokens.ARGS_LANGUAGE);
             final String language = null == languageNode ? null : languageNode.asText();
 
-            return Quartet.with(scriptNode.asText(), bindings, language, aliases);
+            final JsonNode chunkedNode = body.get(ARGS_CHUNKED);
+            final boolean chunked = null != chunkedNode && chunkedNode.asBoolean();
+
+            return Quintet.with(scriptNode.asText(), bindings, language, aliases, chunked);
         }
     }
 
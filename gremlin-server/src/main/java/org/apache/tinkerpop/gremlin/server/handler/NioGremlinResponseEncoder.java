@@ -54,7 +54,7 @@ public class NioGremlinResponseEncoder extends MessageToByteEncoder<ResponseMess
 
             if (useBinary) {
                 final ByteBuf bytes = serializer.serializeResponseAsBinary(responseMessage, ctx.alloc());
-                byteBuf.writeInt(bytes.capacity());
+                byteBuf.writeInt(bytes.readableBytes());
                 byteBuf.writeBytes(bytes);
                 bytes.release();
             } else {
@@ -75,7 +75,7 @@ public class NioGremlinResponseEncoder extends MessageToByteEncoder<ResponseMess
                     .code(ResponseStatusCode.SERVER_ERROR_SERIALIZATION).create();
             if (useBinary) {
                 final ByteBuf bytes = serializer.serializeResponseAsBinary(error, ctx.alloc());
-                byteBuf.writeInt(bytes.capacity());
+                byteBuf.writeInt(bytes.readableBytes());
                 byteBuf.writeBytes(bytes);
                 bytes.release();
             } else {
@@ -33,6 +33,9 @@ import org.javatuples.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 
 /**
@@ -45,14 +48,26 @@ public class OpExecutorHandler extends SimpleChannelInboundHandler<Pair<RequestM
     private final Settings settings;
     private final GraphManager graphManager;
     private final ScheduledExecutorService scheduledExecutorService;
+    private final Map<String, ExecutorService> gremlinPools;
     private final GremlinExecutor gremlinExecutor;
 
+    /**
+     * @deprecated As of release 3.1.1, replaced by {@link #OpExecutorHandler(Settings, GraphManager, GremlinExecutor, ScheduledExecutorService, Map)}.
+     */
+    @Deprecated
     public OpExecutorHandler(final Settings settings, final GraphManager graphManager, final GremlinExecutor gremlinExecutor,
                              final ScheduledExecutorService scheduledExecutorService) {
+        this(settings, graphManager, gremlinExecutor, scheduledExecutorService, Collections.emptyMap());
+    }
+
+    public OpExecutorHandler(final Settings settings, final GraphManager graphManager, final GremlinExecutor gremlinExecutor,
+                             final ScheduledExecutorService scheduledExecutorService,
+                             final Map<String, ExecutorService> gremlinPools) {
         this.settings = settings;
         this.graphManager = graphManager;
         this.gremlinExecutor = gremlinExecutor;
         this.scheduledExecutorService = scheduledExecutorService;
+        this.gremlinPools = gremlinPools;
     }
 
     @Override
@@ -60,7 +75,7 @@ public class OpExecutorHandler extends SimpleChannelInboundHandler<Pair<RequestM
         final RequestMessage msg = objects.getValue0();
         final ThrowingConsumer<Context> op = objects.getValue1();
         final Context gremlinServerContext = new Context(msg, ctx,
-                settings, graphManager, gremlinExecutor, scheduledExecutorService);
+                settings, graphManager, gremlinExecutor, scheduledExecutorService, gremlinPools);
 
         try {
             op.accept(gremlinServerContext);
@@ -21,9 +21,15 @@ package org.apache.tinkerpop.gremlin.server.handler;
 import org.apache.tinkerpop.gremlin.driver.MessageSerializer;
 import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
 import org.apache.tinkerpop.gremlin.server.auth.Authenticator;
+import org.apache.tinkerpop.gremlin.server.op.ResponseCredits;
+import org.apache.tinkerpop.gremlin.server.op.ResultCursor;
 import org.apache.tinkerpop.gremlin.server.op.session.Session;
 import io.netty.util.AttributeKey;
 
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentMap;
+
 /**
  * Keys used in the various handlers to store state in the pipeline.
  *
@@ -54,4 +60,19 @@ public class StateKey {
      * The key for the current request.
      */
     public static final AttributeKey<RequestMessage> REQUEST_MESSAGE = AttributeKey.valueOf("request");
+
+    /**
+     * The key for the tasks waiting on the channel to become writable.
+     */
+    public static final AttributeKey<Queue<Runnable>> WRITABILITY_WAITERS = AttributeKey.valueOf("writabilityWaiters");
+
+    /**
+     * The key for the {@link ResponseCredits} of the flow controlled requests in progress on the channel.
+     */
+    public static final AttributeKey<ConcurrentMap<UUID, ResponseCredits>> RESPONSE_CREDITS = AttributeKey.valueOf("responseCredits");
+
+    /**
+     * The key for the {@link ResultCursor} objects that are open on the channel.
+     */
+    public static final AttributeKey<ConcurrentMap<UUID, ResultCursor>> RESULT_CURSORS = AttributeKey.valueOf("resultCursors");
 }
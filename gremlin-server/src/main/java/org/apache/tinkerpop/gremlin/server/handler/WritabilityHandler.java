@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.handler;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.util.Attribute;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Runs the tasks that are waiting on a {@code Channel} to become writable again once the channel drops below its
+ * {@code writeBufferLowWaterMark}.  Tasks are also run when the channel closes, as it will not become writable
+ * after that, so a task should check the state of the channel it resumes against.  Tasks run on the event loop and
+ * should therefore do no more than hand their work off to another thread.
+ *
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+@ChannelHandler.Sharable
+public class WritabilityHandler extends ChannelInboundHandlerAdapter {
+    private static final Logger logger = LoggerFactory.getLogger(WritabilityHandler.class);
+
+    /**
+     * Registers a task to run when the {@code Channel} next becomes writable.  If it already is writable, or is
+     * closed, by the time the task is registered it is run immediately on the calling thread as no further event
+     * may come to trigger it.
+     */
+    public static void whenWritable(final Channel channel, final Runnable task) {
+        final Attribute<Queue<Runnable>> attribute = channel.attr(StateKey.WRITABILITY_WAITERS);
+        Queue<Runnable> waiters = attribute.get();
+        if (null == waiters) {
+            final Queue<Runnable> created = new ConcurrentLinkedQueue<>();
+            waiters = attribute.setIfAbsent(created);
+            if (null == waiters) waiters = created;
+        }
+
+        waiters.offer(task);
+
+        // the event may have fired between the caller seeing the channel as not writable and the task being queued
+        if (channel.isWritable() || !channel.isActive()) runWaiters(channel);
+    }
+
+    @Override
+    public void channelWritabilityChanged(final ChannelHandlerContext ctx) throws Exception {
+        if (ctx.channel().isWritable()) runWaiters(ctx.channel());
+        super.channelWritabilityChanged(ctx);
+    }
+
+    @Override
+    public void channelInactive(final ChannelHandlerContext ctx) throws Exception {
+        runWaiters(ctx.channel());
+        super.channelInactive(ctx);
+    }
+
+    private static void runWaiters(final Channel channel) {
+        final Queue<Runnable> waiters = channel.attr(StateKey.WRITABILITY_WAITERS).get();
+        if (null == waiters) return;
+
+        Runnable task;
+        while ((task = waiters.poll()) != null) {
+            try {
+                task.run();
+            } catch (Exception ex) {
+                logger.warn("Could not resume a task waiting on the channel to become writable", ex);
+            }
+        }
+    }
+}
@@ -29,24 +29,38 @@ import org.apache.tinkerpop.gremlin.server.Context;
 import org.apache.tinkerpop.gremlin.server.GremlinServer;
 import org.apache.tinkerpop.gremlin.server.OpProcessor;
 import org.apache.tinkerpop.gremlin.server.Settings;
+import org.apache.tinkerpop.gremlin.server.handler.WritabilityHandler;
 import org.apache.tinkerpop.gremlin.server.util.MetricManager;
 import org.apache.tinkerpop.gremlin.util.function.ThrowingConsumer;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 import io.netty.channel.ChannelHandlerContext;
+import org.apache.commons.lang.exception.ExceptionUtils;
 import org.apache.commons.lang.time.StopWatch;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.script.Bindings;
+import javax.script.SimpleBindings;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import static com.codahale.metrics.MetricRegistry.name;
@@ -60,6 +74,7 @@ import static com.codahale.metrics.MetricRegistry.name;
 public abstract class AbstractEvalOpProcessor implements OpProcessor {
     private static final Logger logger = LoggerFactory.getLogger(AbstractEvalOpProcessor.class);
     public static final Timer evalOpTimer = MetricManager.INSTANCE.getTimer(name(GremlinServer.class, "op", "eval"));
+    public static final Timer batchOpTimer = MetricManager.INSTANCE.getTimer(name(GremlinServer.class, "op", "batch"));
 
     /**
      * This may or may not be the full set of invalid binding keys.  It is dependent on the static imports made to
@@ -82,6 +97,18 @@ public abstract class AbstractEvalOpProcessor implements OpProcessor {
      */
     public abstract ThrowingConsumer<Context> getEvalOp();
 
+    /**
+     * Provides an operation for evaluating a batch of Gremlin scripts.  By default a "batch" is not supported and
+     * the operation responds with an error.
+     */
+    public ThrowingConsumer<Context> getBatchOp() {
+        return context -> {
+            final RequestMessage msg = context.getRequestMessage();
+            final String error = String.format("A message with an [%s] op code is not supported by the [%s] processor", Tokens.OPS_BATCH, msg.getProcessor());
+            throw new OpProcessorException(error, ResponseMessage.build(msg).code(ResponseStatusCode.REQUEST_ERROR_MALFORMED_REQUEST).result(error).create());
+        };
+    }
+
     /**
      * A sub-class may have additional "ops" that it will service.  Calls to {@link #select(Context)} that are not
      * handled will be passed to this method to see if the sub-class can service the requested op code.
@@ -98,10 +125,28 @@ public abstract class AbstractEvalOpProcessor implements OpProcessor {
             case Tokens.OPS_EVAL:
                 op = validateEvalMessage(message).orElse(getEvalOp());
                 break;
+            case Tokens.OPS_CREDIT:
+                op = validateCreditMessage(message).orElse(this::creditOp);
+                break;
+            case Tokens.OPS_CURSOR:
+                op = validateEvalMessage(message).orElse(getEvalOp());
+                break;
+            case Tokens.OPS_NEXT:
+                op = validateCursorMessage(message).orElse(this::nextOp);
+                break;
+            case Tokens.OPS_BATCH:
+                op = validateBatchMessage(message).orElse(getBatchOp());
+                break;
             case Tokens.OPS_INVALID:
                 final String msgInvalid = String.format("Message could not be parsed.  Check the format of the request. [%s]", message);
                 throw new OpProcessorException(msgInvalid, ResponseMessage.build(message).code(ResponseStatusCode.REQUEST_ERROR_MALFORMED_REQUEST).result(msgInvalid).create());
             default:
+                // a close of a cursor is handled here while any other close is left to the sub-class
+                if (message.getOp().equals(Tokens.OPS_CLOSE) && message.optionalArgs(Tokens.ARGS_CURSOR).isPresent()) {
+                    op = validateCursorMessage(message).orElse(this::closeCursorOp);
+                    break;
+                }
+
                 op = selectOther(message).orElseThrow(() -> {
                     final String msgDefault = String.format("Message with op code [%s] is not recognized.", message.getOp());
                     return new OpProcessorException(msgDefault, ResponseMessage.build(message).code(ResponseStatusCode.REQUEST_ERROR_MALFORMED_REQUEST).result(msgDefault).create());
@@ -125,9 +170,146 @@ public abstract class AbstractEvalOpProcessor implements OpProcessor {
             }
         }
 
+        if (message.optionalArgs(Tokens.ARGS_CREDITS).isPresent() && !isPositiveInteger(message.getArgs().get(Tokens.ARGS_CREDITS))) {
+            final String msg = String.format("The [%s] argument of a message with an [%s] op code must be a positive integer.", Tokens.ARGS_CREDITS, Tokens.OPS_EVAL);
+            throw new OpProcessorException(msg, ResponseMessage.build(message).code(ResponseStatusCode.REQUEST_ERROR_INVALID_REQUEST_ARGUMENTS).result(msg).create());
+        }
+
+        return Optional.empty();
+    }
+
+    protected Optional<ThrowingConsumer<Context>> validateBatchMessage(final RequestMessage message) throws OpProcessorException {
+        final Object batch = message.getArgs().get(Tokens.ARGS_BATCH);
+        if (!(batch instanceof List) || ((List) batch).isEmpty()) {
+            final String msg = String.format("A message with an [%s] op code requires a [%s] argument that is a non-empty list.", Tokens.OPS_BATCH, Tokens.ARGS_BATCH);
+            throw new OpProcessorException(msg, ResponseMessage.build(message).code(ResponseStatusCode.REQUEST_ERROR_INVALID_REQUEST_ARGUMENTS).result(msg).create());
+        }
+
+        for (Object item : (List) batch) {
+            if (!(item instanceof Map) || !(((Map) item).get(Tokens.ARGS_GREMLIN) instanceof String)) {
+                final String msg = String.format("Each item of the [%s] argument must be a map with a [%s] script.", Tokens.ARGS_BATCH, Tokens.ARGS_GREMLIN);
+                throw new OpProcessorException(msg, ResponseMessage.build(message).code(ResponseStatusCode.REQUEST_ERROR_INVALID_REQUEST_ARGUMENTS).result(msg).create());
+            }
+
+            final Object bindings = ((Map) item).get(Tokens.ARGS_BINDINGS);
+            if (bindings != null && (!(bindings instanceof Map) || ((Map<String, Object>) bindings).keySet().stream().anyMatch(invalidBindingsKeys::contains))) {
+                final String msg = String.format("The [%s] of an item of the [%s] argument must be a map that does not use the invalid binding keys of [%s].", Tokens.ARGS_BINDINGS, Tokens.ARGS_BATCH, invalidBindingKeysJoined);
+                throw new OpProcessorException(msg, ResponseMessage.build(message).code(ResponseStatusCode.REQUEST_ERROR_INVALID_REQUEST_ARGUMENTS).result(msg).create());
+            }
+        }
+
+        if (message.optionalArgs(Tokens.ARGS_TRANSACTION).isPresent() && !(message.getArgs().get(Tokens.ARGS_TRANSACTION) instanceof Boolean)) {
+            final String msg = String.format("The [%s] argument of a message with an [%s] op code must be a boolean.", Tokens.ARGS_TRANSACTION, Tokens.OPS_BATCH);
+            throw new OpProcessorException(msg, ResponseMessage.build(message).code(ResponseStatusCode.REQUEST_ERROR_INVALID_REQUEST_ARGUMENTS).result(msg).create());
+        }
+
+        if (message.optionalArgs(Tokens.ARGS_CREDITS).isPresent() && !isPositiveInteger(message.getArgs().get(Tokens.ARGS_CREDITS))) {
+            final String msg = String.format("The [%s] argument of a message with an [%s] op code must be a positive integer.", Tokens.ARGS_CREDITS, Tokens.OPS_BATCH);
+            throw new OpProcessorException(msg, ResponseMessage.build(message).code(ResponseStatusCode.REQUEST_ERROR_INVALID_REQUEST_ARGUMENTS).result(msg).create());
+        }
+
+        return Optional.empty();
+    }
+
+    protected Optional<ThrowingConsumer<Context>> validateCreditMessage(final RequestMessage message) throws OpProcessorException {
+        if (!isPositiveInteger(message.getArgs().get(Tokens.ARGS_CREDITS))) {
+            final String msg = String.format("A message with an [%s] op code requires a [%s] argument that is a positive integer.", Tokens.OPS_CREDIT, Tokens.ARGS_CREDITS);
+            throw new OpProcessorException(msg, ResponseMessage.build(message).code(ResponseStatusCode.REQUEST_ERROR_INVALID_REQUEST_ARGUMENTS).result(msg).create());
+        }
+
+        return Optional.empty();
+    }
+
+    protected Optional<ThrowingConsumer<Context>> validateCursorMessage(final RequestMessage message) throws OpProcessorException {
+        if (null == toCursorId(message.getArgs().get(Tokens.ARGS_CURSOR))) {
+            final String msg = String.format("A message with an [%s] op code requires a [%s] argument that is the identifier of a cursor.", message.getOp(), Tokens.ARGS_CURSOR);
+            throw new OpProcessorException(msg, ResponseMessage.build(message).code(ResponseStatusCode.REQUEST_ERROR_INVALID_REQUEST_ARGUMENTS).result(msg).create());
+        }
+
+        if (message.optionalArgs(Tokens.ARGS_BATCH_SIZE).isPresent() && !isPositiveInteger(message.getArgs().get(Tokens.ARGS_BATCH_SIZE))) {
+            final String msg = String.format("The [%s] argument of a message with an [%s] op code must be a positive integer.", Tokens.ARGS_BATCH_SIZE, message.getOp());
+            throw new OpProcessorException(msg, ResponseMessage.build(message).code(ResponseStatusCode.REQUEST_ERROR_INVALID_REQUEST_ARGUMENTS).result(msg).create());
+        }
+
         return Optional.empty();
     }
 
+    /**
+     * Fetches the next page of results from a cursor opened by a "cursor" request.  The page is taken on the
+     * executor of the cursor and returned in a single response with a status attribute that tells the client if
+     * there are more results to fetch.
+     */
+    protected void nextOp(final Context context) throws OpProcessorException {
+        final ChannelHandlerContext ctx = context.getChannelHandlerContext();
+        final RequestMessage msg = context.getRequestMessage();
+        final UUID cursorId = toCursorId(msg.getArgs().get(Tokens.ARGS_CURSOR));
+        final int batchSize = ((Number) msg.optionalArgs(Tokens.ARGS_BATCH_SIZE).orElse(context.getSettings().resultIterationBatchSize)).intValue();
+
+        final ResultCursor cursor = ResultCursor.get(ctx.channel(), cursorId).orElseThrow(() -> {
+            final String error = String.format("There is no open cursor [%s] - it may have been exhausted, closed or timed out", cursorId);
+            return new OpProcessorException(error, ResponseMessage.build(msg).code(ResponseStatusCode.REQUEST_ERROR_INVALID_REQUEST_ARGUMENTS).result(error).create());
+        });
+
+        final Runnable fetch = () -> {
+            try {
+                final List<Object> page = cursor.next(batchSize);
+                ctx.writeAndFlush(ResponseMessage.build(msg)
+                        .code(ResponseStatusCode.SUCCESS)
+                        .statusAttributes(Collections.singletonMap(Tokens.STATUS_ATTRIBUTE_HAS_NEXT, cursor.hasNext()))
+                        .result(page).create());
+            } catch (Exception ex) {
+                cursor.close();
+                logger.warn(String.format("Exception fetching from cursor %s on request [%s].", cursorId, msg), ex);
+                ctx.writeAndFlush(ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR).statusMessage(ex.getMessage()).create());
+            }
+        };
+
+        try {
+            cursor.getExecutor().execute(fetch);
+        } catch (RejectedExecutionException ree) {
+            cursor.close();
+            final String error = String.format("Cursor [%s] can no longer be fetched from as its executor has shutdown", cursorId);
+            throw new OpProcessorException(error, ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR).statusMessage(error).create());
+        }
+    }
+
+    /**
+     * Closes a cursor before its results are exhausted.  Closing a cursor that is no longer open is not an error.
+     */
+    protected void closeCursorOp(final Context context) {
+        final RequestMessage msg = context.getRequestMessage();
+        ResultCursor.get(context.getChannelHandlerContext().channel(), toCursorId(msg.getArgs().get(Tokens.ARGS_CURSOR)))
+                .ifPresent(ResultCursor::close);
+        context.getChannelHandlerContext().writeAndFlush(ResponseMessage.build(msg).code(ResponseStatusCode.NO_CONTENT).create());
+    }
+
+    private static UUID toCursorId(final Object value) {
+        if (value instanceof UUID) return (UUID) value;
+        if (!(value instanceof String)) return null;
+        try {
+            return UUID.fromString((String) value);
+        } catch (IllegalArgumentException iae) {
+            return null;
+        }
+    }
+
+    /**
+     * Grants further pages to the response of the "eval" request with the same request identifier as the "credit"
+     * request.  There is no response to a "credit" request and one that arrives after the response it refers to
+     * completed is ignored.
+     */
+    protected void creditOp(final Context context) {
+        final RequestMessage msg = context.getRequestMessage();
+        final int credits = ((Number) msg.getArgs().get(Tokens.ARGS_CREDITS)).intValue();
+        if (!ResponseCredits.grant(context.getChannelHandlerContext().channel(), msg.getRequestId(), credits))
+            logger.debug("Ignoring credit for request {} as it has no response in progress", msg.getRequestId());
+    }
+
+    private static boolean isPositiveInteger(final Object value) {
+        return (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte)
+                && ((Number) value).longValue() > 0 && ((Number) value).longValue() <= Integer.MAX_VALUE;
+    }
+
     /**
      * A generalized implementation of the "eval" operation.  It handles script evaluation and iteration of results
      * so as to write {@link ResponseMessage} objects down the Netty pipeline.  It also handles script timeouts,
@@ -153,28 +335,44 @@ public abstract class AbstractEvalOpProcessor implements OpProcessor {
         final String script = (String) args.get(Tokens.ARGS_GREMLIN);
         final String language = args.containsKey(Tokens.ARGS_LANGUAGE) ? (String) args.get(Tokens.ARGS_LANGUAGE) : null;
         final Bindings bindings = bindingsSupplier.get();
+        final Executor executor = selectGremlinPool(context, gremlinExecutor);
+
+        // a "cursor" request holds the result open on an executor it can later be fetched on, which is not possible
+        // outside of a session if a graph supports transactions
+        final boolean openCursor = msg.getOp().equals(Tokens.OPS_CURSOR);
+        final Optional<Executor> cursorExecutor = openCursor ? getIterationResumeExecutor(context, executor) : Optional.empty();
+        if (openCursor && !cursorExecutor.isPresent()) {
+            final String error = String.format("A message with an [%s] op code cannot be processed by the [%s] processor when a graph supports transactions - use a session instead",
+                    Tokens.OPS_CURSOR, msg.getProcessor());
+            throw new OpProcessorException(error, ResponseMessage.build(msg).code(ResponseStatusCode.REQUEST_ERROR_INVALID_REQUEST_ARGUMENTS).result(error).create());
+        }
 
-        final CompletableFuture<Object> evalFuture = gremlinExecutor.eval(script, language, bindings, null, o -> {
+        // a client that asks for flow control only allows the server so many pages ahead of what it has consumed.
+        // the credits are registered before evaluation so that grants sent while the script is running are counted.
+        msg.optionalArgs(Tokens.ARGS_CREDITS).ifPresent(c ->
+                ResponseCredits.register(ctx.channel(), msg.getRequestId(), ((Number) c).intValue()));
+
+        final GremlinExecutor.LifeCycle lifeCycle = GremlinExecutor.LifeCycle.build().withResult(o -> {
             final Iterator itty = IteratorUtils.asIterator(o);
 
             logger.debug("Preparing to iterate results from - {} - in thread [{}]", msg, Thread.currentThread().getName());
 
             try {
-                handleIterator(context, itty);
-            } catch (TimeoutException ex) {
-                final String errorMessage = String.format("Response iteration exceeded the configured threshold for request [%s] - %s", msg, ex.getMessage());
-                logger.warn(errorMessage);
-                ctx.writeAndFlush(ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR_TIMEOUT).statusMessage(errorMessage).create());
+                if (openCursor)
+                    openCursor(context, itty, cursorExecutor.get());
+                else
+                    handleIterator(context, itty, executor);
             } catch (Exception ex) {
-                logger.warn(String.format("Exception processing a script on request [%s].", msg), ex);
-                ctx.writeAndFlush(ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR).statusMessage(ex.getMessage()).create());
+                handleIteratorException(context, ex);
             }
-        });
+        }).create();
+        final CompletableFuture<Object> evalFuture = gremlinExecutor.eval(executor, script, language, bindings, lifeCycle);
 
         evalFuture.handle((v, t) -> {
             timerContext.stop();
 
             if (t != null) {
+                ResponseCredits.unregister(ctx.channel(), msg.getRequestId());
                 if (t instanceof TimeoutException) {
                     final String errorMessage = String.format("Response evaluation exceeded the configured threshold for request [%s] - %s", msg, t.getMessage());
                     logger.warn(errorMessage);
@@ -189,30 +387,173 @@ public abstract class AbstractEvalOpProcessor implements OpProcessor {
         });
     }
 
+    /**
+     * A generalized implementation of the "batch" operation.  The scripts of the batch are evaluated in order, one
+     * after the other, in a single task on the executor of the {@link GremlinExecutor}, so that a batch of many small
+     * scripts costs one request and one submission to the executor rather than one of each per script.  The result
+     * of each script is gathered into a {@code List} and those lists are written back through
+     * {@link #handleIterator} as a single response stream with one result per script, in the order of the batch.
+     * <p/>
+     * Each script is evaluated against its own copy of the shared bindings, so the parameters and variables of one
+     * script are not visible to the scripts that follow it in the batch nor kept in the shared bindings.  The
+     * {@link Settings#scriptEvaluationTimeout} applies to the batch as a whole, including the writing of its results.  When transactions are managed, each
+     * script is committed once it is evaluated unless the request has a {@link Tokens#ARGS_TRANSACTION} argument of
+     * {@code true}, in which case the batch is committed as a whole once its results are written.  Either way, a
+     * script that fails stops the batch and rolls back what was not yet committed.
+     *
+     * @param context The current Gremlin Server {@link Context}
+     * @param gremlinExecutorSupplier A function that returns the {@link GremlinExecutor} to use in executing the
+     *                                script evaluation.
+     * @param bindingsSupplier A function that returns the {@link Bindings} that are shared by the scripts of the batch.
+     */
+    protected void batchOpInternal(final Context context, final Supplier<GremlinExecutor> gremlinExecutorSupplier,
+                                   final BindingSupplier<Bindings> bindingsSupplier) throws OpProcessorException {
+        final Timer.Context timerContext = batchOpTimer.time();
+        final ChannelHandlerContext ctx = context.getChannelHandlerContext();
+        final RequestMessage msg = context.getRequestMessage();
+        final GremlinExecutor gremlinExecutor = gremlinExecutorSupplier.get();
+        final Settings settings = context.getSettings();
+
+        final List<Map<String, Object>> batch = (List<Map<String, Object>>) msg.getArgs().get(Tokens.ARGS_BATCH);
+        final String language = (String) msg.optionalArgs(Tokens.ARGS_LANGUAGE).orElse("gremlin-groovy");
+        final boolean commitEach = manageTransactions && !((Boolean) msg.optionalArgs(Tokens.ARGS_TRANSACTION).orElse(false));
+        final Bindings bindings = bindingsSupplier.get();
+        final Executor executor = selectGremlinPool(context, gremlinExecutor);
+
+        msg.optionalArgs(Tokens.ARGS_CREDITS).ifPresent(c ->
+                ResponseCredits.register(ctx.channel(), msg.getRequestId(), ((Number) c).intValue()));
+
+        final AtomicBoolean started = new AtomicBoolean(false);
+        final AtomicReference<ScheduledFuture<?>> timeout = new AtomicReference<>();
+        final FutureTask<Void> task = new FutureTask<Void>(() -> {
+            started.set(true);
+            if (manageTransactions) context.getGraphManager().rollbackAll();
+
+            final List<Object> results = new ArrayList<>(batch.size());
+            try {
+                for (Map<String, Object> item : batch) {
+                    final Bindings scriptBindings = new SimpleBindings();
+                    scriptBindings.putAll(gremlinExecutor.getGlobalBindings());
+                    scriptBindings.putAll(bindings);
+                    Optional.ofNullable((Map<String, Object>) item.get(Tokens.ARGS_BINDINGS)).ifPresent(scriptBindings::putAll);
+
+                    final Object o = gremlinExecutor.getScriptEngines().eval((String) item.get(Tokens.ARGS_GREMLIN), scriptBindings, language);
+                    results.add(IteratorUtils.list(IteratorUtils.asIterator(o)));
+
+                    if (commitEach) context.getGraphManager().commitAll();
+                }
+            } catch (Throwable t) {
+                timerContext.stop();
+                ResponseCredits.unregister(ctx.channel(), msg.getRequestId());
+                if (manageTransactions) context.getGraphManager().rollbackAll();
+
+                final Throwable root = null == t.getCause() ? t : ExceptionUtils.getRootCause(t);
+                if (root instanceof InterruptedException) {
+                    writeBatchTimeout(context);
+                } else {
+                    logger.warn(String.format("Exception processing script %s of the batch on request [%s].", results.size(), msg), root);
+                    ctx.writeAndFlush(ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR_SCRIPT_EVALUATION)
+                            .statusMessage(String.format("Script %s of the batch failed - %s", results.size(), root.getMessage())).create());
+                }
+                return null;
+            }
+
+            timerContext.stop();
+
+            try {
+                handleIterator(context, results.iterator(), executor);
+            } catch (Exception ex) {
+                // the timeout interrupts the batch while its results are still being written too
+                if (ex instanceof InterruptedException || ExceptionUtils.getRootCause(ex) instanceof InterruptedException) {
+                    ResponseCredits.unregister(ctx.channel(), msg.getRequestId());
+                    if (manageTransactions) context.getGraphManager().rollbackAll();
+                    writeBatchTimeout(context);
+                } else {
+                    handleIteratorException(context, ex);
+                }
+            }
+            return null;
+        }) {
+            @Override
+            protected void done() {
+                Optional.ofNullable(timeout.get()).ifPresent(t -> t.cancel(false));
+            }
+        };
+
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException ree) {
+            timerContext.stop();
+            ResponseCredits.unregister(ctx.channel(), msg.getRequestId());
+            final String error = "The batch could not be evaluated as the executor of the request is shutdown";
+            throw new OpProcessorException(error, ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR).statusMessage(error).create());
+        }
+
+        if (settings.scriptEvaluationTimeout > 0) {
+            timeout.set(context.getScheduledExecutorService().schedule(() -> {
+                // a batch that is still queued is answered here as it will never start to answer for itself
+                if (task.cancel(true) && !started.get()) {
+                    timerContext.stop();
+                    ResponseCredits.unregister(ctx.channel(), msg.getRequestId());
+                    writeBatchTimeout(context);
+                }
+            }, settings.scriptEvaluationTimeout, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    private static void writeBatchTimeout(final Context context) {
+        final RequestMessage msg = context.getRequestMessage();
+        final String errorMessage = String.format("Batch evaluation exceeded the configured threshold of %s ms for request [%s]",
+                context.getSettings().scriptEvaluationTimeout, msg);
+        logger.warn(errorMessage);
+        context.getChannelHandlerContext().writeAndFlush(ResponseMessage.build(msg)
+                .code(ResponseStatusCode.SERVER_ERROR_TIMEOUT).statusMessage(errorMessage).create());
+    }
+
     /**
      * Called by {@link #evalOpInternal} when iterating a result set. Implementers should respect the
      * {@link Settings#serializedResponseTimeout} configuration and break the serialization process if
      * it begins to take too long to do so, throwing a {@link java.util.concurrent.TimeoutException} in such
      * cases.
+     * <p/>
+     * When the channel stops being writable because the client is not keeping up, or the client asked for flow
+     * control and has not granted credit for another page, iteration is paused until it can continue.  If
+     * {@link #getIterationResumeExecutor(Context, Executor)} provides an executor, the paused iteration holds no
+     * thread and is resumed on that executor, in which case this method returns before the response is complete and
+     * any later failure is written to the client through {@link #handleIteratorException(Context, Exception)}.
      *
      * @param context The Gremlin Server {@link Context} object containing settings, request message, etc.
      * @param itty The result to iterator
      * @throws TimeoutException if the time taken to serialize the entire result set exceeds the allowable time.
      */
     protected void handleIterator(final Context context, final Iterator itty) throws TimeoutException, InterruptedException {
+        handleIterator(context, itty, context.getGremlinExecutor().getExecutorService());
+    }
+
+    /**
+     * Iterates a result set as {@link #handleIterator(Context, Iterator)} does for a request that was evaluated on
+     * the specified executor, which is the one chosen by {@link #selectGremlinPool(Context, GremlinExecutor)}.
+     *
+     * @param context The Gremlin Server {@link Context} object containing settings, request message, etc.
+     * @param itty The result to iterator
+     * @param executor The executor the request was evaluated on
+     * @throws TimeoutException if the time taken to serialize the entire result set exceeds the allowable time.
+     */
+    protected void handleIterator(final Context context, final Iterator itty, final Executor executor) throws TimeoutException, InterruptedException {
         final ChannelHandlerContext ctx = context.getChannelHandlerContext();
         final RequestMessage msg = context.getRequestMessage();
         final Settings settings = context.getSettings();
-        boolean warnOnce = false;
 
         // we have an empty iterator - happens on stuff like: g.V().iterate()
         if (!itty.hasNext()) {
             // as there is nothing left to iterate if we are transaction managed then we should execute a
             // commit here before we send back a NO_CONTENT which implies success
             if (manageTransactions) context.getGraphManager().commitAll();
+            ResponseCredits.unregister(ctx.channel(), msg.getRequestId());
             ctx.writeAndFlush(ResponseMessage.build(msg)
                     .code(ResponseStatusCode.NO_CONTENT)
                     .create());
+            return;
         }
 
         // timer for the total serialization time
@@ -222,30 +563,173 @@ public abstract class AbstractEvalOpProcessor implements OpProcessor {
         // the batch size can be overridden by the request
         final int resultIterationBatchSize = (Integer) msg.optionalArgs(Tokens.ARGS_BATCH_SIZE)
                 .orElse(settings.resultIterationBatchSize);
-        List<Object> aggregate = new ArrayList<>(resultIterationBatchSize);
-        while (itty.hasNext()) {
+        final ResponseCredits credits = ResponseCredits.get(ctx.channel(), msg.getRequestId());
+        iterate(context, itty, new ArrayList<>(resultIterationBatchSize), resultIterationBatchSize, credits, stopWatch, false, executor);
+    }
+
+    /**
+     * Chooses the executor that a request is evaluated on.  A request that names one of the
+     * {@link Settings#gremlinPools} with its {@link Tokens#ARGS_POOL} argument is evaluated on that pool and one that
+     * aliases a {@code Graph} or {@code TraversalSource} listed by a pool is evaluated on the first such pool in the
+     * order of the {@link Settings#gremlinPools}.  Any other request is evaluated on the executor of the
+     * {@link GremlinExecutor}.
+     */
+    protected Executor selectGremlinPool(final Context context, final GremlinExecutor gremlinExecutor) throws OpProcessorException {
+        final RequestMessage msg = context.getRequestMessage();
+        final Optional<String> poolName = msg.optionalArgs(Tokens.ARGS_POOL).map(String::valueOf);
+        if (poolName.isPresent()) {
+            final ExecutorService pool = context.getGremlinPools().get(poolName.get());
+            if (null == pool) {
+                final String error = String.format("The [%s] argument names a pool [%s] that is not configured", Tokens.ARGS_POOL, poolName.get());
+                throw new OpProcessorException(error, ResponseMessage.build(msg).code(ResponseStatusCode.REQUEST_ERROR_INVALID_REQUEST_ARGUMENTS).result(error).create());
+            }
+            return pool;
+        }
+
+        final Map<String, String> aliases = msg.<Map<String, String>>optionalArgs(Tokens.ARGS_ALIASES)
+                .orElse(msg.<Map<String, String>>optionalArgs(Tokens.ARGS_REBINDINGS).orElse(Collections.emptyMap()));
+        for (Map.Entry<String, Settings.GremlinPoolSettings> kv : context.getSettings().gremlinPools.entrySet()) {
+            if (aliases.values().stream().anyMatch(kv.getValue().graphs::contains))
+                return context.getGremlinPools().get(kv.getKey());
+        }
+
+        return gremlinExecutor.getExecutorService();
+    }
+
+    /**
+     * Called by {@link #evalOpInternal} for a "cursor" request to hold the result open for later "next" requests
+     * and respond with the identifier of the cursor.
+     *
+     * @param context The Gremlin Server {@link Context} object containing settings, request message, etc.
+     * @param itty The result to hold open
+     * @param executor The executor that results are to be fetched from the cursor on
+     */
+    protected void openCursor(final Context context, final Iterator itty, final Executor executor) {
+        final ResultCursor cursor = ResultCursor.open(context.getChannelHandlerContext().channel(), itty, executor,
+                context.getScheduledExecutorService(), context.getSettings().resultCursorTimeout);
+        context.getChannelHandlerContext().writeAndFlush(ResponseMessage.build(context.getRequestMessage())
+                .code(ResponseStatusCode.SUCCESS)
+                .statusAttributes(Collections.singletonMap(Tokens.STATUS_ATTRIBUTE_HAS_NEXT, cursor.hasNext()))
+                .result(Collections.singletonList(cursor.getId().toString())).create());
+    }
+
+    /**
+     * Gets the executor that a paused iteration releases its thread to and is resumed on.  By default that is the
+     * executor the request was evaluated on, so that a request routed to one of the {@link Settings#gremlinPools}
+     * stays on that pool.  That is not possible if any graph supports transactions, as those are bound to the thread
+     * that opened them, so in that case this is empty and the iteration waits on its own thread.
+     *
+     * @param context The Gremlin Server {@link Context} object containing settings, request message, etc.
+     * @param executor The executor the request was evaluated on
+     */
+    protected Optional<Executor> getIterationResumeExecutor(final Context context, final Executor executor) {
+        return context.getGraphManager().getGraphs().values().stream().noneMatch(g -> g.features().graph().supportsTransactions()) ?
+                Optional.of(executor) : Optional.empty();
+    }
+
+    /**
+     * Writes the error response for an exception raised while iterating a result set.
+     */
+    protected void handleIteratorException(final Context context, final Exception ex) {
+        final ChannelHandlerContext ctx = context.getChannelHandlerContext();
+        final RequestMessage msg = context.getRequestMessage();
+        ResponseCredits.unregister(ctx.channel(), msg.getRequestId());
+        if (ex instanceof TimeoutException) {
+            final String errorMessage = String.format("Response iteration exceeded the configured threshold for request [%s] - %s", msg, ex.getMessage());
+            logger.warn(errorMessage);
+            ctx.writeAndFlush(ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR_TIMEOUT).statusMessage(errorMessage).create());
+        } else {
+            logger.warn(String.format("Exception processing a script on request [%s].", msg), ex);
+            ctx.writeAndFlush(ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR).statusMessage(ex.getMessage()).create());
+        }
+    }
+
+    private void iterate(final Context context, final Iterator itty, List<Object> aggregate, final int resultIterationBatchSize,
+                         final ResponseCredits credits, final StopWatch stopWatch, boolean warnOnce,
+                         final Executor executor) throws TimeoutException, InterruptedException {
+        final ChannelHandlerContext ctx = context.getChannelHandlerContext();
+        final RequestMessage msg = context.getRequestMessage();
+        final Settings settings = context.getSettings();
+
+        while (itty.hasNext() || !aggregate.isEmpty()) {
             if (Thread.interrupted()) throw new InterruptedException();
 
             // have to check the aggregate size because it is possible that the channel is not writeable (below)
             // so iterating next() if the message is not written and flushed would bump the aggregate size beyond
             // the expected resultIterationBatchSize.  Total serialization time for the response remains in
             // effect so if the client is "slow" it may simply timeout.
-            if (aggregate.size() < resultIterationBatchSize) aggregate.add(itty.next());
-
-            // if there's no more items in the iterator then we've aggregated everything and are thus ready to
-            // commit stuff if transaction management is on.  exceptions should bubble up and be handle in the normal
-            // manner of things.  a final SUCCESS message will not have been sent (below) and we ship back an error.
-            // if transaction management is not enabled, then returning SUCCESS below is OK as this is a different
-            // usage context.  without transaction management enabled, the user is responsible for maintaining
-            // the transaction and will want a SUCCESS to know their eval and iteration was ok.  they would then
-            // potentially have a failure on commit on the next request.
-            if (!itty.hasNext() && manageTransactions)
-                context.getGraphManager().commitAll();
+            if (aggregate.size() < resultIterationBatchSize && itty.hasNext()) {
+                aggregate.add(itty.next());
+
+                // if there's no more items in the iterator then we've aggregated everything and are thus ready to
+                // commit stuff if transaction management is on.  exceptions should bubble up and be handle in the normal
+                // manner of things.  a final SUCCESS message will not have been sent (below) and we ship back an error.
+                // if transaction management is not enabled, then returning SUCCESS below is OK as this is a different
+                // usage context.  without transaction management enabled, the user is responsible for maintaining
+                // the transaction and will want a SUCCESS to know their eval and iteration was ok.  they would then
+                // potentially have a failure on commit on the next request.
+                if (!itty.hasNext() && manageTransactions)
+                    context.getGraphManager().commitAll();
+            }
 
             // send back a page of results if batch size is met or if it's the end of the results being iterated.
             // also check writeability of the channel to prevent OOME for slow clients.
-            if (ctx.channel().isWritable()) {
-                if  (aggregate.size() == resultIterationBatchSize || !itty.hasNext()) {
+            if (aggregate.size() == resultIterationBatchSize || !itty.hasNext()) {
+                if (null != credits && !credits.hasCredit()) {
+                    // the client has not consumed what it was sent so hold off until it grants more. the time spent
+                    // waiting does not count to the serialization of the response, but the client only has the
+                    // serializedResponseTimeout to make the grant
+                    stopWatch.suspend();
+                    final TimeoutException noCredit = new TimeoutException(String.format(
+                            "The client did not grant credit for further results within the serializeResponseTimeout setting of %s ms",
+                            settings.serializedResponseTimeout));
+                    final Optional<Executor> resumeOn = getIterationResumeExecutor(context, executor);
+                    if (resumeOn.isPresent()) {
+                        pause(context, itty, aggregate, resultIterationBatchSize, credits, stopWatch, true, warnOnce,
+                                resumeOn.get(), credits::whenGranted, settings.serializedResponseTimeout, noCredit);
+                        return;
+                    }
+
+                    final CountDownLatch granted = new CountDownLatch(1);
+                    credits.whenGranted(granted::countDown);
+                    if (!granted.await(settings.serializedResponseTimeout, TimeUnit.MILLISECONDS)) throw noCredit;
+                    stopWatch.resume();
+                }
+
+                if (!ctx.channel().isWritable()) {
+                    // a closed channel never becomes writable again and would only have the wait below return
+                    // straight away until the serializedResponseTimeout runs out
+                    if (!ctx.channel().isActive()) {
+                        abandonIteration(context);
+                        return;
+                    }
+
+                    // don't keep triggering this warning over and over again for the same request
+                    if (!warnOnce) {
+                        logger.warn("Pausing response writing as writeBufferHighWaterMark exceeded on {} - writing will continue once client has caught up", msg);
+                        warnOnce = true;
+                    }
+
+                    // since the client is lagging hold off until the channel signals that it has drained. if nothing
+                    // ties the iteration to this thread then let the thread go and pick up from here later.
+                    stopWatch.split();
+                    final long remaining = settings.serializedResponseTimeout - stopWatch.getSplitTime();
+                    stopWatch.unsplit();
+                    final Optional<Executor> resumeOn = getIterationResumeExecutor(context, executor);
+                    if (remaining > 0 && resumeOn.isPresent()) {
+                        pause(context, itty, aggregate, resultIterationBatchSize, credits, stopWatch, false, true,
+                                resumeOn.get(), task -> WritabilityHandler.whenWritable(ctx.channel(), task), remaining,
+                                new TimeoutException(pausedTimeoutMessage(true)));
+                        return;
+                    } else if (remaining > 0) {
+                        final CountDownLatch writable = new CountDownLatch(1);
+                        WritabilityHandler.whenWritable(ctx.channel(), writable::countDown);
+                        writable.await(remaining, TimeUnit.MILLISECONDS);
+                    }
+                }
+
+                if (ctx.channel().isWritable()) {
+                    if (null != credits) credits.take();
                     final ResponseStatusCode code = itty.hasNext() ? ResponseStatusCode.PARTIAL_CONTENT : ResponseStatusCode.SUCCESS;
                     ctx.writeAndFlush(ResponseMessage.build(msg)
                             .code(code)
@@ -253,29 +737,72 @@ public abstract class AbstractEvalOpProcessor implements OpProcessor {
 
                     aggregate = new ArrayList<>(resultIterationBatchSize);
                 }
-            } else {
-                // don't keep triggering this warning over and over again for the same request
-                if (!warnOnce) {
-                    logger.warn("Pausing response writing as writeBufferHighWaterMark exceeded on {} - writing will continue once client has caught up", msg);
-                    warnOnce = true;
-                }
-
-                // since the client is lagging we can hold here for a period of time for the client to catch up.
-                // this isn't blocking the IO thread - just a worker.
-                TimeUnit.MILLISECONDS.sleep(10);
             }
 
             stopWatch.split();
-            if (stopWatch.getSplitTime() > settings.serializedResponseTimeout) {
-                final String timeoutMsg = String.format("Serialization of the entire response exceeded the serializeResponseTimeout setting %s",
-                        warnOnce ? "[Gremlin Server paused writes to client as messages were not being consumed quickly enough]" : "");
-                throw new TimeoutException(timeoutMsg.trim());
-            }
+            if (stopWatch.getSplitTime() > settings.serializedResponseTimeout)
+                throw new TimeoutException(pausedTimeoutMessage(warnOnce));
 
             stopWatch.unsplit();
         }
 
         stopWatch.stop();
+        if (null != credits) ResponseCredits.unregister(ctx.channel(), msg.getRequestId());
+    }
+
+    /**
+     * Parks the iteration until the registered condition is met, at which point it is resubmitted to the specified
+     * executor, or until the time allowed runs out, at which point the timeout is written to the client.
+     */
+    private void pause(final Context context, final Iterator itty, final List<Object> aggregate, final int resultIterationBatchSize,
+                       final ResponseCredits credits, final StopWatch stopWatch, final boolean suspended, final boolean warnOnce,
+                       final Executor resumeOn, final Consumer<Runnable> whenReady, final long allowed,
+                       final TimeoutException timedOut) {
+        final ChannelHandlerContext ctx = context.getChannelHandlerContext();
+        final AtomicBoolean resumed = new AtomicBoolean(false);
+        final ScheduledFuture<?> timeout = context.getScheduledExecutorService().schedule(() -> {
+            if (resumed.compareAndSet(false, true))
+                handleIteratorException(context, timedOut);
+        }, allowed, TimeUnit.MILLISECONDS);
+
+        whenReady.accept(() -> {
+            if (!resumed.compareAndSet(false, true)) return;
+            timeout.cancel(false);
+
+            // nothing more can be written if the client went away while the iteration was paused
+            if (!ctx.channel().isActive()) {
+                abandonIteration(context);
+                return;
+            }
+
+            try {
+                resumeOn.execute(() -> {
+                    try {
+                        if (suspended) stopWatch.resume();
+                        iterate(context, itty, aggregate, resultIterationBatchSize, credits, stopWatch, warnOnce, resumeOn);
+                    } catch (Exception ex) {
+                        handleIteratorException(context, ex);
+                    }
+                });
+            } catch (RejectedExecutionException ree) {
+                handleIteratorException(context, ree);
+            }
+        });
+    }
+
+    /**
+     * Gives up on an iteration as the client went away and nothing more can be written to it.
+     */
+    private void abandonIteration(final Context context) {
+        final RequestMessage msg = context.getRequestMessage();
+        logger.debug("Abandoning response to {} as the channel closed", msg);
+        ResponseCredits.unregister(context.getChannelHandlerContext().channel(), msg.getRequestId());
+        if (manageTransactions) context.getGraphManager().rollbackAll();
+    }
+
+    private static String pausedTimeoutMessage(final boolean paused) {
+        return String.format("Serialization of the entire response exceeded the serializeResponseTimeout setting %s",
+                paused ? "[Gremlin Server paused writes to client as messages were not being consumed quickly enough]" : "").trim();
     }
 
     @FunctionalInterface
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.op;
+
+import io.netty.channel.Channel;
+import io.netty.util.Attribute;
+import org.apache.tinkerpop.gremlin.driver.Tokens;
+import org.apache.tinkerpop.gremlin.server.handler.StateKey;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The number of pages of a response that the client has allowed the server to send, for a request that asked for
+ * flow control with the {@link Tokens#ARGS_CREDITS} argument.  Each page written takes one credit and the client
+ * grants more with a {@link Tokens#OPS_CREDIT} request as it consumes the pages it holds.  The credits of the
+ * requests in flight on a channel are held in a channel attribute keyed by request identifier.
+ *
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+public final class ResponseCredits {
+
+    private long credits;
+    private Runnable waiting;
+
+    private ResponseCredits(final long credits) {
+        this.credits = credits;
+    }
+
+    /**
+     * Creates the credits for a request on the channel with the number of pages initially granted.
+     */
+    public static ResponseCredits register(final Channel channel, final UUID requestId, final int credits) {
+        final ResponseCredits responseCredits = new ResponseCredits(credits);
+        getCredits(channel).put(requestId, responseCredits);
+        return responseCredits;
+    }
+
+    /**
+     * Gets the credits of a request on the channel, or {@code null} if it did not ask for flow control.
+     */
+    public static ResponseCredits get(final Channel channel, final UUID requestId) {
+        return getCredits(channel).get(requestId);
+    }
+
+    /**
+     * Removes the credits for a request once its response is complete.
+     */
+    public static void unregister(final Channel channel, final UUID requestId) {
+        getCredits(channel).remove(requestId);
+    }
+
+    /**
+     * Grants further credits to a request, resuming its response if it was waiting on them.  Returns
+     * {@code false} if the request has no credits on the channel, which is the case for a grant that arrives after
+     * the response completed.
+     */
+    public static boolean grant(final Channel channel, final UUID requestId, final int credits) {
+        final ResponseCredits responseCredits = getCredits(channel).get(requestId);
+        if (null == responseCredits) return false;
+        responseCredits.grant(credits);
+        return true;
+    }
+
+    public synchronized boolean hasCredit() {
+        return this.credits > 0;
+    }
+
+    /**
+     * Takes a credit for a page about to be written.
+     */
+    public synchronized void take() {
+        if (this.credits <= 0) throw new IllegalStateException("There are no credits left to write a page with");
+        this.credits--;
+    }
+
+    /**
+     * Runs the task once a credit is available, which is immediately on the calling thread if there already is one.
+     * Only one task may wait at a time.
+     */
+    public void whenGranted(final Runnable task) {
+        synchronized (this) {
+            if (this.credits <= 0) {
+                this.waiting = task;
+                return;
+            }
+        }
+        task.run();
+    }
+
+    private void grant(final int credits) {
+        final Runnable task;
+        synchronized (this) {
+            // saturate rather than overflow as a client may grant an effectively unlimited number
+            this.credits = Math.min(Integer.MAX_VALUE, this.credits + Math.max(0, credits));
+            if (this.credits <= 0) return;
+            task = this.waiting;
+            this.waiting = null;
+        }
+        if (task != null) task.run();
+    }
+
+    private static ConcurrentMap<UUID, ResponseCredits> getCredits(final Channel channel) {
+        final Attribute<ConcurrentMap<UUID, ResponseCredits>> attribute = channel.attr(StateKey.RESPONSE_CREDITS);
+        ConcurrentMap<UUID, ResponseCredits> credits = attribute.get();
+        if (null == credits) {
+            final ConcurrentMap<UUID, ResponseCredits> created = new ConcurrentHashMap<>();
+            credits = attribute.setIfAbsent(created);
+            if (null == credits) credits = created;
+        }
+        return credits;
+    }
+}
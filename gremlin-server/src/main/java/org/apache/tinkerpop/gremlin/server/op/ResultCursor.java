@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.op;
+
+import io.netty.channel.Channel;
+import io.netty.util.Attribute;
+import org.apache.tinkerpop.gremlin.driver.Tokens;
+import org.apache.tinkerpop.gremlin.server.GremlinServer;
+import org.apache.tinkerpop.gremlin.server.handler.StateKey;
+import org.apache.tinkerpop.gremlin.server.util.MetricManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * The result of a script evaluated by a {@link Tokens#OPS_CURSOR} request, held open on the server so that the
+ * client can fetch it a page at a time with {@link Tokens#OPS_NEXT} requests rather than take it in one response.
+ * A cursor is closed once its results are exhausted, when the client closes it, or when it has gone unused for
+ * longer than its timeout.  Fetches are run on the executor the cursor was opened with so that the result is
+ * always iterated where it can be, which for a session is the thread of that session.
+ * <p/>
+ * A cursor belongs to the channel that opened it.  The open cursors of a channel are held in a channel attribute so
+ * that they can only be fetched from or closed by requests on that channel, and they are all closed when the channel
+ * closes.
+ *
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+public final class ResultCursor {
+    private static final Logger logger = LoggerFactory.getLogger(ResultCursor.class);
+
+    private static final AtomicInteger openCursors = new AtomicInteger(0);
+
+    static {
+        MetricManager.INSTANCE.getGuage(openCursors::get, name(GremlinServer.class, "cursors"));
+    }
+
+    private final UUID id = UUID.randomUUID();
+    private final ConcurrentMap<UUID, ResultCursor> cursors;
+    private final Iterator itty;
+    private final Executor executor;
+    private final ScheduledExecutorService scheduledExecutorService;
+    private final long timeout;
+
+    private final AtomicReference<ScheduledFuture> expire = new AtomicReference<>();
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    private ResultCursor(final ConcurrentMap<UUID, ResultCursor> cursors, final Iterator itty, final Executor executor,
+                         final ScheduledExecutorService scheduledExecutorService, final long timeout) {
+        this.cursors = cursors;
+        this.itty = itty;
+        this.executor = executor;
+        this.scheduledExecutorService = scheduledExecutorService;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Opens a cursor for the channel over the iterator that is closed if no fetch is made from it for the specified
+     * number of milliseconds.
+     */
+    public static ResultCursor open(final Channel channel, final Iterator itty, final Executor executor,
+                                    final ScheduledExecutorService scheduledExecutorService, final long timeout) {
+        final ResultCursor cursor = new ResultCursor(getCursors(channel), itty, executor, scheduledExecutorService, timeout);
+        openCursors.incrementAndGet();
+        cursor.cursors.put(cursor.id, cursor);
+        cursor.touch();
+
+        // the channel may have closed before the cursor was added, in which case nothing else will close it
+        if (!channel.isOpen()) cursor.close();
+        return cursor;
+    }
+
+    /**
+     * Gets a cursor that is open on the channel by its identifier.
+     */
+    public static Optional<ResultCursor> get(final Channel channel, final UUID id) {
+        return null == id ? Optional.empty() : Optional.ofNullable(getCursors(channel).get(id));
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Gets up to the specified number of results from the cursor, closing it if that exhausts the results.
+     */
+    public synchronized List<Object> next(final int items) {
+        touch();
+        final List<Object> page = new ArrayList<>(Math.min(items, 1024));
+        while (page.size() < items && itty.hasNext()) {
+            page.add(itty.next());
+        }
+
+        if (!itty.hasNext()) close();
+        return page;
+    }
+
+    /**
+     * Determines if the cursor has further results.  A cursor that is closed has none.
+     */
+    public synchronized boolean hasNext() {
+        return !closed.get() && itty.hasNext();
+    }
+
+    /**
+     * Resets the time the cursor has left before it is closed for being unused.
+     */
+    public void touch() {
+        final ScheduledFuture expireFuture = expire.get();
+        if (null == expireFuture || !expireFuture.isDone()) {
+            if (expireFuture != null) expireFuture.cancel(false);
+            expire.set(scheduledExecutorService.schedule(() -> {
+                logger.info("Cursor {} has been idle for more than {} milliseconds - closing", id, timeout);
+                close();
+            }, timeout, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    /**
+     * Closes the cursor and releases its results.
+     */
+    public void close() {
+        if (!closed.compareAndSet(false, true)) return;
+        cursors.remove(id);
+        openCursors.decrementAndGet();
+
+        final ScheduledFuture expireFuture = expire.get();
+        if (expireFuture != null) expireFuture.cancel(false);
+
+        if (itty instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) itty).close();
+            } catch (Exception ex) {
+                logger.warn(String.format("Could not close the results of cursor %s", id), ex);
+            }
+        }
+    }
+
+    private static ConcurrentMap<UUID, ResultCursor> getCursors(final Channel channel) {
+        final Attribute<ConcurrentMap<UUID, ResultCursor>> attribute = channel.attr(StateKey.RESULT_CURSORS);
+        ConcurrentMap<UUID, ResultCursor> cursors = attribute.get();
+        if (null == cursors) {
+            final ConcurrentMap<UUID, ResultCursor> created = new ConcurrentHashMap<>();
+            cursors = attribute.setIfAbsent(created);
+            if (null == cursors) {
+                cursors = created;
+                channel.closeFuture().addListener(f -> created.values().forEach(ResultCursor::close));
+            }
+        }
+        return cursors;
+    }
+}
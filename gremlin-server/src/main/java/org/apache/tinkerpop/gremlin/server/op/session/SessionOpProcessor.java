@@ -22,6 +22,7 @@ import org.apache.tinkerpop.gremlin.driver.Tokens;
 import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
 import org.apache.tinkerpop.gremlin.driver.message.ResponseMessage;
 import org.apache.tinkerpop.gremlin.driver.message.ResponseStatusCode;
+import org.apache.tinkerpop.gremlin.groovy.engine.GremlinExecutor;
 import org.apache.tinkerpop.gremlin.server.Context;
 import org.apache.tinkerpop.gremlin.server.GremlinServer;
 import org.apache.tinkerpop.gremlin.server.Settings;
@@ -34,11 +35,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.script.Bindings;
+import javax.script.SimpleBindings;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 import static com.codahale.metrics.MetricRegistry.name;
 
@@ -123,6 +126,23 @@ public class SessionOpProcessor extends AbstractEvalOpProcessor {
         return this::evalOp;
     }
 
+    @Override
+    public ThrowingConsumer<Context> getBatchOp() {
+        return this::batchOp;
+    }
+
+    @Override
+    protected Optional<ThrowingConsumer<Context>> validateBatchMessage(final RequestMessage message) throws OpProcessorException {
+        super.validateBatchMessage(message);
+
+        if (!message.optionalArgs(Tokens.ARGS_SESSION).isPresent()) {
+            final String msg = String.format("A message with an [%s] op code requires a [%s] argument", Tokens.OPS_BATCH, Tokens.ARGS_SESSION);
+            throw new OpProcessorException(msg, ResponseMessage.build(message).code(ResponseStatusCode.REQUEST_ERROR_INVALID_REQUEST_ARGUMENTS).result(msg).create());
+        }
+
+        return Optional.empty();
+    }
+
     @Override
     protected Optional<ThrowingConsumer<Context>> validateEvalMessage(final RequestMessage message) throws OpProcessorException {
         super.validateEvalMessage(message);
@@ -135,6 +155,39 @@ public class SessionOpProcessor extends AbstractEvalOpProcessor {
         return Optional.empty();
     }
 
+    /**
+     * A session evaluates its requests on its own thread, which is also where its responses are serialized, so a
+     * paused response gives that thread up and is resumed on it.  A request that arrives in the session while a
+     * response is paused is therefore evaluated before the rest of that response is written.
+     */
+    @Override
+    protected Optional<Executor> getIterationResumeExecutor(final Context context, final Executor executor) {
+        final Session session = sessions.get(context.getRequestMessage().getArgs().get(Tokens.ARGS_SESSION).toString());
+        return null == session ? Optional.empty() : Optional.of(session.getExecutor());
+    }
+
+    /**
+     * A session evaluates all of its requests on its own thread, so the {@link Tokens#ARGS_POOL} argument and the
+     * {@code graphs} of the {@link Settings#gremlinPools} do not apply to it.
+     */
+    @Override
+    protected Executor selectGremlinPool(final Context context, final GremlinExecutor gremlinExecutor) {
+        return gremlinExecutor.getExecutorService();
+    }
+
+    /**
+     * Results fetched from a cursor opened in a session are serialized on the thread of the session just as those of
+     * an "eval" are.
+     */
+    @Override
+    protected void nextOp(final Context context) throws OpProcessorException {
+        final RequestMessage msg = context.getRequestMessage();
+        final Session session = msg.optionalArgs(Tokens.ARGS_SESSION).map(id -> sessions.get(id.toString())).orElse(null);
+        if (null != session) context.getChannelHandlerContext().channel().attr(StateKey.SESSION).set(session);
+
+        super.nextOp(context);
+    }
+
     @Override
     public void close() throws Exception {
        sessions.values().forEach(Session::kill);
@@ -159,6 +212,24 @@ public class SessionOpProcessor extends AbstractEvalOpProcessor {
         });
     }
 
+    /**
+     * A batch is evaluated on the thread of the session, so its scripts can read the variables of the session.  Each
+     * script is evaluated against its own copy of those bindings, so the parameters and variables of the batch are
+     * discarded once it is done and never written back to the session.
+     */
+    protected void batchOp(final Context context) throws OpProcessorException {
+        final RequestMessage msg = context.getRequestMessage();
+        final Session session = getSession(context, msg);
+        context.getChannelHandlerContext().channel().attr(StateKey.SESSION).set(session);
+
+        batchOpInternal(context, session::getGremlinExecutor, () -> {
+            // the parameters of the request are bound to a copy so that they do not remain in the session either
+            final Bindings bindings = new SimpleBindings(new HashMap<>(session.getBindings()));
+            Optional.ofNullable((Map<String, Object>) msg.getArgs().get(Tokens.ARGS_BINDINGS)).ifPresent(bindings::putAll);
+            return bindings;
+        });
+    }
+
     /**
      * Examines the {@link RequestMessage} and extracts the session token. The session is then either found or a new
      * one is created.
@@ -62,6 +62,11 @@ public class StandardOpProcessor extends AbstractEvalOpProcessor {
         return this::evalOp;
     }
 
+    @Override
+    public ThrowingConsumer<Context> getBatchOp() {
+        return this::batchOp;
+    }
+
     @Override
     public Optional<ThrowingConsumer<Context>> selectOther(final RequestMessage requestMessage)  throws OpProcessorException {
         return Optional.empty();
@@ -77,51 +82,62 @@ public class StandardOpProcessor extends AbstractEvalOpProcessor {
 
         logger.debug("Sessionless request {} for eval in thread {}", msg.getRequestId(), Thread.currentThread().getName());
 
-        super.evalOpInternal(context, context::getGremlinExecutor, () -> {
-            final Bindings bindings = new SimpleBindings();
-
-            // don't allow both rebindings and aliases parameters as they are the same thing. aliases were introduced
-            // as of 3.1.0 as a replacement for rebindings. this check can be removed when rebindings are completely
-            // removed from the protocol
-            final boolean hasRebindings = msg.getArgs().containsKey(Tokens.ARGS_REBINDINGS);
-            final boolean hasAliases = msg.getArgs().containsKey(Tokens.ARGS_ALIASES);
-            if (hasRebindings && hasAliases) {
-                final String error = "Prefer use of the 'aliases' parameter over 'rebindings' and do not use both";
-                throw new OpProcessorException(error, ResponseMessage.build(msg).code(ResponseStatusCode.REQUEST_ERROR_INVALID_REQUEST_ARGUMENTS).result(error).create());
-            }
+        super.evalOpInternal(context, context::getGremlinExecutor, () -> buildBindings(context));
+    }
 
-            final String rebindingOrAliasParameter = hasRebindings ? Tokens.ARGS_REBINDINGS : Tokens.ARGS_ALIASES;
+    private void batchOp(final Context context) throws OpProcessorException {
+        final RequestMessage msg = context.getRequestMessage();
 
-            // alias any global bindings to a different variable.
-            if (msg.getArgs().containsKey(rebindingOrAliasParameter)) {
-                final Map<String, String> rebinds = (Map<String, String>) msg.getArgs().get(rebindingOrAliasParameter);
-                for (Map.Entry<String,String> kv : rebinds.entrySet()) {
-                    boolean found = false;
-                    final Map<String, Graph> graphs = context.getGraphManager().getGraphs();
-                    if (graphs.containsKey(kv.getValue())) {
-                        bindings.put(kv.getKey(), graphs.get(kv.getValue()));
-                        found = true;
-                    }
+        logger.debug("Sessionless request {} for batch in thread {}", msg.getRequestId(), Thread.currentThread().getName());
 
-                    if (!found) {
-                        final Map<String, TraversalSource> traversalSources = context.getGraphManager().getTraversalSources();
-                        if (traversalSources.containsKey(kv.getValue())) {
-                            bindings.put(kv.getKey(), traversalSources.get(kv.getValue()));
-                            found = true;
-                        }
-                    }
+        super.batchOpInternal(context, context::getGremlinExecutor, () -> buildBindings(context));
+    }
+
+    private static Bindings buildBindings(final Context context) throws OpProcessorException {
+        final RequestMessage msg = context.getRequestMessage();
+        final Bindings bindings = new SimpleBindings();
+
+        // don't allow both rebindings and aliases parameters as they are the same thing. aliases were introduced
+        // as of 3.1.0 as a replacement for rebindings. this check can be removed when rebindings are completely
+        // removed from the protocol
+        final boolean hasRebindings = msg.getArgs().containsKey(Tokens.ARGS_REBINDINGS);
+        final boolean hasAliases = msg.getArgs().containsKey(Tokens.ARGS_ALIASES);
+        if (hasRebindings && hasAliases) {
+            final String error = "Prefer use of the 'aliases' parameter over 'rebindings' and do not use both";
+            throw new OpProcessorException(error, ResponseMessage.build(msg).code(ResponseStatusCode.REQUEST_ERROR_INVALID_REQUEST_ARGUMENTS).result(error).create());
+        }
+
+        final String rebindingOrAliasParameter = hasRebindings ? Tokens.ARGS_REBINDINGS : Tokens.ARGS_ALIASES;
+
+        // alias any global bindings to a different variable.
+        if (msg.getArgs().containsKey(rebindingOrAliasParameter)) {
+            final Map<String, String> rebinds = (Map<String, String>) msg.getArgs().get(rebindingOrAliasParameter);
+            for (Map.Entry<String,String> kv : rebinds.entrySet()) {
+                boolean found = false;
+                final Map<String, Graph> graphs = context.getGraphManager().getGraphs();
+                if (graphs.containsKey(kv.getValue())) {
+                    bindings.put(kv.getKey(), graphs.get(kv.getValue()));
+                    found = true;
+                }
 
-                    if (!found) {
-                        final String error = String.format("Could not alias [%s] to [%s] as [%s] not in the Graph or TraversalSource global bindings",
-                                kv.getKey(), kv.getValue(), kv.getValue());
-                        throw new OpProcessorException(error, ResponseMessage.build(msg).code(ResponseStatusCode.REQUEST_ERROR_INVALID_REQUEST_ARGUMENTS).result(error).create());
+                if (!found) {
+                    final Map<String, TraversalSource> traversalSources = context.getGraphManager().getTraversalSources();
+                    if (traversalSources.containsKey(kv.getValue())) {
+                        bindings.put(kv.getKey(), traversalSources.get(kv.getValue()));
+                        found = true;
                     }
                 }
+
+                if (!found) {
+                    final String error = String.format("Could not alias [%s] to [%s] as [%s] not in the Graph or TraversalSource global bindings",
+                            kv.getKey(), kv.getValue(), kv.getValue());
+                    throw new OpProcessorException(error, ResponseMessage.build(msg).code(ResponseStatusCode.REQUEST_ERROR_INVALID_REQUEST_ARGUMENTS).result(error).create());
+                }
             }
+        }
 
-            // add any bindings to override any other supplied
-            Optional.ofNullable((Map<String, Object>) msg.getArgs().get(Tokens.ARGS_BINDINGS)).ifPresent(bindings::putAll);
-            return bindings;
-        });
+        // add any bindings to override any other supplied
+        Optional.ofNullable((Map<String, Object>) msg.getArgs().get(Tokens.ARGS_BINDINGS)).ifPresent(bindings::putAll);
+        return bindings;
     }
 }
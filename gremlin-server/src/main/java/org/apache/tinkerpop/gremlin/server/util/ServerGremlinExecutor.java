@@ -18,7 +18,10 @@
  */
 package org.apache.tinkerpop.gremlin.server.util;
 
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import org.apache.tinkerpop.gremlin.groovy.engine.GremlinExecutor;
+import org.apache.tinkerpop.gremlin.groovy.jsr223.GremlinGroovyScriptEngine;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSource;
 import org.apache.tinkerpop.gremlin.server.GraphManager;
 import org.apache.tinkerpop.gremlin.server.GremlinServer;
@@ -27,12 +30,18 @@ import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -48,6 +57,11 @@ import java.util.stream.Collectors;
 public class ServerGremlinExecutor<T extends ScheduledExecutorService> {
     private static final Logger logger = LoggerFactory.getLogger(ServerGremlinExecutor.class);
 
+    /**
+     * The name that the metrics of the {@link Settings#gremlinPool} are reported under.
+     */
+    public static final String DEFAULT_GREMLIN_POOL = "default";
+
     private final GraphManager graphManager;
     private final Settings settings;
     private final List<LifeCycleHook> hooks;
@@ -55,6 +69,7 @@ public class ServerGremlinExecutor<T extends ScheduledExecutorService> {
     private final T scheduledExecutorService;
     private final ExecutorService gremlinExecutorService;
     private final GremlinExecutor gremlinExecutor;
+    private final Map<String, ExecutorService> gremlinPools = new HashMap<>();
 
     /**
      * Create a new object from {@link Settings} where thread pools are internally created. Note that the
@@ -76,12 +91,18 @@ public class ServerGremlinExecutor<T extends ScheduledExecutorService> {
         this.settings = settings;
 
         if (null == gremlinExecutorService) {
-            final ThreadFactory threadFactoryGremlin = ThreadFactoryUtil.create("exec-%d");
-            this.gremlinExecutorService = Executors.newFixedThreadPool(settings.gremlinPool, threadFactoryGremlin);
+            this.gremlinExecutorService = createGremlinPool(DEFAULT_GREMLIN_POOL, settings.gremlinPool, "exec-%d");
         } else {
             this.gremlinExecutorService = gremlinExecutorService;
         }
 
+        settings.gremlinPools.forEach((k, v) -> {
+            if (k.equals(DEFAULT_GREMLIN_POOL))
+                throw new IllegalStateException(String.format("The name [%s] is reserved for the gremlinPool and cannot name one of the gremlinPools", k));
+            gremlinPools.put(k, createGremlinPool(k, v.size, "exec-" + k + "-%d"));
+            logger.info("Initialized Gremlin thread pool [{}] of {} threads for {}", k, v.size, v.graphs);
+        });
+
         if (null == scheduledExecutorService) {
             final ThreadFactory threadFactoryGremlin = ThreadFactoryUtil.create("worker-%d");
             this.scheduledExecutorService = scheduleExecutorServiceClass.cast(
@@ -116,6 +137,11 @@ public class ServerGremlinExecutor<T extends ScheduledExecutorService> {
 
         logger.info("Initialized GremlinExecutor and configured ScriptEngines.");
 
+        settings.scriptEngines.forEach((k, v) -> {
+            warmupScriptEngine(k, v.warmupScripts);
+            registerScriptEngineMetrics(k);
+        });
+
         // script engine init may have altered the graph bindings or maybe even created new ones - need to
         // re-apply those references back
         gremlinExecutor.getGlobalBindings().entrySet().stream()
@@ -138,6 +164,70 @@ public class ServerGremlinExecutor<T extends ScheduledExecutorService> {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Creates a fixed size Gremlin thread pool that reports the number of tasks waiting in its queue and the time
+     * each task waited there for a thread as {@code gremlin-pool.<name>} metrics.
+     */
+    private static ExecutorService createGremlinPool(final String name, final int size, final String threadNamePattern) {
+        final Timer wait = MetricManager.INSTANCE.getTimer(MetricRegistry.name(GremlinServer.class, "gremlin-pool", name, "wait"));
+        final ThreadPoolExecutor pool = new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), ThreadFactoryUtil.create(threadNamePattern)) {
+            @Override
+            public void execute(final Runnable command) {
+                final long queued = System.nanoTime();
+                super.execute(() -> {
+                    wait.update(System.nanoTime() - queued, TimeUnit.NANOSECONDS);
+                    command.run();
+                });
+            }
+        };
+
+        final String queue = MetricRegistry.name(GremlinServer.class, "gremlin-pool", name, "queue");
+        MetricManager.INSTANCE.getRegistry().remove(queue);
+        MetricManager.INSTANCE.getGuage(() -> pool.getQueue().size(), queue);
+        return pool;
+    }
+
+    private void warmupScriptEngine(final String language, final List<String> scripts) {
+        if (null == scripts || scripts.isEmpty()) return;
+
+        final long start = System.currentTimeMillis();
+        int compiled = 0;
+        for (String script : scripts) {
+            try {
+                gremlinExecutor.getScriptEngines().compile(script, language);
+                compiled++;
+            } catch (Exception ex) {
+                logger.warn(String.format("Could not compile warmup script for %s - %s", language, script), ex);
+            }
+        }
+
+        logger.info("Compiled {} of {} warmup scripts for {} in {}ms", compiled, scripts.size(), language,
+                System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Registers gauges for the compiled script cache of the {@link GremlinGroovyScriptEngine} of the language.  The
+     * gauges look up the engine on each read as it is replaced when the {@code ScriptEngines} are reloaded.
+     */
+    private void registerScriptEngineMetrics(final String language) {
+        registerClassCacheGauge(language, "hits", GremlinGroovyScriptEngine::getClassCacheHitCount);
+        registerClassCacheGauge(language, "misses", GremlinGroovyScriptEngine::getClassCacheMissCount);
+        registerClassCacheGauge(language, "evictions", GremlinGroovyScriptEngine::getClassCacheEvictionCount);
+        registerClassCacheGauge(language, "size", e -> (long) e.getClassCacheSize());
+        registerClassCacheGauge(language, "compilation-time", GremlinGroovyScriptEngine::getClassCacheTotalCompilationTime);
+    }
+
+    private void registerClassCacheGauge(final String language, final String metric,
+                                         final Function<GremlinGroovyScriptEngine, Long> value) {
+        final String name = MetricRegistry.name(GremlinServer.class, "script-engine", language, "class-cache", metric);
+        MetricManager.INSTANCE.getRegistry().remove(name);
+        MetricManager.INSTANCE.getGuage(() -> gremlinExecutor.getScriptEngines().get(language)
+                .filter(e -> e instanceof GremlinGroovyScriptEngine)
+                .map(e -> value.apply((GremlinGroovyScriptEngine) e))
+                .orElse(0l), name);
+    }
+
     public T getScheduledExecutorService() {
         return scheduledExecutorService;
     }
@@ -150,6 +240,13 @@ public class ServerGremlinExecutor<T extends ScheduledExecutorService> {
         return gremlinExecutorService;
     }
 
+    /**
+     * Gets the Gremlin thread pools configured by {@link Settings#gremlinPools} keyed by their name.
+     */
+    public Map<String, ExecutorService> getGremlinPools() {
+        return gremlinPools;
+    }
+
     public GraphManager getGraphManager() {
         return graphManager;
     }
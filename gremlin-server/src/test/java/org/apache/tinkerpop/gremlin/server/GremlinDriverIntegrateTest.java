@@ -20,9 +20,11 @@ package org.apache.tinkerpop.gremlin.server;
 
 import org.apache.commons.lang.exception.ExceptionUtils;
 import org.apache.tinkerpop.gremlin.TestHelper;
+import org.apache.tinkerpop.gremlin.driver.Batch;
 import org.apache.tinkerpop.gremlin.driver.Channelizer;
 import org.apache.tinkerpop.gremlin.driver.Client;
 import org.apache.tinkerpop.gremlin.driver.Cluster;
+import org.apache.tinkerpop.gremlin.driver.Cursor;
 import org.apache.tinkerpop.gremlin.driver.Result;
 import org.apache.tinkerpop.gremlin.driver.ResultSet;
 import org.apache.tinkerpop.gremlin.driver.exception.ConnectionException;
@@ -42,6 +44,7 @@ import org.junit.Test;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -58,6 +61,7 @@ import java.util.stream.IntStream;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -99,6 +103,9 @@ public class GremlinDriverIntegrateTest extends AbstractGremlinServerIntegration
                 settings.serializers.stream().filter(s -> s.config.containsKey("custom"))
                         .findFirst().get().config.put("custom", custom);
                 break;
+            case "shouldNotFetchFromTimedOutCursor":
+                settings.resultCursorTimeout = 500;
+                break;
             case "shouldExecuteScriptInSessionOnTransactionalGraph":
             case "shouldExecuteSessionlessScriptOnTransactionalGraph":
             case "shouldExecuteScriptInSessionOnTransactionalWithManualTransactionsGraph":
@@ -293,6 +300,195 @@ public class GremlinDriverIntegrateTest extends AbstractGremlinServerIntegration
         cluster.close();
     }
 
+    @Test
+    public void shouldOnlyIterateAheadOfClientAsFarAsResultPageCreditsAllow() throws Exception {
+        final Cluster cluster = Cluster.build().resultIterationBatchSize(10).resultPageCredits(2).create();
+        final Client client = cluster.connect();
+
+        final ResultSet results = client.submit("java.util.stream.IntStream.range(0, 1000).boxed().peek{graph.variables().set('iterated', it)}.iterator()");
+        assertEquals(0, results.one().getInt());
+
+        // two pages sent and a third filled in waiting for credit - give the server a chance to over-run if it would
+        Thread.sleep(500);
+        assertThat(client.submit("graph.variables().get('iterated').get()").one().getInt(), lessThan(100));
+
+        final AtomicInteger counter = new AtomicInteger(0);
+        results.stream().forEach(r -> assertEquals(counter.incrementAndGet(), r.getInt()));
+        assertEquals(999, counter.get());
+
+        assertEquals(1000, client.submit("(0..<1000)").all().get().size());
+
+        cluster.close();
+    }
+
+    @Test
+    public void shouldIterateInSessionWithResultPageCredits() throws Exception {
+        final Cluster cluster = Cluster.build().resultIterationBatchSize(10).resultPageCredits(1).create();
+        final Client client = cluster.connect(name.getMethodName());
+
+        final AtomicInteger counter = new AtomicInteger(0);
+        client.submit("(0..<100)").iterator().forEachRemaining(r -> assertEquals(counter.getAndIncrement(), r.getInt()));
+        assertEquals(100, counter.get());
+
+        assertEquals(55, client.submit("(0..<55)").all().get().size());
+
+        cluster.close();
+    }
+
+    @Test
+    public void shouldPageThroughCursor() throws Exception {
+        final Cluster cluster = Cluster.open();
+        final Client client = cluster.connect();
+
+        final Cursor cursor = client.openCursor("(0..<25)");
+        assertTrue(cursor.hasNext());
+
+        final AtomicInteger counter = new AtomicInteger(0);
+        assertEquals(10, cursor.next(10).size());
+        assertTrue(cursor.hasNext());
+        cursor.next(10).forEach(r -> assertEquals(10 + counter.getAndIncrement(), r.getInt()));
+        assertEquals(10, counter.get());
+        assertEquals(5, cursor.next(10).size());
+        assertFalse(cursor.hasNext());
+        assertEquals(0, cursor.next(10).size());
+
+        final Map<String, Object> params = new HashMap<>();
+        params.put("x", 3);
+        final Cursor closed = client.openCursor("(1..x).collect{it * 2}", params);
+        assertEquals(2, closed.next(1).get(0).getInt());
+        closed.close();
+        assertFalse(closed.hasNext());
+
+        cluster.close();
+    }
+
+    @Test
+    public void shouldPageThroughCursorInSession() throws Exception {
+        final Cluster cluster = Cluster.open();
+        final Client client = cluster.connect(name.getMethodName());
+
+        client.submit("x = (0..<15).toList()").all().get();
+        final Cursor cursor = client.openCursor("x");
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9),
+                cursor.next(10).stream().map(Result::getInt).collect(Collectors.toList()));
+
+        // the session continues to evaluate requests while the cursor is open
+        assertEquals(15, client.submit("x.size()").all().get().get(0).getInt());
+
+        assertEquals(5, cursor.next(10).size());
+        assertFalse(cursor.hasNext());
+
+        cluster.close();
+    }
+
+    @Test
+    public void shouldNotFetchFromTimedOutCursor() throws Exception {
+        final Cluster cluster = Cluster.open();
+        final Client client = cluster.connect();
+
+        final Cursor cursor = client.openCursor("(0..<25)");
+        assertEquals(10, cursor.next(10).size());
+
+        Thread.sleep(1500);
+
+        try {
+            cursor.next(10);
+            fail("Should have thrown an exception because the cursor timed out");
+        } catch (Exception ex) {
+            final Throwable root = ExceptionUtils.getRootCause(ex);
+            assertThat(root, instanceOf(ResponseException.class));
+            assertEquals(ResponseStatusCode.REQUEST_ERROR_INVALID_REQUEST_ARGUMENTS, ((ResponseException) root).getResponseStatusCode());
+        }
+
+        cluster.close();
+    }
+
+    @Test
+    public void shouldSubmitBatch() throws Exception {
+        final Cluster cluster = Cluster.open();
+        final Client client = cluster.connect();
+
+        final Map<String, Object> params = new HashMap<>();
+        params.put("x", 10);
+        final Batch batch = Batch.build()
+                .add("1+1")
+                .add("[x, x + 1]", params)
+                .add("[]").create();
+
+        final List<Result> results = client.submit(batch).all().get();
+        assertEquals(3, results.size());
+        assertEquals(Collections.singletonList(2), results.get(0).get(List.class));
+        assertEquals(Arrays.asList(10, 11), results.get(1).get(List.class));
+        assertEquals(Collections.emptyList(), results.get(2).get(List.class));
+
+        cluster.close();
+    }
+
+    @Test
+    public void shouldSubmitBatchInSession() throws Exception {
+        final Cluster cluster = Cluster.open();
+        final Client client = cluster.connect(name.getMethodName());
+        client.submit("y = 100").all().get();
+
+        final Batch batch = Batch.build()
+                .add("y + x", Collections.singletonMap("x", 1))
+                .add("z = y + 2")
+                .add("y = 5").create();
+        final List<Result> results = client.submit(batch).all().get();
+        assertEquals(Collections.singletonList(101), results.get(0).get(List.class));
+        assertEquals(Collections.singletonList(102), results.get(1).get(List.class));
+        assertEquals(Collections.singletonList(5), results.get(2).get(List.class));
+
+        // parameters and variables of the batch do not remain in the session and session variables are not rewritten
+        try {
+            client.submit("[x, z]").all().get();
+            fail("Should have thrown an exception because x and z are not in the session");
+        } catch (Exception ex) {
+            final Throwable root = ExceptionUtils.getRootCause(ex);
+            assertThat(root, instanceOf(ResponseException.class));
+            assertEquals(ResponseStatusCode.SERVER_ERROR_SCRIPT_EVALUATION, ((ResponseException) root).getResponseStatusCode());
+        }
+        assertEquals(100, client.submit("y").all().get().get(0).getInt());
+
+        cluster.close();
+    }
+
+    @Test
+    public void shouldNotShareBindingsBetweenScriptsOfBatch() throws Exception {
+        final Cluster cluster = Cluster.open();
+        final Client client = cluster.connect();
+
+        try {
+            client.submit(Batch.build().add("x", Collections.singletonMap("x", 1)).add("x").create()).all().get();
+            fail("Should have thrown an exception because the parameter of the first script is not bound to the second");
+        } catch (Exception ex) {
+            final Throwable root = ExceptionUtils.getRootCause(ex);
+            assertThat(root, instanceOf(ResponseException.class));
+            assertEquals(ResponseStatusCode.SERVER_ERROR_SCRIPT_EVALUATION, ((ResponseException) root).getResponseStatusCode());
+            assertThat(root.getMessage(), startsWith("Script 1 of the batch failed"));
+        }
+
+        cluster.close();
+    }
+
+    @Test
+    public void shouldFailBatchOnBadScript() throws Exception {
+        final Cluster cluster = Cluster.open();
+        final Client client = cluster.connect();
+
+        try {
+            client.submit(Batch.build().add("1+1").add("1/0").add("2+2").create()).all().get();
+            fail("Should have thrown an exception because the second script of the batch divides by zero");
+        } catch (Exception ex) {
+            final Throwable root = ExceptionUtils.getRootCause(ex);
+            assertThat(root, instanceOf(ResponseException.class));
+            assertEquals(ResponseStatusCode.SERVER_ERROR_SCRIPT_EVALUATION, ((ResponseException) root).getResponseStatusCode());
+            assertThat(root.getMessage(), startsWith("Script 1 of the batch failed"));
+        }
+
+        cluster.close();
+    }
+
     @Test
     public void shouldGetSomeThenSomeMore() throws Exception {
         final Cluster cluster = Cluster.open();
@@ -394,6 +590,31 @@ public class GremlinDriverIntegrateTest extends AbstractGremlinServerIntegration
                 assertTrue(expected.containsAll(((List<Result>) refs[r].get()).stream().map(resultItem -> new Integer(resultItem.getInt())).collect(Collectors.toList()))));
     }
 
+    @Test
+    public void shouldNotBlockCallerOfSubmitAsyncWhileWaitingForConnection() throws Exception {
+        final Cluster cluster = Cluster.build()
+                .minConnectionPoolSize(1)
+                .maxConnectionPoolSize(1)
+                .maxSimultaneousUsagePerConnection(1)
+                .maxInProcessPerConnection(1)
+                .maxWaitForConnection(30000)
+                .create();
+        final Client client = cluster.connect().init();
+
+        // the only connection is busy with this request so the next one has to wait for it to come back
+        final CompletableFuture<List<Result>> first = client.submitAsync("Thread.sleep(3000);1").thenCompose(ResultSet::all);
+
+        final long start = System.nanoTime();
+        final CompletableFuture<List<Result>> second = client.submitAsync("2").thenCompose(ResultSet::all);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), lessThan(1000l));
+        assertFalse(second.isDone());
+
+        assertEquals(1, first.get(30, TimeUnit.SECONDS).get(0).getInt());
+        assertEquals(2, second.get(30, TimeUnit.SECONDS).get(0).getInt());
+
+        cluster.close();
+    }
+
     @Test
     public void shouldCloseWithServerDown() throws Exception {
         final Cluster cluster = Cluster.open();
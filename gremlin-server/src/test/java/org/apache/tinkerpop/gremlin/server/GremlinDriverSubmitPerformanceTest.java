@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server;
+
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.BenchmarkRule;
+import com.carrotsearch.junitbenchmarks.annotation.AxisRange;
+import com.carrotsearch.junitbenchmarks.annotation.BenchmarkHistoryChart;
+import com.carrotsearch.junitbenchmarks.annotation.BenchmarkMethodChart;
+import com.carrotsearch.junitbenchmarks.annotation.LabelType;
+import org.apache.tinkerpop.gremlin.driver.Client;
+import org.apache.tinkerpop.gremlin.driver.Cluster;
+import org.apache.tinkerpop.gremlin.driver.Result;
+import org.apache.tinkerpop.gremlin.driver.ResultSet;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Measures the throughput of {@link Client#submitAsync(String)} from as many threads as there are cores against the
+ * size of the connection pool, where the smaller pools leave most requests waiting to borrow a connection.
+ *
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+@RunWith(Parameterized.class)
+@AxisRange(min = 0, max = 1)
+@BenchmarkMethodChart(filePrefix = "gremlin-driver-submit")
+@BenchmarkHistoryChart(labelWith = LabelType.CUSTOM_KEY, maxRuns = 20, filePrefix = "hx-gremlin-driver-submit")
+public class GremlinDriverSubmitPerformanceTest extends AbstractGremlinServerPerformanceTest {
+
+    public final static int DEFAULT_BENCHMARK_ROUNDS = 500;
+    public final static int DEFAULT_WARMUP_ROUNDS = 50;
+
+    private final static int REQUESTS_PER_ROUND = 64;
+
+    /**
+     * A cluster for each pool size, opened ahead of the rounds for that size as the benchmark rule runs the
+     * {@code Before} and {@code After} methods within each round.
+     */
+    private final static Map<Integer, Cluster> clusters = new ConcurrentHashMap<>();
+    private final static Map<Integer, Client> clients = new ConcurrentHashMap<>();
+
+    @Rule
+    public TestRule benchmarkRun = new BenchmarkRule();
+
+    @Parameterized.Parameters(name = "poolSize={0}")
+    public static Iterable<Object[]> data() {
+        return Arrays.asList(new Object[][]{{1}, {2}, {8}});
+    }
+
+    @Parameterized.Parameter
+    public int poolSize;
+
+    @Before
+    public void openCluster() {
+        clients.computeIfAbsent(poolSize, size -> {
+            final Cluster cluster = Cluster.build("localhost")
+                    .minConnectionPoolSize(size)
+                    .maxConnectionPoolSize(size)
+                    .maxWaitForConnection(30000).create();
+            clusters.put(size, cluster);
+            return cluster.connect().init();
+        });
+    }
+
+    @AfterClass
+    public static void closeClusters() {
+        clusters.values().forEach(Cluster::close);
+    }
+
+    @BenchmarkOptions(benchmarkRounds = DEFAULT_BENCHMARK_ROUNDS, warmupRounds = DEFAULT_WARMUP_ROUNDS, concurrency = BenchmarkOptions.CONCURRENCY_AVAILABLE_CORES)
+    @Test
+    public void submitAsyncConcurrent() throws Exception {
+        final List<CompletableFuture<List<Result>>> futures = new ArrayList<>(REQUESTS_PER_ROUND);
+        for (int i = 0; i < REQUESTS_PER_ROUND; i++) {
+            futures.add(clients.get(poolSize).submitAsync("1+1").thenCompose(ResultSet::all));
+        }
+
+        for (CompletableFuture<List<Result>> future : futures) {
+            assertEquals(2, future.get().get(0).getInt());
+        }
+    }
+}
@@ -40,6 +40,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Integration tests for server-side settings and processing.
@@ -422,6 +423,65 @@ public class GremlinServerHttpIntegrateTest extends AbstractGremlinServerIntegra
         }
     }
 
+    @Test
+    public void should200OnPOSTWithGremlinJsonEndcodedBodyAndChunkedResult() throws Exception {
+        final CloseableHttpClient httpclient = HttpClients.createDefault();
+        final HttpPost httppost = new HttpPost("http://localhost:8182");
+        httppost.addHeader("Content-Type", "application/json");
+        httppost.setEntity(new StringEntity("{\"gremlin\":\"(0..<150)\", \"chunked\":true}", Consts.UTF_8));
+
+        try (final CloseableHttpResponse response = httpclient.execute(httppost)) {
+            assertEquals(200, response.getStatusLine().getStatusCode());
+            assertEquals("application/json", response.getEntity().getContentType().getValue());
+            assertTrue(response.getEntity().isChunked());
+
+            // one message per page of the default resultIterationBatchSize of 64
+            final String[] pages = EntityUtils.toString(response.getEntity()).split("\n");
+            assertEquals(3, pages.length);
+            int count = 0;
+            for (int i = 0; i < pages.length; i++) {
+                final JsonNode node = mapper.readTree(pages[i]);
+                assertEquals(i == pages.length - 1 ? 200 : 206, node.get("status").get("code").intValue());
+                for (JsonNode item : node.get("result").get("data")) {
+                    assertEquals(count++, item.intValue());
+                }
+            }
+            assertEquals(150, count);
+        }
+    }
+
+    @Test
+    public void should200OnGETWithGremlinQueryStringArgumentAndChunkedEmptyResult() throws Exception {
+        final CloseableHttpClient httpclient = HttpClients.createDefault();
+        final HttpGet httpget = new HttpGet("http://localhost:8182?gremlin=[]&chunked=true");
+
+        try (final CloseableHttpResponse response = httpclient.execute(httpget)) {
+            assertEquals(200, response.getStatusLine().getStatusCode());
+            final JsonNode node = mapper.readTree(EntityUtils.toString(response.getEntity()).trim());
+            assertEquals(204, node.get("status").get("code").intValue());
+            assertEquals(0, node.get("result").get("data").size());
+        }
+    }
+
+    @Test
+    public void should200OnPOSTWithGremlinJsonEndcodedBodyAndChunkedResultThatFails() throws Exception {
+        final CloseableHttpClient httpclient = HttpClients.createDefault();
+        final HttpPost httppost = new HttpPost("http://localhost:8182");
+        httppost.addHeader("Content-Type", "application/json");
+        httppost.setEntity(new StringEntity("{\"gremlin\":\"g.inject(0..<100).unfold().map{if (it.get() == 70) throw new RuntimeException('oops'); it.get()}\", \"chunked\":true}", Consts.UTF_8));
+
+        try (final CloseableHttpResponse response = httpclient.execute(httppost)) {
+            // the status line is written before iteration so the failure is in the last message
+            assertEquals(200, response.getStatusLine().getStatusCode());
+            final String[] pages = EntityUtils.toString(response.getEntity()).split("\n");
+            assertEquals(2, pages.length);
+            assertEquals(206, mapper.readTree(pages[0]).get("status").get("code").intValue());
+            final JsonNode node = mapper.readTree(pages[1]);
+            assertEquals(500, node.get("status").get("code").intValue());
+            assertEquals("oops", node.get("status").get("message").textValue());
+        }
+    }
+
     @Test
     public void should200OnPOSTWithGremlinJsonEndcodedBodyWithIteratorResultAndAliases() throws Exception {
         // we can remove this first test when rebindings are completely removed
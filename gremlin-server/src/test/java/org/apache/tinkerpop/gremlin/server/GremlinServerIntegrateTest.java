@@ -18,6 +18,8 @@
  */
 package org.apache.tinkerpop.gremlin.server;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
 import java.io.File;
 import org.apache.commons.lang.exception.ExceptionUtils;
 import org.apache.log4j.Logger;
@@ -36,6 +38,7 @@ import org.apache.tinkerpop.gremlin.groovy.jsr223.GremlinGroovyScriptEngine;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.server.channel.NioChannelizer;
 import org.apache.tinkerpop.gremlin.server.op.session.SessionOpProcessor;
+import org.apache.tinkerpop.gremlin.server.util.MetricManager;
 import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedVertex;
 import org.apache.tinkerpop.gremlin.util.Log4jRecordingAppender;
 import org.junit.After;
@@ -53,10 +56,14 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.*;
 import static org.junit.Assume.assumeThat;
 
@@ -123,6 +130,17 @@ public class GremlinServerIntegrateTest extends AbstractGremlinServerIntegration
                 processorSettings.config.put(SessionOpProcessor.CONFIG_SESSION_TIMEOUT, 3000l);
                 settings.processors.add(processorSettings);
                 break;
+            case "shouldEvaluateOnGremlinPoolOfAlias":
+            case "shouldEvaluateOnGremlinPoolNamedByRequest":
+            case "shouldReturnInvalidRequestArgsWhenPoolIsNotConfigured":
+                final Settings.GremlinPoolSettings isolated = new Settings.GremlinPoolSettings();
+                isolated.size = 1;
+                isolated.graphs.add("graph");
+                settings.gremlinPools.put("isolated", isolated);
+                break;
+            case "shouldFindWarmupScriptCompiled":
+                settings.scriptEngines.get("gremlin-groovy").warmupScripts.add("[1,2,3].sum()");
+                break;
             case "shouldExecuteInSessionAndSessionlessWithoutOpeningTransactionWithSingleClient":
                 deleteDirectory(new File("/tmp/neo4j"));
                 settings.graphs.put("graph", "conf/neo4j-empty.properties");
@@ -146,6 +164,22 @@ public class GremlinServerIntegrateTest extends AbstractGremlinServerIntegration
         cluster.close();
     }
 
+    @Test
+    public void shouldFindWarmupScriptCompiled() throws Exception {
+        final Gauge<Long> hits = (Gauge<Long>) MetricManager.INSTANCE.getRegistry().getGauges().get(
+                MetricRegistry.name(GremlinServer.class, "script-engine", "gremlin-groovy", "class-cache", "hits"));
+        final long hitsBefore = hits.getValue();
+
+        final Cluster cluster = Cluster.open();
+        final Client client = cluster.connect();
+        try {
+            assertEquals(6, client.submit("[1,2,3].sum()").one().getInt());
+            assertEquals(hitsBefore + 1, hits.getValue().longValue());
+        } finally {
+            cluster.close();
+        }
+    }
+
     @Test
     public void shouldEnableSsl() {
         final Cluster cluster = Cluster.build().enableSsl(true).create();
@@ -270,6 +304,62 @@ public class GremlinServerIntegrateTest extends AbstractGremlinServerIntegration
         }
     }
 
+    @Test
+    public void shouldEvaluateOnGremlinPoolOfAlias() throws Exception {
+        final Cluster cluster = Cluster.open();
+        final Client client = cluster.connect();
+        try {
+            assertThat(client.alias("graph").submit("Thread.currentThread().getName()").one().getString(),
+                    startsWith("gremlin-server-exec-isolated-"));
+            assertThat(client.submit("Thread.currentThread().getName()").one().getString(),
+                    not(startsWith("gremlin-server-exec-isolated-")));
+        } finally {
+            cluster.close();
+        }
+    }
+
+    @Test
+    public void shouldEvaluateOnGremlinPoolNamedByRequest() throws Exception {
+        try (SimpleClient client = new WebSocketClient()) {
+            final RequestMessage request = RequestMessage.build(Tokens.OPS_EVAL)
+                    .addArg(Tokens.ARGS_GREMLIN, "Thread.currentThread().getName()")
+                    .addArg(Tokens.ARGS_POOL, "isolated").create();
+            final CountDownLatch latch = new CountDownLatch(1);
+            final AtomicReference<Object> threadName = new AtomicReference<>();
+            client.submit(request, result -> {
+                if (result.getStatus().getCode() == ResponseStatusCode.SUCCESS) {
+                    threadName.set(((List) result.getResult().getData()).get(0));
+                    latch.countDown();
+                }
+            });
+
+            if (!latch.await(3000, TimeUnit.MILLISECONDS))
+                fail("Request should have returned a result, but instead timed out");
+            assertThat(threadName.get().toString(), startsWith("gremlin-server-exec-isolated-"));
+        }
+    }
+
+    @Test
+    public void shouldReturnInvalidRequestArgsWhenPoolIsNotConfigured() throws Exception {
+        try (SimpleClient client = new WebSocketClient()) {
+            final RequestMessage request = RequestMessage.build(Tokens.OPS_EVAL)
+                    .addArg(Tokens.ARGS_GREMLIN, "1+1")
+                    .addArg(Tokens.ARGS_POOL, "missing").create();
+            final CountDownLatch latch = new CountDownLatch(1);
+            final AtomicBoolean pass = new AtomicBoolean(false);
+            client.submit(request, result -> {
+                if (result.getStatus().getCode() != ResponseStatusCode.PARTIAL_CONTENT) {
+                    pass.set(ResponseStatusCode.REQUEST_ERROR_INVALID_REQUEST_ARGUMENTS == result.getStatus().getCode());
+                    latch.countDown();
+                }
+            });
+
+            if (!latch.await(3000, TimeUnit.MILLISECONDS))
+                fail("Request should have returned error, but instead timed out");
+            assertTrue(pass.get());
+        }
+    }
+
     @Test
     public void shouldBatchResultsByTwos() throws Exception {
         try (SimpleClient client = new WebSocketClient()) {
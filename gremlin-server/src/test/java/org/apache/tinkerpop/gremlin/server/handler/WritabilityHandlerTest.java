@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.handler;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+public class WritabilityHandlerTest {
+
+    @Test
+    public void shouldRunWaitingTasksOnceWritable() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new WritabilityHandler());
+        channel.unsafe().outboundBuffer().setUserDefinedWritability(1, false);
+        channel.runPendingTasks();
+        assertFalse(channel.isWritable());
+
+        final AtomicInteger runs = new AtomicInteger(0);
+        WritabilityHandler.whenWritable(channel, runs::incrementAndGet);
+        WritabilityHandler.whenWritable(channel, runs::incrementAndGet);
+        assertEquals(0, runs.get());
+
+        channel.unsafe().outboundBuffer().setUserDefinedWritability(1, true);
+        channel.runPendingTasks();
+        assertEquals(2, runs.get());
+
+        // tasks only run the once
+        channel.unsafe().outboundBuffer().setUserDefinedWritability(1, false);
+        channel.unsafe().outboundBuffer().setUserDefinedWritability(1, true);
+        channel.runPendingTasks();
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    public void shouldRunTaskImmediatelyIfAlreadyWritable() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new WritabilityHandler());
+        final AtomicInteger runs = new AtomicInteger(0);
+        WritabilityHandler.whenWritable(channel, runs::incrementAndGet);
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    public void shouldRunWaitingTasksWhenChannelCloses() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new WritabilityHandler());
+        channel.unsafe().outboundBuffer().setUserDefinedWritability(1, false);
+        channel.runPendingTasks();
+
+        final AtomicInteger runs = new AtomicInteger(0);
+        WritabilityHandler.whenWritable(channel, runs::incrementAndGet);
+        assertEquals(0, runs.get());
+
+        channel.close();
+        channel.runPendingTasks();
+        assertEquals(1, runs.get());
+    }
+}
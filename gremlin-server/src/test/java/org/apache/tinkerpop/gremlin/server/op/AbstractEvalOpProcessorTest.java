@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.op;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.tinkerpop.gremlin.driver.Tokens;
+import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
+import org.apache.tinkerpop.gremlin.driver.message.ResponseMessage;
+import org.apache.tinkerpop.gremlin.driver.message.ResponseStatusCode;
+import org.apache.tinkerpop.gremlin.server.Context;
+import org.apache.tinkerpop.gremlin.server.GraphManager;
+import org.apache.tinkerpop.gremlin.server.Settings;
+import org.apache.tinkerpop.gremlin.server.handler.WritabilityHandler;
+import org.apache.tinkerpop.gremlin.util.function.ThrowingConsumer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+public class AbstractEvalOpProcessorTest {
+
+    private ScheduledExecutorService scheduledExecutorService;
+    private GraphManager graphManager;
+    private EmbeddedChannel channel;
+
+    @Before
+    public void setup() {
+        this.scheduledExecutorService = Executors.newSingleThreadScheduledExecutor();
+        this.graphManager = mock(GraphManager.class);
+        this.channel = new EmbeddedChannel(new WritabilityHandler());
+    }
+
+    @After
+    public void tearDown() {
+        this.scheduledExecutorService.shutdownNow();
+    }
+
+    private Context createContext() {
+        final Settings settings = new Settings();
+        settings.serializedResponseTimeout = 60000l;
+        final RequestMessage msg = RequestMessage.build(Tokens.OPS_EVAL).addArg(Tokens.ARGS_BATCH_SIZE, 1).create();
+        return new Context(msg, this.channel.pipeline().context(WritabilityHandler.class), settings, this.graphManager,
+                null, this.scheduledExecutorService);
+    }
+
+    private void setWritable(final boolean writable) {
+        this.channel.unsafe().outboundBuffer().setUserDefinedWritability(1, writable);
+        this.channel.runPendingTasks();
+    }
+
+    @Test
+    public void shouldResumePausedIterationOnceWritable() throws Exception {
+        // the iteration resumes on the executor the request was evaluated on
+        final AtomicInteger resumes = new AtomicInteger(0);
+        final Executor evaluatedOn = task -> {
+            resumes.incrementAndGet();
+            task.run();
+        };
+
+        setWritable(false);
+        new TestEvalOpProcessor(true).handleIterator(createContext(), Arrays.asList(1, 2, 3).iterator(), evaluatedOn);
+        assertNull(this.channel.readOutbound());
+        assertEquals(0, resumes.get());
+
+        setWritable(true);
+        assertEquals(1, resumes.get());
+        final ResponseMessage first = (ResponseMessage) this.channel.readOutbound();
+        final ResponseMessage second = (ResponseMessage) this.channel.readOutbound();
+        final ResponseMessage third = (ResponseMessage) this.channel.readOutbound();
+        assertEquals(ResponseStatusCode.PARTIAL_CONTENT, first.getStatus().getCode());
+        assertEquals(Collections.singletonList(1), first.getResult().getData());
+        assertEquals(ResponseStatusCode.PARTIAL_CONTENT, second.getStatus().getCode());
+        assertEquals(Collections.singletonList(2), second.getResult().getData());
+        assertEquals(ResponseStatusCode.SUCCESS, third.getStatus().getCode());
+        assertEquals(Collections.singletonList(3), third.getResult().getData());
+        assertNull(this.channel.readOutbound());
+        verify(this.graphManager, never()).rollbackAll();
+    }
+
+    @Test
+    public void shouldAbandonPausedIterationWhenChannelCloses() throws Exception {
+        setWritable(false);
+        new TestEvalOpProcessor(true).handleIterator(createContext(), Arrays.asList(1, 2, 3).iterator(), Runnable::run);
+
+        this.channel.close();
+        this.channel.runPendingTasks();
+        assertNull(this.channel.readOutbound());
+        verify(this.graphManager).rollbackAll();
+    }
+
+    @Test(timeout = 10000)
+    public void shouldAbandonBlockedIterationWhenChannelCloses() throws Exception {
+        final Context context = createContext();
+        this.channel.close();
+        new TestEvalOpProcessor(false).handleIterator(context, Arrays.asList(1, 2, 3).iterator(), Runnable::run);
+        assertNull(this.channel.readOutbound());
+        verify(this.graphManager).rollbackAll();
+    }
+
+    @Test
+    public void shouldSelectFirstConfiguredPoolListingAnAliasedGraph() throws Exception {
+        final Settings settings = new Settings();
+        final Map<String, ExecutorService> pools = new HashMap<>();
+        for (String name : Arrays.asList("z", "a", "m")) {
+            final Settings.GremlinPoolSettings poolSettings = new Settings.GremlinPoolSettings();
+            poolSettings.graphs = "a".equals(name) ? Collections.singletonList("other") : Arrays.asList("graph", "g");
+            settings.gremlinPools.put(name, poolSettings);
+            pools.put(name, mock(ExecutorService.class));
+        }
+
+        final RequestMessage msg = RequestMessage.build(Tokens.OPS_EVAL)
+                .addArg(Tokens.ARGS_ALIASES, Collections.singletonMap("g", "g")).create();
+        final Context context = new Context(msg, this.channel.pipeline().context(WritabilityHandler.class), settings,
+                this.graphManager, null, this.scheduledExecutorService, pools);
+        assertSame(pools.get("z"), new TestEvalOpProcessor(true).selectGremlinPool(context, null));
+    }
+
+    private static class TestEvalOpProcessor extends AbstractEvalOpProcessor {
+
+        private final boolean pausable;
+
+        private TestEvalOpProcessor(final boolean pausable) {
+            super(true);
+            this.pausable = pausable;
+        }
+
+        @Override
+        public String getName() {
+            return "test";
+        }
+
+        @Override
+        public ThrowingConsumer<Context> getEvalOp() {
+            return context -> {
+            };
+        }
+
+        @Override
+        public Optional<ThrowingConsumer<Context>> selectOther(final RequestMessage requestMessage) throws OpProcessorException {
+            return Optional.empty();
+        }
+
+        @Override
+        protected Optional<Executor> getIterationResumeExecutor(final Context context, final Executor executor) {
+            return this.pausable ? super.getIterationResumeExecutor(context, executor) : Optional.empty();
+        }
+
+        @Override
+        public void close() throws Exception {
+
+        }
+    }
+}
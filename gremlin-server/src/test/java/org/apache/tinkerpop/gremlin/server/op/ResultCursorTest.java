@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.op;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+public class ResultCursorTest {
+
+    private ScheduledExecutorService scheduledExecutorService;
+
+    @Before
+    public void setup() {
+        this.scheduledExecutorService = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        this.scheduledExecutorService.shutdownNow();
+    }
+
+    @Test
+    public void shouldOnlyGetCursorFromChannelThatOpenedIt() {
+        final EmbeddedChannel opener = new EmbeddedChannel();
+        final EmbeddedChannel other = new EmbeddedChannel();
+        final ResultCursor cursor = ResultCursor.open(opener, Arrays.asList(1, 2, 3).iterator(), Runnable::run,
+                this.scheduledExecutorService, 60000);
+
+        assertSame(cursor, ResultCursor.get(opener, cursor.getId()).get());
+        assertFalse(ResultCursor.get(other, cursor.getId()).isPresent());
+        assertEquals(Arrays.asList(1, 2), cursor.next(2));
+        assertTrue(cursor.hasNext());
+    }
+
+    @Test
+    public void shouldCloseCursorsWhenChannelCloses() {
+        final EmbeddedChannel channel = new EmbeddedChannel();
+        final AtomicBoolean released = new AtomicBoolean(false);
+        final ResultCursor cursor = ResultCursor.open(channel, new ClosableIterator(released), Runnable::run,
+                this.scheduledExecutorService, 60000);
+
+        channel.close();
+        assertTrue(released.get());
+        assertFalse(cursor.hasNext());
+        assertFalse(ResultCursor.get(channel, cursor.getId()).isPresent());
+    }
+
+    @Test
+    public void shouldCloseCursorOpenedOnClosedChannel() {
+        final EmbeddedChannel channel = new EmbeddedChannel();
+        channel.close();
+
+        final AtomicBoolean released = new AtomicBoolean(false);
+        final ResultCursor cursor = ResultCursor.open(channel, new ClosableIterator(released), Runnable::run,
+                this.scheduledExecutorService, 60000);
+        assertTrue(released.get());
+        assertFalse(cursor.hasNext());
+    }
+
+    private static class ClosableIterator implements Iterator<Integer>, AutoCloseable {
+        private final Iterator<Integer> itty = Arrays.asList(1, 2, 3).iterator();
+        private final AtomicBoolean released;
+
+        private ClosableIterator(final AtomicBoolean released) {
+            this.released = released;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return itty.hasNext();
+        }
+
+        @Override
+        public Integer next() {
+            return itty.next();
+        }
+
+        @Override
+        public void close() {
+            released.set(true);
+        }
+    }
+}
@@ -0,0 +1,362 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.process.computer;
+
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerHelper;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerVertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerVertexProperty;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The values of a single compute key for every vertex of a graph computation, indexed by the ordinal of the vertex.
+ * A vertex with a single {@code Double} or {@code Long} value has it held in a primitive array and any other single
+ * value is held in an object array.  Those values are handed out as {@link ComputeProperty} flyweights that read
+ * through to the column, so writing a number to a vertex on each iteration allocates nothing beyond the boxed value
+ * passed in.  Only when a vertex has several values for the key, or meta-properties are added to a value, does the
+ * slot of the vertex fall back to a list of {@link TinkerVertexProperty} instances.
+ * <p/>
+ * The slot of a vertex is only written by the worker executing that vertex, so the slots themselves need no
+ * synchronization and only the lazy allocation of the arrays is guarded.
+ *
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+final class TinkerComputeColumn {
+
+    private static final byte ABSENT = 0;
+    private static final byte DOUBLE = 1;
+    private static final byte LONG = 2;
+    private static final byte OBJECT = 3;
+    private static final byte PROPERTIES = 4;
+
+    private final TinkerGraphComputerView view;
+    private final String key;
+    private final byte[] states;
+    private final int[] generations;
+    private volatile double[] doubles;
+    private volatile long[] longs;
+    private volatile Object[] objects;
+    private volatile Object[] ids;
+
+    public TinkerComputeColumn(final TinkerGraphComputerView view, final String key, final int vertexCount) {
+        this.view = view;
+        this.key = key;
+        this.states = new byte[vertexCount];
+        this.generations = new int[vertexCount];
+    }
+
+    public String getKey() {
+        return this.key;
+    }
+
+    public <V> VertexProperty<V> add(final TinkerVertex vertex, final int ordinal, final V value) {
+        if (ABSENT == this.states[ordinal]) {
+            this.set(ordinal, value);
+            return new ComputeProperty<>(vertex, ordinal);
+        }
+
+        // a further value for the vertex moves its slot to a list of properties
+        final List<VertexProperty<?>> properties = this.toProperties(vertex, ordinal);
+        final VertexProperty<V> property = this.newProperty(vertex, value);
+        properties.add(property);
+        return property;
+    }
+
+    public List<VertexProperty<?>> get(final TinkerVertex vertex, final int ordinal) {
+        switch (this.states[ordinal]) {
+            case ABSENT:
+                return Collections.emptyList();
+            case PROPERTIES:
+                return new ArrayList<>((List<VertexProperty<?>>) this.objects[ordinal]);
+            default:
+                return Collections.singletonList(new ComputeProperty<>(vertex, ordinal));
+        }
+    }
+
+    public void remove(final int ordinal, final VertexProperty<?> property) {
+        if (PROPERTIES == this.states[ordinal]) {
+            final List<VertexProperty<?>> properties = (List<VertexProperty<?>>) this.objects[ordinal];
+            properties.remove(property);
+            if (properties.isEmpty()) this.clear(ordinal);
+        } else if (property instanceof ComputeProperty && ((ComputeProperty<?>) property).isCurrent()) {
+            this.clear(ordinal);
+        }
+    }
+
+    public boolean has(final int ordinal) {
+        return ABSENT != this.states[ordinal];
+    }
+
+    ///////////
+
+    private void set(final int ordinal, final Object value) {
+        if (value instanceof Double) {
+            this.doubles()[ordinal] = (Double) value;
+            this.states[ordinal] = DOUBLE;
+        } else if (value instanceof Long) {
+            this.longs()[ordinal] = (Long) value;
+            this.states[ordinal] = LONG;
+        } else {
+            this.objects()[ordinal] = value;
+            this.states[ordinal] = OBJECT;
+        }
+        if (null != this.ids) this.ids[ordinal] = null;
+        this.generations[ordinal]++;
+    }
+
+    private void clear(final int ordinal) {
+        if (null != this.objects) this.objects[ordinal] = null;
+        if (null != this.ids) this.ids[ordinal] = null;
+        this.states[ordinal] = ABSENT;
+        this.generations[ordinal]++;
+    }
+
+    private Object value(final int ordinal) {
+        switch (this.states[ordinal]) {
+            case DOUBLE:
+                return this.doubles[ordinal];
+            case LONG:
+                return this.longs[ordinal];
+            case OBJECT:
+                return this.objects[ordinal];
+            default:
+                throw Property.Exceptions.propertyDoesNotExist();
+        }
+    }
+
+    private Object id(final TinkerVertex vertex, final int ordinal) {
+        if (null == this.ids) {
+            synchronized (this) {
+                if (null == this.ids) this.ids = new Object[this.states.length];
+            }
+        }
+        if (null == this.ids[ordinal])
+            this.ids[ordinal] = TinkerHelper.getNextVertexPropertyId((TinkerGraph) vertex.graph());
+        return this.ids[ordinal];
+    }
+
+    private List<VertexProperty<?>> toProperties(final TinkerVertex vertex, final int ordinal) {
+        if (PROPERTIES == this.states[ordinal])
+            return (List<VertexProperty<?>>) this.objects[ordinal];
+
+        final List<VertexProperty<?>> properties = Collections.synchronizedList(new ArrayList<>());
+        if (ABSENT != this.states[ordinal])
+            properties.add(new TinkerVertexProperty<Object>(this.id(vertex, ordinal), vertex, this.key, this.value(ordinal)) {
+                @Override
+                public void remove() {
+                    view.removeProperty(vertex, key, this);
+                }
+            });
+        this.objects()[ordinal] = properties;
+        this.states[ordinal] = PROPERTIES;
+        return properties;
+    }
+
+    private <V> VertexProperty<V> newProperty(final TinkerVertex vertex, final V value) {
+        return new TinkerVertexProperty<V>(vertex, this.key, value) {
+            @Override
+            public void remove() {
+                view.removeProperty(vertex, key, this);
+            }
+        };
+    }
+
+    private double[] doubles() {
+        if (null == this.doubles) {
+            synchronized (this) {
+                if (null == this.doubles) this.doubles = new double[this.states.length];
+            }
+        }
+        return this.doubles;
+    }
+
+    private long[] longs() {
+        if (null == this.longs) {
+            synchronized (this) {
+                if (null == this.longs) this.longs = new long[this.states.length];
+            }
+        }
+        return this.longs;
+    }
+
+    private Object[] objects() {
+        if (null == this.objects) {
+            synchronized (this) {
+                if (null == this.objects) this.objects = new Object[this.states.length];
+            }
+        }
+        return this.objects;
+    }
+
+    /**
+     * A {@link VertexProperty} over the single value of a vertex in the column.  Its value is read from the column
+     * on each call and its identifier is only allocated when first asked for.  Once the slot of the vertex has fallen
+     * back to a list of properties, the flyweight reads through to the property that took over its value.  The
+     * flyweight remembers the generation of the slot it was handed out for, so once that value is removed or replaced
+     * it is no longer present and can not remove the value that took its place.
+     */
+    final class ComputeProperty<V> implements VertexProperty<V> {
+
+        private final TinkerVertex vertex;
+        private final int ordinal;
+        private final int generation;
+
+        private ComputeProperty(final TinkerVertex vertex, final int ordinal) {
+            this.vertex = vertex;
+            this.ordinal = ordinal;
+            this.generation = generations[ordinal];
+        }
+
+        @Override
+        public String key() {
+            return key;
+        }
+
+        @Override
+        public V value() {
+            if (!this.isCurrent())
+                throw Property.Exceptions.propertyDoesNotExist();
+            final VertexProperty<V> property = this.resolve();
+            return null == property ? (V) TinkerComputeColumn.this.value(this.ordinal) : property.value();
+        }
+
+        @Override
+        public boolean isPresent() {
+            return this.isCurrent() && (PROPERTIES != states[this.ordinal] || null != this.find());
+        }
+
+        @Override
+        public Vertex element() {
+            return this.vertex;
+        }
+
+        @Override
+        public Object id() {
+            return TinkerComputeColumn.this.id(this.vertex, this.ordinal);
+        }
+
+        @Override
+        public <U> Property<U> property(final String key, final U value) {
+            if (!this.isCurrent())
+                throw Property.Exceptions.propertyDoesNotExist();
+            // meta-properties need a real vertex property to hang from
+            toProperties(this.vertex, this.ordinal);
+            return this.resolve().property(key, value);
+        }
+
+        @Override
+        public <U> Property<U> property(final String key) {
+            if (!this.isCurrent())
+                return Property.empty();
+            final VertexProperty<V> property = this.resolve();
+            return null == property ? Property.empty() : property.property(key);
+        }
+
+        @Override
+        public Set<String> keys() {
+            if (!this.isCurrent())
+                return Collections.emptySet();
+            final VertexProperty<V> property = this.resolve();
+            return null == property ? Collections.emptySet() : property.keys();
+        }
+
+        @Override
+        public <U> Iterator<Property<U>> properties(final String... propertyKeys) {
+            if (!this.isCurrent())
+                return Collections.emptyIterator();
+            final VertexProperty<V> property = this.resolve();
+            return null == property ? Collections.emptyIterator() : property.properties(propertyKeys);
+        }
+
+        @Override
+        public void remove() {
+            if (!this.isPresent())
+                return;
+            final VertexProperty<V> property = this.resolve();
+            if (null == property)
+                view.removeProperty(this.vertex, key, this);
+            else
+                property.remove();
+        }
+
+        /**
+         * Determine if the slot of the vertex still holds the value this flyweight was handed out for.
+         */
+        private boolean isCurrent() {
+            return this.generation == generations[this.ordinal];
+        }
+
+        /**
+         * Get the property of the list that took over the value of this flyweight when the slot was converted, which
+         * shares the identifier of the flyweight, or {@code null} while the value is still held in the column.
+         *
+         * @throws IllegalStateException if that property has since been removed
+         */
+        private VertexProperty<V> resolve() {
+            if (PROPERTIES != states[this.ordinal])
+                return null;
+            final VertexProperty<V> property = this.find();
+            if (null == property)
+                throw Property.Exceptions.propertyDoesNotExist();
+            return property;
+        }
+
+        /**
+         * Find the property of the list that took over the value of this flyweight or {@code null} if it was removed.
+         */
+        private VertexProperty<V> find() {
+            final Object id = null == ids ? null : ids[this.ordinal];
+            final List<VertexProperty<?>> properties = (List<VertexProperty<?>>) objects[this.ordinal];
+            synchronized (properties) {
+                for (final VertexProperty<?> property : properties) {
+                    if (property.id().equals(id))
+                        return (VertexProperty<V>) property;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            return StringFactory.propertyString(this);
+        }
+
+        @SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
+        @Override
+        public boolean equals(final Object object) {
+            return ElementHelper.areEqual(this, object);
+        }
+
+        @Override
+        public int hashCode() {
+            return ElementHelper.hashCode((Element) this);
+        }
+    }
+}
@@ -21,6 +21,7 @@ package org.apache.tinkerpop.gremlin.tinkergraph.process.computer;
 import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
 import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
 import org.apache.tinkerpop.gremlin.process.computer.MapReduce;
+import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
 import org.apache.tinkerpop.gremlin.process.computer.VertexProgram;
 import org.apache.tinkerpop.gremlin.process.computer.util.ComputerGraph;
 import org.apache.tinkerpop.gremlin.process.computer.util.DefaultComputerResult;
@@ -30,6 +31,7 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerHelper;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.util.HashSet;
 import java.util.Iterator;
@@ -52,7 +54,7 @@ public final class TinkerGraphComputer implements GraphComputer {
     private VertexProgram<?> vertexProgram;
     private final TinkerGraph graph;
     private TinkerMemory memory;
-    private final TinkerMessageBoard messageBoard = new TinkerMessageBoard();
+    private TinkerMessageBoard messageBoard;
     private boolean executed = false;
     private final Set<MapReduce> mapReducers = new HashSet<>();
     private int workers = Runtime.getRuntime().availableProcessors();
@@ -121,22 +123,27 @@ public final class TinkerGraphComputer implements GraphComputer {
         return CompletableFuture.<ComputerResult>supplyAsync(() -> {
             final long time = System.currentTimeMillis();
             try (final TinkerWorkerPool workers = new TinkerWorkerPool(this.workers)) {
+                // the vertex set cannot change during the computation so it is partitioned from a single snapshot
+                final Object[] vertexArray = IteratorUtils.list(this.graph.vertices()).toArray();
                 if (null != this.vertexProgram) {
-                    TinkerHelper.createGraphComputerView(this.graph, this.vertexProgram.getElementComputeKeys());
+                    // messages and compute keys are held in arrays indexed by the position of the vertex in the snapshot
+                    TinkerHelper.assignOrdinals(vertexArray);
+                    this.messageBoard = new TinkerMessageBoard<>(vertexArray.length, (MessageCombiner) this.vertexProgram.getMessageCombiner().orElse(null));
+                    TinkerHelper.createGraphComputerView(this.graph, this.vertexProgram.getElementComputeKeys(), vertexArray.length);
                     // execute the vertex program
                     this.vertexProgram.setup(this.memory);
                     this.memory.completeSubRound();
                     while (true) {
                         workers.setVertexProgram(this.vertexProgram);
-                        final SynchronizedIterator<Vertex> vertices = new SynchronizedIterator<>(this.graph.vertices());
+                        final TinkerWorkQueue<Vertex> vertices = new TinkerWorkQueue<>(vertexArray, this.workers);
                         workers.executeVertexProgram(vertexProgram -> {
                             vertexProgram.workerIterationStart(this.memory.asImmutable());
-                            while (true) {
-                                final Vertex vertex = vertices.next();
-                                if (null == vertex) break;
+                            final Iterator<Vertex> workerVertices = vertices.iterator();
+                            while (workerVertices.hasNext()) {
+                                final Vertex vertex = workerVertices.next();
                                 vertexProgram.execute(
                                         ComputerGraph.vertexProgram(vertex, vertexProgram),
-                                        new TinkerMessenger<>(vertex, this.messageBoard, vertexProgram.getMessageCombiner()),
+                                        new TinkerMessenger<>(vertex, this.messageBoard),
                                         this.memory
                                 );
                             }
@@ -159,14 +166,13 @@ public final class TinkerGraphComputer implements GraphComputer {
                 for (final MapReduce mapReduce : mapReducers) {
                     if (mapReduce.doStage(MapReduce.Stage.MAP)) {
                         final TinkerMapEmitter<?, ?> mapEmitter = new TinkerMapEmitter<>(mapReduce.doStage(MapReduce.Stage.REDUCE));
-                        final SynchronizedIterator<Vertex> vertices = new SynchronizedIterator<>(this.graph.vertices());
+                        final TinkerWorkQueue<Vertex> vertices = new TinkerWorkQueue<>(vertexArray, this.workers);
                         workers.setMapReduce(mapReduce);
                         workers.executeMapReduce(workerMapReduce -> {
                             workerMapReduce.workerStart(MapReduce.Stage.MAP);
-                            while (true) {
-                                final Vertex vertex = vertices.next();
-                                if (null == vertex) break;
-                                workerMapReduce.map(ComputerGraph.mapReduce(vertex), mapEmitter);
+                            final Iterator<Vertex> workerVertices = vertices.iterator();
+                            while (workerVertices.hasNext()) {
+                                workerMapReduce.map(ComputerGraph.mapReduce(workerVertices.next()), mapEmitter);
                             }
                             workerMapReduce.workerEnd(MapReduce.Stage.MAP);
                         });
@@ -176,12 +182,12 @@ public final class TinkerGraphComputer implements GraphComputer {
                         // no need to run combiners as this is single machine
                         if (mapReduce.doStage(MapReduce.Stage.REDUCE)) {
                             final TinkerReduceEmitter<?, ?> reduceEmitter = new TinkerReduceEmitter<>();
-                            final SynchronizedIterator<Map.Entry<?, Queue<?>>> keyValues = new SynchronizedIterator((Iterator) mapEmitter.reduceMap.entrySet().iterator());
+                            final TinkerWorkQueue<Map.Entry<?, Queue<?>>> keyValues = new TinkerWorkQueue<>(mapEmitter.reduceMap.entrySet().toArray(), this.workers);
                             workers.executeMapReduce(workerMapReduce -> {
                                 workerMapReduce.workerStart(MapReduce.Stage.REDUCE);
-                                while (true) {
-                                    final Map.Entry<?, Queue<?>> entry = keyValues.next();
-                                    if (null == entry) break;
+                                final Iterator<Map.Entry<?, Queue<?>>> workerKeyValues = keyValues.iterator();
+                                while (workerKeyValues.hasNext()) {
+                                    final Map.Entry<?, Queue<?>> entry = workerKeyValues.next();
                                     workerMapReduce.reduce(entry.getKey(), entry.getValue().iterator(), reduceEmitter);
                                 }
                                 workerMapReduce.workerEnd(MapReduce.Stage.REDUCE);
@@ -213,19 +219,6 @@ public final class TinkerGraphComputer implements GraphComputer {
         return StringFactory.graphComputerString(this);
     }
 
-    private static class SynchronizedIterator<V> {
-
-        private final Iterator<V> iterator;
-
-        public SynchronizedIterator(final Iterator<V> iterator) {
-            this.iterator = iterator;
-        }
-
-        public synchronized V next() {
-            return this.iterator.hasNext() ? this.iterator.next() : null;
-        }
-    }
-
     @Override
     public Features features() {
         return new Features() {
@@ -20,7 +20,6 @@ package org.apache.tinkerpop.gremlin.tinkergraph.process.computer;
 
 import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
 import org.apache.tinkerpop.gremlin.structure.Edge;
-import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.T;
@@ -31,16 +30,13 @@ import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerHelper;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerVertex;
-import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerVertexProperty;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -49,45 +45,46 @@ public final class TinkerGraphComputerView {
 
     private final TinkerGraph graph;
     protected final Set<String> computeKeys;
-    private Map<Element, Map<String, List<VertexProperty<?>>>> computeProperties;
+    private final Map<String, TinkerComputeColumn> computeColumns;
 
-    public TinkerGraphComputerView(final TinkerGraph graph, final Set<String> computeKeys) {
+    public TinkerGraphComputerView(final TinkerGraph graph, final Set<String> computeKeys, final int vertexCount) {
         this.graph = graph;
         this.computeKeys = computeKeys;
-        this.computeProperties = new ConcurrentHashMap<>();
+        this.computeColumns = new HashMap<>();
+        for (final String key : computeKeys) {
+            this.computeColumns.put(key, new TinkerComputeColumn(this, key, vertexCount));
+        }
     }
 
     public <V> Property<V> addProperty(final TinkerVertex vertex, final String key, final V value) {
         ElementHelper.validateProperty(key, value);
-        if (isComputeKey(key)) {
-            final TinkerVertexProperty<V> property = new TinkerVertexProperty<V>((TinkerVertex) vertex, key, value) {
-                @Override
-                public void remove() {
-                    removeProperty(vertex, key, this);
-                }
-            };
-            this.addValue(vertex, key, property);
-            return property;
+        final TinkerComputeColumn column = this.computeColumns.get(key);
+        if (null != column) {
+            return column.add(vertex, this.getOrdinal(vertex), value);
         } else {
             throw GraphComputer.Exceptions.providedKeyIsNotAnElementComputeKey(key);
         }
     }
 
     public List<VertexProperty<?>> getProperty(final TinkerVertex vertex, final String key) {
-        return isComputeKey(key) ? this.getValue(vertex, key) : (List) TinkerHelper.getProperties(vertex).getOrDefault(key, Collections.emptyList());
+        final TinkerComputeColumn column = this.computeColumns.get(key);
+        return null != column ? column.get(vertex, this.getOrdinal(vertex)) : (List) TinkerHelper.getProperties(vertex).getOrDefault(key, Collections.emptyList());
     }
 
     public List<Property> getProperties(final TinkerVertex vertex) {
-        final Stream<Property> a = TinkerHelper.getProperties(vertex).values().stream().flatMap(list -> list.stream());
-        final Stream<Property> b = this.computeProperties.containsKey(vertex) ?
-                this.computeProperties.get(vertex).values().stream().flatMap(list -> list.stream()) :
-                Stream.empty();
-        return Stream.concat(a, b).collect(Collectors.toList());
+        final List<Property> properties = new ArrayList<>();
+        TinkerHelper.getProperties(vertex).values().forEach(properties::addAll);
+        final int ordinal = this.getOrdinal(vertex);
+        for (final TinkerComputeColumn column : this.computeColumns.values()) {
+            if (column.has(ordinal)) properties.addAll(column.get(vertex, ordinal));
+        }
+        return properties;
     }
 
     public void removeProperty(final TinkerVertex vertex, final String key, final VertexProperty property) {
-        if (isComputeKey(key)) {
-            this.removeValue(vertex, key, property);
+        final TinkerComputeColumn column = this.computeColumns.get(key);
+        if (null != column) {
+            column.remove(this.getOrdinal(vertex), property);
         } else {
             throw GraphComputer.Exceptions.providedKeyIsNotAnElementComputeKey(key);
         }
@@ -145,46 +142,29 @@ public final class TinkerGraphComputerView {
     }
 
     private void addPropertiesToOriginalGraph() {
+        // gather the compute properties before the view is dropped and the vertices stop reading through it
+        final List<VertexProperty<?>> computeProperties = new ArrayList<>();
+        this.graph.vertices().forEachRemaining(vertex -> {
+            final int ordinal = this.getOrdinal((TinkerVertex) vertex);
+            for (final TinkerComputeColumn column : this.computeColumns.values()) {
+                if (column.has(ordinal)) computeProperties.addAll(column.get((TinkerVertex) vertex, ordinal));
+            }
+        });
         TinkerHelper.dropGraphComputerView(this.graph);
-        this.computeProperties.forEach((element, properties) -> {
-            properties.forEach((key, vertexProperties) -> {
-                vertexProperties.forEach(vertexProperty -> {
-                    final VertexProperty<?> newVertexProperty = ((Vertex) element).property(VertexProperty.Cardinality.list, vertexProperty.key(), vertexProperty.value(), T.id, vertexProperty.id());
-                    vertexProperty.properties().forEachRemaining(property -> {
-                        newVertexProperty.property(property.key(), property.value());
-                    });
-                });
+        computeProperties.forEach(vertexProperty -> {
+            final VertexProperty<?> newVertexProperty = vertexProperty.element().property(VertexProperty.Cardinality.list, vertexProperty.key(), vertexProperty.value(), T.id, vertexProperty.id());
+            vertexProperty.properties().forEachRemaining(property -> {
+                newVertexProperty.property(property.key(), property.value());
             });
         });
-        this.computeProperties.clear();
     }
 
     //////////////////////
 
-    private boolean isComputeKey(final String key) {
-        return this.computeKeys.contains(key);
-    }
-
-    private void addValue(final Vertex vertex, final String key, final VertexProperty property) {
-        final Map<String, List<VertexProperty<?>>> elementProperties = this.computeProperties.computeIfAbsent(vertex, k -> new ConcurrentHashMap<>());
-        elementProperties.compute(key, (k, v) -> {
-            if (null == v) v = Collections.synchronizedList(new ArrayList<>());
-            v.add(property);
-            return v;
-        });
-    }
-
-    private void removeValue(final Vertex vertex, final String key, final VertexProperty property) {
-        this.computeProperties.computeIfPresent(vertex, (k, v) -> {
-            v.computeIfPresent(key, (k1, v1) -> {
-                v1.remove(property);
-                return v1;
-            });
-            return v;
-        });
-    }
-
-    private List<VertexProperty<?>> getValue(final Vertex vertex, final String key) {
-        return this.computeProperties.getOrDefault(vertex, Collections.emptyMap()).getOrDefault(key, Collections.emptyList());
+    private int getOrdinal(final TinkerVertex vertex) {
+        final int ordinal = TinkerHelper.getOrdinal(this.graph, vertex);
+        if (ordinal < 0)
+            throw new IllegalStateException("The vertex is not part of the graph computation: " + vertex);
+        return ordinal;
     }
-}
\ No newline at end of file
+}
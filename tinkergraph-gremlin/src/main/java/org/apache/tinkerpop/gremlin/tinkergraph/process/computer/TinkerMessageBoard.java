@@ -18,29 +18,197 @@
  */
 package org.apache.tinkerpop.gremlin.tinkergraph.process.computer;
 
+import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
 import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
-import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.structure.Edge;
 
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Queue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
+ * Holds the messages of a vertex program in buffers indexed by the ordinal of the vertex they are stored against.
+ * When the program has a {@link MessageCombiner} each vertex has a single slot that messages are combined into with
+ * a compare-and-set, otherwise messages are appended to a list per vertex under one of a fixed set of striped locks.
+ * The buffers for sending and receiving are swapped at the end of each iteration and the one to be sent to is
+ * cleared in place rather than reallocated.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 final class TinkerMessageBoard<M> {
 
-    public Map<Vertex, Queue<M>> sendMessages = new ConcurrentHashMap<>();
-    public Map<Vertex, Queue<M>> receiveMessages = new ConcurrentHashMap<>();
-    public Set<MessageScope> previousMessageScopes = new HashSet<>();
-    public Set<MessageScope> currentMessageScopes = new HashSet<>();
+    private static final int STRIPES = 64;
+
+    private final MessageCombiner<M> combiner;
+    private final Object[] stripes;
+    private MessageBuffer<M> sendMessages;
+    private MessageBuffer<M> receiveMessages;
+    public Set<MessageScope> previousMessageScopes = ConcurrentHashMap.newKeySet();
+    public Set<MessageScope> currentMessageScopes = ConcurrentHashMap.newKeySet();
+    // the scope instances already added this iteration, which are checked by identity as the hash code of a local scope rebuilds its traversal
+    private volatile MessageScope[] knownMessageScopes = new MessageScope[0];
+    /**
+     * The previous scopes along with, for each one, the {@link VertexStep} of a local scope that is simply an edge step
+     * and so can be resolved directly against the adjacency of a vertex, or {@code null} otherwise.
+     */
+    public MessageScope[] receiveScopes = new MessageScope[0];
+    public VertexStep<Edge>[] incidentSteps = new VertexStep[0];
+
+    public TinkerMessageBoard(final int vertexCount, final MessageCombiner<M> combiner) {
+        this.combiner = combiner;
+        if (null == combiner) {
+            this.stripes = new Object[STRIPES];
+            for (int i = 0; i < STRIPES; i++) {
+                this.stripes[i] = new Object();
+            }
+            this.sendMessages = new AppendBuffer(vertexCount);
+            this.receiveMessages = new AppendBuffer(vertexCount);
+        } else {
+            this.stripes = null;
+            this.sendMessages = new CombineBuffer(vertexCount);
+            this.receiveMessages = new CombineBuffer(vertexCount);
+        }
+    }
+
+    public void addMessageScope(final MessageScope messageScope) {
+        for (final MessageScope known : this.knownMessageScopes) {
+            if (known == messageScope) return;
+        }
+        if (this.currentMessageScopes.add(messageScope)) {
+            synchronized (this) {
+                final MessageScope[] known = Arrays.copyOf(this.knownMessageScopes, this.knownMessageScopes.length + 1);
+                known[known.length - 1] = messageScope;
+                this.knownMessageScopes = known;
+            }
+        }
+    }
+
+    public void sendMessage(final int ordinal, final M message) {
+        this.sendMessages.add(ordinal, message);
+    }
+
+    public Iterator<M> receiveMessages(final int ordinal) {
+        return this.receiveMessages.get(ordinal);
+    }
+
+    public boolean hasMessages(final int ordinal) {
+        return this.receiveMessages.has(ordinal);
+    }
 
     public void completeIteration() {
+        final MessageBuffer<M> buffer = this.receiveMessages;
         this.receiveMessages = this.sendMessages;
-        this.sendMessages = new ConcurrentHashMap<>();
+        this.sendMessages = buffer;
+        this.sendMessages.clear();
+
+        final Set<MessageScope> messageScopes = this.previousMessageScopes;
         this.previousMessageScopes = this.currentMessageScopes;
-        this.currentMessageScopes = new HashSet<>();
+        this.currentMessageScopes = messageScopes;
+        this.currentMessageScopes.clear();
+        this.knownMessageScopes = new MessageScope[0];
+
+        this.receiveScopes = this.previousMessageScopes.toArray(new MessageScope[this.previousMessageScopes.size()]);
+        this.incidentSteps = new VertexStep[this.receiveScopes.length];
+        for (int i = 0; i < this.receiveScopes.length; i++) {
+            if (this.receiveScopes[i] instanceof MessageScope.Local)
+                this.incidentSteps[i] = getIncidentStep((MessageScope.Local<?>) this.receiveScopes[i]);
+        }
+    }
+
+    private static VertexStep<Edge> getIncidentStep(final MessageScope.Local<?> messageScope) {
+        final List<Step> steps = messageScope.getIncidentTraversal().get().asAdmin().getSteps();
+        return 1 == steps.size() && steps.get(0) instanceof VertexStep && ((VertexStep) steps.get(0)).returnsEdge() ?
+                (VertexStep<Edge>) steps.get(0) : null;
+    }
+
+    private interface MessageBuffer<M> {
+        public void add(final int ordinal, final M message);
+
+        public Iterator<M> get(final int ordinal);
+
+        public boolean has(final int ordinal);
+
+        public void clear();
+    }
+
+    private final class CombineBuffer implements MessageBuffer<M> {
+        private final AtomicReferenceArray<M> slots;
+
+        private CombineBuffer(final int vertexCount) {
+            this.slots = new AtomicReferenceArray<>(vertexCount);
+        }
+
+        @Override
+        public void add(final int ordinal, final M message) {
+            while (true) {
+                final M current = this.slots.get(ordinal);
+                if (this.slots.compareAndSet(ordinal, current, null == current ? message : combiner.combine(current, message)))
+                    return;
+            }
+        }
+
+        @Override
+        public Iterator<M> get(final int ordinal) {
+            final M message = this.slots.get(ordinal);
+            return null == message ? Collections.emptyIterator() : Collections.singletonList(message).iterator();
+        }
+
+        @Override
+        public boolean has(final int ordinal) {
+            return null != this.slots.get(ordinal);
+        }
+
+        @Override
+        public void clear() {
+            for (int i = 0; i < this.slots.length(); i++) {
+                this.slots.lazySet(i, null);
+            }
+        }
+    }
+
+    private final class AppendBuffer implements MessageBuffer<M> {
+        private final List<M>[] messages;
+
+        private AppendBuffer(final int vertexCount) {
+            this.messages = new List[vertexCount];
+        }
+
+        @Override
+        public void add(final int ordinal, final M message) {
+            synchronized (stripes[ordinal % STRIPES]) {
+                List<M> list = this.messages[ordinal];
+                if (null == list) {
+                    list = new ArrayList<>(1);
+                    this.messages[ordinal] = list;
+                }
+                list.add(message);
+            }
+        }
+
+        @Override
+        public Iterator<M> get(final int ordinal) {
+            final List<M> list = this.messages[ordinal];
+            return null == list ? Collections.emptyIterator() : list.iterator();
+        }
+
+        @Override
+        public boolean has(final int ordinal) {
+            final List<M> list = this.messages[ordinal];
+            return null != list && !list.isEmpty();
+        }
+
+        @Override
+        public void clear() {
+            for (final List<M> list : this.messages) {
+                if (null != list) list.clear();
+            }
+        }
     }
 }
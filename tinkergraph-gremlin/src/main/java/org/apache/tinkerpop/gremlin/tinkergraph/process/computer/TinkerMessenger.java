@@ -18,7 +18,6 @@
  */
 package org.apache.tinkerpop.gremlin.tinkergraph.process.computer;
 
-import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
 import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
 import org.apache.tinkerpop.gremlin.process.computer.Messenger;
 import org.apache.tinkerpop.gremlin.process.computer.util.VertexProgramHelper;
@@ -29,16 +28,15 @@ import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerHelper;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerVertex;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 import org.apache.tinkerpop.gremlin.util.iterator.MultiIterator;
 
+import java.util.Collections;
 import java.util.Iterator;
-import java.util.Optional;
-import java.util.Queue;
-import java.util.Spliterator;
-import java.util.Spliterators;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -46,37 +44,44 @@ import java.util.stream.StreamSupport;
 public final class TinkerMessenger<M> implements Messenger<M> {
 
     private final Vertex vertex;
+    private final int ordinal;
+    private final TinkerGraph graph;
     private final TinkerMessageBoard<M> messageBoard;
-    private final MessageCombiner<M> combiner;
 
-    public TinkerMessenger(final Vertex vertex, final TinkerMessageBoard<M> messageBoard, final Optional<MessageCombiner<M>> combiner) {
+    public TinkerMessenger(final Vertex vertex, final TinkerMessageBoard<M> messageBoard) {
         this.vertex = vertex;
+        this.graph = (TinkerGraph) vertex.graph();
+        this.ordinal = TinkerHelper.getOrdinal(this.graph, vertex);
         this.messageBoard = messageBoard;
-        this.combiner = combiner.isPresent() ? combiner.get() : null;
     }
 
     @Override
     public Iterator<M> receiveMessages() {
         final MultiIterator<M> multiIterator = new MultiIterator<>();
-        for (final MessageScope messageScope : this.messageBoard.previousMessageScopes) {
+        for (int i = 0; i < this.messageBoard.receiveScopes.length; i++) {
+            final MessageScope messageScope = this.messageBoard.receiveScopes[i];
             if (messageScope instanceof MessageScope.Local) {
                 final MessageScope.Local<M> localMessageScope = (MessageScope.Local<M>) messageScope;
-                final Traversal.Admin<Vertex, Edge> incidentTraversal = TinkerMessenger.setVertexStart(localMessageScope.getIncidentTraversal().get().asAdmin(), this.vertex);
-                final Direction direction = TinkerMessenger.getDirection(incidentTraversal);
-                final Edge[] edge = new Edge[1]; // simulates storage side-effects available in Gremlin, but not Java8 streams
-                multiIterator.addIterator(StreamSupport.stream(Spliterators.spliteratorUnknownSize(VertexProgramHelper.reverse(incidentTraversal.asAdmin()), Spliterator.IMMUTABLE | Spliterator.SIZED), false)
-                        .map(e -> this.messageBoard.receiveMessages.get((edge[0] = e).vertices(direction).next()))
-                        .filter(q -> null != q)
-                        .flatMap(Queue::stream)
-                        .map(message -> localMessageScope.getEdgeFunction().apply(message, edge[0]))
-                        .iterator());
-
+                final VertexStep<Edge> incidentStep = this.messageBoard.incidentSteps[i];
+                final Direction direction;
+                final Iterator<Edge> edges;
+                if (null != incidentStep && this.vertex instanceof TinkerVertex) {
+                    // a plain outE()/inE()/bothE() scope is answered from the adjacency of the vertex
+                    direction = incidentStep.getDirection();
+                    edges = this.vertex.edges(direction.opposite(), incidentStep.getEdgeLabels());
+                } else {
+                    final Traversal.Admin<Vertex, Edge> incidentTraversal = TinkerMessenger.setVertexStart(localMessageScope.getIncidentTraversal().get().asAdmin(), this.vertex);
+                    direction = TinkerMessenger.getDirection(incidentTraversal);
+                    edges = VertexProgramHelper.reverse(incidentTraversal.asAdmin());
+                }
+                multiIterator.addIterator(IteratorUtils.flatMap(edges, edge -> {
+                    final int ordinal = TinkerHelper.getOrdinal(this.graph, this.getSender(edge, direction));
+                    return -1 == ordinal || !this.messageBoard.hasMessages(ordinal) ?
+                            Collections.emptyIterator() :
+                            IteratorUtils.map(this.messageBoard.receiveMessages(ordinal), message -> localMessageScope.getEdgeFunction().apply(message, edge));
+                }));
             } else {
-                multiIterator.addIterator(Stream.of(this.vertex)
-                        .map(this.messageBoard.receiveMessages::get)
-                        .filter(q -> null != q)
-                        .flatMap(Queue::stream)
-                        .iterator());
+                multiIterator.addIterator(this.messageBoard.receiveMessages(this.ordinal));
             }
         }
         return multiIterator;
@@ -84,20 +89,28 @@ public final class TinkerMessenger<M> implements Messenger<M> {
 
     @Override
     public void sendMessage(final MessageScope messageScope, final M message) {
-        this.messageBoard.currentMessageScopes.add(messageScope);
+        this.messageBoard.addMessageScope(messageScope);
         if (messageScope instanceof MessageScope.Local) {
-            addMessage(this.vertex, message);
+            this.messageBoard.sendMessage(this.ordinal, message);
         } else {
-            ((MessageScope.Global) messageScope).vertices().forEach(v -> addMessage(v, message));
+            ((MessageScope.Global) messageScope).vertices().forEach(v -> {
+                final int ordinal = TinkerHelper.getOrdinal(this.graph, v);
+                if (-1 != ordinal) this.messageBoard.sendMessage(ordinal, message);
+            });
         }
     }
 
-    private void addMessage(final Vertex vertex, final M message) {
-        this.messageBoard.sendMessages.compute(vertex, (v,queue) -> {
-            if(null == queue) queue = new ConcurrentLinkedQueue<>();
-            queue.add(null != this.combiner && !queue.isEmpty() ? this.combiner.combine(queue.remove(), message) : message);
-            return queue;
-        });
+    /**
+     * Gets the vertex that sent a message along the edge, which for a {@link Direction#BOTH} scope is whichever end
+     * is not the vertex receiving it.
+     */
+    private Vertex getSender(final Edge edge, final Direction direction) {
+        if (direction.equals(Direction.OUT))
+            return edge.outVertex();
+        else if (direction.equals(Direction.IN))
+            return edge.inVertex();
+        else
+            return ElementHelper.areEqual(this.vertex, edge.outVertex()) ? edge.inVertex() : edge.outVertex();
     }
 
     ///////////
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.process.computer;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Hands out the items of a fixed array to a number of workers without locking.  The array is cut into chunks and
+ * each worker is given a contiguous range of those chunks, which it claims one at a time by incrementing its own
+ * counter.  A worker that has run out of chunks steals from the ranges of the other workers by incrementing their
+ * counters, so skew in the cost of the items evens out without any worker contending on a shared monitor.
+ *
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+final class TinkerWorkQueue<V> {
+
+    private static final int CHUNKS_PER_WORKER = 16;
+    private static final int MAX_CHUNK_SIZE = 1024;
+    // spaces the counters of the workers a cache line apart
+    private static final int STRIDE = 16;
+
+    private final Object[] items;
+    private final int workers;
+    private final int chunkSize;
+    private final int[] ends;
+    private final AtomicIntegerArray cursors;
+    private final AtomicInteger nextWorker = new AtomicInteger(0);
+
+    public TinkerWorkQueue(final Object[] items, final int workers) {
+        this.items = items;
+        this.workers = workers;
+        this.chunkSize = Math.max(1, Math.min(MAX_CHUNK_SIZE, items.length / (workers * CHUNKS_PER_WORKER)));
+
+        final int chunks = (items.length + this.chunkSize - 1) / this.chunkSize;
+        this.ends = new int[workers];
+        this.cursors = new AtomicIntegerArray(workers * STRIDE);
+        for (int i = 0; i < workers; i++) {
+            this.cursors.set(i * STRIDE, (int) ((long) chunks * i / workers));
+            this.ends[i] = (int) ((long) chunks * (i + 1) / workers);
+        }
+    }
+
+    /**
+     * Gets the iterator for the next worker, which is expected to be called once by each of the workers.  The
+     * iterator of a worker is not thread-safe, but the iterators of all the workers can be used concurrently.
+     */
+    public Iterator<V> iterator() {
+        final int worker = this.nextWorker.getAndIncrement() % this.workers;
+        return new Iterator<V>() {
+            private int position = 0;
+            private int end = 0;
+
+            @Override
+            public boolean hasNext() {
+                return this.position < this.end || this.claim();
+            }
+
+            @Override
+            public V next() {
+                if (!this.hasNext()) throw new NoSuchElementException();
+                return (V) items[this.position++];
+            }
+
+            private boolean claim() {
+                for (int i = 0; i < workers; i++) {
+                    final int victim = (worker + i) % workers;
+                    // once a range is exhausted its counter only moves further past the end
+                    if (cursors.get(victim * STRIDE) >= ends[victim]) continue;
+                    final int chunk = cursors.getAndIncrement(victim * STRIDE);
+                    if (chunk < ends[victim]) {
+                        this.position = chunk * chunkSize;
+                        this.end = Math.min(items.length, this.position + chunkSize);
+                        return true;
+                    }
+                }
+                return false;
+            }
+        };
+    }
+}
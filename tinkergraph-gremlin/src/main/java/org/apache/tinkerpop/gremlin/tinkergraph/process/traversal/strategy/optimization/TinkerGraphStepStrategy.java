@@ -22,7 +22,10 @@ import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.AndStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.HasStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.step.sideEffect.TinkerGraphStep;
@@ -46,8 +49,12 @@ public final class TinkerGraphStepStrategy extends AbstractTraversalStrategy<Tra
             final TinkerGraphStep<?,?> tinkerGraphStep = new TinkerGraphStep<>(originalGraphStep);
             TraversalHelper.replaceStep(originalGraphStep, (Step) tinkerGraphStep, traversal);
             Step<?, ?> currentStep = tinkerGraphStep.getNextStep();
-            while (currentStep instanceof HasContainerHolder) {
-                ((HasContainerHolder) currentStep).getHasContainers().forEach(tinkerGraphStep::addHasContainer);
+            while (currentStep instanceof HasContainerHolder || isHasConjunction(currentStep)) {
+                if (currentStep instanceof HasContainerHolder)
+                    ((HasContainerHolder) currentStep).getHasContainers().forEach(tinkerGraphStep::addHasContainer);
+                else
+                    ((AndStep<?>) currentStep).getLocalChildren().forEach(child -> child.getSteps().forEach(step ->
+                            ((HasContainerHolder) step).getHasContainers().forEach(tinkerGraphStep::addHasContainer)));
                 currentStep.getLabels().forEach(tinkerGraphStep::addLabel);
                 traversal.removeStep(currentStep);
                 currentStep = currentStep.getNextStep();
@@ -55,6 +62,23 @@ public final class TinkerGraphStepStrategy extends AbstractTraversalStrategy<Tra
         });
     }
 
+    /**
+     * Determines if the step is an {@code and()} of traversals that are nothing but {@code has()} steps, such that
+     * its {@link HasContainer}s can be folded into the {@link TinkerGraphStep} along with those of the steps around
+     * it and be answered by a single (composite) index lookup.
+     */
+    private static boolean isHasConjunction(final Step<?, ?> step) {
+        if (!(step instanceof AndStep))
+            return false;
+        for (final Traversal.Admin<?, ?> child : ((AndStep<?>) step).getLocalChildren()) {
+            for (final Step<?, ?> childStep : child.getSteps()) {
+                if (!(childStep instanceof HasStep) || !childStep.getLabels().isEmpty())
+                    return false;
+            }
+        }
+        return true;
+    }
+
     public static TinkerGraphStepStrategy instance() {
         return INSTANCE;
     }
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.structure;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The packed adjacency list of one direction of a {@link TinkerVertex} in compact storage mode.  Edges are grouped
+ * by their (interned) label into arrays, which replaces the {@code HashMap} of {@code HashSet} used by the default
+ * layout.  Appends write past the size observed by existing iterators and removals copy the affected group, so an
+ * iterator is a stable snapshot of the adjacency at the time it was created.
+ *
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+final class TinkerAdjacency {
+
+    private static final String[] EMPTY_LABELS = new String[0];
+    private static final TinkerEdge[][] EMPTY_EDGES = new TinkerEdge[0][];
+    private static final int[] EMPTY_SIZES = new int[0];
+
+    private String[] labels = EMPTY_LABELS;
+    private TinkerEdge[][] edges = EMPTY_EDGES;
+    private int[] sizes = EMPTY_SIZES;
+
+    public void add(final TinkerEdge edge) {
+        int group = this.indexOf(edge.label);
+        if (-1 == group) {
+            group = this.labels.length;
+            this.labels = Arrays.copyOf(this.labels, group + 1);
+            this.edges = Arrays.copyOf(this.edges, group + 1);
+            this.sizes = Arrays.copyOf(this.sizes, group + 1);
+            this.labels[group] = edge.label;
+            this.edges[group] = new TinkerEdge[1];
+        }
+
+        TinkerEdge[] groupEdges = this.edges[group];
+        final int size = this.sizes[group];
+        if (size == groupEdges.length) {
+            groupEdges = Arrays.copyOf(groupEdges, size + (size >> 1) + 1);
+            this.edges[group] = groupEdges;
+        }
+        groupEdges[size] = edge;
+        this.sizes[group] = size + 1;
+    }
+
+    public void remove(final TinkerEdge edge) {
+        final int group = this.indexOf(edge.label);
+        if (-1 == group) return;
+
+        final TinkerEdge[] groupEdges = this.edges[group];
+        final int size = this.sizes[group];
+        int position = -1;
+        for (int i = 0; i < size; i++) {
+            if (groupEdges[i] == edge) {
+                position = i;
+                break;
+            }
+        }
+        if (-1 == position) return;
+
+        if (1 == size) {
+            final int groups = this.labels.length;
+            final String[] labels = new String[groups - 1];
+            final TinkerEdge[][] edges = new TinkerEdge[groups - 1][];
+            final int[] sizes = new int[groups - 1];
+            for (int i = 0, j = 0; i < groups; i++) {
+                if (i == group) continue;
+                labels[j] = this.labels[i];
+                edges[j] = this.edges[i];
+                sizes[j++] = this.sizes[i];
+            }
+            this.labels = labels;
+            this.edges = edges;
+            this.sizes = sizes;
+        } else {
+            final TinkerEdge[] trimmed = new TinkerEdge[size - 1];
+            System.arraycopy(groupEdges, 0, trimmed, 0, position);
+            System.arraycopy(groupEdges, position + 1, trimmed, position, size - position - 1);
+            this.edges[group] = trimmed;
+            this.sizes[group] = size - 1;
+        }
+    }
+
+    public Iterator<TinkerEdge> edges(final String... edgeLabels) {
+        if (0 == this.labels.length) return Collections.emptyIterator();
+
+        if (0 == edgeLabels.length)
+            return new EdgeIterator(this.edges.clone(), this.sizes.clone());
+
+        if (1 == edgeLabels.length) {
+            final int group = this.indexOf(edgeLabels[0]);
+            return -1 == group ?
+                    Collections.emptyIterator() :
+                    new EdgeIterator(new TinkerEdge[][]{this.edges[group]}, new int[]{this.sizes[group]});
+        }
+
+        final TinkerEdge[][] matches = new TinkerEdge[edgeLabels.length][];
+        final int[] matchSizes = new int[edgeLabels.length];
+        int count = 0;
+        for (final String edgeLabel : edgeLabels) {
+            final int group = this.indexOf(edgeLabel);
+            if (-1 != group) {
+                matches[count] = this.edges[group];
+                matchSizes[count++] = this.sizes[group];
+            }
+        }
+        return 0 == count ? Collections.emptyIterator() : new EdgeIterator(matches, matchSizes);
+    }
+
+    private int indexOf(final String label) {
+        for (int i = 0; i < this.labels.length; i++) {
+            if (this.labels[i].equals(label))
+                return i;
+        }
+        return -1;
+    }
+
+    private static final class EdgeIterator implements Iterator<TinkerEdge> {
+        private final TinkerEdge[][] edges;
+        private final int[] sizes;
+        private int group = 0;
+        private int position = 0;
+
+        private EdgeIterator(final TinkerEdge[][] edges, final int[] sizes) {
+            this.edges = edges;
+            this.sizes = sizes;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (this.group < this.sizes.length && this.position >= this.sizes[this.group]) {
+                this.group++;
+                this.position = 0;
+            }
+            return this.group < this.sizes.length;
+        }
+
+        @Override
+        public TinkerEdge next() {
+            if (!this.hasNext()) throw new NoSuchElementException();
+            return this.edges[this.group][this.position++];
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.structure;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Compare;
+import org.apache.tinkerpop.gremlin.process.traversal.Contains;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An index over the values of several keys of the elements with a particular label (or of any label when the label
+ * is {@code null}).  Elements are held in a bucket for each combination of their values for the keys, so a
+ * conjunction of equality lookups on all the keys resolves to a single bucket.  Each element remembers the
+ * combinations it was filed under, which lets the index be maintained from the current state of the element
+ * whenever one of its keys changes.
+ *
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+final class TinkerCompositeIndex<T extends Element> {
+
+    private static final String LABEL_KEY = org.apache.tinkerpop.gremlin.structure.T.label.getAccessor();
+
+    private final String label;
+    private final List<String> keys;
+    private final Map<List<Object>, Set<T>> index = new ConcurrentHashMap<>();
+    private final Map<T, List<List<Object>>> entries = new ConcurrentHashMap<>();
+    private volatile boolean multiValued = false;
+    private volatile Long epoch = 0l;
+
+    public TinkerCompositeIndex(final String label, final List<String> keys) {
+        this.label = label;
+        this.keys = keys;
+    }
+
+    public String getLabel() {
+        return this.label;
+    }
+
+    public List<String> getKeys() {
+        return this.keys;
+    }
+
+    public boolean covers(final String key) {
+        return this.keys.contains(key);
+    }
+
+    /**
+     * Refiles the element under the combinations of its current values for the keys.
+     */
+    public void update(final T element) {
+        this.remove(element);
+        if (null != this.label && !this.label.equals(element.label()))
+            return;
+
+        List<List<Object>> tuples = Collections.singletonList(Collections.emptyList());
+        for (final String key : this.keys) {
+            final List<Object> values = new ArrayList<>(1);
+            element.properties(key).forEachRemaining(property -> values.add(property.value()));
+            tuples = product(tuples, values);
+            if (tuples.isEmpty()) return;
+        }
+
+        for (final List<Object> tuple : tuples) {
+            final Set<T> bucket = this.index.computeIfAbsent(tuple, t -> new ConcurrentHashMap<T, Long>().keySet(0l));
+            ((ConcurrentHashMap.KeySetView<T, Long>) bucket).getMap().put(element, this.epoch);
+        }
+        this.entries.put(element, tuples);
+        if (tuples.size() > 1) this.multiValued = true;
+    }
+
+    public void remove(final T element) {
+        final List<List<Object>> tuples = this.entries.remove(element);
+        if (null == tuples) return;
+        for (final List<Object> tuple : tuples) {
+            final Set<T> bucket = this.index.get(tuple);
+            if (null != bucket) {
+                bucket.remove(element);
+                if (bucket.isEmpty()) this.index.remove(tuple);
+            }
+        }
+    }
+
+    /**
+     * Gets the combinations of values that the {@link HasContainer}s select, or {@code null} if they do not pin down
+     * the label of the index and every one of its keys with {@link Compare#eq} or {@link Contains#within}.
+     */
+    public List<List<Object>> getTuples(final List<HasContainer> hasContainers) {
+        if (null != this.label) {
+            boolean labelled = false;
+            for (final HasContainer hasContainer : hasContainers) {
+                if (hasContainer.getKey().equals(LABEL_KEY) && Collections.singletonList(this.label).equals(values(hasContainer.getPredicate()))) {
+                    labelled = true;
+                    break;
+                }
+            }
+            if (!labelled) return null;
+        }
+
+        List<List<Object>> tuples = Collections.singletonList(Collections.emptyList());
+        for (final String key : this.keys) {
+            List<Object> values = null;
+            for (final HasContainer hasContainer : hasContainers) {
+                if (hasContainer.getKey().equals(key) && null != (values = values(hasContainer.getPredicate())))
+                    break;
+            }
+            if (null == values) return null;
+            tuples = product(tuples, values);
+        }
+        return tuples;
+    }
+
+    public long count(final List<List<Object>> tuples, final long limit) {
+        long count = 0;
+        for (final List<Object> tuple : tuples) {
+            final Set<T> bucket = this.index.get(tuple);
+            if (null != bucket) count = count + bucket.size();
+            if (count > limit) break;
+        }
+        return count;
+    }
+
+    public Iterator<T> get(final List<List<Object>> tuples) {
+        if (1 == tuples.size()) {
+            final Set<T> bucket = this.index.get(tuples.get(0));
+            return null == bucket ? Collections.emptyIterator() : bucket.iterator();
+        }
+
+        if (!this.multiValued) {
+            // an element refiled under another tuple after the lookup began is not returned again from there
+            final long start = this.nextEpoch();
+            return IteratorUtils.flatMap(tuples.iterator(), tuple -> {
+                final Set<T> bucket = this.index.get(tuple);
+                if (null == bucket) return Collections.emptyIterator();
+                final Map<T, Long> stamps = ((ConcurrentHashMap.KeySetView<T, Long>) bucket).getMap();
+                return IteratorUtils.map(IteratorUtils.filter(stamps.entrySet().iterator(), entry -> entry.getValue() < start), Map.Entry::getKey);
+            });
+        }
+
+        // an element is only filed under several tuples if it has multiple values for one of the keys
+        final Set<T> seen = new HashSet<>();
+        return IteratorUtils.filter(IteratorUtils.flatMap(tuples.iterator(), tuple -> {
+            final Set<T> bucket = this.index.get(tuple);
+            return null == bucket ? Collections.emptyIterator() : bucket.iterator();
+        }), seen::add);
+    }
+
+    private synchronized long nextEpoch() {
+        this.epoch = this.epoch + 1;
+        return this.epoch;
+    }
+
+    public void clear() {
+        this.index.clear();
+        this.entries.clear();
+        this.multiValued = false;
+    }
+
+    private static List<Object> values(final P<?> predicate) {
+        if (predicate.getBiPredicate() == Compare.eq)
+            return Collections.singletonList(predicate.getValue());
+        else if (predicate.getBiPredicate() == Contains.within && predicate.getValue() instanceof Collection)
+            return new ArrayList<>(new LinkedHashSet<>((Collection<?>) predicate.getValue()));
+        else
+            return null;
+    }
+
+    private static List<List<Object>> product(final List<List<Object>> tuples, final List<Object> values) {
+        final List<List<Object>> product = new ArrayList<>(tuples.size() * values.size());
+        for (final List<Object> tuple : tuples) {
+            for (final Object value : values) {
+                final Object[] extended = Arrays.copyOf(tuple.toArray(), tuple.size() + 1);
+                extended[tuple.size()] = value;
+                product.add(Arrays.asList(extended));
+            }
+        }
+        return product;
+    }
+}
@@ -48,6 +48,7 @@ public final class TinkerEdge extends TinkerElement implements Edge {
         super(id, label);
         this.outVertex = outVertex;
         this.inVertex = inVertex;
+        this.stamp = ((TinkerGraph) outVertex.graph()).currentStamp.incrementAndGet();
         TinkerHelper.autoUpdateIndex(this, T.label.getAccessor(), this.label, null);
     }
 
@@ -79,6 +80,11 @@ public final class TinkerEdge extends TinkerElement implements Edge {
         final TinkerVertex outVertex = (TinkerVertex) this.outVertex;
         final TinkerVertex inVertex = (TinkerVertex) this.inVertex;
 
+        if (null != outVertex && null != outVertex.outAdjacency)
+            outVertex.outAdjacency.remove(this);
+        if (null != inVertex && null != inVertex.inAdjacency)
+            inVertex.inAdjacency.remove(this);
+
         if (null != outVertex && null != outVertex.outEdges) {
             final Set<Edge> edges = outVertex.outEdges.get(this.label());
             if (null != edges)
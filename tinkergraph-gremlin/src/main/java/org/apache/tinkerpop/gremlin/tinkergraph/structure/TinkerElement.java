@@ -29,6 +29,11 @@ public abstract class TinkerElement implements Element {
     protected final Object id;
     protected final String label;
     protected boolean removed = false;
+    /**
+     * The order in which the element was added to the graph, which lets iterators over the graph skip the elements
+     * added after they were created.
+     */
+    protected long stamp;
 
     protected TinkerElement(final Object id, final String label) {
         this.id = id;
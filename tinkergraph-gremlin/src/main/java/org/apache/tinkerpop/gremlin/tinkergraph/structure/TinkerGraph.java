@@ -115,10 +115,12 @@ public final class TinkerGraph implements Graph {
     public static final String GREMLIN_TINKERGRAPH_DEFAULT_VERTEX_PROPERTY_CARDINALITY = "gremlin.tinkergraph.defaultVertexPropertyCardinality";
     public static final String GREMLIN_TINKERGRAPH_GRAPH_LOCATION = "gremlin.tinkergraph.graphLocation";
     public static final String GREMLIN_TINKERGRAPH_GRAPH_FORMAT = "gremlin.tinkergraph.graphFormat";
+    public static final String GREMLIN_TINKERGRAPH_COMPACT_STORAGE = "gremlin.tinkergraph.compactStorage";
 
     private final TinkerGraphFeatures features = new TinkerGraphFeatures();
 
     protected AtomicLong currentId = new AtomicLong(-1l);
+    protected final AtomicLong currentStamp = new AtomicLong(0l);
     protected Map<Object, Vertex> vertices = new ConcurrentHashMap<>();
     protected Map<Object, Edge> edges = new ConcurrentHashMap<>();
 
@@ -131,6 +133,8 @@ public final class TinkerGraph implements Graph {
     protected final IdManager<?> edgeIdManager;
     protected final IdManager<?> vertexPropertyIdManager;
     protected final VertexProperty.Cardinality defaultVertexPropertyCardinality;
+    protected final boolean compactStorage;
+    private final Map<String, String> labels;
 
     private final Configuration configuration;
     private final String graphLocation;
@@ -147,6 +151,19 @@ public final class TinkerGraph implements Graph {
         defaultVertexPropertyCardinality = VertexProperty.Cardinality.valueOf(
                 configuration.getString(GREMLIN_TINKERGRAPH_DEFAULT_VERTEX_PROPERTY_CARDINALITY, VertexProperty.Cardinality.single.name()));
 
+        compactStorage = configuration.getBoolean(GREMLIN_TINKERGRAPH_COMPACT_STORAGE, false);
+        if (compactStorage) {
+            if (vertexIdManager != DefaultIdManager.LONG || edgeIdManager != DefaultIdManager.LONG)
+                throw new IllegalStateException(String.format("The %s requires the %s and %s to be %s",
+                        GREMLIN_TINKERGRAPH_COMPACT_STORAGE, GREMLIN_TINKERGRAPH_VERTEX_ID_MANAGER,
+                        GREMLIN_TINKERGRAPH_EDGE_ID_MANAGER, DefaultIdManager.LONG.name()));
+            vertices = new TinkerLongMap<>();
+            edges = new TinkerLongMap<>();
+            labels = new ConcurrentHashMap<>();
+        } else {
+            labels = null;
+        }
+
         graphLocation = configuration.getString(GREMLIN_TINKERGRAPH_GRAPH_LOCATION, null);
         graphFormat = configuration.getString(GREMLIN_TINKERGRAPH_GRAPH_FORMAT, null);
 
@@ -192,7 +209,7 @@ public final class TinkerGraph implements Graph {
     public Vertex addVertex(final Object... keyValues) {
         ElementHelper.legalPropertyKeyValueArray(keyValues);
         Object idValue = vertexIdManager.convert(ElementHelper.getIdValue(keyValues).orElse(null));
-        final String label = ElementHelper.getLabelValue(keyValues).orElse(Vertex.DEFAULT_LABEL);
+        final String label = internLabel(ElementHelper.getLabelValue(keyValues).orElse(Vertex.DEFAULT_LABEL));
 
         if (null != idValue) {
             if (this.vertices.containsKey(idValue))
@@ -240,6 +257,7 @@ public final class TinkerGraph implements Graph {
     public void clear() {
         this.vertices.clear();
         this.edges.clear();
+        if (this.compactStorage) this.labels.clear();
         this.variables = null;
         this.currentId.set(-1l);
         this.vertexIndex = null;
@@ -272,6 +290,16 @@ public final class TinkerGraph implements Graph {
         return createElementIterator(Edge.class, edges, edgeIdManager, edgeIds);
     }
 
+    /**
+     * In compact storage mode, returns the canonical instance of the label so that every element with the same label
+     * shares one {@code String}.  Otherwise the label is returned as-is.
+     */
+    protected String internLabel(final String label) {
+        if (!this.compactStorage) return label;
+        final String interned = this.labels.putIfAbsent(label, label);
+        return null == interned ? label : interned;
+    }
+
     private void loadGraph() {
         final File f = new File(graphLocation);
         if (f.exists() && f.isFile()) {
@@ -477,12 +505,49 @@ public final class TinkerGraph implements Graph {
      * @param <E>          The type of the element class
      */
     public <E extends Element> void createIndex(final String key, final Class<E> elementClass) {
+        this.createIndex(key, elementClass, IndexType.HASH);
+    }
+
+    /**
+     * Create an index of the specified {@link IndexType} for said element class ({@link Vertex} or {@link Edge}) and
+     * said property key.  If the key is already indexed with a different type, the existing index is replaced.
+     *
+     * @param key          the property key to index
+     * @param elementClass the element class to index
+     * @param indexType    the type of index to create
+     * @param <E>          The type of the element class
+     */
+    public <E extends Element> void createIndex(final String key, final Class<E> elementClass, final IndexType indexType) {
+        if (Vertex.class.isAssignableFrom(elementClass)) {
+            if (null == this.vertexIndex) this.vertexIndex = new TinkerIndex<>(this, TinkerVertex.class);
+            this.vertexIndex.createKeyIndex(key, indexType);
+        } else if (Edge.class.isAssignableFrom(elementClass)) {
+            if (null == this.edgeIndex) this.edgeIndex = new TinkerIndex<>(this, TinkerEdge.class);
+            this.edgeIndex.createKeyIndex(key, indexType);
+        } else {
+            throw new IllegalArgumentException("Class is not indexable: " + elementClass);
+        }
+    }
+
+    /**
+     * Create a composite index over the values of several property keys of the elements of said element class
+     * ({@link Vertex} or {@link Edge}) that have the given label.  A traversal that filters on the label and on
+     * equality (or {@code within}) for every one of the keys, e.g. {@code g.V().has('person','tenant',t).has('uid',u)}
+     * for an index on "person" over "tenant" and "uid", is answered with a single lookup.  Elements that do not have
+     * a value for each of the keys are not indexed.
+     *
+     * @param elementClass the element class to index
+     * @param label        the label of the elements to index or {@code null} to index elements of any label
+     * @param keys         the property keys to index, in order
+     * @param <E>          The type of the element class
+     */
+    public <E extends Element> void createIndex(final Class<E> elementClass, final String label, final String... keys) {
         if (Vertex.class.isAssignableFrom(elementClass)) {
             if (null == this.vertexIndex) this.vertexIndex = new TinkerIndex<>(this, TinkerVertex.class);
-            this.vertexIndex.createKeyIndex(key);
+            this.vertexIndex.createCompositeIndex(label, keys);
         } else if (Edge.class.isAssignableFrom(elementClass)) {
             if (null == this.edgeIndex) this.edgeIndex = new TinkerIndex<>(this, TinkerEdge.class);
-            this.edgeIndex.createKeyIndex(key);
+            this.edgeIndex.createCompositeIndex(label, keys);
         } else {
             throw new IllegalArgumentException("Class is not indexable: " + elementClass);
         }
@@ -505,6 +570,24 @@ public final class TinkerGraph implements Graph {
         }
     }
 
+    /**
+     * Drop the composite index for the specified element class ({@link Vertex} or {@link Edge}), label and keys.
+     *
+     * @param elementClass the element class of the index to drop
+     * @param label        the label of the index to drop or {@code null} if it indexes elements of any label
+     * @param keys         the property keys of the index to drop, in order
+     * @param <E>          The type of the element class
+     */
+    public <E extends Element> void dropIndex(final Class<E> elementClass, final String label, final String... keys) {
+        if (Vertex.class.isAssignableFrom(elementClass)) {
+            if (null != this.vertexIndex) this.vertexIndex.dropCompositeIndex(label, keys);
+        } else if (Edge.class.isAssignableFrom(elementClass)) {
+            if (null != this.edgeIndex) this.edgeIndex.dropCompositeIndex(label, keys);
+        } else {
+            throw new IllegalArgumentException("Class is not indexable: " + elementClass);
+        }
+    }
+
     /**
      * Return all the keys currently being index for said element class  ({@link Vertex} or {@link Edge}).
      *
@@ -522,6 +605,22 @@ public final class TinkerGraph implements Graph {
         }
     }
 
+    /**
+     * The types of index that can be created with {@link #createIndex(String, Class, IndexType)}.
+     */
+    public enum IndexType {
+        /**
+         * A hash index that answers equality and {@code within} lookups.
+         */
+        HASH,
+
+        /**
+         * A sorted index that, in addition to the lookups of a {@link #HASH} index, answers {@code lt}, {@code lte},
+         * {@code gt}, {@code gte}, {@code between}, {@code inside} and {@code outside} predicates.
+         */
+        SORTED
+    }
+
     /**
      * Construct an {@link TinkerGraph.IdManager} from the TinkerGraph {@code Configuration}.
      */
@@ -18,13 +18,17 @@
  */
 package org.apache.tinkerpop.gremlin.tinkergraph.structure;
 
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
+import org.apache.tinkerpop.gremlin.structure.util.wrapped.WrappedVertex;
 import org.apache.tinkerpop.gremlin.tinkergraph.process.computer.TinkerGraphComputerView;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -45,8 +49,9 @@ public final class TinkerHelper {
     private TinkerHelper() {
     }
 
-    protected static Edge addEdge(final TinkerGraph graph, final TinkerVertex outVertex, final TinkerVertex inVertex, final String label, final Object... keyValues) {
-        ElementHelper.validateLabel(label);
+    protected static Edge addEdge(final TinkerGraph graph, final TinkerVertex outVertex, final TinkerVertex inVertex, final String edgeLabel, final Object... keyValues) {
+        ElementHelper.validateLabel(edgeLabel);
+        final String label = graph.internLabel(edgeLabel);
         ElementHelper.legalPropertyKeyValueArray(keyValues);
 
         Object idValue = graph.edgeIdManager.convert(ElementHelper.getIdValue(keyValues).orElse(null));
@@ -69,6 +74,11 @@ public final class TinkerHelper {
     }
 
     protected static void addOutEdge(final TinkerVertex vertex, final String label, final Edge edge) {
+        if (((TinkerGraph) vertex.graph()).compactStorage) {
+            if (null == vertex.outAdjacency) vertex.outAdjacency = new TinkerAdjacency();
+            vertex.outAdjacency.add((TinkerEdge) edge);
+            return;
+        }
         if (null == vertex.outEdges) vertex.outEdges = new HashMap<>();
         Set<Edge> edges = vertex.outEdges.get(label);
         if (null == edges) {
@@ -79,6 +89,11 @@ public final class TinkerHelper {
     }
 
     protected static void addInEdge(final TinkerVertex vertex, final String label, final Edge edge) {
+        if (((TinkerGraph) vertex.graph()).compactStorage) {
+            if (null == vertex.inAdjacency) vertex.inAdjacency = new TinkerAdjacency();
+            vertex.inAdjacency.add((TinkerEdge) edge);
+            return;
+        }
         if (null == vertex.inEdges) vertex.inEdges = new HashMap<>();
         Set<Edge> edges = vertex.inEdges.get(label);
         if (null == edges) {
@@ -96,12 +111,70 @@ public final class TinkerHelper {
         return null == graph.edgeIndex ? Collections.emptyList() : graph.edgeIndex.get(key, value);
     }
 
+    /**
+     * Lazily iterates the vertices that may satisfy the {@link HasContainer}s using the most selective index of the
+     * graph, or returns {@code null} if no index can answer them.
+     */
+    public static Iterator<TinkerVertex> queryVertexIndex(final TinkerGraph graph, final List<HasContainer> hasContainers) {
+        return null == graph.vertexIndex ? null : graph.vertexIndex.get(hasContainers);
+    }
+
+    /**
+     * Lazily iterates the edges that may satisfy the {@link HasContainer}s using the most selective index of the
+     * graph, or returns {@code null} if no index can answer them.
+     */
+    public static Iterator<TinkerEdge> queryEdgeIndex(final TinkerGraph graph, final List<HasContainer> hasContainers) {
+        return null == graph.edgeIndex ? null : graph.edgeIndex.get(hasContainers);
+    }
+
+    /**
+     * Wraps an iterator over the live element maps or index buckets of the graph so that it skips the elements that
+     * were added after it was created and those that have since been removed.  A traversal can then stream over the
+     * graph while it mutates it (e.g. {@code g.V().addV()}) without first copying the elements into a list.
+     */
+    public static <E extends Element> Iterator<E> createStableIterator(final TinkerGraph graph, final Iterator<E> iterator) {
+        final long stamp = graph.currentStamp.get();
+        return IteratorUtils.filter(iterator, element -> {
+            final TinkerElement tinkerElement = (TinkerElement) element;
+            return tinkerElement.stamp <= stamp && !tinkerElement.removed;
+        });
+    }
+
+    /**
+     * Numbers the vertices densely from zero in the order given so that a graph computation can keep its per-vertex
+     * state in arrays rather than in maps keyed by vertex.
+     */
+    public static void assignOrdinals(final Object[] vertices) {
+        for (int i = 0; i < vertices.length; i++) {
+            ((TinkerVertex) vertices[i]).ordinal = i;
+        }
+    }
+
+    /**
+     * Gets the ordinal assigned to the vertex by {@link #assignOrdinals(Object[])}, resolving vertices that are not
+     * a {@link TinkerVertex} (e.g. wrapped, detached or referenced vertices) by their id, or returns {@code -1} if
+     * the vertex is not in the graph.
+     */
+    public static int getOrdinal(final TinkerGraph graph, final Vertex vertex) {
+        if (vertex instanceof TinkerVertex)
+            return ((TinkerVertex) vertex).ordinal;
+        else if (vertex instanceof WrappedVertex)
+            return getOrdinal(graph, ((WrappedVertex<Vertex>) vertex).getBaseVertex());
+
+        final Iterator<Vertex> vertices = graph.vertices(vertex.id());
+        return vertices.hasNext() ? ((TinkerVertex) vertices.next()).ordinal : -1;
+    }
+
+    public static Object getNextVertexPropertyId(final TinkerGraph graph) {
+        return graph.vertexPropertyIdManager.getNextId(graph);
+    }
+
     public static boolean inComputerMode(final TinkerGraph graph) {
         return null != graph.graphComputerView;
     }
 
-    public static TinkerGraphComputerView createGraphComputerView(final TinkerGraph graph, final Set<String> computeKeys) {
-        return graph.graphComputerView = new TinkerGraphComputerView(graph, computeKeys);
+    public static TinkerGraphComputerView createGraphComputerView(final TinkerGraph graph, final Set<String> computeKeys, final int vertexCount) {
+        return graph.graphComputerView = new TinkerGraphComputerView(graph, computeKeys, vertexCount);
     }
 
     public static TinkerGraphComputerView getGraphComputerView(final TinkerGraph graph) {
@@ -143,16 +216,19 @@ public final class TinkerHelper {
     public static void removeIndex(final TinkerVertex vertex, final String key, final Object value) {
         final TinkerGraph graph = (TinkerGraph) vertex.graph();
         if (graph.vertexIndex != null)
-            graph.vertexIndex.remove(key, value, vertex);
+            graph.vertexIndex.autoRemove(key, value, vertex);
     }
 
     public static void removeIndex(final TinkerEdge edge, final String key, final Object value) {
         final TinkerGraph graph = (TinkerGraph) edge.graph();
         if (graph.edgeIndex != null)
-            graph.edgeIndex.remove(key, value, edge);
+            graph.edgeIndex.autoRemove(key, value, edge);
     }
 
     public static Iterator<TinkerEdge> getEdges(final TinkerVertex vertex, final Direction direction, final String... edgeLabels) {
+        if (((TinkerGraph) vertex.graph()).compactStorage)
+            return getAdjacentEdges(vertex, direction, edgeLabels);
+
         final List<Edge> edges = new ArrayList<>();
         if (direction.equals(Direction.OUT) || direction.equals(Direction.BOTH)) {
             if (vertex.outEdges != null) {
@@ -178,6 +254,17 @@ public final class TinkerHelper {
     }
 
     public static Iterator<TinkerVertex> getVertices(final TinkerVertex vertex, final Direction direction, final String... edgeLabels) {
+        if (((TinkerGraph) vertex.graph()).compactStorage) {
+            final Iterator<TinkerVertex> outVertices = null == vertex.outAdjacency || direction.equals(Direction.IN) ?
+                    Collections.emptyIterator() :
+                    IteratorUtils.map(vertex.outAdjacency.edges(edgeLabels), edge -> (TinkerVertex) edge.inVertex);
+            final Iterator<TinkerVertex> inVertices = null == vertex.inAdjacency || direction.equals(Direction.OUT) ?
+                    Collections.emptyIterator() :
+                    IteratorUtils.map(vertex.inAdjacency.edges(edgeLabels), edge -> (TinkerVertex) edge.outVertex);
+            return direction.equals(Direction.BOTH) ? IteratorUtils.concat(outVertices, inVertices) :
+                    direction.equals(Direction.OUT) ? outVertices : inVertices;
+        }
+
         final List<Vertex> vertices = new ArrayList<>();
         if (direction.equals(Direction.OUT) || direction.equals(Direction.BOTH)) {
             if (vertex.outEdges != null) {
@@ -201,4 +288,13 @@ public final class TinkerHelper {
         }
         return (Iterator) vertices.iterator();
     }
+
+    private static Iterator<TinkerEdge> getAdjacentEdges(final TinkerVertex vertex, final Direction direction, final String... edgeLabels) {
+        final Iterator<TinkerEdge> outEdges = null == vertex.outAdjacency || direction.equals(Direction.IN) ?
+                Collections.emptyIterator() : vertex.outAdjacency.edges(edgeLabels);
+        final Iterator<TinkerEdge> inEdges = null == vertex.inAdjacency || direction.equals(Direction.OUT) ?
+                Collections.emptyIterator() : vertex.inAdjacency.edges(edgeLabels);
+        return direction.equals(Direction.BOTH) ? IteratorUtils.concat(outEdges, inEdges) :
+                direction.equals(Direction.OUT) ? outEdges : inEdges;
+    }
 }
@@ -18,18 +18,40 @@
  */
 package org.apache.tinkerpop.gremlin.tinkergraph.structure;
 
+import org.apache.tinkerpop.gremlin.process.traversal.Compare;
+import org.apache.tinkerpop.gremlin.process.traversal.Contains;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.util.AndP;
+import org.apache.tinkerpop.gremlin.process.traversal.util.OrP;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -37,8 +59,12 @@ import java.util.concurrent.ConcurrentHashMap;
 final class TinkerIndex<T extends Element> {
 
     protected Map<String, Map<Object, Set<T>>> index = new ConcurrentHashMap<>();
+    protected Map<String, NavigableMap<Object, Set<T>>> sortedIndex = new ConcurrentHashMap<>();
     protected final Class<T> indexClass;
-    private final Set<String> indexedKeys = new HashSet<>();
+    private final Map<String, TinkerGraph.IndexType> indexedKeys = new HashMap<>();
+    private final Set<String> multiValuedKeys = ConcurrentHashMap.newKeySet();
+    private volatile Long epoch = 0l;
+    private final List<TinkerCompositeIndex<T>> compositeIndices = new CopyOnWriteArrayList<>();
     private final TinkerGraph graph;
 
     public TinkerIndex(final TinkerGraph graph, final Class<T> indexClass) {
@@ -47,22 +73,36 @@ final class TinkerIndex<T extends Element> {
     }
 
     protected void put(final String key, final Object value, final T element) {
-        Map<Object, Set<T>> keyMap = this.index.get(key);
+        Map<Object, Set<T>> keyMap = this.getKeyMap(key, value);
         if (keyMap == null) {
-            keyMap = new ConcurrentHashMap<>();
-            this.index.put(key, keyMap);
+            if (this.isSorted(key) && isSortable(value)) {
+                final NavigableMap<Object, Set<T>> sortedKeyMap = new ConcurrentSkipListMap<>(VALUE_COMPARATOR);
+                this.sortedIndex.put(key, sortedKeyMap);
+                keyMap = sortedKeyMap;
+            } else {
+                keyMap = new ConcurrentHashMap<>();
+                this.index.put(key, keyMap);
+            }
         }
         Set<T> objects = keyMap.get(value);
         if (null == objects) {
-            objects = new HashSet<>();
+            objects = new ConcurrentHashMap<T, Long>().keySet(0l);
             keyMap.put(value, objects);
         }
-        objects.add(element);
+        // each element is filed with the epoch of the write so that a lookup can skip the elements moved after it began
+        ((ConcurrentHashMap.KeySetView<T, Long>) objects).getMap().put(element, this.epoch);
+
+        // once a vertex has several values for the key its elements can be in more than one bucket of the key
+        if (element instanceof TinkerVertex && !this.multiValuedKeys.contains(key)) {
+            final Map<String, List<VertexProperty>> properties = ((TinkerVertex) element).properties;
+            if (null != properties && properties.getOrDefault(key, Collections.emptyList()).size() > 1)
+                this.multiValuedKeys.add(key);
+        }
 
     }
 
     public List<T> get(final String key, final Object value) {
-        final Map<Object, Set<T>> keyMap = this.index.get(key);
+        final Map<Object, Set<T>> keyMap = this.getKeyMap(key, value);
         if (null == keyMap) {
             return Collections.emptyList();
         } else {
@@ -74,8 +114,53 @@ final class TinkerIndex<T extends Element> {
         }
     }
 
+    /**
+     * Lazily iterates the elements whose value for the key may satisfy the predicate.  The caller is still expected
+     * to test the returned elements against the predicate.  If the predicate cannot be answered by the index for the
+     * key then {@code null} is returned.  The buckets are iterated in place and are weakly consistent with changes
+     * made to the index while iterating, except that an element written to a further bucket after the lookup began
+     * is not returned from there, so that changing the value of the elements being iterated does not return them twice.
+     */
+    public Iterator<T> get(final String key, final P<?> predicate) {
+        final Collection<Set<T>> buckets = this.getBuckets(key, predicate);
+        if (null == buckets)
+            return null;
+
+        final Iterator<Set<T>> bucketIterator = buckets.iterator();
+        if (!bucketIterator.hasNext())
+            return Collections.emptyIterator();
+        final Set<T> first = bucketIterator.next();
+        if (!bucketIterator.hasNext())
+            return first.iterator();
+
+        // an element with a single value for the key is in one bucket, so only a bucket that is reached twice, e.g.
+        // by overlapping predicates of an or(), has to be skipped rather than every element that was returned
+        if (!this.multiValuedKeys.contains(key)) {
+            final long start = this.nextEpoch();
+            final Set<Set<T>> seenBuckets = Collections.newSetFromMap(new IdentityHashMap<>());
+            seenBuckets.add(first);
+            return IteratorUtils.concat(first.iterator(),
+                    IteratorUtils.flatMap(IteratorUtils.filter(bucketIterator, seenBuckets::add), bucket -> writtenBefore(bucket, start)));
+        }
+
+        // an element is in more than one bucket if it has multiple values for the key, so only the first sighting of
+        // an element is returned
+        final Set<T> seen = new HashSet<>();
+        return IteratorUtils.filter(IteratorUtils.concat(first.iterator(), IteratorUtils.flatMap(bucketIterator, Set::iterator)), seen::add);
+    }
+
+    private synchronized long nextEpoch() {
+        this.epoch = this.epoch + 1;
+        return this.epoch;
+    }
+
+    private static <T> Iterator<T> writtenBefore(final Set<T> bucket, final long epoch) {
+        final Map<T, Long> stamps = ((ConcurrentHashMap.KeySetView<T, Long>) bucket).getMap();
+        return IteratorUtils.map(IteratorUtils.filter(stamps.entrySet().iterator(), entry -> entry.getValue() < epoch), Map.Entry::getKey);
+    }
+
     public long count(final String key, final Object value) {
-        final Map<Object, Set<T>> keyMap = this.index.get(key);
+        final Map<Object, Set<T>> keyMap = this.getKeyMap(key, value);
         if (null == keyMap) {
             return 0;
         } else {
@@ -87,8 +172,26 @@ final class TinkerIndex<T extends Element> {
         }
     }
 
+    /**
+     * Estimates the number of elements that {@link #get(String, P)} would return, stopping once the estimate exceeds
+     * the limit so that wide ranges stay cheap to estimate.  If the predicate cannot be answered by the index for the
+     * key then {@code -1} is returned.
+     */
+    public long count(final String key, final P<?> predicate, final long limit) {
+        final Collection<Set<T>> buckets = this.getBuckets(key, predicate);
+        if (null == buckets)
+            return -1;
+
+        long count = 0;
+        for (final Set<T> bucket : buckets) {
+            count = count + bucket.size();
+            if (count > limit) break;
+        }
+        return count;
+    }
+
     public void remove(final String key, final Object value, final T element) {
-        final Map<Object, Set<T>> keyMap = this.index.get(key);
+        final Map<Object, Set<T>> keyMap = this.getKeyMap(key, value);
         if (null != keyMap) {
             Set<T> objects = keyMap.get(value);
             if (null != objects) {
@@ -107,31 +210,52 @@ final class TinkerIndex<T extends Element> {
                     set.remove(element);
                 }
             }
+            for (Map<Object, Set<T>> map : sortedIndex.values()) {
+                for (Set<T> set : map.values()) {
+                    set.remove(element);
+                }
+            }
+            for (TinkerCompositeIndex<T> compositeIndex : this.compositeIndices) {
+                compositeIndex.remove(element);
+            }
         }
     }
 
     public void autoUpdate(final String key, final Object newValue, final Object oldValue, final T element) {
-        if (this.indexedKeys.contains(key)) {
+        if (this.indexedKeys.containsKey(key)) {
             if (oldValue != null)
                 this.remove(key, oldValue, element);
             this.put(key, newValue, element);
         }
+        this.updateCompositeIndices(key, element);
     }
 
     public void autoRemove(final String key, final Object oldValue, final T element) {
-        if (this.indexedKeys.contains(key))
+        if (this.indexedKeys.containsKey(key))
             this.remove(key, oldValue, element);
+        this.updateCompositeIndices(key, element);
+    }
+
+    private void updateCompositeIndices(final String key, final T element) {
+        for (TinkerCompositeIndex<T> compositeIndex : this.compositeIndices) {
+            if (compositeIndex.covers(key))
+                compositeIndex.update(element);
+        }
     }
 
-    public void createKeyIndex(final String key) {
+    public void createKeyIndex(final String key, final TinkerGraph.IndexType indexType) {
         if (null == key)
             throw Graph.Exceptions.argumentCanNotBeNull("key");
         if (key.isEmpty())
             throw new IllegalArgumentException("The key for the index cannot be an empty string");
+        if (null == indexType)
+            throw Graph.Exceptions.argumentCanNotBeNull("indexType");
 
-        if (this.indexedKeys.contains(key))
+        if (indexType == this.indexedKeys.get(key))
             return;
-        this.indexedKeys.add(key);
+        if (this.indexedKeys.containsKey(key))
+            this.dropKeyIndex(key);
+        this.indexedKeys.put(key, indexType);
 
         (Vertex.class.isAssignableFrom(this.indexClass) ?
                 this.graph.vertices.values().<T>parallelStream() :
@@ -144,11 +268,284 @@ final class TinkerIndex<T extends Element> {
     public void dropKeyIndex(final String key) {
         if (this.index.containsKey(key))
             this.index.remove(key).clear();
+        if (this.sortedIndex.containsKey(key))
+            this.sortedIndex.remove(key).clear();
 
         this.indexedKeys.remove(key);
+        this.multiValuedKeys.remove(key);
     }
 
     public Set<String> getIndexedKeys() {
-        return this.indexedKeys;
+        return this.indexedKeys.keySet();
+    }
+
+    public void createCompositeIndex(final String label, final String... keys) {
+        final List<String> keyList = validateCompositeKeys(keys);
+        if (null != this.getCompositeIndex(label, keyList))
+            return;
+
+        final TinkerCompositeIndex<T> compositeIndex = new TinkerCompositeIndex<>(label, keyList);
+        (Vertex.class.isAssignableFrom(this.indexClass) ?
+                this.graph.vertices.values().<T>stream() :
+                this.graph.edges.values().<T>stream())
+                .forEach(e -> compositeIndex.update((T) e));
+        this.compositeIndices.add(compositeIndex);
+    }
+
+    public void dropCompositeIndex(final String label, final String... keys) {
+        final TinkerCompositeIndex<T> compositeIndex = this.getCompositeIndex(label, validateCompositeKeys(keys));
+        if (null != compositeIndex) {
+            this.compositeIndices.remove(compositeIndex);
+            compositeIndex.clear();
+        }
+    }
+
+    private TinkerCompositeIndex<T> getCompositeIndex(final String label, final List<String> keys) {
+        for (TinkerCompositeIndex<T> compositeIndex : this.compositeIndices) {
+            if (Objects.equals(label, compositeIndex.getLabel()) && keys.equals(compositeIndex.getKeys()))
+                return compositeIndex;
+        }
+        return null;
+    }
+
+    private static List<String> validateCompositeKeys(final String... keys) {
+        if (null == keys || 0 == keys.length)
+            throw new IllegalArgumentException("A composite index requires at least one key");
+        for (final String key : keys) {
+            if (null == key)
+                throw Graph.Exceptions.argumentCanNotBeNull("key");
+            if (key.isEmpty())
+                throw new IllegalArgumentException("The key for the index cannot be an empty string");
+        }
+        return Collections.unmodifiableList(Arrays.asList(keys.clone()));
+    }
+
+    /**
+     * Lazily iterates the elements that may satisfy the conjunction of {@link HasContainer}s using whichever index
+     * is estimated to hold the fewest candidates, or returns {@code null} if no index can answer them.  Composite
+     * indices are considered first as they test the most {@link HasContainer}s for the same number of candidates.
+     * The predicates of the {@link HasContainer}s on the same key are combined with an {@link AndP} so that, for
+     * example, the two halves of a {@code between()} become a single range lookup on a sorted index.
+     */
+    public Iterator<T> get(final List<HasContainer> hasContainers) {
+        Supplier<Iterator<T>> lookup = null;
+        long lookupCount = Long.MAX_VALUE;
+
+        for (final TinkerCompositeIndex<T> compositeIndex : this.compositeIndices) {
+            final List<List<Object>> tuples = compositeIndex.getTuples(hasContainers);
+            final long count = null == tuples ? -1 : compositeIndex.count(tuples, lookupCount);
+            if (count >= 0 && (null == lookup || count < lookupCount)) {
+                lookup = () -> compositeIndex.get(tuples);
+                lookupCount = count;
+            }
+        }
+
+        final Map<String, List<P>> predicates = new LinkedHashMap<>();
+        for (final HasContainer hasContainer : hasContainers) {
+            if (this.indexedKeys.containsKey(hasContainer.getKey()))
+                predicates.computeIfAbsent(hasContainer.getKey(), k -> new ArrayList<>()).add(hasContainer.getPredicate());
+        }
+        for (final Map.Entry<String, List<P>> entry : predicates.entrySet()) {
+            final P<?> predicate = entry.getValue().size() == 1 ?
+                    entry.getValue().get(0) :
+                    new AndP(entry.getValue().toArray(new P[entry.getValue().size()]));
+            final long count = this.count(entry.getKey(), predicate, lookupCount);
+            if (count >= 0 && (null == lookup || count < lookupCount)) {
+                lookup = () -> this.get(entry.getKey(), predicate);
+                lookupCount = count;
+            }
+        }
+
+        return null == lookup ? null : lookup.get();
+    }
+
+    private boolean isSorted(final String key) {
+        return TinkerGraph.IndexType.SORTED == this.indexedKeys.get(key);
+    }
+
+    /**
+     * Values of a {@link TinkerGraph.IndexType#SORTED} key that cannot be ordered are kept in the hash index so that
+     * they remain reachable through equality lookups.
+     */
+    private Map<Object, Set<T>> getKeyMap(final String key, final Object value) {
+        return this.isSorted(key) && isSortable(value) ? this.sortedIndex.get(key) : this.index.get(key);
+    }
+
+    /**
+     * Resolves the predicate to the buckets of the index that hold the candidate elements.  Equality and
+     * {@link Contains#within} are answered by both index types, while the remaining comparisons, and the
+     * {@link AndP} and {@link OrP} that {@link P#between}, {@link P#inside} and {@link P#outside} produce, require a
+     * {@link TinkerGraph.IndexType#SORTED} index.  For an {@link AndP} the narrowest answerable child is used.
+     */
+    private Collection<Set<T>> getBuckets(final String key, final P<?> predicate) {
+        if (!this.indexedKeys.containsKey(key))
+            return null;
+
+        if (predicate.getBiPredicate() == Compare.eq) {
+            final Map<Object, Set<T>> keyMap = this.getKeyMap(key, predicate.getValue());
+            final Set<T> bucket = null == keyMap ? null : keyMap.get(predicate.getValue());
+            return null == bucket ? Collections.emptyList() : Collections.singletonList(bucket);
+        } else if (predicate.getBiPredicate() == Contains.within && predicate.getValue() instanceof Collection) {
+            final List<Set<T>> buckets = new ArrayList<>();
+            for (final Object value : (Collection<?>) predicate.getValue()) {
+                final Map<Object, Set<T>> keyMap = this.getKeyMap(key, value);
+                final Set<T> bucket = null == keyMap ? null : keyMap.get(value);
+                if (null != bucket) buckets.add(bucket);
+            }
+            return buckets;
+        } else if (!this.isSorted(key)) {
+            return null;
+        } else if (predicate instanceof OrP) {
+            final List<Set<T>> buckets = new ArrayList<>();
+            for (final P<?> p : ((OrP<?>) predicate).getPredicates()) {
+                final Collection<Set<T>> childBuckets = this.getBuckets(key, p);
+                if (null == childBuckets) return null;
+                buckets.addAll(childBuckets);
+            }
+            return buckets;
+        } else if (predicate instanceof AndP) {
+            final List<P<?>> ranges = new ArrayList<>();
+            Collection<Set<T>> narrowest = null;
+            long narrowestCount = Long.MAX_VALUE;
+            for (final P<?> p : ((AndP<?>) predicate).getPredicates()) {
+                if (isRange(p)) {
+                    ranges.add(p);
+                    continue;
+                }
+                final Collection<Set<T>> childBuckets = this.getBuckets(key, p);
+                final long childCount = null == childBuckets ? -1 : size(childBuckets, narrowestCount);
+                if (childCount >= 0 && childCount < narrowestCount) {
+                    narrowest = childBuckets;
+                    narrowestCount = childCount;
+                }
+            }
+            if (!ranges.isEmpty()) {
+                final Collection<Set<T>> rangeBuckets = this.getRange(key, ranges);
+                if (null != rangeBuckets && size(rangeBuckets, narrowestCount) < narrowestCount)
+                    narrowest = rangeBuckets;
+            }
+            return narrowest;
+        } else if (isRange(predicate)) {
+            return this.getRange(key, Collections.singletonList(predicate));
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Intersects the bounds of the range predicates into a single view of the sorted index.  Ranges only span
+     * values of the same kind as their bounds (i.e. numbers, or instances of one class) as the comparisons cannot
+     * be evaluated across kinds.
+     */
+    private Collection<Set<T>> getRange(final String key, final List<P<?>> ranges) {
+        Object low = null, high = null;
+        boolean lowInclusive = false, highInclusive = false;
+        for (final P<?> p : ranges) {
+            final Object value = p.getValue();
+            if (!isSortable(value)) return null;
+            final BiPredicate biPredicate = p.getBiPredicate();
+            if (biPredicate == Compare.gt || biPredicate == Compare.gte) {
+                final int c = null == low ? 1 : VALUE_COMPARATOR.compare(value, low);
+                if (c > 0 || (c == 0 && biPredicate == Compare.gt)) {
+                    low = value;
+                    lowInclusive = biPredicate == Compare.gte;
+                }
+            } else {
+                final int c = null == high ? -1 : VALUE_COMPARATOR.compare(value, high);
+                if (c < 0 || (c == 0 && biPredicate == Compare.lt)) {
+                    high = value;
+                    highInclusive = biPredicate == Compare.lte;
+                }
+            }
+        }
+
+        final String kind = kind(null == low ? high : low);
+        if (null != low && null != high && !kind.equals(kind(high)))
+            return null;
+
+        final NavigableMap<Object, Set<T>> keyMap = this.sortedIndex.get(key);
+        if (null == keyMap)
+            return Collections.emptyList();
+
+        final Object from = null == low ? new Fence(kind, false) : low;
+        final Object to = null == high ? new Fence(kind, true) : high;
+        final int c = VALUE_COMPARATOR.compare(from, to);
+        if (c > 0 || (c == 0 && !(lowInclusive && highInclusive)))
+            return Collections.emptyList();
+        return keyMap.subMap(from, null == low || lowInclusive, to, null == high || highInclusive).values();
+    }
+
+    private static boolean isRange(final P<?> predicate) {
+        final BiPredicate biPredicate = predicate.getBiPredicate();
+        return biPredicate == Compare.gt || biPredicate == Compare.gte || biPredicate == Compare.lt || biPredicate == Compare.lte;
+    }
+
+    private static <T> long size(final Collection<Set<T>> buckets, final long limit) {
+        long count = 0;
+        for (final Set<T> bucket : buckets) {
+            count = count + bucket.size();
+            if (count > limit) break;
+        }
+        return count;
+    }
+
+    private static boolean isSortable(final Object value) {
+        return value instanceof Number || value instanceof Comparable;
+    }
+
+    private static String kind(final Object value) {
+        return value instanceof Fence ? ((Fence) value).kind : value instanceof Number ? "" : value.getClass().getName();
+    }
+
+    /**
+     * Orders values first by their kind, where all numbers are of one kind and everything else is of the kind of its
+     * class, and then by value.  Numbers of different classes are compared the way {@link Compare} does so that the
+     * index agrees with the predicates it answers.
+     */
+    private static final Comparator<Object> VALUE_COMPARATOR = (a, b) -> {
+        final int kind = kind(a).compareTo(kind(b));
+        if (kind != 0)
+            return kind;
+        else if (a instanceof Fence)
+            return b instanceof Fence ? Boolean.compare(((Fence) a).high, ((Fence) b).high) : ((Fence) a).high ? 1 : -1;
+        else if (b instanceof Fence)
+            return ((Fence) b).high ? -1 : 1;
+        else if (a instanceof Number)
+            return compareNumbers((Number) a, (Number) b);
+        else
+            return ((Comparable) a).compareTo(b);
+    };
+
+    private static int compareNumbers(final Number a, final Number b) {
+        if (a.getClass().equals(b.getClass()) && a instanceof Comparable)
+            return ((Comparable) a).compareTo(b);
+        else if (isIntegral(a) && isIntegral(b))
+            return Long.compare(a.longValue(), b.longValue());
+        else if (!isFinite(a) || !isFinite(b))
+            return Double.compare(a.doubleValue(), b.doubleValue());
+        else
+            return new BigDecimal(a.toString()).compareTo(new BigDecimal(b.toString()));
+    }
+
+    private static boolean isIntegral(final Number n) {
+        return n instanceof Long || n instanceof Integer || n instanceof Short || n instanceof Byte;
+    }
+
+    private static boolean isFinite(final Number n) {
+        return !(n instanceof Double || n instanceof Float) || !(Double.isNaN(n.doubleValue()) || Double.isInfinite(n.doubleValue()));
+    }
+
+    /**
+     * A marker that sorts before ({@code high == false}) or after ({@code high == true}) every value of its kind, so
+     * that open ended ranges can be expressed as a bounded view of the sorted index.
+     */
+    private static final class Fence {
+        private final String kind;
+        private final boolean high;
+
+        private Fence(final String kind, final boolean high) {
+            this.kind = kind;
+            this.high = high;
+        }
     }
 }
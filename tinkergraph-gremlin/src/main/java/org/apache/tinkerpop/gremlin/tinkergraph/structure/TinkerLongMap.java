@@ -0,0 +1,268 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.structure;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An open-addressing hash table keyed by primitive {@code long} values that is used as the element table of a
+ * {@link TinkerGraph} in compact storage mode.  It avoids the per-entry node and boxed key of a
+ * {@code ConcurrentHashMap}.  Removals leave a tombstone behind rather than shifting entries and growth swaps in
+ * a new table, so iterators work against the table they were created with and are not disturbed by the graph
+ * being mutated while it is being traversed (e.g. {@code g.V().drop()}).
+ * <p/>
+ * Mutations are serialized on the map while reads take no lock.  The arrays are published together through a
+ * single volatile reference and a slot, once given a key, keeps that key until the table is replaced (tombstones
+ * are only reclaimed by a rehash), so a reader never pairs a key with the value of another.
+ *
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+final class TinkerLongMap<V> extends AbstractMap<Object, V> {
+
+    private static final Object TOMBSTONE = new Object();
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private volatile Table table;
+    private volatile int size;
+    private int used;
+
+    public TinkerLongMap() {
+        this.allocate(DEFAULT_CAPACITY);
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return null != this.get(key);
+    }
+
+    @Override
+    public V get(final Object key) {
+        if (!(key instanceof Long)) return null;
+        final long k = (Long) key;
+        final Table table = this.table;
+        final int mask = table.keys.length - 1;
+        int i = hash(k) & mask;
+        Object value;
+        while (null != (value = table.values.get(i))) {
+            if (value != TOMBSTONE && table.keys[i] == k)
+                return (V) value;
+            i = (i + 1) & mask;
+        }
+        return null;
+    }
+
+    @Override
+    public synchronized V put(final Object key, final V value) {
+        if (null == value)
+            throw new IllegalArgumentException("Values of a TinkerLongMap cannot be null");
+        if (!(key instanceof Long))
+            throw new IllegalArgumentException(String.format("Expected a key of type Long but received %s", null == key ? null : key.getClass()));
+
+        final long k = (Long) key;
+        final Table table = this.table;
+        final int mask = table.keys.length - 1;
+        int i = hash(k) & mask;
+        Object current;
+        while (null != (current = table.values.get(i))) {
+            if (current != TOMBSTONE && table.keys[i] == k) {
+                table.values.set(i, value);
+                return (V) current;
+            }
+            i = (i + 1) & mask;
+        }
+
+        // the key is written before the value is published so that a reader that sees the value sees its key
+        table.keys[i] = k;
+        table.values.set(i, value);
+        this.used++;
+        this.size++;
+
+        if (this.used > threshold(table.keys.length))
+            this.rehash();
+        return null;
+    }
+
+    @Override
+    public synchronized V remove(final Object key) {
+        if (!(key instanceof Long)) return null;
+        final long k = (Long) key;
+        final Table table = this.table;
+        final int mask = table.keys.length - 1;
+        int i = hash(k) & mask;
+        Object current;
+        while (null != (current = table.values.get(i))) {
+            if (current != TOMBSTONE && table.keys[i] == k) {
+                table.values.set(i, TOMBSTONE);
+                this.size--;
+                return (V) current;
+            }
+            i = (i + 1) & mask;
+        }
+        return null;
+    }
+
+    @Override
+    public synchronized void clear() {
+        this.allocate(DEFAULT_CAPACITY);
+    }
+
+    @Override
+    public Collection<V> values() {
+        return new AbstractCollection<V>() {
+            @Override
+            public Iterator<V> iterator() {
+                return new SlotIterator<V>() {
+                    @Override
+                    protected V at(final int slot, final Object value) {
+                        return (V) value;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return TinkerLongMap.this.size;
+            }
+        };
+    }
+
+    @Override
+    public Set<Map.Entry<Object, V>> entrySet() {
+        return new AbstractSet<Map.Entry<Object, V>>() {
+            @Override
+            public Iterator<Map.Entry<Object, V>> iterator() {
+                return new SlotIterator<Map.Entry<Object, V>>() {
+                    @Override
+                    protected Map.Entry<Object, V> at(final int slot, final Object value) {
+                        return new SimpleImmutableEntry<>(this.table.keys[slot], (V) value);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return TinkerLongMap.this.size;
+            }
+        };
+    }
+
+    private void allocate(final int capacity) {
+        this.table = new Table(capacity);
+        this.size = 0;
+        this.used = 0;
+    }
+
+    private void rehash() {
+        final Table oldTable = this.table;
+
+        int capacity = DEFAULT_CAPACITY;
+        while (threshold(capacity) <= this.size * 2) {
+            capacity = capacity << 1;
+        }
+
+        // the new table is filled before it is published so readers only ever see a complete table
+        final Table newTable = new Table(capacity);
+        final int mask = capacity - 1;
+        int count = 0;
+        for (int j = 0; j < oldTable.keys.length; j++) {
+            final Object value = oldTable.values.get(j);
+            if (null == value || value == TOMBSTONE) continue;
+            int i = hash(oldTable.keys[j]) & mask;
+            while (null != newTable.values.get(i)) {
+                i = (i + 1) & mask;
+            }
+            newTable.keys[i] = oldTable.keys[j];
+            newTable.values.set(i, value);
+            count++;
+        }
+
+        this.table = newTable;
+        this.size = count;
+        this.used = count;
+    }
+
+    private static int threshold(final int capacity) {
+        return (capacity >> 1) + (capacity >> 2);
+    }
+
+    private static int hash(final long key) {
+        final int h = (int) (key ^ (key >>> 32)) * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static final class Table {
+        private final long[] keys;
+        private final AtomicReferenceArray<Object> values;
+
+        private Table(final int capacity) {
+            this.keys = new long[capacity];
+            this.values = new AtomicReferenceArray<>(capacity);
+        }
+    }
+
+    private abstract class SlotIterator<E> implements Iterator<E> {
+        protected final Table table = TinkerLongMap.this.table;
+        private int next = 0;
+        private int last = -1;
+        private Object nextValue;
+
+        protected abstract E at(final int slot, final Object value);
+
+        @Override
+        public boolean hasNext() {
+            while (null == this.nextValue && this.next < this.table.keys.length) {
+                final Object value = this.table.values.get(this.next);
+                if (null == value || value == TOMBSTONE)
+                    this.next++;
+                else
+                    this.nextValue = value;
+            }
+            return null != this.nextValue;
+        }
+
+        @Override
+        public E next() {
+            if (!this.hasNext()) throw new NoSuchElementException();
+            final Object value = this.nextValue;
+            this.nextValue = null;
+            this.last = this.next++;
+            return this.at(this.last, value);
+        }
+
+        @Override
+        public void remove() {
+            if (-1 == this.last) throw new IllegalStateException();
+            TinkerLongMap.this.remove(this.table.keys[this.last]);
+            this.last = -1;
+        }
+    }
+}
@@ -45,11 +45,18 @@ public final class TinkerVertex extends TinkerElement implements Vertex {
     protected Map<String, List<VertexProperty>> properties;
     protected Map<String, Set<Edge>> outEdges;
     protected Map<String, Set<Edge>> inEdges;
+    protected TinkerAdjacency outAdjacency;
+    protected TinkerAdjacency inAdjacency;
+    /**
+     * The dense position of the vertex in the vertex set of the current graph computation.
+     */
+    protected int ordinal = -1;
     private final TinkerGraph graph;
 
     protected TinkerVertex(final Object id, final String label, final TinkerGraph graph) {
         super(id, label);
         this.graph = graph;
+        this.stamp = graph.currentStamp.incrementAndGet();
     }
 
     @Override
@@ -154,9 +161,11 @@ public final class TinkerVertex extends TinkerElement implements Vertex {
     @Override
     public <V> Iterator<VertexProperty<V>> properties(final String... propertyKeys) {
         if (this.removed) return Collections.emptyIterator();
-        if (TinkerHelper.inComputerMode((TinkerGraph) graph()))
+        if (TinkerHelper.inComputerMode((TinkerGraph) graph())) {
+            if (propertyKeys.length == 1)
+                return (Iterator) ((TinkerGraph) graph()).graphComputerView.getProperty(TinkerVertex.this, propertyKeys[0]).iterator();
             return (Iterator) ((TinkerGraph) graph()).graphComputerView.getProperties(TinkerVertex.this).stream().filter(p -> ElementHelper.keyExists(p.key(), propertyKeys)).iterator();
-        else {
+        } else {
             if (null == this.properties) return Collections.emptyIterator();
             if (propertyKeys.length == 1) {
                 final List<VertexProperty> properties = this.properties.getOrDefault(propertyKeys[0], Collections.emptyList());
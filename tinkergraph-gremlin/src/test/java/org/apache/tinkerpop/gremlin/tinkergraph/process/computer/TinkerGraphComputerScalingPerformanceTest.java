@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.process.computer;
+
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.BenchmarkRule;
+import com.carrotsearch.junitbenchmarks.annotation.AxisRange;
+import com.carrotsearch.junitbenchmarks.annotation.BenchmarkHistoryChart;
+import com.carrotsearch.junitbenchmarks.annotation.BenchmarkMethodChart;
+import com.carrotsearch.junitbenchmarks.annotation.LabelType;
+import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
+import org.apache.tinkerpop.gremlin.process.computer.ranking.pagerank.PageRankVertexProgram;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Runs {@link PageRankVertexProgram} with {@link TinkerGraphComputer} from one worker up to one worker per available
+ * processor to show how the vertex scheduling scales.
+ *
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+@RunWith(Parameterized.class)
+@AxisRange(min = 0, max = 1)
+@BenchmarkMethodChart(filePrefix = "tinkergraph-computer-scaling")
+@BenchmarkHistoryChart(labelWith = LabelType.CUSTOM_KEY, maxRuns = 20, filePrefix = "hx-tinkergraph-computer-scaling")
+public class TinkerGraphComputerScalingPerformanceTest {
+
+    private static final int VERTICES = 20000;
+    private static final int EDGES_PER_VERTEX = 10;
+
+    @Rule
+    public TestRule benchmarkRun = new BenchmarkRule();
+
+    @Parameterized.Parameters(name = "workers={0}")
+    public static Iterable<Object[]> data() {
+        final int processors = Runtime.getRuntime().availableProcessors();
+        final List<Object[]> workers = new ArrayList<>();
+        for (int i = 1; i < processors; i = i * 2) {
+            workers.add(new Object[]{i});
+        }
+        workers.add(new Object[]{processors});
+        return workers;
+    }
+
+    @Parameterized.Parameter
+    public int workers;
+
+    private static TinkerGraph graph;
+
+    @BeforeClass
+    public static void setup() {
+        graph = TinkerGraph.open();
+        final Random random = new Random(12345l);
+        final Vertex[] vertices = new Vertex[VERTICES];
+        for (int i = 0; i < VERTICES; i++) {
+            vertices[i] = graph.addVertex();
+        }
+        for (int i = 0; i < VERTICES; i++) {
+            // a skewed out-degree gives the workers uneven amounts of work per vertex
+            final int edges = random.nextInt(10) == 0 ? EDGES_PER_VERTEX * 10 : EDGES_PER_VERTEX;
+            for (int j = 0; j < edges; j++) {
+                vertices[i].addEdge("link", vertices[random.nextInt(VERTICES)]);
+            }
+        }
+    }
+
+    @Test
+    @BenchmarkOptions(benchmarkRounds = 5, warmupRounds = 1, concurrency = BenchmarkOptions.CONCURRENCY_SEQUENTIAL)
+    public void pageRank() throws Exception {
+        final ComputerResult result = graph.compute().workers(this.workers)
+                .program(PageRankVertexProgram.build().iterations(5).create(graph)).submit().get();
+        assertEquals(5, result.memory().getIteration());
+    }
+}
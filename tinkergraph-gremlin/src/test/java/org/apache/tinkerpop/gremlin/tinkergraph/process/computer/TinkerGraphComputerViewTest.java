@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.process.computer;
+
+import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.process.computer.Memory;
+import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
+import org.apache.tinkerpop.gremlin.process.computer.Messenger;
+import org.apache.tinkerpop.gremlin.process.computer.VertexProgram;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerHelper;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+public class TinkerGraphComputerViewTest {
+
+    private TinkerGraph graph;
+    private Vertex marko;
+    private Vertex stephen;
+
+    @Before
+    public void setup() {
+        this.graph = TinkerGraph.open();
+        this.marko = this.graph.addVertex("name", "marko");
+        this.stephen = this.graph.addVertex("name", "stephen");
+        final Object[] vertices = IteratorUtils.list(this.graph.vertices()).toArray();
+        TinkerHelper.assignOrdinals(vertices);
+        TinkerHelper.createGraphComputerView(this.graph, new HashSet<>(Arrays.asList("rank", "count", "label")), vertices.length);
+    }
+
+    @Test
+    public void shouldKeepSingleValuesOfTheirOwnType() {
+        for (int i = 0; i < 10; i++) {
+            this.marko.property(VertexProperty.Cardinality.single, "rank", i / 10d);
+            this.marko.property(VertexProperty.Cardinality.single, "count", (long) i);
+        }
+        this.marko.property(VertexProperty.Cardinality.single, "label", 1);
+        this.stephen.property(VertexProperty.Cardinality.single, "label", "person");
+
+        assertEquals(0.9d, this.marko.<Double>value("rank"), 0.0d);
+        assertEquals(9l, this.marko.<Long>value("count").longValue());
+        assertEquals(Integer.valueOf(1), this.marko.value("label"));
+        assertEquals("person", this.stephen.value("label"));
+        assertEquals(1, IteratorUtils.count(this.marko.properties("rank")));
+        assertEquals(4, IteratorUtils.count(this.marko.properties()));
+        assertFalse(this.stephen.property("rank").isPresent());
+        assertEquals("marko", this.marko.value("name"));
+    }
+
+    @Test
+    public void shouldRemoveSingleValues() {
+        final VertexProperty<Double> rank = this.marko.property(VertexProperty.Cardinality.single, "rank", 1.0d);
+        assertEquals(rank.id(), this.marko.property("rank").id());
+        assertEquals(rank, this.marko.property("rank"));
+        rank.remove();
+        assertFalse(this.marko.property("rank").isPresent());
+        assertEquals(0, IteratorUtils.count(this.marko.properties("rank")));
+    }
+
+    @Test
+    public void shouldNotReadOrRemoveThroughStaleSingleValues() {
+        final VertexProperty<Double> removed = this.marko.property(VertexProperty.Cardinality.single, "rank", 1.0d);
+        removed.remove();
+        this.marko.property(VertexProperty.Cardinality.single, "rank", 2.0d);
+        assertFalse(removed.isPresent());
+        removed.remove();
+        assertEquals(2.0d, this.marko.<Double>value("rank"), 0.0d);
+
+        final VertexProperty<Double> replaced = this.marko.property("rank");
+        this.marko.property(VertexProperty.Cardinality.single, "rank", 3.0d);
+        assertFalse(replaced.isPresent());
+        replaced.remove();
+        assertEquals(3.0d, this.marko.<Double>value("rank"), 0.0d);
+        assertTrue(this.marko.property("rank").isPresent());
+    }
+
+    @Test
+    public void shouldHoldMultipleValuesAndMetaProperties() {
+        final VertexProperty<Double> first = this.marko.property(VertexProperty.Cardinality.list, "rank", 1.0d);
+        first.property("since", 2010);
+        this.marko.property(VertexProperty.Cardinality.list, "rank", 2.0d);
+
+        final List<VertexProperty<Double>> ranks = IteratorUtils.list(this.marko.properties("rank"));
+        assertEquals(2, ranks.size());
+        assertEquals(new HashSet<>(Arrays.asList(1.0d, 2.0d)), new HashSet<>(Arrays.asList(ranks.get(0).value(), ranks.get(1).value())));
+        assertEquals(2010, (int) ranks.stream().filter(p -> p.value() == 1.0d).findAny().get().value("since"));
+
+        ranks.get(0).remove();
+        ranks.get(1).remove();
+        assertFalse(this.marko.property("rank").isPresent());
+    }
+
+    @Test
+    public void shouldReadThroughToMetaPropertiesOfSingleValues() {
+        final VertexProperty<Double> rank = this.marko.property(VertexProperty.Cardinality.single, "rank", 1.0d, "since", 2010);
+        assertEquals(1.0d, rank.value(), 0.0d);
+        assertEquals(2010, (int) rank.value("since"));
+        assertEquals(Collections.singleton("since"), rank.keys());
+        assertEquals(rank.id(), this.marko.property("rank").id());
+        assertEquals(2010, (int) this.marko.property("rank").value("since"));
+        rank.remove();
+        assertFalse(this.marko.property("rank").isPresent());
+    }
+
+    @Test
+    public void shouldWriteMetaPropertiesFromVertexProgram() throws Exception {
+        final Graph result = TinkerFactory.createModern().compute().program(new MetaPropertyVertexProgram()).submit().get().graph();
+        assertEquals(6, IteratorUtils.count(result.vertices()));
+        result.vertices().forEachRemaining(vertex -> {
+            final VertexProperty<Double> rank = vertex.property("rank");
+            assertEquals(1.0d, rank.value(), 0.0d);
+            assertEquals(2010, (int) rank.value("since"));
+        });
+    }
+
+    @Test
+    public void shouldPersistComputeKeysToOriginalGraph() {
+        this.marko.property(VertexProperty.Cardinality.single, "rank", 0.5d);
+        this.stephen.property(VertexProperty.Cardinality.single, "count", 3l);
+        TinkerHelper.getGraphComputerView(this.graph).processResultGraphPersist(GraphComputer.ResultGraph.ORIGINAL, GraphComputer.Persist.VERTEX_PROPERTIES);
+
+        assertFalse(TinkerHelper.inComputerMode(this.graph));
+        assertEquals(0.5d, this.marko.<Double>value("rank"), 0.0d);
+        assertEquals(3l, this.stephen.<Long>value("count").longValue());
+        assertTrue(this.marko.property("name").isPresent());
+    }
+
+    public static class MetaPropertyVertexProgram implements VertexProgram<Object> {
+
+        @Override
+        public void setup(final Memory memory) {
+
+        }
+
+        @Override
+        public void execute(final Vertex vertex, final Messenger<Object> messenger, final Memory memory) {
+            final VertexProperty<Double> rank = vertex.property(VertexProperty.Cardinality.single, "rank", 1.0d, "since", 2010);
+            if (1.0d != rank.value())
+                throw new IllegalStateException("The rank was not read back from the vertex property: " + rank);
+        }
+
+        @Override
+        public boolean terminate(final Memory memory) {
+            return true;
+        }
+
+        @Override
+        public Set<String> getElementComputeKeys() {
+            return Collections.singleton("rank");
+        }
+
+        @Override
+        public Set<MessageScope> getMessageScopes(final Memory memory) {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public GraphComputer.ResultGraph getPreferredResultGraph() {
+            return GraphComputer.ResultGraph.NEW;
+        }
+
+        @Override
+        public GraphComputer.Persist getPreferredPersist() {
+            return GraphComputer.Persist.VERTEX_PROPERTIES;
+        }
+
+        @Override
+        @SuppressWarnings("CloneDoesntCallSuperClone,CloneDoesntDeclareCloneNotSupportedException")
+        public MetaPropertyVertexProgram clone() {
+            return new MetaPropertyVertexProgram();
+        }
+    }
+}
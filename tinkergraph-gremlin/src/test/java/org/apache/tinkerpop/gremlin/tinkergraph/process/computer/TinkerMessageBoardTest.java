@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.process.computer;
+
+import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+public class TinkerMessageBoardTest {
+
+    @Test
+    public void shouldOnlyReceiveMessagesOfPreviousIteration() {
+        final TinkerMessageBoard<String> board = new TinkerMessageBoard<>(3, null);
+        board.sendMessage(1, "a");
+        board.sendMessage(1, "b");
+        assertFalse(board.hasMessages(1));
+
+        board.completeIteration();
+        assertTrue(board.hasMessages(1));
+        assertFalse(board.hasMessages(0));
+        assertEquals(Arrays.asList("a", "b"), IteratorUtils.list(board.receiveMessages(1)));
+        assertEquals(Collections.emptyList(), IteratorUtils.list(board.receiveMessages(2)));
+
+        board.sendMessage(2, "c");
+        board.completeIteration();
+        assertFalse(board.hasMessages(1));
+        assertEquals(Collections.singletonList("c"), IteratorUtils.list(board.receiveMessages(2)));
+
+        board.completeIteration();
+        assertFalse(board.hasMessages(2));
+    }
+
+    @Test
+    public void shouldCombineMessagesIntoSingleSlot() {
+        final TinkerMessageBoard<Integer> board = new TinkerMessageBoard<>(2, (a, b) -> a + b);
+        board.sendMessage(0, 1);
+        board.sendMessage(0, 2);
+        board.sendMessage(0, 3);
+        board.completeIteration();
+        assertEquals(Collections.singletonList(6), IteratorUtils.list(board.receiveMessages(0)));
+        assertFalse(board.hasMessages(1));
+
+        board.completeIteration();
+        assertFalse(board.hasMessages(0));
+    }
+
+    @Test
+    public void shouldNotLoseMessagesSentConcurrently() throws Exception {
+        final int threads = 4;
+        final int messages = 10000;
+        final TinkerMessageBoard<Long> combined = new TinkerMessageBoard<>(8, (a, b) -> a + b);
+        final TinkerMessageBoard<Long> appended = new TinkerMessageBoard<>(8, null);
+        final CountDownLatch latch = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            new Thread(() -> {
+                for (int j = 0; j < messages; j++) {
+                    combined.sendMessage(j % 8, 1l);
+                    appended.sendMessage(j % 8, 1l);
+                }
+                latch.countDown();
+            }).start();
+        }
+        latch.await();
+
+        combined.completeIteration();
+        appended.completeIteration();
+        for (int i = 0; i < 8; i++) {
+            assertEquals(threads * messages / 8, combined.receiveMessages(i).next().longValue());
+            assertEquals(threads * messages / 8, IteratorUtils.count(appended.receiveMessages(i)));
+        }
+    }
+
+    @Test
+    public void shouldResolveOnlySimpleEdgeScopesToIncidentSteps() {
+        final TinkerMessageBoard<String> board = new TinkerMessageBoard<>(1, null);
+        final MessageScope.Local<String> outE = MessageScope.Local.of(() -> __.outE("knows", "created"));
+        final MessageScope.Local<String> filtered = MessageScope.Local.of(() -> __.<Vertex>bothE().has("weight", 1.0d));
+        final MessageScope.Global global = MessageScope.Global.of();
+        board.addMessageScope(outE);
+        board.addMessageScope(outE);
+        board.addMessageScope(filtered);
+        board.addMessageScope(global);
+        assertEquals(3, board.currentMessageScopes.size());
+
+        board.completeIteration();
+        assertEquals(3, board.receiveScopes.length);
+        for (int i = 0; i < board.receiveScopes.length; i++) {
+            if (board.receiveScopes[i] == outE) {
+                assertEquals(Direction.OUT, board.incidentSteps[i].getDirection());
+                assertArrayEquals(new String[]{"knows", "created"}, board.incidentSteps[i].getEdgeLabels());
+            } else {
+                assertNull(board.incidentSteps[i]);
+            }
+        }
+
+        board.completeIteration();
+        assertEquals(0, board.receiveScopes.length);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.process.computer;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+public class TinkerWorkQueueTest {
+
+    @Test
+    public void shouldHandOutEveryItemOnceToOneWorker() {
+        final Object[] items = IntStream.range(0, 1000).boxed().toArray();
+        final Iterator<Integer> iterator = new TinkerWorkQueue<Integer>(items, 1).iterator();
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(iterator.hasNext());
+            assertEquals(i, iterator.next().intValue());
+        }
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void shouldHandleNoItems() {
+        final TinkerWorkQueue<Integer> queue = new TinkerWorkQueue<>(new Object[0], 4);
+        for (int i = 0; i < 4; i++) {
+            assertFalse(queue.iterator().hasNext());
+        }
+    }
+
+    @Test
+    public void shouldLetIdleWorkersStealFromOthers() {
+        final Object[] items = IntStream.range(0, 100).boxed().toArray();
+        final TinkerWorkQueue<Integer> queue = new TinkerWorkQueue<>(items, 4);
+        final List<Iterator<Integer>> iterators = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            iterators.add(queue.iterator());
+        }
+
+        // only the first worker shows up, so it has to take the ranges of the others
+        int count = 0;
+        while (iterators.get(0).hasNext()) {
+            iterators.get(0).next();
+            count++;
+        }
+        assertEquals(100, count);
+        for (final Iterator<Integer> iterator : iterators) {
+            assertFalse(iterator.hasNext());
+        }
+    }
+
+    @Test
+    public void shouldHandOutEveryItemOnceToConcurrentWorkers() throws Exception {
+        final int workers = 8;
+        final Object[] items = IntStream.range(0, 100000).boxed().toArray();
+        final TinkerWorkQueue<Integer> queue = new TinkerWorkQueue<>(items, workers);
+        final ConcurrentHashMap<Integer, Boolean> seen = new ConcurrentHashMap<>();
+        final AtomicInteger duplicates = new AtomicInteger(0);
+        final CountDownLatch latch = new CountDownLatch(workers);
+        for (int i = 0; i < workers; i++) {
+            final int worker = i;
+            new Thread(() -> {
+                final Iterator<Integer> iterator = queue.iterator();
+                while (iterator.hasNext()) {
+                    final Integer item = iterator.next();
+                    // skew the work so that the faster workers have to steal
+                    if (0 == worker) Thread.yield();
+                    if (null != seen.put(item, true)) duplicates.incrementAndGet();
+                }
+                latch.countDown();
+            }).start();
+        }
+        latch.await();
+        assertEquals(0, duplicates.get());
+        assertEquals(items.length, seen.size());
+    }
+}
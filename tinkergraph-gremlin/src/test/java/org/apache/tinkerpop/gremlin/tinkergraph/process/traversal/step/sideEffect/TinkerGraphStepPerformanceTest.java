@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.step.sideEffect;
+
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.BenchmarkRule;
+import com.carrotsearch.junitbenchmarks.annotation.AxisRange;
+import com.carrotsearch.junitbenchmarks.annotation.BenchmarkHistoryChart;
+import com.carrotsearch.junitbenchmarks.annotation.BenchmarkMethodChart;
+import com.carrotsearch.junitbenchmarks.annotation.LabelType;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.function.IntSupplier;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Measures the time to the first result of {@link TinkerGraphStep} for full scans and index lookups that match
+ * a large part of the graph, and logs the bytes allocated by the calling thread to produce it.
+ *
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+@AxisRange(min = 0, max = 1)
+@BenchmarkMethodChart(filePrefix = "tinkergraph-step")
+@BenchmarkHistoryChart(labelWith = LabelType.CUSTOM_KEY, maxRuns = 20, filePrefix = "hx-tinkergraph-step")
+public class TinkerGraphStepPerformanceTest {
+    private static final Logger logger = LoggerFactory.getLogger(TinkerGraphStepPerformanceTest.class);
+
+    private static final int VERTICES = 1000000;
+
+    @Rule
+    public TestRule benchmarkRun = new BenchmarkRule();
+
+    private static TinkerGraph graph;
+    private static GraphTraversalSource g;
+
+    @BeforeClass
+    public static void setup() {
+        graph = TinkerGraph.open();
+        graph.createIndex("name", Vertex.class);
+        graph.createIndex("age", Vertex.class, TinkerGraph.IndexType.SORTED);
+        for (int i = 0; i < VERTICES; i++) {
+            graph.addVertex("name", i % 2 == 0 ? "marko" : "stephen", "age", i % 100, "oid", i);
+        }
+        g = graph.traversal();
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        graph.close();
+    }
+
+    @Test
+    @BenchmarkOptions(benchmarkRounds = 20, warmupRounds = 5, concurrency = BenchmarkOptions.CONCURRENCY_SEQUENTIAL)
+    public void g_V_hasXoid_gteX0XX_limitX1X() {
+        measure("scan", () -> g.V().has("oid", P.gte(0)).limit(1).toList().size());
+    }
+
+    @Test
+    @BenchmarkOptions(benchmarkRounds = 20, warmupRounds = 5, concurrency = BenchmarkOptions.CONCURRENCY_SEQUENTIAL)
+    public void g_V_hasXname_markoX_limitX1X() {
+        measure("hash index", () -> g.V().has("name", "marko").limit(1).toList().size());
+    }
+
+    @Test
+    @BenchmarkOptions(benchmarkRounds = 20, warmupRounds = 5, concurrency = BenchmarkOptions.CONCURRENCY_SEQUENTIAL)
+    public void g_V_hasXage_gtX10XX_limitX1X() {
+        measure("sorted index", () -> g.V().has("age", P.gt(10)).limit(1).toList().size());
+    }
+
+    private static void measure(final String name, final IntSupplier traversal) {
+        final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        final long before = allocatedBytes(threads);
+        assertEquals(1, traversal.getAsInt());
+        logger.info("{} - {} bytes allocated to the first result", name, allocatedBytes(threads) - before);
+    }
+
+    private static long allocatedBytes(final ThreadMXBean threads) {
+        return threads instanceof com.sun.management.ThreadMXBean ?
+                ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId()) : -1;
+    }
+}
@@ -23,6 +23,8 @@ import org.apache.tinkerpop.gremlin.process.IgnoreEngine;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalEngine;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.AndStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.HasStep;
 import org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.step.sideEffect.TinkerGraphStep;
 import org.junit.Test;
@@ -79,4 +81,20 @@ public class TinkerGraphStepStrategyTest extends AbstractGremlinProcessTest {
         assertEquals(TinkerGraphStep.class, traversal.getEndStep().getClass());
     }
 
+    @Test
+    @IgnoreEngine(TraversalEngine.Type.COMPUTER)
+    public void shouldFoldInConjunctionsOfHasContainers() {
+        GraphTraversal.Admin traversal = g.V().hasLabel("person").and(__.has("name", "marko"), __.has("age", P.gt(20))).asAdmin();
+        traversal.applyStrategies();
+        assertEquals(1, traversal.getSteps().size());
+        assertEquals(TinkerGraphStep.class, traversal.getStartStep().getClass());
+        assertEquals(3, ((TinkerGraphStep) traversal.getStartStep()).getHasContainers().size());
+        ////
+        traversal = g.V().has("name", "marko").and(__.has("age", P.gt(20)), __.out()).asAdmin();
+        traversal.applyStrategies();
+        assertEquals(2, traversal.getSteps().size());
+        assertEquals(1, ((TinkerGraphStep) traversal.getStartStep()).getHasContainers().size());
+        assertEquals(AndStep.class, traversal.getEndStep().getClass());
+    }
+
 }
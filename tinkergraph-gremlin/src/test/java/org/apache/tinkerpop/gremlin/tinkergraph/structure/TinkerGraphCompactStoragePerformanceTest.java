@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.structure;
+
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.BenchmarkRule;
+import com.carrotsearch.junitbenchmarks.annotation.AxisRange;
+import com.carrotsearch.junitbenchmarks.annotation.BenchmarkHistoryChart;
+import com.carrotsearch.junitbenchmarks.annotation.BenchmarkMethodChart;
+import com.carrotsearch.junitbenchmarks.annotation.LabelType;
+import org.apache.commons.configuration.BaseConfiguration;
+import org.apache.commons.configuration.Configuration;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares the default {@link TinkerGraph} storage layout with {@link TinkerGraph#GREMLIN_TINKERGRAPH_COMPACT_STORAGE}
+ * for memory used per edge, load time and traversal throughput.
+ *
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+@RunWith(Parameterized.class)
+@AxisRange(min = 0, max = 1)
+@BenchmarkMethodChart(filePrefix = "tinkergraph-storage")
+@BenchmarkHistoryChart(labelWith = LabelType.CUSTOM_KEY, maxRuns = 20, filePrefix = "hx-tinkergraph-storage")
+public class TinkerGraphCompactStoragePerformanceTest {
+    private static final Logger logger = LoggerFactory.getLogger(TinkerGraphCompactStoragePerformanceTest.class);
+
+    private static final int VERTICES = 50000;
+    private static final int EDGES_PER_VERTEX = 5;
+    private static final String[] LABELS = new String[]{"knows", "created", "uses"};
+
+    @Rule
+    public TestRule benchmarkRun = new BenchmarkRule();
+
+    @Parameterized.Parameters(name = "compact={0}")
+    public static Iterable<Object[]> data() {
+        return Arrays.asList(new Object[][]{{false}, {true}});
+    }
+
+    @Parameterized.Parameter
+    public boolean compactStorage;
+
+    private TinkerGraph graph;
+
+    @Before
+    public void setup() {
+        graph = generate(compactStorage);
+    }
+
+    @Test
+    @BenchmarkOptions(benchmarkRounds = 1, warmupRounds = 0, concurrency = BenchmarkOptions.CONCURRENCY_SEQUENTIAL)
+    public void measureMemoryPerEdge() {
+        graph = null;
+        final long before = usedMemory();
+        final TinkerGraph measured = generate(compactStorage);
+        final long after = usedMemory();
+        logger.info("compact={} - {} bytes per edge", compactStorage, (after - before) / (VERTICES * EDGES_PER_VERTEX));
+        assertEquals(VERTICES, measured.vertices.size());
+    }
+
+    @Test
+    @BenchmarkOptions(benchmarkRounds = 5, warmupRounds = 1, concurrency = BenchmarkOptions.CONCURRENCY_SEQUENTIAL)
+    public void loadVerticesAndEdges() {
+        assertEquals(VERTICES * EDGES_PER_VERTEX, generate(compactStorage).edges.size());
+    }
+
+    @Test
+    @BenchmarkOptions(benchmarkRounds = 10, warmupRounds = 3, concurrency = BenchmarkOptions.CONCURRENCY_SEQUENTIAL)
+    public void g_V_out_out_count() {
+        graph.traversal().V().out().out().count().next();
+    }
+
+    @Test
+    @BenchmarkOptions(benchmarkRounds = 10, warmupRounds = 3, concurrency = BenchmarkOptions.CONCURRENCY_SEQUENTIAL)
+    public void g_V_outEXknowsX_inV_inXcreatedX_count() {
+        graph.traversal().V().outE("knows").inV().in("created").count().next();
+    }
+
+    private static TinkerGraph generate(final boolean compactStorage) {
+        final Configuration conf = new BaseConfiguration();
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_VERTEX_ID_MANAGER, TinkerGraph.DefaultIdManager.LONG.name());
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_EDGE_ID_MANAGER, TinkerGraph.DefaultIdManager.LONG.name());
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_COMPACT_STORAGE, compactStorage);
+        final TinkerGraph graph = TinkerGraph.open(conf);
+
+        final Random random = new Random(12345l);
+        final Vertex[] vertices = new Vertex[VERTICES];
+        for (int i = 0; i < VERTICES; i++) {
+            vertices[i] = graph.addVertex();
+        }
+        for (int i = 0; i < VERTICES; i++) {
+            for (int j = 0; j < EDGES_PER_VERTEX; j++) {
+                // new String() so that labels arrive as distinct instances as they would from a reader
+                vertices[i].addEdge(new String(LABELS[random.nextInt(LABELS.length)]), vertices[random.nextInt(VERTICES)]);
+            }
+        }
+        return graph;
+    }
+
+    private static long usedMemory() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
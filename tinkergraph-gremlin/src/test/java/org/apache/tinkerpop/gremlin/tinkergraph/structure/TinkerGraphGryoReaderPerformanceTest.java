@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.structure;
+
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.BenchmarkRule;
+import com.carrotsearch.junitbenchmarks.annotation.AxisRange;
+import com.carrotsearch.junitbenchmarks.annotation.BenchmarkHistoryChart;
+import com.carrotsearch.junitbenchmarks.annotation.BenchmarkMethodChart;
+import com.carrotsearch.junitbenchmarks.annotation.LabelType;
+import org.apache.tinkerpop.gremlin.TestHelper;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoReader;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoWriter;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares the two-pass {@link GryoReader#readGraph} with its single-pass mode on a generated graph, logging the
+ * load time and the peak heap used while reading along with how much of that peak was not retained by the graph
+ * once loaded.
+ *
+ * @author Stephen Mallette (http://stephen.genoprime.com)
+ */
+@RunWith(Parameterized.class)
+@AxisRange(min = 0, max = 1)
+@BenchmarkMethodChart(filePrefix = "gryo-reader")
+@BenchmarkHistoryChart(labelWith = LabelType.CUSTOM_KEY, maxRuns = 20, filePrefix = "hx-gryo-reader")
+public class TinkerGraphGryoReaderPerformanceTest {
+    private static final Logger logger = LoggerFactory.getLogger(TinkerGraphGryoReaderPerformanceTest.class);
+
+    private static final int VERTICES = 100000;
+    private static final int EDGES_PER_VERTEX = 5;
+
+    private static File graphFile;
+
+    @Rule
+    public TestRule benchmarkRun = new BenchmarkRule();
+
+    @Parameterized.Parameters(name = "workers={0}")
+    public static Iterable<Object[]> data() {
+        return Arrays.asList(new Object[][]{{0}, {1}});
+    }
+
+    @Parameterized.Parameter
+    public int workers;
+
+    @BeforeClass
+    public static void setup() throws Exception {
+        final TinkerGraph graph = TinkerGraph.open();
+        final Random random = new Random(12345l);
+        final Vertex[] vertices = new Vertex[VERTICES];
+        for (int i = 0; i < VERTICES; i++) {
+            vertices[i] = graph.addVertex("name", "vertex" + i, "age", random.nextInt(100));
+        }
+        for (int i = 0; i < VERTICES; i++) {
+            for (int j = 0; j < EDGES_PER_VERTEX; j++) {
+                // no self-loops as the two-pass read only creates edges from the out edges of each vertex
+                vertices[i].addEdge("knows", vertices[(i + 1 + random.nextInt(VERTICES - 1)) % VERTICES], "weight", random.nextDouble());
+            }
+        }
+
+        graphFile = TestHelper.generateTempFile(TinkerGraphGryoReaderPerformanceTest.class, "large", ".kryo");
+        try (final OutputStream out = new BufferedOutputStream(new FileOutputStream(graphFile))) {
+            GryoWriter.build().create().writeGraph(out, graph);
+        }
+        logger.info("generated {} bytes of gryo", graphFile.length());
+    }
+
+    @Test
+    @BenchmarkOptions(benchmarkRounds = 3, warmupRounds = 1, concurrency = BenchmarkOptions.CONCURRENCY_SEQUENTIAL)
+    public void readGraph() throws Exception {
+        final TinkerGraph graph = TinkerGraph.open();
+        resetPeakHeap();
+        final long start = System.nanoTime();
+        try (final InputStream in = new BufferedInputStream(new FileInputStream(graphFile))) {
+            GryoReader.build().workers(workers).create().readGraph(in, graph);
+        }
+        final long time = (System.nanoTime() - start) / 1000000;
+        final long peak = peakHeap();
+        System.gc();
+        final Runtime runtime = Runtime.getRuntime();
+        final long retained = runtime.totalMemory() - runtime.freeMemory();
+        logger.info("workers={} - read in {}ms with a peak heap of {} bytes, {} bytes above the heap retained by the graph",
+                workers, time, peak, peak - retained);
+        assertEquals(VERTICES * EDGES_PER_VERTEX, graph.edges.size());
+    }
+
+    private static void resetPeakHeap() {
+        System.gc();
+        for (final MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) pool.resetPeakUsage();
+        }
+    }
+
+    private static long peakHeap() {
+        long peak = 0;
+        for (final MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) peak = peak + pool.getPeakUsage().getUsed();
+        }
+        return peak;
+    }
+}
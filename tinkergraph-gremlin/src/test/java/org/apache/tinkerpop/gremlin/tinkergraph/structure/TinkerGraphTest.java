@@ -22,19 +22,34 @@ import org.apache.commons.configuration.BaseConfiguration;
 import org.apache.commons.configuration.Configuration;
 import org.apache.tinkerpop.gremlin.TestHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalCompilationCache;
+import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.apache.tinkerpop.gremlin.structure.io.IoCore;
 import org.apache.tinkerpop.gremlin.structure.io.IoTest;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoReader;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 import org.junit.Ignore;
 import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -271,6 +286,249 @@ public class TinkerGraphTest {
         }, 0.5)).has("oid", "1").count().next());
     }
 
+    @Test
+    public void shouldAnswerRangePredicatesFromSortedIndex() {
+        final TinkerGraph g = TinkerGraph.open();
+        g.createIndex("age", Vertex.class, TinkerGraph.IndexType.SORTED);
+
+        g.addVertex("name", "marko", "age", 29);
+        g.addVertex("name", "vadas", "age", 27L);
+        g.addVertex("name", "josh", "age", 32.0d);
+        g.addVertex("name", "peter", "age", 35);
+        g.addVertex("name", "lop", "age", "unknown");
+        g.addVertex("name", "ripple");
+
+        final GraphTraversalSource t = g.traversal();
+        assertEquals(2, t.V().has("age", P.gt(30)).count().next().intValue());
+        assertEquals(3, t.V().has("age", P.gte(29)).count().next().intValue());
+        assertEquals(1, t.V().has("age", P.lt(29)).count().next().intValue());
+        assertEquals(2, t.V().has("age", P.lte(29L)).count().next().intValue());
+        assertEquals(2, t.V().has("age", P.between(29, 35)).count().next().intValue());
+        assertEquals(1, t.V().has("age", P.inside(29, 35)).count().next().intValue());
+        assertEquals(2, t.V().has("age", P.outside(29, 32)).count().next().intValue());
+        assertEquals(2, t.V().has("age", P.within(27L, 35)).count().next().intValue());
+        assertEquals(1, t.V().has("age", 32).count().next().intValue());
+        assertEquals(0, t.V().has("age", P.inside(35, 29)).count().next().intValue());
+        assertEquals("lop", t.V().has("age", "unknown").values("name").next());
+        assertEquals("lop", t.V().has("age", P.gt("a")).values("name").next());
+
+        t.V().has("name", "peter").property("age", 25).iterate();
+        assertEquals(1, t.V().has("age", P.gt(30)).count().next().intValue());
+        assertEquals(2, t.V().has("age", P.lt(29)).count().next().intValue());
+
+        t.V().has("name", "josh").drop().iterate();
+        assertEquals(0, t.V().has("age", P.gt(30)).count().next().intValue());
+    }
+
+    @Test
+    public void shouldUseSortedIndexForRangePredicates() {
+        final TinkerGraph g = TinkerGraph.open();
+        g.createIndex("age", Vertex.class, TinkerGraph.IndexType.SORTED);
+
+        g.addVertex("name", "marko", "age", 29);
+        g.addVertex("name", "stephen", "age", 35);
+        g.addVertex("name", "daniel", "age", 37);
+
+        // the spy on name sees only the vertices that came out of the range lookup on the sorted index
+        assertEquals(new Long(1), g.traversal().V().has("age", P.between(30, 36)).has("name", P.test((t, u) -> {
+            assertEquals("stephen", t);
+            return true;
+        }, "stephen")).count().next());
+    }
+
+    @Test
+    public void shouldPreferMostSelectiveIndex() {
+        final TinkerGraph g = TinkerGraph.open();
+        g.createIndex("name", Vertex.class);
+        g.createIndex("age", Vertex.class, TinkerGraph.IndexType.SORTED);
+
+        for (int i = 0; i < 100; i++) {
+            g.addVertex("name", "stephen", "age", i, "oid", i);
+        }
+
+        // the range on age is narrower than the bucket for name so the age index should be chosen and the spy on
+        // oid should only see the vertices in that range
+        final AtomicInteger seen = new AtomicInteger(0);
+        assertEquals(new Long(2), g.traversal().V().has("name", "stephen").has("age", P.gt(97)).has("oid", P.test((t, u) -> {
+            seen.incrementAndGet();
+            return true;
+        }, 0)).count().next());
+        assertEquals(2, seen.get());
+    }
+
+    @Test
+    public void shouldReplaceIndexWithDifferentType() {
+        final TinkerGraph g = TinkerGraph.open();
+        g.addVertex("name", "marko", "age", 29);
+        g.addVertex("name", "stephen", "age", 35);
+        g.createIndex("age", Vertex.class);
+        g.createIndex("age", Vertex.class, TinkerGraph.IndexType.SORTED);
+
+        assertEquals(1, g.getIndexedKeys(Vertex.class).size());
+        assertEquals(1, g.traversal().V().has("age", P.gt(30)).count().next().intValue());
+        assertEquals(1, g.traversal().V().has("age", 29).count().next().intValue());
+    }
+
+    @Test
+    public void shouldStreamVerticesLazily() {
+        final TinkerGraph g = TinkerGraph.open();
+        for (int i = 0; i < 1000; i++) {
+            g.addVertex("oid", i);
+        }
+
+        final AtomicInteger tested = new AtomicInteger(0);
+        assertEquals(1, g.traversal().V().has("oid", P.test((t, u) -> {
+            tested.incrementAndGet();
+            return true;
+        }, 0)).limit(1).toList().size());
+        // a full scan would have tested every vertex before the first one was emitted
+        assertTrue(tested.get() < 10);
+    }
+
+    @Test
+    public void shouldStreamIndexedVerticesLazily() {
+        final TinkerGraph g = TinkerGraph.open();
+        g.createIndex("age", Vertex.class, TinkerGraph.IndexType.SORTED);
+        for (int i = 0; i < 1000; i++) {
+            g.addVertex("age", i, "oid", i);
+        }
+
+        final AtomicInteger tested = new AtomicInteger(0);
+        assertEquals(1, g.traversal().V().has("age", P.gte(500)).has("oid", P.test((t, u) -> {
+            tested.incrementAndGet();
+            return true;
+        }, 0)).limit(1).toList().size());
+        assertTrue(tested.get() < 10);
+    }
+
+    @Test
+    public void shouldNotSeeVerticesAddedWhileStreaming() {
+        final TinkerGraph g = TinkerGraph.open();
+        for (int i = 0; i < 100; i++) {
+            g.addVertex("oid", i);
+        }
+
+        g.traversal().V().addV().property("oid", -1).iterate();
+        assertEquals(200, IteratorUtils.count(g.vertices()));
+        g.traversal().V().has("oid", P.gte(0)).as("a").addE("self").to("a").iterate();
+        assertEquals(100, IteratorUtils.count(g.edges()));
+        g.traversal().E().addV().iterate();
+        assertEquals(300, IteratorUtils.count(g.vertices()));
+    }
+
+    @Test
+    public void shouldStreamIndexedVerticesWhileMutatingThem() {
+        final TinkerGraph g = TinkerGraph.open();
+        g.createIndex("age", Vertex.class, TinkerGraph.IndexType.SORTED);
+        g.createIndex("name", Vertex.class);
+        for (int i = 0; i < 100; i++) {
+            g.addVertex("name", "stephen", "age", i);
+        }
+
+        // each vertex is moved to a bucket further along the range, but is only returned once
+        assertEquals(new Long(50), g.traversal().V().has("age", P.gte(50)).sideEffect(t -> t.get().property("age", t.get().<Integer>value("age") + 1000)).count().next());
+        assertEquals(50, IteratorUtils.count(g.traversal().V().has("age", P.gte(1000))));
+
+        assertEquals(new Long(100), g.traversal().V().has("name", "stephen").property("name", "daniel").count().next());
+        assertEquals(100, IteratorUtils.count(g.traversal().V().has("name", "daniel")));
+
+        g.traversal().V().has("name", "daniel").drop().iterate();
+        assertEquals(0, IteratorUtils.count(g.vertices()));
+    }
+
+    @Test
+    public void shouldReturnIndexedVerticesOnceAcrossBuckets() {
+        final TinkerGraph g = TinkerGraph.open();
+        g.createIndex("age", Vertex.class, TinkerGraph.IndexType.SORTED);
+        g.createIndex("name", Vertex.class);
+        for (int i = 0; i < 10; i++) {
+            g.addVertex("age", i);
+        }
+        final Vertex v = g.addVertex();
+        v.property(VertexProperty.Cardinality.list, "name", "marko");
+        v.property(VertexProperty.Cardinality.list, "name", "mark");
+        g.addVertex("name", "marko");
+
+        // a single-valued key only has to skip the buckets that are reached twice
+        final GraphTraversalSource t = g.traversal();
+        assertEquals(7, IteratorUtils.count(t.V().has("age", P.gt(2).or(P.gt(5)))));
+        assertEquals(2, IteratorUtils.count(t.V().has("age", P.within(3, 3, 4))));
+
+        // a vertex with several values for the key is in several of its buckets
+        assertEquals(2, IteratorUtils.count(t.V().has("name", P.within("marko", "mark"))));
+    }
+
+    @Test
+    public void shouldAnswerLookupsFromCompositeIndex() {
+        final TinkerGraph g = TinkerGraph.open();
+        g.createIndex(Vertex.class, "person", "tenant", "uid");
+
+        for (int i = 0; i < 100; i++) {
+            g.addVertex(T.label, "person", "tenant", "t" + (i % 10), "uid", i % 5);
+            g.addVertex(T.label, "company", "tenant", "t" + (i % 10), "uid", i % 5);
+        }
+        g.addVertex(T.label, "person", "tenant", "t0");
+
+        final GraphTraversalSource t = g.traversal();
+        assertEquals(10, IteratorUtils.count(t.V().has("person", "tenant", "t0").has("uid", 0)));
+        assertEquals(10, IteratorUtils.count(t.V().hasLabel("person").has("uid", 0).has("tenant", "t0")));
+        assertEquals(20, IteratorUtils.count(t.V().hasLabel("person").has("tenant", P.within("t0", "t5")).has("uid", 0)));
+        assertEquals(20, IteratorUtils.count(t.V().has("tenant", "t0").has("uid", 0)));
+        assertEquals(0, IteratorUtils.count(t.V().has("person", "tenant", "t0").has("uid", 1)));
+
+        final Vertex v = t.V().has("person", "tenant", "t0").has("uid", 0).next();
+        v.property(VertexProperty.Cardinality.single, "uid", 1);
+        assertEquals(9, IteratorUtils.count(t.V().has("person", "tenant", "t0").has("uid", 0)));
+        assertEquals(v, t.V().has("person", "tenant", "t0").has("uid", 1).next());
+        v.property("uid").remove();
+        assertEquals(0, IteratorUtils.count(t.V().has("person", "tenant", "t0").has("uid", 1)));
+        v.property("uid", 3);
+        assertEquals(v, t.V().has("person", "tenant", "t0").has("uid", 3).next());
+        v.remove();
+        assertEquals(0, IteratorUtils.count(t.V().has("person", "tenant", "t0").has("uid", 3)));
+
+        g.dropIndex(Vertex.class, "person", "tenant", "uid");
+        assertEquals(9, IteratorUtils.count(t.V().has("person", "tenant", "t0").has("uid", 0)));
+    }
+
+    @Test
+    public void shouldUseCompositeIndexForConjunction() {
+        final TinkerGraph g = TinkerGraph.open();
+        g.createIndex("tenant", Vertex.class);
+        g.createIndex(Vertex.class, "person", "tenant", "uid");
+        for (int i = 0; i < 100; i++) {
+            g.addVertex(T.label, "person", "tenant", "t0", "uid", i, "oid", i);
+        }
+
+        // the spy on oid should only see the one vertex that the composite index resolves to rather than the whole
+        // bucket of the tenant index
+        final AtomicInteger seen = new AtomicInteger(0);
+        assertEquals(new Long(1), g.traversal().V().hasLabel("person").and(__.has("tenant", "t0"), __.has("uid", 42)).has("oid", P.test((t, u) -> {
+            seen.incrementAndGet();
+            return true;
+        }, 0)).count().next());
+        assertEquals(1, seen.get());
+    }
+
+    @Test
+    public void shouldIndexEdgesInCompositeIndexOfAnyLabel() {
+        final TinkerGraph g = TinkerGraph.open();
+        final Vertex a = g.addVertex();
+        final Vertex b = g.addVertex();
+        a.addEdge("knows", b, "since", 2010, "weight", 0.5d);
+        a.addEdge("likes", b, "since", 2010, "weight", 0.5d);
+        a.addEdge("likes", b, "since", 2011, "weight", 0.5d);
+        g.createIndex(Edge.class, null, "since", "weight");
+
+        assertEquals(2, IteratorUtils.count(g.traversal().E().has("since", 2010).has("weight", 0.5d)));
+        assertEquals(1, IteratorUtils.count(g.traversal().E().hasLabel("likes").has("since", 2010).has("weight", 0.5d)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRequireKeysForCompositeIndex() {
+        TinkerGraph.open().createIndex(Vertex.class, "person");
+    }
+
     @Test
     public void shouldSerializeTinkerGraphToGryo() throws Exception {
         final TinkerGraph graph = TinkerFactory.createModern();
@@ -282,6 +540,73 @@ public class TinkerGraphTest {
             }
         }
     }
+
+    @Test
+    public void shouldReadGryoGraphInSinglePass() throws Exception {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        final Vertex marko = graph.vertices(1).next();
+        marko.addEdge("self", marko, "weight", 1.0d);
+        try (final ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            graph.io(IoCore.gryo()).writer().create().writeGraph(out, graph);
+            for (final int batchSize : new int[]{1, 2, 100}) {
+                final TinkerGraph target = TinkerGraph.open();
+                try (final ByteArrayInputStream inputStream = new ByteArrayInputStream(out.toByteArray())) {
+                    GryoReader.build().workers(1).batchSize(batchSize).create().readGraph(inputStream, target);
+                }
+                assertEquals(6, IteratorUtils.count(target.vertices()));
+                assertEquals(7, IteratorUtils.count(target.edges()));
+                graph.edges().forEachRemaining(e -> {
+                    final Edge copy = target.edges(e.id()).next();
+                    assertEquals(e.label(), copy.label());
+                    assertEquals(e.outVertex().id(), copy.outVertex().id());
+                    assertEquals(e.inVertex().id(), copy.inVertex().id());
+                    assertEquals(e.<Double>value("weight"), copy.<Double>value("weight"));
+                });
+                assertEquals("marko", target.vertices(1).next().value("name"));
+            }
+        }
+    }
+
+    @Test
+    public void shouldReadGryoGraphInSinglePassWithSeveralWorkers() throws Exception {
+        // every vertex shares the hub so that the workers keep adding edges to the same vertex
+        final TinkerGraph graph = TinkerGraph.open();
+        final Vertex hub = graph.addVertex(T.id, 0l);
+        Vertex last = hub;
+        for (long i = 1; i <= 500; i++) {
+            final Vertex v = graph.addVertex(T.id, i);
+            v.addEdge("hub", hub, "weight", (double) i);
+            hub.addEdge("spoke", v);
+            last.addEdge("next", v);
+            last = v;
+        }
+
+        try (final ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            graph.io(IoCore.gryo()).writer().create().writeGraph(out, graph);
+            for (int run = 0; run < 10; run++) {
+                final TinkerGraph target = TinkerGraph.open();
+                try (final ByteArrayInputStream inputStream = new ByteArrayInputStream(out.toByteArray())) {
+                    GryoReader.build().workers(4).batchSize(16).create().readGraph(inputStream, target);
+                }
+                assertEquals(501, IteratorUtils.count(target.vertices()));
+                assertEquals(1500, IteratorUtils.count(target.edges()));
+                assertEquals(500, IteratorUtils.count(target.vertices(0l).next().edges(Direction.IN, "hub")));
+                assertEquals(500, IteratorUtils.count(target.vertices(0l).next().edges(Direction.OUT, "spoke")));
+                graph.vertices().forEachRemaining(v -> {
+                    final Vertex copy = target.vertices(v.id()).next();
+                    assertEquals(IteratorUtils.count(v.edges(Direction.OUT)), IteratorUtils.count(copy.edges(Direction.OUT)));
+                    assertEquals(IteratorUtils.count(v.edges(Direction.IN)), IteratorUtils.count(copy.edges(Direction.IN)));
+                });
+                graph.edges().forEachRemaining(e -> {
+                    final Edge copy = target.edges(e.id()).next();
+                    assertEquals(e.label(), copy.label());
+                    assertEquals(e.outVertex().id(), copy.outVertex().id());
+                    assertEquals(e.inVertex().id(), copy.inVertex().id());
+                });
+            }
+        }
+    }
+
     @Test(expected = IllegalStateException.class)
     public void shouldRequireGraphLocationIfFormatIsSet() {
         final Configuration conf = new BaseConfiguration();
@@ -382,4 +707,135 @@ public class TinkerGraphTest {
         IoTest.assertModernGraph(reloadedGraph, true, false);
         reloadedGraph.close();
     }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldRequireLongIdManagersForCompactStorage() {
+        final Configuration conf = new BaseConfiguration();
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_COMPACT_STORAGE, true);
+        TinkerGraph.open(conf);
+    }
+
+    @Test
+    public void shouldTraverseWithCompactStorage() {
+        final TinkerGraph graph = TinkerGraph.open(getCompactStorageConfiguration());
+        TinkerFactory.generateModern(graph);
+        IoTest.assertModernGraph(graph, true, true);
+
+        final GraphTraversalSource g = graph.traversal();
+        assertEquals(2, g.V(1).out("knows").count().next().intValue());
+        assertEquals(3, g.V(1).outE().count().next().intValue());
+        assertEquals(3, g.V(1).bothE("knows", "created").count().next().intValue());
+        assertEquals(3, g.V(3).in("created").count().next().intValue());
+        assertEquals(0, g.V(3).out().count().next().intValue());
+        assertEquals("lop", g.V(1).out("created").values("name").next());
+        assertEquals(2, g.V().out().out().count().next().intValue());
+
+        final Vertex v1 = g.V(1).next();
+        final Vertex v4 = g.V(4L).next();
+        assertSame(IteratorUtils.list(v1.edges(Direction.OUT, "knows")).get(0).label(), v4.edges(Direction.IN).next().label());
+    }
+
+    @Test
+    public void shouldRemoveElementsWithCompactStorage() {
+        final TinkerGraph graph = TinkerGraph.open(getCompactStorageConfiguration());
+        TinkerFactory.generateModern(graph);
+        final GraphTraversalSource g = graph.traversal();
+
+        g.V(1).outE("knows").drop().iterate();
+        assertEquals(4, IteratorUtils.count(graph.edges()));
+        assertEquals(1, g.V(1).bothE().count().next().intValue());
+        assertEquals(0, g.V(2).inE().count().next().intValue());
+
+        g.V(4).drop().iterate();
+        assertEquals(5, IteratorUtils.count(graph.vertices()));
+        assertEquals(2, IteratorUtils.count(graph.edges()));
+        assertFalse(graph.vertices(4).hasNext());
+        assertEquals(2, g.V(3).inE("created").count().next().intValue());
+
+        g.V().drop().iterate();
+        assertEquals(0, IteratorUtils.count(graph.vertices()));
+        assertEquals(0, IteratorUtils.count(graph.edges()));
+    }
+
+    @Test
+    public void shouldNotSeeEdgesAddedWhileIteratingWithCompactStorage() {
+        final TinkerGraph graph = TinkerGraph.open(getCompactStorageConfiguration());
+        final Vertex a = graph.addVertex();
+        final Vertex b = graph.addVertex();
+        for (int i = 0; i < 10; i++) {
+            a.addEdge("knows", b);
+        }
+
+        final Iterator<Edge> edges = a.edges(Direction.OUT, "knows");
+        int count = 0;
+        while (edges.hasNext()) {
+            edges.next();
+            a.addEdge("knows", b);
+            count++;
+        }
+        assertEquals(10, count);
+        assertEquals(20, IteratorUtils.count(b.edges(Direction.IN)));
+    }
+
+    @Test
+    public void shouldAddVerticesFromConcurrentWritersWithCompactStorage() throws Exception {
+        final TinkerGraph graph = TinkerGraph.open(getCompactStorageConfiguration());
+        final Vertex first = graph.addVertex();
+        final int writers = 4;
+        final int verticesPerWriter = 5000;
+
+        // a reader keeps looking up a vertex that exists while the writers force the table to grow many times over
+        final AtomicBoolean writing = new AtomicBoolean(true);
+        final AtomicInteger misses = new AtomicInteger(0);
+        final Thread reader = new Thread(() -> {
+            while (writing.get()) {
+                if (!graph.vertices(first.id()).hasNext()) misses.incrementAndGet();
+            }
+        });
+        reader.start();
+
+        final Thread[] threads = new Thread[writers];
+        for (int i = 0; i < writers; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < verticesPerWriter; j++) {
+                    graph.addVertex();
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        writing.set(false);
+        reader.join();
+
+        assertEquals(0, misses.get());
+        assertEquals(writers * verticesPerWriter + 1, IteratorUtils.count(graph.vertices()));
+        graph.vertices().forEachRemaining(v -> assertSame(v, graph.vertices(v.id()).next()));
+    }
+
+    @Test
+    public void shouldIterateCompiledTraversalsWithTheirOwnStartIds() {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        final TraversalCompilationCache cache = new TraversalCompilationCache(10);
+        final GraphTraversalSource g = GraphTraversalSource.build().withCompilationCache(cache).create(graph);
+
+        assertEquals(new HashSet<>(Arrays.asList("vadas", "lop", "josh")), new HashSet<>(g.V(1).out().values("name").toList()));
+        assertEquals(new HashSet<>(Arrays.asList("ripple", "lop")), new HashSet<>(g.V(4).out().values("name").toList()));
+        assertEquals(new HashSet<>(Arrays.asList("vadas", "lop", "josh")), new HashSet<>(g.V(1).out().values("name").toList()));
+        assertEquals(1, cache.size());
+        assertEquals(2l, cache.getHits());
+
+        assertEquals(Arrays.asList("josh", "peter"), g.V().has("age", P.gt(30)).order().by("name").values("name").toList());
+        assertEquals(Arrays.asList("josh", "peter"), g.V().has("age", P.gt(30)).order().by("name").values("name").toList());
+        assertEquals(3l, cache.getHits());
+    }
+
+    private static Configuration getCompactStorageConfiguration() {
+        final Configuration conf = new BaseConfiguration();
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_VERTEX_ID_MANAGER, TinkerGraph.DefaultIdManager.LONG.name());
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_EDGE_ID_MANAGER, TinkerGraph.DefaultIdManager.LONG.name());
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_COMPACT_STORAGE, true);
+        return conf;
+    }
 }